@@ -0,0 +1,103 @@
+package com.aivideoback.kwungjin.ai;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenAI 응답 파싱: 예전 Map 경로 vs 타입 레코드 (./gradlew jmh).
+ *
+ * - *Map: 응답 전체를 Map 으로 읽고 캐스팅으로 내려감. chat 은 예전처럼 content 를 호출마다 new ObjectMapper() 로 다시 파싱
+ * - *Typed: ChatCompletion.Response / ResponsesApi.Response + 공용 ObjectMapper
+ * 호출당 할당량은 build.gradle 의 jmh { profilers = ['gc'] } 로 켜고 gc.alloc.rate.norm 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OpenAiResponseParsingBenchmark {
+
+    // 실제 응답처럼 쓰지 않는 필드(usage, logprobs 등)까지 포함
+    static final String CHAT_RESPONSE = """
+            {"id":"chatcmpl-bench","object":"chat.completion","created":1760000000,"model":"gpt-4o-mini",
+             "choices":[{"index":0,"message":{"role":"assistant",
+               "content":"{\\"intentSummary\\":\\"고양이와 함께하는 일상 브이로그\\",\\"tags\\":[\\"고양이\\",\\"브이로그\\",\\"일상\\",\\"반려동물\\",\\"힐링\\"]}",
+               "refusal":null,"annotations":[]},"logprobs":null,"finish_reason":"stop"}],
+             "usage":{"prompt_tokens":182,"completion_tokens":41,"total_tokens":223,
+               "prompt_tokens_details":{"cached_tokens":0,"audio_tokens":0},
+               "completion_tokens_details":{"reasoning_tokens":0,"audio_tokens":0,
+                 "accepted_prediction_tokens":0,"rejected_prediction_tokens":0}},
+             "service_tier":"default","system_fingerprint":"fp_bench"}
+            """;
+
+    static final String RESPONSES_RESPONSE = """
+            {"id":"resp_bench","object":"response","created_at":1760000000,"status":"completed",
+             "error":null,"incomplete_details":null,"instructions":null,"max_output_tokens":200,
+             "model":"gpt-4o-mini","output":[{"type":"message","id":"msg_bench","status":"completed",
+               "role":"assistant","content":[{"type":"output_text","annotations":[],"logprobs":[],
+                 "text":"고양이, 창가, 햇살, 낮잠, 반려동물"}]}],
+             "parallel_tool_calls":true,"previous_response_id":null,
+             "reasoning":{"effort":null,"summary":null},"store":true,"temperature":0.2,
+             "text":{"format":{"type":"text"}},"tool_choice":"auto","tools":[],"top_p":1.0,
+             "truncation":"disabled","usage":{"input_tokens":1234,
+               "input_tokens_details":{"cached_tokens":0},"output_tokens":18,
+               "output_tokens_details":{"reasoning_tokens":0},"total_tokens":1252},
+             "user":null,"metadata":{}}
+            """;
+
+    /** PromptTagService 가 content 를 읽는 모양 */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record PromptTags(String intentSummary, List<String> tags) {
+    }
+
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void chatMap(Blackhole bh) throws Exception {
+        Map<String, Object> response = objectMapper.readValue(CHAT_RESPONSE, Map.class);
+        List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
+        Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
+        String content = (String) message.get("content");
+
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, Object> json = mapper.readValue(content, Map.class);
+        bh.consume(json.get("intentSummary"));
+        bh.consume(json.get("tags"));
+    }
+
+    @Benchmark
+    public void chatTyped(Blackhole bh) throws Exception {
+        ChatCompletion.Response response = objectMapper.readValue(CHAT_RESPONSE, ChatCompletion.Response.class);
+        PromptTags json = objectMapper.readValue(response.firstContent(), PromptTags.class);
+        bh.consume(json.intentSummary());
+        bh.consume(json.tags());
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void responsesMap(Blackhole bh) throws Exception {
+        Map<String, Object> resp = objectMapper.readValue(RESPONSES_RESPONSE, Map.class);
+        List<Map<String, Object>> output = (List<Map<String, Object>>) resp.get("output");
+        List<Map<String, Object>> content = (List<Map<String, Object>>) output.get(0).get("content");
+        bh.consume(content.get(0).get("text"));
+    }
+
+    @Benchmark
+    public void responsesTyped(Blackhole bh) throws Exception {
+        ResponsesApi.Response resp = objectMapper.readValue(RESPONSES_RESPONSE, ResponsesApi.Response.class);
+        bh.consume(resp.firstText());
+    }
+}
@@ -0,0 +1,49 @@
+package com.aivideoback.kwungjin.finding.analyzer;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KoreanAnalyzer 처리량 (./gradlew jmh).
+ *
+ * 목표: 토큰 기준 초당 수백만 건 이상. 결과 ops/s × TOKENS_PER_OP = 토큰/초
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KoreanAnalyzerBenchmark {
+
+    // 토큰 12개
+    static final String TEXT = "오늘은 고양이와 함께 게임하는 방법을 PyTorch 강의에서 배워 보는 영상입니다";
+    static final int TOKENS_PER_OP = 12;
+
+    private KoreanAnalyzer analyzer;
+
+    @Setup
+    public void setUp() {
+        analyzer = new KoreanAnalyzer();
+        for (String tag : new String[]{"고양이", "게임", "방법", "강의", "영상", "pytorch"}) {
+            analyzer.learn(tag);
+        }
+    }
+
+    @Benchmark
+    public void terms(Blackhole bh) {
+        bh.consume(analyzer.terms(TEXT));
+    }
+
+    @Benchmark
+    public void documentGrams(Blackhole bh) {
+        bh.consume(analyzer.documentGrams(TEXT));
+    }
+
+    @Benchmark
+    public void queryGrams(Blackhole bh) {
+        bh.consume(analyzer.queryGrams(TEXT));
+    }
+}
@@ -4,9 +4,11 @@ package com.aivideoback.kwungjin;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableAsync
+@EnableScheduling
 public class KwungjinApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(KwungjinApplication.class, args);
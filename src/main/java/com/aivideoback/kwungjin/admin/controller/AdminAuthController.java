@@ -4,6 +4,7 @@ package com.aivideoback.kwungjin.admin.controller;
 import com.aivideoback.kwungjin.admin.dto.AdminLoginRequest;
 import com.aivideoback.kwungjin.admin.dto.AdminLoginResponse;
 import com.aivideoback.kwungjin.admin.service.AdminService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,8 +17,9 @@ public class AdminAuthController {
     private final AdminService adminService;
 
     @PostMapping("/login")
-    public ResponseEntity<AdminLoginResponse> login(@RequestBody AdminLoginRequest request) {
-        AdminLoginResponse resp = adminService.login(request);
+    public ResponseEntity<AdminLoginResponse> login(@RequestBody AdminLoginRequest request,
+                                                    HttpServletRequest httpRequest) {
+        AdminLoginResponse resp = adminService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(resp);
     }
 }
@@ -43,6 +43,9 @@ public class Admin {
     @Column(name = "ADMIN_STATUS", nullable = false)
     private String adminStatus;      // 예: "ACTIVE"
 
+    @Column(name = "TOKEN_VERSION", nullable = false)
+    private Long tokenVersion;       // JWT 버전 (올리면 이전 토큰 무효)
+
     @Column(name = "CREATED_AT")
     private LocalDateTime createdAt;
 
@@ -63,6 +66,9 @@ public class Admin {
         if (this.adminRole == null) {
             this.adminRole = "ADMIN";
         }
+        if (this.tokenVersion == null) {
+            this.tokenVersion = 0L;
+        }
     }
 
     @PreUpdate
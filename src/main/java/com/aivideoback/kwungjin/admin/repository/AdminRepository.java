@@ -3,6 +3,8 @@ package com.aivideoback.kwungjin.admin.repository;
 
 import com.aivideoback.kwungjin.admin.entity.Admin;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -11,4 +13,12 @@ public interface AdminRepository extends JpaRepository<Admin, Long> {
     Optional<Admin> findByAdminId(String adminId);
 
     boolean existsByAdminId(String adminId);
+
+    // JWT 무효화 확인용: BLOCK 상태면 -1 (어떤 토큰 버전과도 맞지 않음)
+    @Query("""
+        select case when upper(a.adminStatus) = 'BLOCK' then -1L else a.tokenVersion end
+        from Admin a
+        where a.adminId = :adminId
+        """)
+    Optional<Long> findTokenVersionByAdminId(@Param("adminId") String adminId);
 }
@@ -7,8 +7,10 @@ import com.aivideoback.kwungjin.admin.dto.BlockedVideoDto;
 import com.aivideoback.kwungjin.user.entity.User;
 import com.aivideoback.kwungjin.user.repository.UserRepository;
 import com.aivideoback.kwungjin.video.entity.Video;
+import com.aivideoback.kwungjin.video.event.VideoChangedEvent;
 import com.aivideoback.kwungjin.video.repository.VideoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +27,7 @@ public class AdminManageService {
     private final VideoRepository videoRepository;
     private final VideoFeatureRepository videoFeatureRepository;
     private final VideoReactionRepository videoReactionRepository;
+    private final ApplicationEventPublisher eventPublisher;
     // "2025-11-16T15:32:10" 이런 형태
     private static final DateTimeFormatter ISO_FMT =
             DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
@@ -71,6 +74,7 @@ public class AdminManageService {
 
         // ✅ isBlocked = 'N' 으로 변경
         video.setIsBlocked("N");
+        eventPublisher.publishEvent(VideoChangedEvent.of(videoNo, VideoChangedEvent.Type.APPROVED));
     }
 
     /** 영상 삭제 */
@@ -86,6 +90,7 @@ public class AdminManageService {
 
         // 2️⃣ 마지막으로 VIDEO 삭제
         videoRepository.delete(video);
+        eventPublisher.publishEvent(VideoChangedEvent.of(videoNo, VideoChangedEvent.Type.DELETED));
     }
 
     /** User → AdminUserSummaryDto 변환 */
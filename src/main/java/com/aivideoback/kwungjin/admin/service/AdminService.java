@@ -5,6 +5,8 @@ import com.aivideoback.kwungjin.admin.dto.AdminLoginRequest;
 import com.aivideoback.kwungjin.admin.dto.AdminLoginResponse;
 import com.aivideoback.kwungjin.admin.entity.Admin;
 import com.aivideoback.kwungjin.admin.repository.AdminRepository;
+import com.aivideoback.kwungjin.global.TooManyRequestsException;
+import com.aivideoback.kwungjin.security.LoginAttemptThrottle;
 import com.aivideoback.kwungjin.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
@@ -24,18 +26,33 @@ public class AdminService {
     private final AdminRepository adminRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final LoginAttemptThrottle loginAttemptThrottle;
 
     @Transactional
-    public AdminLoginResponse login(AdminLoginRequest request) {
+    public AdminLoginResponse login(AdminLoginRequest request, String clientIp) {
+
+        // 시도 횟수를 먼저 예약, 한도를 넘은 계정/IP 는 DB 조회·BCrypt 전에 차단 (일반 사용자와 계정 키가 겹치지 않게 접두어)
+        String throttleKey = "admin:" + request.getUsername();
+        loginAttemptThrottle.reserve(throttleKey, clientIp);
 
         // username == adminId
-        Admin admin = adminRepository.findByAdminId(request.getUsername())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 관리자입니다."));
+        Admin admin = adminRepository.findByAdminId(request.getUsername()).orElse(null);
+        if (admin == null) {
+            throw new IllegalArgumentException("존재하지 않는 관리자입니다.");
+        }
 
-        // 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), admin.getAdminPassword())) {
+        // 비밀번호 검증 (해시 풀이 바빠서 429 면 이번 시도는 실패로 세지 않음)
+        boolean matches;
+        try {
+            matches = passwordEncoder.matches(request.getPassword(), admin.getAdminPassword());
+        } catch (TooManyRequestsException e) {
+            loginAttemptThrottle.cancel(throttleKey, clientIp);
+            throw e;
+        }
+        if (!matches) {
             throw new IllegalArgumentException("아이디 또는 비밀번호가 일치하지 않습니다.");
         }
+        loginAttemptThrottle.release(throttleKey, clientIp);
 
         // DB에 저장된 ROLE (예: "ADMIN" 또는 "ROLE_ADMIN")
         String role = admin.getAdminRole();
@@ -47,7 +64,8 @@ public class AdminService {
                 )
         );
 
-        String token = jwtTokenProvider.createToken(admin.getAdminId(), authorities);
+        String token = jwtTokenProvider.createToken(
+                admin.getAdminId(), admin.getAdminNo(), true, authorities, admin.getTokenVersion());
 
         // 마지막 로그인 시간 갱신
         admin.setLastLoginAt(LocalDateTime.now());
@@ -0,0 +1,37 @@
+// src/main/java/com/aivideoback/kwungjin/ai/ChatCompletion.java
+package com.aivideoback.kwungjin.ai;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * OpenAI Chat Completions 요청/응답 (쓰는 필드만, 나머지는 파싱하지 않고 건너뜀)
+ */
+public final class ChatCompletion {
+
+    private ChatCompletion() {
+    }
+
+    public record Request(String model, double temperature, List<Message> messages) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Message(String role, String content) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Response(List<Choice> choices) {
+
+        /** choices[0].message.content (없으면 null) */
+        public String firstContent() {
+            if (choices == null || choices.isEmpty()) return null;
+            Message m = choices.get(0).message();
+            return m == null ? null : m.content();
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Choice(Message message) {
+    }
+}
@@ -0,0 +1,25 @@
+// src/main/java/com/aivideoback/kwungjin/ai/OpenAiCallException.java
+package com.aivideoback.kwungjin.ai;
+
+/**
+ * OpenAI 호출 실패 (차단기 열림 / 동시 호출 한도 / 타임아웃 / 비정상 응답).
+ * 호출하는 쪽은 잡아서 대체 결과로 진행한다.
+ */
+public class OpenAiCallException extends RuntimeException {
+
+    private final int status;   // HTTP 응답이 없으면 0
+
+    public OpenAiCallException(String message, int status) {
+        super(message);
+        this.status = status;
+    }
+
+    public OpenAiCallException(String message, Throwable cause) {
+        super(message, cause);
+        this.status = 0;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+}
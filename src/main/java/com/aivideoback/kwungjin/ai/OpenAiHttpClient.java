@@ -0,0 +1,222 @@
+// src/main/java/com/aivideoback/kwungjin/ai/OpenAiHttpClient.java
+package com.aivideoback.kwungjin.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OpenAI 전용 HTTP 클라이언트 (JDK HttpClient, HTTP/2 + keep-alive 연결 재사용).
+ *
+ * - 호출마다 deadline (HttpRequest.timeout), 연결은 connect-timeout-ms
+ * - 동시 호출 수 제한 (max-concurrent), 자리를 acquire-timeout-ms 안에 못 잡으면 바로 실패
+ * - 차단기: 연속 실패 failure-threshold 번이면 open-ms 동안 호출 없이 바로 실패, 이후 한 건만 시험 호출
+ *   (429 / 5xx / 타임아웃 / 연결 오류만 실패로 셈, 그 외 4xx 는 요청 문제라 차단기와 무관)
+ * - 실패는 모두 OpenAiCallException → 호출하는 쪽에서 대체 결과로 진행
+ * - 지표: openai.http.requests (op, outcome), openai.http.inflight, openai.http.rejected (reason)
+ * - openai.base-url 을 바꾸면 로컬 스텁 서버로 그대로 붙일 수 있음
+ */
+@Slf4j
+@Component
+public class OpenAiHttpClient {
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String baseUrl;
+    private final String apiKey;
+    private final Duration defaultTimeout;
+    private final long acquireTimeoutMs;
+    private final Semaphore permits;
+    private final int failureThreshold;
+    private final long openMs;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    // 차단기 상태 (this 잠금)
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public OpenAiHttpClient(ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${openai.base-url:https://api.openai.com/v1}") String baseUrl,
+                            @Value("${openai.api.key}") String apiKey,
+                            @Value("${app.openai.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+                            @Value("${app.openai.http.request-timeout-ms:20000}") long requestTimeoutMs,
+                            @Value("${app.openai.http.max-concurrent:16}") int maxConcurrent,
+                            @Value("${app.openai.http.acquire-timeout-ms:200}") long acquireTimeoutMs,
+                            @Value("${app.openai.http.failure-threshold:5}") int failureThreshold,
+                            @Value("${app.openai.http.open-ms:30000}") long openMs) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.apiKey = apiKey;
+        this.defaultTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.permits = new Semaphore(maxConcurrent);
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)   // 서버가 h2 를 안 받으면 HTTP/1.1 keep-alive
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+
+        Gauge.builder("openai.http.inflight", inflight, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    /** 기본 deadline(request-timeout-ms) 으로 POST */
+    public <T> T post(String op, String path, Object body, Class<T> responseType) {
+        return post(op, path, body, responseType, defaultTimeout);
+    }
+
+    /**
+     * JSON POST 한 번.
+     * op: 지표 태그용 이름 (chat, responses, embeddings ...), path: base-url 뒤에 붙는 경로
+     */
+    public <T> T post(String op, String path, Object body, Class<T> responseType, Duration timeout) {
+        if (!allowRequest()) {
+            reject(op, "circuit_open");
+            throw new OpenAiCallException("OpenAI 차단기 열림: " + op, 0);
+        }
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandonTrial();
+            throw new OpenAiCallException("OpenAI 호출 대기 중 인터럽트", e);
+        }
+        if (!acquired) {
+            abandonTrial();
+            reject(op, "saturated");
+            throw new OpenAiCallException("OpenAI 동시 호출 한도 초과: " + op, 0);
+        }
+
+        inflight.incrementAndGet();
+        long started = System.nanoTime();
+        String outcome = "error";
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .header("Authorization", "Bearer " + apiKey)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            int status = response.statusCode();
+            if (status / 100 != 2) {
+                boolean serverSide = status == 429 || status >= 500;
+                outcome = "http_" + status;
+                onResult(!serverSide);
+                String snippet = new String(response.body(), StandardCharsets.UTF_8);
+                if (snippet.length() > 300) snippet = snippet.substring(0, 300);
+                throw new OpenAiCallException("OpenAI " + op + " status=" + status + " body=" + snippet, status);
+            }
+
+            T parsed = objectMapper.readValue(response.body(), responseType);
+            outcome = "success";
+            onResult(true);
+            return parsed;
+        } catch (HttpTimeoutException e) {
+            outcome = "timeout";
+            onResult(false);
+            throw new OpenAiCallException("OpenAI " + op + " 타임아웃 (" + timeout.toMillis() + "ms)", e);
+        } catch (IOException e) {
+            onResult(false);
+            throw new OpenAiCallException("OpenAI " + op + " 호출 실패", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            onResult(false);
+            throw new OpenAiCallException("OpenAI " + op + " 호출 중 인터럽트", e);
+        } finally {
+            inflight.decrementAndGet();
+            permits.release();
+            Timer.builder("openai.http.requests")
+                    .tag("op", op)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /* ---------- 차단기 ---------- */
+
+    private synchronized boolean allowRequest() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.currentTimeMillis() - openedAt < openMs) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:   // HALF_OPEN: 시험 호출 한 건만
+                if (trialInFlight) return false;
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    private synchronized void onResult(boolean success) {
+        if (success) {
+            if (state != State.CLOSED) {
+                log.info("OpenAI 차단기 닫힘 (시험 호출 성공)");
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInFlight = false;
+            return;
+        }
+
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("OpenAI 차단기 열림 (연속 실패 {}회, {}ms 동안 호출 생략)", consecutiveFailures, openMs);
+            }
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            trialInFlight = false;
+        }
+    }
+
+    /** 시험 호출이 요청도 못 보내고 끝난 경우 → 다음 요청이 다시 시험 */
+    private synchronized void abandonTrial() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    private void reject(String op, String reason) {
+        Counter.builder("openai.http.rejected")
+                .tag("op", op)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -1,12 +1,11 @@
 // src/main/java/com/aivideoback/kwungjin/ai/PromptTagService.java
 package com.aivideoback.kwungjin.ai;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.*;
 
@@ -15,12 +14,10 @@ import java.util.*;
 @RequiredArgsConstructor
 public class PromptTagService {
 
-    private final RestTemplate restTemplate;
+    private final OpenAiHttpClient openAiHttpClient;
+    private final ObjectMapper objectMapper;   // 스프링 공용 인스턴스
 
-    @Value("${openai.api.key}")
-    private String openAiApiKey;
-
-    private static final String OPENAI_URL = "https://api.openai.com/v1/chat/completions";
+    private static final String CHAT_PATH = "/chat/completions";
     private static final String MODEL_NAME = "gpt-4.1-mini"; // 또는 gpt-5.1-mini 등
 
     public PromptAnalysisResult analyzePrompt(String prompt) {
@@ -41,27 +38,17 @@ public class PromptTagService {
                 - JSON 이외의 텍스트는 절대 출력하지 말 것.
                 """;
 
-        Map<String, Object> body = new HashMap<>();
-        body.put("model", MODEL_NAME);
-        body.put("temperature", 0.2);
-
-        List<Map<String, String>> messages = new ArrayList<>();
-        messages.add(Map.of("role", "system", "content", systemPrompt));
-        messages.add(Map.of("role", "user", "content", prompt));
-        body.put("messages", messages);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(openAiApiKey);
-
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
+        ChatCompletion.Request body = new ChatCompletion.Request(MODEL_NAME, 0.2, List.of(
+                new ChatCompletion.Message("system", systemPrompt),
+                new ChatCompletion.Message("user", prompt)
+        ));
 
-        Map<String, Object> response;
+        ChatCompletion.Response response;
         try {
-            ResponseEntity<Map> res = restTemplate.postForEntity(OPENAI_URL, entity, Map.class);
-            response = res.getBody();
+            // 타임아웃 / 동시 호출 한도 / 차단기는 OpenAiHttpClient 에서
+            response = openAiHttpClient.post("chat", CHAT_PATH, body, ChatCompletion.Response.class);
         } catch (Exception e) {
-            log.error("OpenAI 호출 오류", e);
+            log.error("OpenAI 호출 오류: {}", e.getMessage());
             // 실패 시, 그냥 전체 프롬프트를 intent로 쓰고 태그는 비워둔다
             return PromptAnalysisResult.builder()
                     .intentSummary(prompt)
@@ -71,23 +58,15 @@ public class PromptTagService {
 
         try {
             // choices[0].message.content 안에 JSON 문자열이 들어있다고 가정
-            List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
-            Map<String, Object> choice0 = choices.get(0);
-            Map<String, Object> message = (Map<String, Object>) choice0.get("message");
-            String content = Objects.toString(message.get("content"), "{}");
+            String content = response == null ? null : response.firstContent();
+            PromptTags json = objectMapper.readValue(Objects.requireNonNullElse(content, "{}"), PromptTags.class);
 
-            // content 가 JSON 문자열이므로 Jackson 등으로 파싱
-            // (ObjectMapper 하나 공용으로 쓰는 게 좋음)
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            Map<String, Object> json = mapper.readValue(content, Map.class);
-
-            String intentSummary = Objects.toString(json.getOrDefault("intentSummary", prompt));
+            String intentSummary = json.intentSummary() == null ? prompt : json.intentSummary();
             List<String> tags = new ArrayList<>();
-            Object tagsObj = json.get("tags");
-            if (tagsObj instanceof List<?> rawList) {
-                for (Object o : rawList) {
+            if (json.tags() != null) {
+                for (String o : json.tags()) {
                     if (o != null) {
-                        String t = o.toString().trim();
+                        String t = o.trim();
                         if (!t.isEmpty()) tags.add(t);
                     }
                 }
@@ -108,4 +87,9 @@ public class PromptTagService {
                     .build();
         }
     }
+
+    /** 모델이 content 에 돌려주는 JSON (그 외 필드는 무시) */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record PromptTags(String intentSummary, List<String> tags) {
+    }
 }
@@ -0,0 +1,58 @@
+// src/main/java/com/aivideoback/kwungjin/ai/ResponsesApi.java
+package com.aivideoback.kwungjin.ai;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * OpenAI Responses API 요청/응답 (쓰는 필드만, 나머지는 파싱하지 않고 건너뜀)
+ */
+public final class ResponsesApi {
+
+    private ResponsesApi() {
+    }
+
+    public record Request(String model,
+                          List<Input> input,
+                          @JsonProperty("max_output_tokens") int maxOutputTokens,
+                          double temperature) {
+    }
+
+    public record Input(String role, List<Object> content) {
+    }
+
+    public record InputText(String type, String text) {
+        public InputText(String text) {
+            this("input_text", text);
+        }
+    }
+
+    /** imageUrl 은 문자열 (data URL 가능) */
+    public record InputImage(String type, @JsonProperty("image_url") String imageUrl) {
+        public InputImage(String imageUrl) {
+            this("input_image", imageUrl);
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Response(List<Output> output) {
+
+        /** output[0].content[0].text (없으면 null) */
+        public String firstText() {
+            if (output == null || output.isEmpty()) return null;
+            List<Content> content = output.get(0).content();
+            if (content == null || content.isEmpty()) return null;
+            return content.get(0).text();
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Output(List<Content> content) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Content(String text) {
+    }
+}
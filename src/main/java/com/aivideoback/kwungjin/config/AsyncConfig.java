@@ -0,0 +1,47 @@
+// src/main/java/com/aivideoback/kwungjin/config/AsyncConfig.java
+package com.aivideoback.kwungjin.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * @Async 실행기를 직접 등록.
+ *
+ * Boot 는 컨텍스트에 Executor 빈이 하나라도 있으면 기본 applicationTaskExecutor 를 만들지 않는다
+ * (findingRequestExecutor 가 그런 빈). 그러면 @Async 가 남은 TaskExecutor 인 taskScheduler
+ * (scheduling-*, 4 스레드) 로 떨어져서, 몇 분씩 걸리는 심사 호출이 @Scheduled flush 를 막는다.
+ * 그래서 같은 이름으로 풀을 만들고 AsyncConfigurer 로 @Async 기본 실행기로 고정한다
+ * (MVC 비동기 요청 처리도 이 이름의 빈을 쓴다).
+ */
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+
+    @Value("${app.async.threads:8}")
+    private int threads;
+
+    @Value("${app.async.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Bean(name = "applicationTaskExecutor")
+    public ThreadPoolTaskExecutor applicationTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("async-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return applicationTaskExecutor();
+    }
+}
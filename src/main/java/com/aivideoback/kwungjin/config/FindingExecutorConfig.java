@@ -0,0 +1,53 @@
+// src/main/java/com/aivideoback/kwungjin/config/FindingExecutorConfig.java
+package com.aivideoback.kwungjin.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class FindingExecutorConfig {
+
+    /**
+     * Finding 검색 요청 실행 풀 (PromptFindingController 가 비동기로 넘김).
+     * OpenAI 왕복 동안 Tomcat 요청 스레드 대신 여기 스레드가 기다린다.
+     * 대기열까지 차면 바로 거절 → 컨트롤러에서 429.
+     *
+     * TaskExecutor 가 아니라서 @Async 가 이 풀을 고르지는 않지만, Executor 빈이라서
+     * Boot 의 기본 applicationTaskExecutor 는 만들어지지 않는다 → @Async 실행기는 AsyncConfig 에서 따로 등록
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor findingRequestExecutor(
+            @Value("${app.finding.request-executor.threads:32}") int threads,
+            @Value("${app.finding.request-executor.queue-capacity:64}") int queueCapacity,
+            MeterRegistry meterRegistry
+    ) {
+        AtomicInteger seq = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "finding-request-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("finding.request.queue", executor, e -> e.getQueue().size())
+                .description("실행 대기 중인 Finding 검색 수")
+                .register(meterRegistry);
+        Gauge.builder("finding.request.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 Finding 검색 수")
+                .register(meterRegistry);
+        return executor;
+    }
+}
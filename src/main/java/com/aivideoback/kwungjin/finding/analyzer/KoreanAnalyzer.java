@@ -0,0 +1,228 @@
+// src/main/java/com/aivideoback/kwungjin/finding/analyzer/KoreanAnalyzer.java
+package com.aivideoback.kwungjin.finding.analyzer;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 한국어/영문 혼합 텍스트 분석기 (Finding 채점 + 공개 목록 키워드 검색 공용).
+ *
+ * - 토큰화: 한글 음절 / ASCII 영숫자 / 그 밖의 문자 단위로 끊는다 ("게임2" → "게임", "2")
+ * - ASCII 대소문자 접기 (영문은 소문자로)
+ * - 한글 토큰은 조사/어미를 최대 하나만 떼고, 남은 어간이 알려진 단어(등록된 태그)일 때만 뗀다
+ *   ("게임" 이 태그로 있으면 "게임을", "게임하는" → "게임" / "고양이" 는 "고양" 이 태그가 아니면 그대로)
+ * - 포함 여부 판정용 gram: 한글은 음절 bi-gram, 그 밖의 토큰은 토큰 전체를 int 코드로
+ *
+ * 알려진 단어 목록(learn)만 상태로 가지며, 동시 추가/조회에 안전하다.
+ * 실제 태그(TAG1~5, feature 태그)만 learn 해야 한다 - 제목/설명 토큰을 넣으면 "게임을" 같은
+ * 활용형이 단어로 등록돼서 더 이상 떼지지 않는다.
+ */
+@Component
+public class KoreanAnalyzer {
+
+    private static final char HANGUL_FIRST = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int HANGUL_COUNT = HANGUL_LAST - HANGUL_FIRST + 1;   // 11172
+
+    // gram 코드 영역: bi-gram [0, 2^27) / 단음절 [2^27, 2^27+11172) / 그 밖의 토큰 [2^30, 2^31)
+    private static final int UNIGRAM_BASE = 1 << 27;
+    private static final int TERM_BASE = 1 << 30;
+
+    // 뗄 수 있는 조사/어미. 긴 것부터 검사한다.
+    private static final String[] SUFFIXES = sortByLengthDesc(
+            "으로써", "으로서", "에게서", "한테서", "적으로", "이라는", "이라고",
+            "에서", "에게", "한테", "께서", "으로", "로서", "로써", "까지", "부터", "마다", "처럼", "보다",
+            "이나", "이랑", "하고", "하는", "하기", "했던", "했다", "하다", "되는", "됐던", "적인", "라는", "라고",
+            "들", "은", "는", "이", "가", "을", "를", "의", "에", "도", "만", "로", "와", "과", "랑", "한", "된"
+    );
+
+    // 어간은 최소 2음절 이상 남긴다 ("사과" → "사" 같은 과잉 절단 방지)
+    private static final int MIN_STEM_LENGTH = 2;
+
+    // 어간 판정용 알려진 한글 단어 (실제 태그가 코퍼스에 올라올 때 learn 으로 추가, 삭제 없음)
+    private final Set<String> lexicon = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 실제 태그를 어간 후보로 등록 (한글 토큰만).
+     * 지금 기준으로 조사/어미를 뗀 형태로 넣는다 → 이미 "게임" 을 알면 태그 "게임을" 은 새 단어가 되지 않음
+     */
+    public void learn(String tag) {
+        if (tag == null || tag.isEmpty()) {
+            return;
+        }
+        tokenize(tag, (token, hangul) -> {
+            if (hangul) lexicon.add(stem(token));
+        });
+    }
+
+    /** 토큰화 + 대소문자 접기 + 조사/어미 제거 결과 (순서 유지, 중복 포함) */
+    public List<String> terms(String text) {
+        List<String> out = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return out;
+        }
+        tokenize(text, (token, hangul) -> out.add(hangul ? stem(token) : token));
+        return out;
+    }
+
+    /** 태그 비교용 키: 어간을 공백 하나로 이어 붙인 것 ("Cute 고양이를" → "cute 고양") */
+    public String normalize(String tag) {
+        List<String> terms = terms(tag);
+        if (terms.isEmpty()) {
+            return tag == null ? "" : fold(tag.trim());
+        }
+        return terms.size() == 1 ? terms.get(0) : String.join(" ", terms);
+    }
+
+    /**
+     * 문서(제목/설명) 쪽 gram: 한글은 원래 토큰의 bi-gram 전부 + 한 음절로 줄어든 어간,
+     * 그 밖의 토큰은 토큰 코드. 정렬 + 중복 제거된 배열.
+     */
+    public int[] documentGrams(String text) {
+        return grams(text, true);
+    }
+
+    /** 질의(태그/프롬프트) 쪽 gram: 조사/어미를 뗀 어간 기준. 문서 gram 에 모두 들어 있으면 "포함" */
+    public int[] queryGrams(String text) {
+        return grams(text, false);
+    }
+
+    /** 정렬된 gram 배열 사이의 포함 판정 (query 가 비어 있으면 false) */
+    public static boolean containsAll(int[] document, int[] query) {
+        if (query.length == 0 || query.length > document.length) {
+            return false;
+        }
+        // 둘 다 정렬돼 있으니 병합 순회
+        int i = 0;
+        for (int q : query) {
+            while (i < document.length && document[i] < q) i++;
+            if (i == document.length || document[i] != q) return false;
+            i++;
+        }
+        return true;
+    }
+
+    /** ASCII 만 소문자로 (한글은 그대로) */
+    public static String fold(String s) {
+        int i = 0;
+        int n = s.length();
+        while (i < n) {
+            char c = s.charAt(i);
+            if (c >= 'A' && c <= 'Z') break;
+            i++;
+        }
+        if (i == n) {
+            return s;
+        }
+        char[] chars = s.toCharArray();
+        for (; i < n; i++) {
+            char c = chars[i];
+            if (c >= 'A' && c <= 'Z') chars[i] = (char) (c + ('a' - 'A'));
+        }
+        return new String(chars);
+    }
+
+    /* ---------- 내부 구현 ---------- */
+
+    private interface TokenSink {
+        void accept(String token, boolean hangul);
+    }
+
+    private static void tokenize(String text, TokenSink sink) {
+        int n = text.length();
+        int start = -1;
+        int kind = 0;   // 0: 구분자, 1: 한글, 2: ASCII 영숫자, 3: 그 밖의 문자/숫자
+
+        for (int i = 0; i <= n; i++) {
+            int k = i == n ? 0 : kindOf(text.charAt(i));
+            if (k == kind) continue;
+            if (kind != 0) {
+                String token = text.substring(start, i);
+                sink.accept(kind == 1 ? token : foldToken(token, kind), kind == 1);
+            }
+            kind = k;
+            start = i;
+        }
+    }
+
+    private static int kindOf(char c) {
+        if (c >= HANGUL_FIRST && c <= HANGUL_LAST) return 1;
+        if (c < 0x80) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') ? 2 : 0;
+        }
+        return Character.isLetterOrDigit(c) ? 3 : 0;
+    }
+
+    private static String foldToken(String token, int kind) {
+        return kind == 2 ? fold(token) : token.toLowerCase(Locale.ROOT);
+    }
+
+    /** 조사/어미 하나만, 뗀 결과가 알려진 단어일 때만 (토큰 자체가 알려진 단어면 그대로) */
+    String stem(String token) {
+        if (lexicon.contains(token)) {
+            return token;
+        }
+        for (String suffix : SUFFIXES) {
+            if (token.length() - suffix.length() >= MIN_STEM_LENGTH && token.endsWith(suffix)) {
+                String stripped = token.substring(0, token.length() - suffix.length());
+                if (lexicon.contains(stripped)) {
+                    return stripped;
+                }
+            }
+        }
+        return token;
+    }
+
+    private int[] grams(String text, boolean document) {
+        if (text == null || text.isEmpty()) {
+            return new int[0];
+        }
+
+        int[][] buf = {new int[Math.max(8, text.length())]};
+        int[] size = {0};
+
+        tokenize(text, (token, hangul) -> {
+            if (!hangul) {
+                add(buf, size, TERM_BASE | (token.hashCode() & (TERM_BASE - 1)));
+                return;
+            }
+            String stem = stem(token);
+            String source = document ? token : stem;
+            if (source.length() == 1 || stem.length() == 1) {
+                add(buf, size, UNIGRAM_BASE + (stem.charAt(0) - HANGUL_FIRST));
+            }
+            for (int i = 0; i + 1 < source.length(); i++) {
+                int a = source.charAt(i) - HANGUL_FIRST;
+                int b = source.charAt(i + 1) - HANGUL_FIRST;
+                add(buf, size, a * HANGUL_COUNT + b);
+            }
+        });
+
+        int[] out = Arrays.copyOf(buf[0], size[0]);
+        Arrays.sort(out);
+        int m = 0;
+        for (int i = 0; i < out.length; i++) {
+            if (m == 0 || out[m - 1] != out[i]) out[m++] = out[i];
+        }
+        return m == out.length ? out : Arrays.copyOf(out, m);
+    }
+
+    private static void add(int[][] buf, int[] size, int code) {
+        if (size[0] == buf[0].length) {
+            buf[0] = Arrays.copyOf(buf[0], buf[0].length * 2);
+        }
+        buf[0][size[0]++] = code;
+    }
+
+    private static String[] sortByLengthDesc(String... suffixes) {
+        String[] sorted = suffixes.clone();
+        Arrays.sort(sorted, (a, b) -> Integer.compare(b.length(), a.length()));
+        return sorted;
+    }
+}
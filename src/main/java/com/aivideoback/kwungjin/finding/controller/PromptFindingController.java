@@ -1,22 +1,187 @@
 // src/main/java/com/aivideoback/kwungjin/finding/PromptFindingController.java
 package com.aivideoback.kwungjin.finding.controller;
 
+import com.aivideoback.kwungjin.finding.dto.PromptFindingEvents;
 import com.aivideoback.kwungjin.finding.dto.PromptFindingRequest;
 import com.aivideoback.kwungjin.finding.dto.PromptFindingResponse;
+import com.aivideoback.kwungjin.finding.dto.PromptFindingResponse.VideoMatchDto;
 import com.aivideoback.kwungjin.finding.service.PromptFindingService;
+import com.aivideoback.kwungjin.global.TooManyRequestsException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
 @RestController
 @RequestMapping("/api/finding")
 @RequiredArgsConstructor
 public class PromptFindingController {
 
     private final PromptFindingService promptFindingService;
+    private final ThreadPoolExecutor findingRequestExecutor;
+
+    @Value("${app.finding.stream.timeout-ms:60000}")
+    private long streamTimeoutMs;
 
+    /**
+     * OpenAI 호출 + 채점은 findingRequestExecutor 에서 실행하고, 요청 스레드는 바로 반납 (서블릿 비동기).
+     * 끝나면 ASYNC 디스패치로 응답. 서비스 예외(IllegalArgumentException 등)는 그대로 GlobalExceptionHandler 로.
+     */
     @PostMapping("/search")
-    public PromptFindingResponse search(@Valid @RequestBody PromptFindingRequest request) {
-        return promptFindingService.search(request);
+    public CompletableFuture<PromptFindingResponse> search(@Valid @RequestBody PromptFindingRequest request) {
+        try {
+            return CompletableFuture.supplyAsync(() -> promptFindingService.search(request), findingRequestExecutor);
+        } catch (RejectedExecutionException e) {
+            throw tooBusy();
+        }
+    }
+
+    /**
+     * 같은 검색을 SSE 로 단계별 전송 (PromptFindingEvents 참고).
+     * local(즉시 키워드 매칭) → intent(LLM 결과) → results(채점 batch 마다 누적 순위) → done
+     *
+     * 타임아웃 / 클라이언트 연결 종료 / 전송 오류가 나면 작업 future 를 취소하고 실행 중인 스레드를 인터럽트,
+     * 이후 단계는 더 보내지 않는다 (LLM 호출·채점이 끊긴 연결을 위해 계속 돌지 않게).
+     */
+    @PostMapping(value = "/search/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter searchStream(@Valid @RequestBody PromptFindingRequest request) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        StreamTask task = new StreamTask(emitter);
+        emitter.onTimeout(() -> {
+            log.debug("Finding 스트림 타임아웃 ({}ms)", streamTimeoutMs);
+            task.cancel();
+            emitter.complete();
+        });
+        emitter.onError(e -> task.cancel());
+        emitter.onCompletion(task::cancel);
+
+        try {
+            task.future = CompletableFuture.runAsync(() -> task.run(request), findingRequestExecutor);
+        } catch (RejectedExecutionException e) {
+            throw tooBusy();
+        }
+        return emitter;
+    }
+
+    /** 스트림 하나의 작업 상태 (닫힌 뒤에는 send 하지 않고, 작업 스레드는 인터럽트) */
+    private final class StreamTask {
+
+        private final SseEmitter emitter;
+        private final AtomicReference<Thread> worker = new AtomicReference<>();
+        private volatile boolean closed;
+        private volatile CompletableFuture<Void> future;
+
+        StreamTask(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void cancel() {
+            closed = true;
+            CompletableFuture<Void> f = future;
+            if (f != null) f.cancel(true);
+            // CompletableFuture.cancel 은 실행 중인 스레드를 멈추지 않으므로 직접 인터럽트
+            synchronized (worker) {
+                Thread t = worker.get();
+                if (t != null) t.interrupt();
+            }
+        }
+
+        void run(PromptFindingRequest request) {
+            synchronized (worker) {
+                if (closed) return;
+                worker.set(Thread.currentThread());
+            }
+            try {
+                stream(request);
+            } finally {
+                synchronized (worker) {
+                    worker.set(null);
+                    Thread.interrupted();   // 풀 스레드에 인터럽트 상태를 남기지 않음
+                }
+            }
+        }
+
+        private void stream(PromptFindingRequest request) {
+            String prompt = request.getPrompt().trim();
+            try {
+                promptFindingService.searchProgressive(request, new PromptFindingService.ProgressListener() {
+                    @Override
+                    public void onLocalMatches(List<VideoMatchDto> videos) {
+                        send("local", new PromptFindingEvents.LocalMatches(videos));
+                    }
+
+                    @Override
+                    public void onIntent(String intentSummary, List<String> predictedTags) {
+                        send("intent", new PromptFindingEvents.Intent(prompt, intentSummary, predictedTags));
+                    }
+
+                    @Override
+                    public void onResults(List<VideoMatchDto> videos, int scannedSegments, int totalSegments) {
+                        send("results", new PromptFindingEvents.Results(videos, scannedSegments, totalSegments));
+                    }
+
+                    @Override
+                    public void onComplete(boolean partial) {
+                        send("done", new PromptFindingEvents.Done(partial));
+                    }
+                });
+                emitter.complete();
+            } catch (CancellationException | UncheckedIOException e) {
+                // 타임아웃 / 클라이언트가 먼저 끊음 → 남은 단계 생략
+                log.debug("Finding 스트림 중단: {}", e.getMessage());
+                emitter.complete();
+            } catch (Exception e) {
+                if (closed) {
+                    // 취소 인터럽트로 LLM/임베딩 호출이 끊긴 경우
+                    log.debug("Finding 스트림 취소 후 종료: {}", e.getMessage());
+                    return;
+                }
+                if (e instanceof IllegalArgumentException) {
+                    sendQuietly(new PromptFindingEvents.Error(e.getMessage()));
+                } else {
+                    log.error("Finding 스트림 처리 오류", e);
+                    sendQuietly(new PromptFindingEvents.Error("검색 중 오류가 발생했습니다."));
+                }
+                emitter.complete();
+            }
+        }
+
+        private void send(String name, Object data) {
+            if (closed) {
+                throw new CancellationException("스트림이 이미 닫힘");
+            }
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+            } catch (IOException e) {
+                closed = true;
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void sendQuietly(PromptFindingEvents.Error error) {
+            if (closed) return;
+            try {
+                emitter.send(SseEmitter.event().name("error").data(error, MediaType.APPLICATION_JSON));
+            } catch (Exception ignored) {
+                // 이미 끊긴 연결
+            }
+        }
+    }
+
+    private static TooManyRequestsException tooBusy() {
+        return new TooManyRequestsException("검색 요청이 많습니다. 잠시 후 다시 시도해 주세요.", 2L);
     }
 }
@@ -0,0 +1,34 @@
+// src/main/java/com/aivideoback/kwungjin/finding/dto/PromptFindingEvents.java
+package com.aivideoback.kwungjin.finding.dto;
+
+import com.aivideoback.kwungjin.finding.dto.PromptFindingResponse.VideoMatchDto;
+
+import java.util.List;
+
+/**
+ * /api/finding/search/stream SSE 이벤트 본문 (event 이름: local → intent → results* → done, 실패 시 error)
+ */
+public final class PromptFindingEvents {
+
+    private PromptFindingEvents() {
+    }
+
+    /** local: LLM 전에 프롬프트 낱말만으로 찾은 결과 */
+    public record LocalMatches(List<VideoMatchDto> videos) {
+    }
+
+    /** intent: LLM 의도 요약 / 예측 태그 */
+    public record Intent(String originalPrompt, String intentSummary, List<String> predictedTags) {
+    }
+
+    /** results: 지금까지 채점한 범위의 누적 상위 결과 (받을 때마다 목록 통째로 교체) */
+    public record Results(List<VideoMatchDto> videos, int scannedSegments, int totalSegments) {
+    }
+
+    /** done: 시간 예산 안에 전체를 다 못 훑었으면 partial=true */
+    public record Done(boolean partial) {
+    }
+
+    public record Error(String message) {
+    }
+}
@@ -13,7 +13,7 @@ public class PromptFindingRequest {
     private String prompt;
 
     /**
-     * 정렬 기준: views, latest, oldest, likes, dislikes
+     * 정렬 기준: views, latest, oldest, likes, dislikes, trending
      */
     private String sort = "latest";
 }
@@ -16,6 +16,9 @@ public class PromptFindingResponse {
     private final List<String> predictedTags;
     private final List<VideoMatchDto> videos;
 
+    /** 시간 예산 안에 전체 후보를 다 못 훑었으면 true (그래도 찾은 만큼은 내려줌) */
+    private final boolean partial;
+
     @Getter
     @Builder
     public static class VideoMatchDto {
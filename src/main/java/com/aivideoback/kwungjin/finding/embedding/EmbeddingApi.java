@@ -0,0 +1,27 @@
+// src/main/java/com/aivideoback/kwungjin/finding/embedding/EmbeddingApi.java
+package com.aivideoback.kwungjin.finding.embedding;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * OpenAI Embeddings 요청/응답. 벡터는 float[] 로 바로 받아서 List&lt;Number&gt; 박싱 없음
+ */
+final class EmbeddingApi {
+
+    private EmbeddingApi() {
+    }
+
+    /** input: 문자열 하나 또는 문자열 배열 (배치) */
+    record Request(String model, Object input, int dimensions) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Response(List<Data> data) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Data(int index, float[] embedding) {
+    }
+}
@@ -0,0 +1,109 @@
+// src/main/java/com/aivideoback/kwungjin/finding/embedding/HashingTextEmbedder.java
+package com.aivideoback.kwungjin.finding.embedding;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 외부 모델 없이 동작하는 결정적(deterministic) 임베더.
+ *
+ * - 단어 + 문자 n-gram(한글은 2-gram, 그 외 3-gram)을 feature hashing 으로 벡터에 누적
+ * - 같은 입력이면 JVM/서버가 달라도 항상 같은 벡터 → 로컬 개발, 테스트용 기본값
+ * - 의미 기반 매칭(강아지 ↔ dog)은 openai 임베더로 바꿔야 제대로 된다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.finding.embedding.provider", havingValue = "hash", matchIfMissing = true)
+public class HashingTextEmbedder implements TextEmbedder {
+
+    private static final float WORD_WEIGHT = 1.0f;
+    private static final float GRAM_WEIGHT = 0.5f;
+
+    private final int dimension;
+
+    public HashingTextEmbedder(@Value("${app.finding.embedding.dimension:256}") int dimension) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("embedding dimension 은 1 이상이어야 합니다: " + dimension);
+        }
+        this.dimension = dimension;
+    }
+
+    @Override
+    public String modelId() {
+        return "hash-v1-" + dimension;
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vec = new float[dimension];
+        if (text == null || text.isBlank()) {
+            return vec;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int len = lower.length();
+        int start = -1;
+
+        for (int i = 0; i <= len; i++) {
+            boolean tokenChar = i < len && Character.isLetterOrDigit(lower.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                addToken(vec, lower, start, i);
+                start = -1;
+            }
+        }
+
+        normalize(vec);
+        return vec;
+    }
+
+    private void addToken(float[] vec, String s, int from, int to) {
+        add(vec, hash(s, from, to, 0x9E3779B97F4A7C15L), WORD_WEIGHT);
+
+        int gram = isHangul(s.charAt(from)) ? 2 : 3;
+        if (to - from <= gram) {
+            return;
+        }
+        for (int i = from; i + gram <= to; i++) {
+            add(vec, hash(s, i, i + gram, 0xC2B2AE3D27D4EB4FL), GRAM_WEIGHT);
+        }
+    }
+
+    private void add(float[] vec, long h, float weight) {
+        int idx = (int) ((h >>> 1) % dimension);
+        vec[idx] += (h & 1L) == 0 ? weight : -weight;
+    }
+
+    /** FNV-1a 64bit 변형 (seed 로 단어/그램 공간을 분리) */
+    private static long hash(String s, int from, int to, long seed) {
+        long h = 0xcbf29ce484222325L ^ seed;
+        for (int i = from; i < to; i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        return h;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    static void normalize(float[] vec) {
+        double sum = 0.0;
+        for (float v : vec) sum += v * v;
+        if (sum == 0.0) return;
+        float inv = (float) (1.0 / Math.sqrt(sum));
+        for (int i = 0; i < vec.length; i++) vec[i] *= inv;
+    }
+}
@@ -0,0 +1,454 @@
+// src/main/java/com/aivideoback/kwungjin/finding/embedding/HnswIndex.java
+package com.aivideoback.kwungjin.finding.embedding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인메모리 HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스.
+ *
+ * - 벡터는 L2 정규화되어 있다고 가정하고 거리 = 1 - 내적(코사인) 을 쓴다.
+ * - 추가/삭제는 write lock, 검색은 read lock → 검색끼리는 동시에 돈다.
+ * - 삭제는 tombstone 방식 (그래프 탐색에는 쓰이고 결과에서만 빠짐).
+ *   삭제 비율이 높아지면 호출하는 쪽에서 새 인덱스로 재구축한다.
+ */
+public class HnswIndex {
+
+    /** 검색 결과: 원본 id + 코사인 유사도 */
+    public record Hit(long id, float similarity) {
+    }
+
+    private final int dimension;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMult;
+    private final Random random = new Random(42L);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> nodeById = new HashMap<>();
+    private final ThreadLocal<VisitedSet> visitedPool = ThreadLocal.withInitial(VisitedSet::new);
+
+    private long[] ids;
+    private float[][] vectors;
+    private int[][][] links;      // links[node][level] = {count, n1, n2, ...}
+    private boolean[] deleted;
+    private int size;
+    private int deletedCount;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    public HnswIndex(int dimension, int m, int efConstruction, int initialCapacity) {
+        if (m < 2) {
+            throw new IllegalArgumentException("HNSW M 은 2 이상이어야 합니다: " + m);
+        }
+        this.dimension = dimension;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.levelMult = 1.0 / Math.log(m);
+
+        int cap = Math.max(16, initialCapacity);
+        this.ids = new long[cap];
+        this.vectors = new float[cap][];
+        this.links = new int[cap][][];
+        this.deleted = new boolean[cap];
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    /** 현재 살아있는(삭제되지 않은) 벡터 수 */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 전체 노드 중 tombstone 비율 (재구축 판단용) */
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return size == 0 ? 0.0 : (double) deletedCount / size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 같은 id 가 이미 있으면 기존 노드는 tombstone 처리하고 새 노드로 넣는다. */
+    public void add(long id, float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException(
+                    "벡터 차원이 다릅니다. expected=" + dimension + ", actual=" + vector.length);
+        }
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = nodeById.get(id);
+            if (existing != null) {
+                markDeleted(existing);
+            }
+
+            ensureCapacity(size + 1);
+            int node = size++;
+            int level = randomLevel();
+
+            ids[node] = id;
+            vectors[node] = vector;
+            links[node] = new int[level + 1][];
+            for (int l = 0; l <= level; l++) {
+                links[node][l] = new int[maxConnections(l) + 1];
+            }
+            nodeById.put(id, node);
+
+            if (entryPoint < 0) {
+                entryPoint = node;
+                maxLevel = level;
+                return;
+            }
+
+            int ep = entryPoint;
+            for (int l = maxLevel; l > level; l--) {
+                ep = greedyClosest(vector, ep, l);
+            }
+
+            for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+                NodeHeap found = searchLayer(vector, ep, efConstruction, l);
+                int[] nearest = found.drainAscending();
+                int[] selected = selectNeighbors(vector, nearest, m);
+
+                for (int nb : selected) {
+                    connect(node, nb, l);
+                    connect(nb, node, l);
+                }
+                ep = nearest[0];
+            }
+
+            if (level > maxLevel) {
+                maxLevel = level;
+                entryPoint = node;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer node = nodeById.remove(id);
+            if (node == null) return false;
+            markDeleted(node);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * query 와 가장 가까운 k 개.
+     *
+     * @param ef 탐색 후보 폭 (클수록 recall ↑, 속도 ↓). k 보다 작으면 k 로 올린다.
+     */
+    public List<Hit> search(float[] query, int k, int ef) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k <= 0) {
+                return List.of();
+            }
+
+            int ep = entryPoint;
+            for (int l = maxLevel; l > 0; l--) {
+                ep = greedyClosest(query, ep, l);
+            }
+
+            NodeHeap found = searchLayer(query, ep, Math.max(ef, k), 0);
+            float[] dists = found.distsSnapshot();
+            int[] nodes = found.nodesSnapshot();
+            Integer[] order = new Integer[nodes.length];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> Float.compare(dists[a], dists[b]));
+
+            List<Hit> hits = new ArrayList<>(Math.min(k, nodes.length));
+            for (int idx : order) {
+                int node = nodes[idx];
+                if (deleted[node]) continue;
+                hits.add(new Hit(ids[node], 1.0f - dists[idx]));
+                if (hits.size() >= k) break;
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* ---------- graph ---------- */
+
+    private int greedyClosest(float[] q, int ep, int level) {
+        int cur = ep;
+        float curDist = distance(q, vectors[cur]);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int[] nbrs = links[cur][level];
+            for (int i = 1; i <= nbrs[0]; i++) {
+                int cand = nbrs[i];
+                float d = distance(q, vectors[cand]);
+                if (d < curDist) {
+                    curDist = d;
+                    cur = cand;
+                    changed = true;
+                }
+            }
+        }
+        return cur;
+    }
+
+    /** 결과는 거리 기준 max-heap (가장 먼 것이 top) 으로 돌려준다. */
+    private NodeHeap searchLayer(float[] q, int ep, int ef, int level) {
+        VisitedSet visited = visitedPool.get();
+        visited.reset(size);
+
+        NodeHeap candidates = new NodeHeap(false, ef * 2);
+        NodeHeap results = new NodeHeap(true, ef + 1);
+
+        float d0 = distance(q, vectors[ep]);
+        candidates.push(ep, d0);
+        results.push(ep, d0);
+        visited.mark(ep);
+
+        while (candidates.size() > 0) {
+            float cDist = candidates.topDist();
+            if (results.size() >= ef && cDist > results.topDist()) {
+                break;
+            }
+            int c = candidates.pop();
+
+            int[] nbrs = links[c][level];
+            for (int i = 1; i <= nbrs[0]; i++) {
+                int e = nbrs[i];
+                if (!visited.mark(e)) continue;
+
+                float de = distance(q, vectors[e]);
+                if (results.size() < ef || de < results.topDist()) {
+                    candidates.push(e, de);
+                    results.push(e, de);
+                    if (results.size() > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 논문의 휴리스틱 이웃 선택:
+     * 이미 고른 이웃보다 q 에 더 가까운 후보만 고르고, 모자라면 남은 후보로 채운다.
+     */
+    private int[] selectNeighbors(float[] q, int[] ascending, int limit) {
+        int[] picked = new int[Math.min(limit, ascending.length)];
+        int count = 0;
+        boolean[] used = new boolean[ascending.length];
+
+        for (int i = 0; i < ascending.length && count < picked.length; i++) {
+            int cand = ascending[i];
+            float dq = distance(q, vectors[cand]);
+            boolean good = true;
+            for (int j = 0; j < count; j++) {
+                if (distance(vectors[cand], vectors[picked[j]]) < dq) {
+                    good = false;
+                    break;
+                }
+            }
+            if (good) {
+                picked[count++] = cand;
+                used[i] = true;
+            }
+        }
+        for (int i = 0; i < ascending.length && count < picked.length; i++) {
+            if (!used[i]) picked[count++] = ascending[i];
+        }
+        return count == picked.length ? picked : Arrays.copyOf(picked, count);
+    }
+
+    /** from → to 간선 추가. 꽉 찼으면 가장 먼 이웃과 비교해서 교체. */
+    private void connect(int from, int to, int level) {
+        int[] arr = links[from][level];
+        int cnt = arr[0];
+        for (int i = 1; i <= cnt; i++) {
+            if (arr[i] == to) return;
+        }
+
+        if (cnt < arr.length - 1) {
+            arr[++cnt] = to;
+            arr[0] = cnt;
+            return;
+        }
+
+        float[] base = vectors[from];
+        int worstIdx = -1;
+        float worstDist = distance(base, vectors[to]);
+        for (int i = 1; i <= cnt; i++) {
+            float d = distance(base, vectors[arr[i]]);
+            if (d > worstDist) {
+                worstDist = d;
+                worstIdx = i;
+            }
+        }
+        if (worstIdx > 0) {
+            arr[worstIdx] = to;
+        }
+    }
+
+    private void markDeleted(int node) {
+        if (!deleted[node]) {
+            deleted[node] = true;
+            deletedCount++;
+        }
+    }
+
+    private int maxConnections(int level) {
+        return level == 0 ? maxM0 : m;
+    }
+
+    private int randomLevel() {
+        double r = random.nextDouble();
+        if (r <= 0.0) r = Double.MIN_VALUE;
+        return (int) Math.floor(-Math.log(r) * levelMult);
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= ids.length) return;
+        int cap = Math.max(needed, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, cap);
+        vectors = Arrays.copyOf(vectors, cap);
+        links = Arrays.copyOf(links, cap);
+        deleted = Arrays.copyOf(deleted, cap);
+    }
+
+    private static float distance(float[] a, float[] b) {
+        float dot = 0f;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return 1.0f - dot;
+    }
+
+    /* ---------- helpers ---------- */
+
+    /** 검색마다 boolean[] 를 새로 만들지 않도록 epoch 방식으로 재사용하는 방문 표시 */
+    private static final class VisitedSet {
+        private int[] marks = new int[0];
+        private int epoch;
+
+        void reset(int capacity) {
+            if (marks.length < capacity) {
+                marks = new int[Math.max(capacity, marks.length * 2)];
+                epoch = 0;
+            }
+            epoch++;
+            if (epoch == Integer.MAX_VALUE) {
+                Arrays.fill(marks, 0);
+                epoch = 1;
+            }
+        }
+
+        /** 처음 방문이면 true */
+        boolean mark(int node) {
+            if (marks[node] == epoch) return false;
+            marks[node] = epoch;
+            return true;
+        }
+    }
+
+    /** (node, dist) 쌍을 담는 primitive 이진 힙. max=true 면 가장 먼 것이 top. */
+    private static final class NodeHeap {
+        private final boolean max;
+        private int[] nodes;
+        private float[] dists;
+        private int size;
+
+        NodeHeap(boolean max, int capacity) {
+            this.max = max;
+            this.nodes = new int[Math.max(4, capacity)];
+            this.dists = new float[nodes.length];
+        }
+
+        int size() {
+            return size;
+        }
+
+        float topDist() {
+            return dists[0];
+        }
+
+        void push(int node, float dist) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                dists = Arrays.copyOf(dists, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!before(dist, dists[parent])) break;
+                nodes[i] = nodes[parent];
+                dists[i] = dists[parent];
+                i = parent;
+            }
+            nodes[i] = node;
+            dists[i] = dist;
+        }
+
+        int pop() {
+            int top = nodes[0];
+            int lastNode = nodes[--size];
+            float lastDist = dists[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && before(dists[child + 1], dists[child])) child++;
+                if (!before(dists[child], lastDist)) break;
+                nodes[i] = nodes[child];
+                dists[i] = dists[child];
+                i = child;
+            }
+            nodes[i] = lastNode;
+            dists[i] = lastDist;
+            return top;
+        }
+
+        /** 힙을 비우면서 거리 오름차순 배열로 */
+        int[] drainAscending() {
+            int[] out = new int[size];
+            if (max) {
+                for (int i = out.length - 1; i >= 0; i--) out[i] = pop();
+            } else {
+                for (int i = 0; i < out.length; i++) out[i] = pop();
+            }
+            return out;
+        }
+
+        int[] nodesSnapshot() {
+            return Arrays.copyOf(nodes, size);
+        }
+
+        float[] distsSnapshot() {
+            return Arrays.copyOf(dists, size);
+        }
+
+        private boolean before(float a, float b) {
+            return max ? a > b : a < b;
+        }
+    }
+}
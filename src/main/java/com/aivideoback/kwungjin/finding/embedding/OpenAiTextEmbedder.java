@@ -0,0 +1,127 @@
+// src/main/java/com/aivideoback/kwungjin/finding/embedding/OpenAiTextEmbedder.java
+package com.aivideoback.kwungjin.finding.embedding;
+
+import com.aivideoback.kwungjin.ai.OpenAiHttpClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * OpenAI Embeddings API 기반 임베더 (app.finding.embedding.provider=openai).
+ *
+ * - "강아지" / "dog" / "반려견" 같이 표기가 다른 의미적 매칭은 이쪽을 써야 잡힌다.
+ * - dimensions 파라미터로 벡터 길이를 줄여서 인덱스 메모리를 아낀다.
+ * - embedAll 은 batch-size 개씩 input 배열로 묶어서 호출 (인덱스 재구축 시 영상마다 HTTP 한 번 X)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.finding.embedding.provider", havingValue = "openai")
+public class OpenAiTextEmbedder implements TextEmbedder {
+
+    private static final String EMBEDDING_PATH = "/embeddings";
+
+    private final OpenAiHttpClient openAiHttpClient;
+    private final String model;
+    private final int dimension;
+    private final Duration timeout;
+    private final Duration batchTimeout;
+    private final int batchSize;
+
+    public OpenAiTextEmbedder(
+            OpenAiHttpClient openAiHttpClient,
+            @Value("${app.finding.embedding.model:text-embedding-3-small}") String model,
+            @Value("${app.finding.embedding.dimension:256}") int dimension,
+            @Value("${app.finding.embedding.timeout-ms:5000}") long timeoutMs,
+            @Value("${app.finding.embedding.batch-timeout-ms:30000}") long batchTimeoutMs,
+            @Value("${app.finding.embedding.batch-size:64}") int batchSize
+    ) {
+        this.openAiHttpClient = openAiHttpClient;
+        this.model = model;
+        this.dimension = dimension;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.batchTimeout = Duration.ofMillis(batchTimeoutMs);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public String modelId() {
+        return "openai-" + model + "-" + dimension;
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vec = new float[dimension];
+        if (text == null || text.isBlank()) {
+            return vec;
+        }
+
+        EmbeddingApi.Request body = new EmbeddingApi.Request(model, text, dimension);
+
+        // 검색 경로에서 불리므로 짧은 deadline (실패하면 태그 매칭만)
+        EmbeddingApi.Response resp =
+                openAiHttpClient.post("embeddings", EMBEDDING_PATH, body, EmbeddingApi.Response.class, timeout);
+
+        if (resp == null) {
+            throw new IllegalStateException("OpenAI 임베딩 응답이 비어 있습니다.");
+        }
+        if (resp.data() == null || resp.data().isEmpty() || resp.data().get(0).embedding() == null) {
+            throw new IllegalStateException("OpenAI 임베딩 data 가 비어 있습니다.");
+        }
+
+        copyInto(resp.data().get(0).embedding(), vec);
+        HashingTextEmbedder.normalize(vec);
+        return vec;
+    }
+
+    /** 빈 텍스트는 0 벡터, 나머지는 batch-size 개씩 한 번에 요청 (응답은 index 기준으로 맞춤) */
+    @Override
+    public List<float[]> embedAll(List<String> texts) {
+        List<float[]> out = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            out.add(new float[dimension]);
+        }
+
+        List<Integer> positions = new ArrayList<>();
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+            if (text == null || text.isBlank()) continue;
+            positions.add(i);
+            inputs.add(text);
+        }
+
+        for (int from = 0; from < inputs.size(); from += batchSize) {
+            int to = Math.min(inputs.size(), from + batchSize);
+            EmbeddingApi.Request body = new EmbeddingApi.Request(model, inputs.subList(from, to), dimension);
+            EmbeddingApi.Response resp =
+                    openAiHttpClient.post("embeddings", EMBEDDING_PATH, body, EmbeddingApi.Response.class, batchTimeout);
+
+            if (resp == null || resp.data() == null || resp.data().size() != to - from) {
+                throw new IllegalStateException("OpenAI 임베딩 배치 응답 개수가 맞지 않습니다.");
+            }
+            for (EmbeddingApi.Data d : resp.data()) {
+                if (d.embedding() == null || d.index() < 0 || d.index() >= to - from) {
+                    throw new IllegalStateException("OpenAI 임베딩 배치 응답이 올바르지 않습니다.");
+                }
+                float[] vec = out.get(positions.get(from + d.index()));
+                copyInto(d.embedding(), vec);
+                HashingTextEmbedder.normalize(vec);
+            }
+        }
+        return out;
+    }
+
+    private void copyInto(float[] embedding, float[] vec) {
+        System.arraycopy(embedding, 0, vec, 0, Math.min(dimension, embedding.length));
+    }
+}
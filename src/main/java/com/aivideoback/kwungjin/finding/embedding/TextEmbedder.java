@@ -0,0 +1,30 @@
+// src/main/java/com/aivideoback/kwungjin/finding/embedding/TextEmbedder.java
+package com.aivideoback.kwungjin.finding.embedding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 텍스트 → 고정 길이 벡터 변환기.
+ *
+ * - 구현체는 app.finding.embedding.provider 설정으로 교체한다 (hash / openai).
+ * - 반환 벡터는 항상 L2 정규화되어 있어야 한다 (내적 = 코사인 유사도).
+ */
+public interface TextEmbedder {
+
+    /** 저장된 임베딩이 어떤 모델로 만들어졌는지 구분하는 값 (모델이 바뀌면 재계산) */
+    String modelId();
+
+    int dimension();
+
+    float[] embed(String text);
+
+    /** 여러 텍스트를 한 번에 (입력 순서대로). 원격 임베더는 호출 한 번으로 묶어서 구현 */
+    default List<float[]> embedAll(List<String> texts) {
+        List<float[]> out = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            out.add(embed(text));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,340 @@
+// src/main/java/com/aivideoback/kwungjin/finding/embedding/VideoEmbeddingService.java
+package com.aivideoback.kwungjin.finding.embedding;
+
+import com.aivideoback.kwungjin.video.entity.Video;
+import com.aivideoback.kwungjin.video.entity.VideoFeature;
+import com.aivideoback.kwungjin.video.event.VideoChangedEvent;
+import com.aivideoback.kwungjin.video.repository.VideoFeatureRepository;
+import com.aivideoback.kwungjin.video.repository.VideoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 영상별 임베딩 저장 + 승인 영상 HNSW 인덱스 관리.
+ *
+ * - 임베딩은 VIDEO_FEATURE_TABLE 에 SOURCE='EMBEDDING' 행으로 저장
+ *   (TAGS_JSON = {"model": "...", "dim": 256, "vector": "base64(float32 LE)"})
+ * - 서버 기동 후 비동기로 승인 영상 전체를 인덱스에 올리고,
+ *   이후에는 VideoChangedEvent 를 받아서 한 건씩 갱신한다.
+ * - 재구축 중에 들어온 이벤트는 기존 인덱스에 반영하면서 따로 모아 두고,
+ *   교체 직전에 새 인덱스에 다시 적용한다 (교체로 이벤트가 사라지지 않도록)
+ * - 새로 계산할 임베딩은 페이지 단위로 모아서 embedAll 로 한 번에 (OpenAI 는 input 배열 한 번 호출)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoEmbeddingService {
+
+    public static final String SOURCE_EMBEDDING = "EMBEDDING";
+
+    private static final int LOAD_PAGE_SIZE = 500;          // Oracle IN 절 1000개 제한 안쪽
+    private static final double REBUILD_DELETED_RATIO = 0.2;
+
+    private final TextEmbedder textEmbedder;
+    private final VideoRepository videoRepository;
+    private final VideoFeatureRepository videoFeatureRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.finding.embedding.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.finding.embedding.hnsw.m:16}")
+    private int hnswM;
+
+    @Value("${app.finding.embedding.hnsw.ef-construction:100}")
+    private int efConstruction;
+
+    @Value("${app.finding.embedding.hnsw.ef-search:64}")
+    private int efSearch;
+
+    // 인덱스 재구축 중에도 검색은 이전 인덱스로 계속 돌도록 참조만 교체
+    private volatile HnswIndex index;
+
+    // 재구축 중 들어온 이벤트 (eventLock 보호, rebuilding 일 때만 쌓음)
+    private final Object eventLock = new Object();
+    private boolean rebuilding;
+    private List<VideoChangedEvent> pendingEvents = new ArrayList<>();
+
+    public boolean isReady() {
+        return enabled && index != null;
+    }
+
+    /** 프롬프트(+예측 태그) 텍스트로 가장 비슷한 승인 영상 k 개 */
+    public List<HnswIndex.Hit> searchSimilar(String text, int k) {
+        HnswIndex current = index;
+        if (!enabled || current == null || text == null || text.isBlank()) {
+            return List.of();
+        }
+        try {
+            float[] query = textEmbedder.embed(text);
+            return current.search(query, k, Math.max(efSearch, k));
+        } catch (Exception e) {
+            log.warn("임베딩 검색 실패, 태그 매칭만 사용합니다.", e);
+            return List.of();
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexOnStartup() {
+        if (!enabled) {
+            log.info("임베딩 검색 비활성화 (app.finding.embedding.enabled=false)");
+            return;
+        }
+        rebuildIndex();
+    }
+
+    /** 승인 영상 전체를 videoNo 순으로 훑어서 새 인덱스를 만든 뒤 교체 */
+    public synchronized void rebuildIndex() {
+        long started = System.currentTimeMillis();
+        synchronized (eventLock) {
+            rebuilding = true;
+            pendingEvents = new ArrayList<>();
+        }
+
+        HnswIndex fresh;
+        int computed = 0;
+        try {
+            fresh = new HnswIndex(textEmbedder.dimension(), hnswM, efConstruction, 1024);
+
+            long cursor = 0L;
+            while (true) {
+                List<Video> page = videoRepository
+                        .findByIsBlockedAndReviewStatusAndVideoNoGreaterThanOrderByVideoNoAsc(
+                                "N", "A", cursor, PageRequest.of(0, LOAD_PAGE_SIZE));
+                if (page.isEmpty()) break;
+
+                Map<Long, List<VideoFeature>> featuresByVideo = videoFeatureRepository
+                        .findByVideoNoIn(page.stream().map(Video::getVideoNo).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(VideoFeature::getVideoNo));
+
+                List<Video> missing = new ArrayList<>();
+                for (Video v : page) {
+                    float[] vector = readStoredVector(featuresByVideo.getOrDefault(v.getVideoNo(), List.of()));
+                    if (vector != null) {
+                        fresh.add(v.getVideoNo(), vector);
+                    } else {
+                        missing.add(v);
+                    }
+                }
+
+                // 저장된 임베딩이 없는 영상은 모아서 한 번에 계산
+                Map<Long, float[]> vectors = computeAndStoreAll(missing, featuresByVideo);
+                vectors.forEach(fresh::add);
+                computed += vectors.size();
+
+                cursor = page.get(page.size() - 1).getVideoNo();
+            }
+        } catch (RuntimeException e) {
+            synchronized (eventLock) {
+                rebuilding = false;
+                pendingEvents = new ArrayList<>();
+            }
+            throw e;
+        }
+
+        // 재구축 중에 온 이벤트를 새 인덱스에 다시 적용하고, 더 쌓인 게 없을 때 교체
+        while (true) {
+            List<VideoChangedEvent> replay;
+            synchronized (eventLock) {
+                if (pendingEvents.isEmpty()) {
+                    index = fresh;
+                    rebuilding = false;
+                    break;
+                }
+                replay = pendingEvents;
+                pendingEvents = new ArrayList<>();
+            }
+            for (VideoChangedEvent event : replay) {
+                apply(fresh, event);
+            }
+        }
+
+        log.info("임베딩 인덱스 구축 완료 size={}, 새로 계산={}, {}ms",
+                fresh.size(), computed, System.currentTimeMillis() - started);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        if (!enabled) return;
+
+        HnswIndex current;
+        synchronized (eventLock) {
+            if (rebuilding) {
+                pendingEvents.add(event);   // 교체 전에 새 인덱스에도 적용
+            }
+            current = index;
+        }
+        if (current == null) return;
+
+        apply(current, event);
+
+        if (current.deletedRatio() > REBUILD_DELETED_RATIO) {
+            rebuildIndex();
+        }
+    }
+
+    private void apply(HnswIndex target, VideoChangedEvent event) {
+        Long videoNo = event.videoNo();
+        try {
+            switch (event.type()) {
+                case DELETED, BLOCKED -> target.remove(videoNo);
+                case APPROVED, TAGS_CHANGED, METADATA_CHANGED -> refresh(target, videoNo);
+                default -> {
+                    // UPLOADED: 심사 전이라 인덱스 대상 아님
+                }
+            }
+        } catch (Exception e) {
+            log.warn("임베딩 인덱스 갱신 실패 videoNo={}, type={}", videoNo, event.type(), e);
+        }
+    }
+
+    private void refresh(HnswIndex target, Long videoNo) {
+        Video v = videoRepository.findById(videoNo).orElse(null);
+        if (v == null || !"N".equals(v.getIsBlocked()) || !"A".equals(v.getReviewStatus())) {
+            target.remove(videoNo);
+            return;
+        }
+        float[] vector = computeAndStore(v, videoFeatureRepository.findByVideoNo(videoNo));
+        if (vector != null) {
+            target.add(videoNo, vector);
+        }
+    }
+
+    /* ---------- embedding 저장/로드 ---------- */
+
+    private float[] computeAndStore(Video v, List<VideoFeature> features) {
+        float[] vector;
+        try {
+            vector = textEmbedder.embed(buildEmbeddingText(v, features));
+        } catch (Exception e) {
+            log.warn("영상 임베딩 계산 실패 videoNo={}", v.getVideoNo(), e);
+            return null;
+        }
+        store(v, features, vector);
+        return vector;
+    }
+
+    /** 여러 영상을 embedAll 한 번으로 계산 후 저장 (실패하면 이번 페이지는 인덱스에서 빠짐, 다음 재구축 때 재시도) */
+    private Map<Long, float[]> computeAndStoreAll(List<Video> videos, Map<Long, List<VideoFeature>> featuresByVideo) {
+        if (videos.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> texts = new ArrayList<>(videos.size());
+        for (Video v : videos) {
+            texts.add(buildEmbeddingText(v, featuresByVideo.getOrDefault(v.getVideoNo(), List.of())));
+        }
+
+        List<float[]> vectors;
+        try {
+            vectors = textEmbedder.embedAll(texts);
+        } catch (Exception e) {
+            log.warn("영상 임베딩 일괄 계산 실패 ({}건)", videos.size(), e);
+            return Map.of();
+        }
+
+        Map<Long, float[]> out = new LinkedHashMap<>();
+        for (int i = 0; i < videos.size(); i++) {
+            Video v = videos.get(i);
+            store(v, featuresByVideo.getOrDefault(v.getVideoNo(), List.of()), vectors.get(i));
+            out.put(v.getVideoNo(), vectors.get(i));
+        }
+        return out;
+    }
+
+    private void store(Video v, List<VideoFeature> features, float[] vector) {
+        try {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("model", textEmbedder.modelId());
+            json.put("dim", vector.length);
+            json.put("vector", encode(vector));
+            String tagsJson = objectMapper.writeValueAsString(json);
+
+            VideoFeature row = features.stream()
+                    .filter(f -> SOURCE_EMBEDDING.equals(f.getSource()))
+                    .findFirst()
+                    .orElseGet(() -> VideoFeature.builder()
+                            .videoNo(v.getVideoNo())
+                            .source(SOURCE_EMBEDDING)
+                            .build());
+            row.setTagsJson(tagsJson);
+            videoFeatureRepository.save(row);
+        } catch (Exception e) {
+            // 저장 실패해도 인덱스에는 올린다 (다음 재구축 때 다시 계산)
+            log.warn("영상 임베딩 저장 실패 videoNo={}", v.getVideoNo(), e);
+        }
+    }
+
+    private float[] readStoredVector(List<VideoFeature> features) {
+        for (VideoFeature f : features) {
+            if (!SOURCE_EMBEDDING.equals(f.getSource())) continue;
+            try {
+                Map<?, ?> json = objectMapper.readValue(f.getTagsJson(), Map.class);
+                if (!textEmbedder.modelId().equals(json.get("model"))) {
+                    return null; // 모델이 바뀌었으면 재계산
+                }
+                float[] vector = decode(String.valueOf(json.get("vector")));
+                return vector.length == textEmbedder.dimension() ? vector : null;
+            } catch (Exception e) {
+                log.warn("저장된 임베딩 파싱 실패 videoNo={}", f.getVideoNo(), e);
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /** 제목 + 설명 + 태그(TAG1~5, 자동 태그) 를 한 문장으로 */
+    private String buildEmbeddingText(Video v, List<VideoFeature> features) {
+        Set<String> tags = new LinkedHashSet<>();
+        for (String t : Arrays.asList(v.getTag1(), v.getTag2(), v.getTag3(), v.getTag4(), v.getTag5())) {
+            if (t != null && !t.isBlank()) tags.add(t.trim());
+        }
+        for (VideoFeature f : features) {
+            if (SOURCE_EMBEDDING.equals(f.getSource())) continue;
+            try {
+                Object tagsObj = objectMapper.readValue(f.getTagsJson(), Map.class).get("tags");
+                if (tagsObj instanceof Collection<?> col) {
+                    for (Object o : col) {
+                        if (o != null && !o.toString().isBlank()) tags.add(o.toString().trim());
+                    }
+                }
+            } catch (Exception ignored) {
+                // 태그 JSON 이 깨져 있으면 제목/설명만 사용
+            }
+        }
+
+        return String.join(" ",
+                Optional.ofNullable(v.getTitle()).orElse(""),
+                String.join(" ", tags),
+                Optional.ofNullable(v.getDescription()).orElse(""));
+    }
+
+    private static String encode(float[] vector) {
+        ByteBuffer buf = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (float f : vector) buf.putFloat(f);
+        return Base64.getEncoder().encodeToString(buf.array());
+    }
+
+    private static float[] decode(String b64) {
+        ByteBuffer buf = ByteBuffer.wrap(Base64.getDecoder().decode(b64)).order(ByteOrder.LITTLE_ENDIAN);
+        float[] vector = new float[buf.remaining() / Float.BYTES];
+        for (int i = 0; i < vector.length; i++) vector[i] = buf.getFloat();
+        return vector;
+    }
+}
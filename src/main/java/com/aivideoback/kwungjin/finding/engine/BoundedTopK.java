@@ -0,0 +1,91 @@
+// src/main/java/com/aivideoback/kwungjin/finding/engine/BoundedTopK.java
+package com.aivideoback.kwungjin.finding.engine;
+
+/**
+ * 점수 상위 K 개만 유지하는 primitive min-heap.
+ *
+ * - 후보가 몇 개든 메모리는 K 개로 고정, 넣고 빼는 데 객체 할당 없음
+ * - 값은 long 하나 (FindingScorer 에서는 segment<<32 | slot)
+ * - 스레드 안전하지 않음 → Segment(스레드)마다 하나씩 쓰고 마지막에 merge
+ */
+final class BoundedTopK {
+
+    private final long[] refs;
+    private final double[] scores;
+    private int size;
+
+    BoundedTopK(int capacity) {
+        this.refs = new long[Math.max(1, capacity)];
+        this.scores = new double[refs.length];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** 현재 K 개 안에 들 수 있는 점수인지 */
+    boolean accepts(double score) {
+        return size < refs.length || score > scores[0];
+    }
+
+    void offer(long ref, double score) {
+        if (!accepts(score)) return;
+        if (size == refs.length) {
+            // 가득 찼으면 최소값 자리를 덮어쓰고 아래로
+            refs[0] = ref;
+            scores[0] = score;
+            siftDown(0);
+            return;
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (scores[parent] <= score) break;
+            refs[i] = refs[parent];
+            scores[i] = scores[parent];
+            i = parent;
+        }
+        refs[i] = ref;
+        scores[i] = score;
+    }
+
+    BoundedTopK merge(BoundedTopK other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.refs[i], other.scores[i]);
+        }
+        return this;
+    }
+
+    /**
+     * 점수 내림차순으로 꺼내서 refsOut/scoresOut 앞쪽에 채운다 (힙은 비워짐).
+     * 반환값 = 채운 개수
+     */
+    int drainDescending(long[] refsOut, double[] scoresOut) {
+        int n = size;
+        for (int i = n - 1; i >= 0; i--) {
+            scoresOut[i] = scores[0];
+            refsOut[i] = refs[0];
+            size--;
+            refs[0] = refs[size];
+            scores[0] = scores[size];
+            if (size > 0) siftDown(0);
+        }
+        return n;
+    }
+
+    private void siftDown(int i) {
+        long ref = refs[i];
+        double score = scores[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && scores[child + 1] < scores[child]) child++;
+            if (scores[child] >= score) break;
+            refs[i] = refs[child];
+            scores[i] = scores[child];
+            i = child;
+        }
+        refs[i] = ref;
+        scores[i] = score;
+    }
+}
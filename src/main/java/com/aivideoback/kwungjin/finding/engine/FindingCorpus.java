@@ -0,0 +1,516 @@
+// src/main/java/com/aivideoback/kwungjin/finding/engine/FindingCorpus.java
+package com.aivideoback.kwungjin.finding.engine;
+
+import com.aivideoback.kwungjin.finding.analyzer.KoreanAnalyzer;
+import com.aivideoback.kwungjin.finding.embedding.VideoEmbeddingService;
+import com.aivideoback.kwungjin.video.entity.Video;
+import com.aivideoback.kwungjin.video.entity.VideoFeature;
+import com.aivideoback.kwungjin.video.event.VideoChangedEvent;
+import com.aivideoback.kwungjin.video.repository.VideoFeatureRepository;
+import com.aivideoback.kwungjin.video.repository.VideoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Finding 채점용 공개 영상 코퍼스 (컬럼 지향 인메모리 구조).
+ *
+ * - 영상 4096개 단위 Segment 에 컬럼별 배열로 보관 (제목/설명 gram int[], 태그 id int[], 집계 수치 …)
+ * - 검색 시 요청마다 문자열 검색/Set 생성/DB 조회를 하지 않고 여기 값을 그대로 채점
+ * - 갱신은 Segment 단위 copy-on-write → 읽는 쪽은 락 없이 volatile 스냅샷만 본다
+ * - VideoChangedEvent 로 한 건씩 갱신
+ * - 조회수/좋아요/싫어요는 VideoService 가 넘겨주는 최신값을 모았다가 counts-ms 마다 한꺼번에 반영
+ *   (건마다 Segment 를 복사하지 않도록, 바뀐 Segment 만 집계 배열만 복사)
+ * - 주기적 전체 재적재는 놓친 이벤트/다른 인스턴스의 집계를 맞추는 용도
+ */
+@Slf4j
+@Component
+public class FindingCorpus {
+
+    public static final int SEGMENT_SIZE = 4096;
+    private static final int LOAD_PAGE_SIZE = 500;
+    private static final int MAX_FALLBACK_TOKENS = 30;
+
+    private final VideoRepository videoRepository;
+    private final VideoFeatureRepository videoFeatureRepository;
+    private final ObjectMapper objectMapper;
+    private final KoreanAnalyzer analyzer;
+
+    private final TagDictionary dictionary;
+    private final Object writeLock = new Object();
+
+    private volatile Segment[] segments = new Segment[0];
+    private volatile boolean ready;
+
+    // videoNo → segment * SEGMENT_SIZE + slot (writeLock 보호)
+    private Map<Long, Integer> positions = new HashMap<>();
+    // 전체 재적재 중에 들어온 이벤트 (재적재 끝나고 다시 적용, writeLock 보호)
+    private List<VideoChangedEvent> pendingDuringReload;
+    // 아직 반영 안 된 집계 최신값 videoNo → {views, likes, dislikes} (-1 = 그대로)
+    private final ConcurrentHashMap<Long, long[]> pendingCounts = new ConcurrentHashMap<>();
+
+    public FindingCorpus(VideoRepository videoRepository,
+                         VideoFeatureRepository videoFeatureRepository,
+                         ObjectMapper objectMapper,
+                         KoreanAnalyzer analyzer) {
+        this.videoRepository = videoRepository;
+        this.videoFeatureRepository = videoFeatureRepository;
+        this.objectMapper = objectMapper;
+        this.analyzer = analyzer;
+        this.dictionary = new TagDictionary(analyzer);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** 현재 스냅샷. 반환된 배열/Segment 는 절대 수정되지 않는다. */
+    public Segment[] segments() {
+        return segments;
+    }
+
+    public TagDictionary dictionary() {
+        return dictionary;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.finding.corpus.reload-ms:600000}",
+            initialDelayString = "${app.finding.corpus.reload-ms:600000}"
+    )
+    public void scheduledReload() {
+        reload();
+    }
+
+    /** 공개 영상 전체를 videoNo 커서로 읽어서 새 Segment 배열로 교체 */
+    public void reload() {
+        synchronized (writeLock) {
+            if (pendingDuringReload != null) {
+                return; // 이미 재적재 중
+            }
+            pendingDuringReload = new ArrayList<>();
+        }
+
+        long started = System.currentTimeMillis();
+        List<VideoChangedEvent> replay;
+        try {
+            List<Segment> built = new ArrayList<>();
+            Map<Long, Integer> newPositions = new HashMap<>();
+            Segment current = new Segment();
+
+            long cursor = 0L;
+            while (true) {
+                List<Video> page = videoRepository
+                        .findByIsBlockedAndReviewStatusAndVideoNoGreaterThanOrderByVideoNoAsc(
+                                "N", "A", cursor, PageRequest.of(0, LOAD_PAGE_SIZE));
+                if (page.isEmpty()) break;
+
+                Map<Long, List<VideoFeature>> features = videoFeatureRepository
+                        .findByVideoNoIn(page.stream().map(Video::getVideoNo).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(VideoFeature::getVideoNo));
+
+                for (Video v : page) {
+                    if (current.size == SEGMENT_SIZE) {
+                        built.add(current);
+                        current = new Segment();
+                    }
+                    int slot = current.size++;
+                    current.set(slot, toRow(v, features.getOrDefault(v.getVideoNo(), List.of())));
+                    newPositions.put(v.getVideoNo(), built.size() * SEGMENT_SIZE + slot);
+                }
+                cursor = page.get(page.size() - 1).getVideoNo();
+            }
+            if (current.size > 0) {
+                built.add(current);
+            }
+
+            synchronized (writeLock) {
+                segments = built.toArray(new Segment[0]);
+                positions = newPositions;
+                ready = true;
+                replay = pendingDuringReload;
+                pendingDuringReload = null;
+            }
+
+            log.info("Finding 코퍼스 적재 완료 videos={}, segments={}, tags={}, {}ms",
+                    newPositions.size(), built.size(), dictionary.size(),
+                    System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                pendingDuringReload = null;
+            }
+            log.error("Finding 코퍼스 적재 실패", e);
+            return;
+        }
+
+        for (VideoChangedEvent event : replay) {
+            apply(event);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        synchronized (writeLock) {
+            if (pendingDuringReload != null) {
+                pendingDuringReload.add(event);
+                return;
+            }
+        }
+        apply(event);
+    }
+
+    /** 조회수 최신값 (VideoViewCounter 누적값) */
+    public void onViews(Long videoNo, long views) {
+        pendingCounts.compute(videoNo, (k, c) -> {
+            long[] next = c == null ? new long[]{-1L, -1L, -1L} : c;
+            next[0] = Math.max(next[0], views);
+            return next;
+        });
+    }
+
+    /** 좋아요/싫어요 최신값 (토글 커밋 후) */
+    public void onReaction(Long videoNo, long likes, long dislikes) {
+        pendingCounts.compute(videoNo, (k, c) -> {
+            long[] next = c == null ? new long[]{-1L, -1L, -1L} : c;
+            next[1] = likes;
+            next[2] = dislikes;
+            return next;
+        });
+    }
+
+    /** 모아 둔 집계를 반영. 바뀐 Segment 마다 집계 배열만 한 번 복사 */
+    @Scheduled(
+            fixedDelayString = "${app.finding.corpus.counts-ms:5000}",
+            initialDelayString = "${app.finding.corpus.counts-ms:5000}"
+    )
+    public void applyCounts() {
+        if (pendingCounts.isEmpty()) return;
+
+        synchronized (writeLock) {
+            if (pendingDuringReload != null) return;   // 재적재가 끝난 뒤 그 위에 덮어씀
+
+            Segment[] current = segments;
+            Segment[] next = null;
+            for (Long videoNo : pendingCounts.keySet()) {
+                long[] counts = pendingCounts.remove(videoNo);
+                Integer pos = positions.get(videoNo);
+                if (counts == null || pos == null) continue;
+
+                int si = pos / SEGMENT_SIZE;
+                if (next == null) next = current.clone();
+                if (next[si] == current[si]) next[si] = current[si].copyCounts();
+                next[si].setCounts(pos % SEGMENT_SIZE, counts);
+            }
+            if (next != null) segments = next;
+        }
+    }
+
+    private void apply(VideoChangedEvent event) {
+        Long videoNo = event.videoNo();
+        Row row = null;
+
+        if (event.type() != VideoChangedEvent.Type.DELETED) {
+            Video v = videoRepository.findById(videoNo).orElse(null);
+            if (v != null && "N".equals(v.getIsBlocked()) && "A".equals(v.getReviewStatus())) {
+                row = toRow(v, videoFeatureRepository.findByVideoNo(videoNo));
+            }
+        }
+
+        synchronized (writeLock) {
+            if (row == null) {
+                removeLocked(videoNo);
+            } else {
+                upsertLocked(row);
+            }
+        }
+    }
+
+    /* ---------- copy-on-write 갱신 (writeLock 안에서만 호출) ---------- */
+
+    private void upsertLocked(Row row) {
+        Segment[] current = segments;
+        Integer pos = positions.get(row.videoNo());
+
+        if (pos != null) {
+            int si = pos / SEGMENT_SIZE;
+            Segment copy = current[si].copy();
+            copy.set(pos % SEGMENT_SIZE, row);
+            Segment[] next = current.clone();
+            next[si] = copy;
+            segments = next;
+            return;
+        }
+
+        Segment[] next;
+        int si;
+        Segment target;
+        if (current.length > 0 && current[current.length - 1].size < SEGMENT_SIZE) {
+            si = current.length - 1;
+            target = current[si].copy();
+            next = current.clone();
+        } else {
+            si = current.length;
+            target = new Segment();
+            next = Arrays.copyOf(current, current.length + 1);
+        }
+
+        int slot = target.size++;
+        target.set(slot, row);
+        next[si] = target;
+        positions.put(row.videoNo(), si * SEGMENT_SIZE + slot);
+        segments = next;
+    }
+
+    private void removeLocked(Long videoNo) {
+        Integer pos = positions.remove(videoNo);
+        if (pos == null) return;
+
+        Segment[] current = segments;
+        int si = pos / SEGMENT_SIZE;
+        Segment copy = current[si].copy();
+        copy.alive[pos % SEGMENT_SIZE] = false;
+        Segment[] next = current.clone();
+        next[si] = copy;
+        segments = next;
+    }
+
+    /* ---------- 정규화 ---------- */
+
+    private Row toRow(Video v, List<VideoFeature> features) {
+        // 영상에 직접 달린 태그는 항상 어휘로 (태그 필터/선호도 쪽과 같은 어간 기준)
+        for (String t : new String[]{v.getTag1(), v.getTag2(), v.getTag3(), v.getTag4(), v.getTag5()}) {
+            if (t != null && !t.isBlank()) analyzer.learn(analyzer.normalize(t));
+        }
+
+        ResolvedTags resolved = resolveVideoTags(v, features);
+        List<String> tags = resolved.tags();
+        int[] ids = new int[tags.size()];
+        int n = 0;
+        for (String t : tags) {
+            int id = dictionary.intern(t, resolved.known());
+            boolean dup = false;
+            for (int i = 0; i < n; i++) {
+                if (ids[i] == id) {
+                    dup = true;
+                    break;
+                }
+            }
+            if (!dup) ids[n++] = id;
+        }
+
+        return new Row(
+                v.getVideoNo(),
+                v.getTitle(),
+                v.getDescription(),
+                analyzer.documentGrams(v.getTitle()),
+                analyzer.documentGrams(v.getDescription()),
+                n == ids.length ? ids : Arrays.copyOf(ids, n),
+                Optional.ofNullable(v.getViewCount()).orElse(0L),
+                Optional.ofNullable(v.getLikeCount()).orElse(0L),
+                Optional.ofNullable(v.getDislikeCount()).orElse(0L),
+                v.getCreatedAt()
+        );
+    }
+
+    /** known=false 면 제목/설명에서 뽑은 대체 토큰 (어휘로 등록하지 않음) */
+    private record ResolvedTags(List<String> tags, boolean known) {
+    }
+
+    /**
+     * 1순위: VIDEO_FEATURE_TABLE.tagsJson 에서 태그 추출
+     * 2순위: title + description 을 토큰화해서 태그처럼 사용
+     */
+    private ResolvedTags resolveVideoTags(Video v, List<VideoFeature> features) {
+        // 1) VideoFeature.tagsJson 사용 시도
+        try {
+            Set<String> collected = new LinkedHashSet<>();
+
+            for (VideoFeature feature : features) {
+                if (VideoEmbeddingService.SOURCE_EMBEDDING.equals(feature.getSource())) continue;
+                String json = feature.getTagsJson();
+                if (json == null || json.isBlank()) continue;
+
+                Map<?, ?> parsed = objectMapper.readValue(json, Map.class);
+                Object tagsObj = parsed.get("tags");
+                if (tagsObj instanceof Collection<?> col) {
+                    for (Object o : col) {
+                        if (o == null) continue;
+                        String t = o.toString().trim();
+                        if (!t.isEmpty()) collected.add(t);
+                    }
+                } else if (tagsObj instanceof String s) {
+                    Arrays.stream(s.split("[,\n]"))
+                            .map(String::trim)
+                            .filter(str -> !str.isEmpty())
+                            .forEach(collected::add);
+                }
+            }
+
+            if (!collected.isEmpty()) {
+                return new ResolvedTags(List.copyOf(collected), true);
+            }
+        } catch (Exception e) {
+            log.warn("VIDEO_FEATURE.tagsJson 파싱 중 오류 videoNo={}", v.getVideoNo(), e);
+        }
+
+        // 2) fallback: title + description 을 분석기로 토큰화 (조사 뗀 어간)
+        String text = Optional.ofNullable(v.getTitle()).orElse("") + " " +
+                Optional.ofNullable(v.getDescription()).orElse("");
+
+        return new ResolvedTags(analyzer.terms(text).stream()
+                .filter(s -> s.length() >= 2)
+                .distinct()
+                .limit(MAX_FALLBACK_TOKENS)
+                .toList(), false);
+    }
+
+    private record Row(
+            long videoNo,
+            String title,
+            String description,
+            int[] titleGrams,
+            int[] descGrams,
+            int[] tagIds,
+            long views,
+            long likes,
+            long dislikes,
+            LocalDateTime createdAt
+    ) {
+    }
+
+    /**
+     * 영상 최대 4096개를 컬럼별 배열로 담는 묶음.
+     * 스냅샷으로 공개된 뒤에는 수정하지 않고, 바꿀 때는 copy() 한 복사본을 고쳐서 교체한다.
+     */
+    public static final class Segment {
+        int size;
+        final long[] videoNos;
+        final String[] titles;
+        final String[] descriptions;
+        final int[][] titleGrams;
+        final int[][] descGrams;
+        final int[][] tagIds;
+        final long[] views;
+        final long[] likes;
+        final long[] dislikes;
+        final LocalDateTime[] createdAt;
+        final boolean[] alive;
+
+        Segment() {
+            this.videoNos = new long[SEGMENT_SIZE];
+            this.titles = new String[SEGMENT_SIZE];
+            this.descriptions = new String[SEGMENT_SIZE];
+            this.titleGrams = new int[SEGMENT_SIZE][];
+            this.descGrams = new int[SEGMENT_SIZE][];
+            this.tagIds = new int[SEGMENT_SIZE][];
+            this.views = new long[SEGMENT_SIZE];
+            this.likes = new long[SEGMENT_SIZE];
+            this.dislikes = new long[SEGMENT_SIZE];
+            this.createdAt = new LocalDateTime[SEGMENT_SIZE];
+            this.alive = new boolean[SEGMENT_SIZE];
+        }
+
+        /** countsOnly 면 집계 배열만 복사하고 나머지는 공유 (공유 배열은 어느 쪽에서도 고치지 않음) */
+        private Segment(Segment src, boolean countsOnly) {
+            this.size = src.size;
+            this.videoNos = countsOnly ? src.videoNos : src.videoNos.clone();
+            this.titles = countsOnly ? src.titles : src.titles.clone();
+            this.descriptions = countsOnly ? src.descriptions : src.descriptions.clone();
+            this.titleGrams = countsOnly ? src.titleGrams : src.titleGrams.clone();
+            this.descGrams = countsOnly ? src.descGrams : src.descGrams.clone();
+            this.tagIds = countsOnly ? src.tagIds : src.tagIds.clone();
+            this.views = src.views.clone();
+            this.likes = src.likes.clone();
+            this.dislikes = src.dislikes.clone();
+            this.createdAt = countsOnly ? src.createdAt : src.createdAt.clone();
+            this.alive = countsOnly ? src.alive : src.alive.clone();
+        }
+
+        Segment copy() {
+            return new Segment(this, false);
+        }
+
+        Segment copyCounts() {
+            return new Segment(this, true);
+        }
+
+        /** 집계 최신값 반영 (-1 은 그대로, 조회수는 줄어들지 않음) */
+        void setCounts(int slot, long[] counts) {
+            if (counts[0] >= 0) views[slot] = Math.max(views[slot], counts[0]);
+            if (counts[1] >= 0) likes[slot] = counts[1];
+            if (counts[2] >= 0) dislikes[slot] = counts[2];
+        }
+
+        void set(int slot, Row row) {
+            videoNos[slot] = row.videoNo();
+            titles[slot] = row.title();
+            descriptions[slot] = row.description();
+            titleGrams[slot] = row.titleGrams();
+            descGrams[slot] = row.descGrams();
+            tagIds[slot] = row.tagIds();
+            views[slot] = row.views();
+            likes[slot] = row.likes();
+            dislikes[slot] = row.dislikes();
+            createdAt[slot] = row.createdAt();
+            alive[slot] = true;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long videoNo(int slot) {
+            return videoNos[slot];
+        }
+
+        public String title(int slot) {
+            return titles[slot];
+        }
+
+        public String description(int slot) {
+            return descriptions[slot];
+        }
+
+        public int[] tagIds(int slot) {
+            return tagIds[slot];
+        }
+
+        public long views(int slot) {
+            return views[slot];
+        }
+
+        public long likes(int slot) {
+            return likes[slot];
+        }
+
+        public long dislikes(int slot) {
+            return dislikes[slot];
+        }
+
+        public LocalDateTime createdAt(int slot) {
+            return createdAt[slot];
+        }
+
+        public boolean alive(int slot) {
+            return alive[slot];
+        }
+    }
+}
@@ -0,0 +1,75 @@
+// src/main/java/com/aivideoback/kwungjin/finding/engine/FindingQuery.java
+package com.aivideoback.kwungjin.finding.engine;
+
+import com.aivideoback.kwungjin.finding.analyzer.KoreanAnalyzer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색 한 번에 필요한 값을 미리 정규화해 둔 쿼리.
+ *
+ * - 후보마다 반복되는 문자열 검색/Set 조회/Long 박싱이 없도록 전부 배열로 준비
+ * - 태그/프롬프트는 KoreanAnalyzer 질의 gram 으로 바꿔서 제목/설명 gram 과 정렬 병합으로 비교
+ * - 임베딩 점수는 videoNo 정렬 배열 + 이진 탐색
+ */
+public final class FindingQuery {
+
+    final int[][] tagGrams;
+    final int[] tagIds;
+    final int[] promptGrams;
+    final long[] semanticIds;
+    final double[] semanticScores;
+    final double maxScore;
+
+    private FindingQuery(int[][] tagGrams, int[] tagIds, int[] promptGrams,
+                         long[] semanticIds, double[] semanticScores) {
+        this.tagGrams = tagGrams;
+        this.tagIds = tagIds;
+        this.promptGrams = promptGrams;
+        this.semanticIds = semanticIds;
+        this.semanticScores = semanticScores;
+        // 정규화 (대충 최대값을 잡아서 0~1 사이로)
+        this.maxScore = Math.max(3.0 * Math.max(1, tagGrams.length) + 5.0, 8.0);
+    }
+
+    public static FindingQuery of(List<String> tags,
+                                  String prompt,
+                                  Map<Long, Double> semantic,
+                                  TagDictionary dictionary,
+                                  KoreanAnalyzer analyzer) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String t : tags) {
+            if (t != null && !t.isBlank()) normalized.add(analyzer.normalize(t));
+        }
+
+        List<int[]> grams = new ArrayList<>(normalized.size());
+        for (String t : normalized) {
+            int[] g = analyzer.queryGrams(t);
+            if (g.length > 0) grams.add(g);
+        }
+
+        int[] ids = normalized.stream()
+                .mapToInt(dictionary::lookup)
+                .filter(id -> id >= 0)
+                .distinct()
+                .toArray();
+
+        long[] semIds = semantic.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        double[] semScores = new double[semIds.length];
+        for (int i = 0; i < semIds.length; i++) {
+            semScores[i] = semantic.get(semIds[i]);
+        }
+
+        return new FindingQuery(grams.toArray(new int[0][]), ids, analyzer.queryGrams(prompt), semIds, semScores);
+    }
+
+    double semanticScore(long videoNo) {
+        int idx = Arrays.binarySearch(semanticIds, videoNo);
+        return idx >= 0 ? semanticScores[idx] : 0.0;
+    }
+}
@@ -0,0 +1,168 @@
+// src/main/java/com/aivideoback/kwungjin/finding/engine/FindingScorer.java
+package com.aivideoback.kwungjin.finding.engine;
+
+import com.aivideoback.kwungjin.finding.analyzer.KoreanAnalyzer;
+import com.aivideoback.kwungjin.finding.engine.FindingCorpus.Segment;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * FindingCorpus 스냅샷을 ForkJoinPool 에서 Segment 단위로 나눠 병렬 채점.
+ *
+ * - 후보 한 건 채점에는 객체 할당이 없다 (태그 id 비교 + 정렬된 gram 배열 병합만 사용)
+ * - Segment(최대 4096개) 마다 BoundedTopK 하나 → 합치면서 올라감
+ * - 시간 예산을 넘기면 남은 Segment 는 건너뛰고 partial=true
+ * - 채점 풀은 이 클래스만 쓴다. 빈으로 등록하지 않음
+ *   (Executor 빈이 하나라도 있으면 Boot 가 기본 applicationTaskExecutor 를 만들지 않는다)
+ */
+@Component
+public class FindingScorer {
+
+    private final ForkJoinPool findingScorePool;
+
+    @Autowired
+    public FindingScorer(@Value("${app.finding.parallelism:0}") int parallelism) {
+        this(new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors()));
+    }
+
+    FindingScorer(ForkJoinPool findingScorePool) {
+        this.findingScorePool = findingScorePool;
+    }
+
+    /** 채점 풀 병렬도 (스트리밍 batch 기본값) */
+    public int parallelism() {
+        return findingScorePool.getParallelism();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        findingScorePool.shutdown();
+    }
+
+    public record Hit(Segment segment, int slot, double score) {
+    }
+
+    public record Result(List<Hit> hits, boolean partial) {
+    }
+
+    public Result topK(Segment[] segments, FindingQuery query, int k, long deadlineNanos) {
+        if (segments.length == 0 || k <= 0) {
+            return new Result(List.of(), false);
+        }
+
+        AtomicBoolean timedOut = new AtomicBoolean();
+        BoundedTopK heap = findingScorePool.invoke(
+                new ScoreTask(segments, 0, segments.length, query, k, deadlineNanos, timedOut));
+
+        long[] refs = new long[heap.size()];
+        double[] scores = new double[heap.size()];
+        int n = heap.drainDescending(refs, scores);
+
+        List<Hit> hits = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int si = (int) (refs[i] >>> 32);
+            int slot = (int) refs[i];
+            hits.add(new Hit(segments[si], slot, scores[i]));
+        }
+        return new Result(hits, timedOut.get());
+    }
+
+    /**
+     * 기존 mapToDtoWithScore 와 같은 점수식.
+     * 태그 겹침 ×3, 제목에 태그 포함 ×2, 설명에 태그 포함 ×1, 프롬프트 전체 포함 +2/+1,
+     * ("포함" = 질의 gram 이 문서 gram 에 모두 있음, 조사가 붙어 있어도 매칭)
+     * 그리고 임베딩 유사도와 OR 결합.
+     */
+    static double score(Segment seg, int slot, FindingQuery q) {
+        int[] videoTags = seg.tagIds[slot];
+        int overlap = 0;
+        for (int vt : videoTags) {
+            for (int qt : q.tagIds) {
+                if (vt == qt) {
+                    overlap++;
+                    break;
+                }
+            }
+        }
+
+        int[] title = seg.titleGrams[slot];
+        int[] desc = seg.descGrams[slot];
+        int titleHits = 0;
+        int descHits = 0;
+        for (int[] t : q.tagGrams) {
+            if (KoreanAnalyzer.containsAll(title, t)) titleHits++;
+            if (KoreanAnalyzer.containsAll(desc, t)) descHits++;
+        }
+
+        double score = overlap * 3.0 + titleHits * 2.0 + descHits;
+        if (KoreanAnalyzer.containsAll(title, q.promptGrams)) score += 2.0;
+        if (KoreanAnalyzer.containsAll(desc, q.promptGrams)) score += 1.0;
+
+        double lexical = Math.min(1.0, score / q.maxScore);
+        double semantic = q.semanticIds.length == 0 ? 0.0 : q.semanticScore(seg.videoNos[slot]);
+        return 1.0 - (1.0 - lexical) * (1.0 - semantic);
+    }
+
+    private static final class ScoreTask extends RecursiveTask<BoundedTopK> {
+
+        private final Segment[] segments;
+        private final int from;
+        private final int to;
+        private final FindingQuery query;
+        private final int k;
+        private final long deadlineNanos;
+        private final AtomicBoolean timedOut;
+
+        ScoreTask(Segment[] segments, int from, int to, FindingQuery query, int k,
+                  long deadlineNanos, AtomicBoolean timedOut) {
+            this.segments = segments;
+            this.from = from;
+            this.to = to;
+            this.query = query;
+            this.k = k;
+            this.deadlineNanos = deadlineNanos;
+            this.timedOut = timedOut;
+        }
+
+        @Override
+        protected BoundedTopK compute() {
+            if (to - from == 1) {
+                return scoreSegment(from);
+            }
+            int mid = (from + to) >>> 1;
+            ScoreTask left = new ScoreTask(segments, from, mid, query, k, deadlineNanos, timedOut);
+            ScoreTask right = new ScoreTask(segments, mid, to, query, k, deadlineNanos, timedOut);
+            left.fork();
+            BoundedTopK r = right.compute();
+            BoundedTopK l = left.join();
+            return l.merge(r);
+        }
+
+        private BoundedTopK scoreSegment(int si) {
+            BoundedTopK heap = new BoundedTopK(k);
+            if (System.nanoTime() > deadlineNanos) {
+                timedOut.set(true);
+                return heap;
+            }
+
+            Segment seg = segments[si];
+            long base = ((long) si) << 32;
+            for (int slot = 0; slot < seg.size; slot++) {
+                if (!seg.alive[slot]) continue;
+                double s = score(seg, slot, query);
+                if (s > 0.0) {   // 완전 0점인 애들은 버림
+                    heap.offer(base | slot, s);
+                }
+            }
+            return heap;
+        }
+    }
+}
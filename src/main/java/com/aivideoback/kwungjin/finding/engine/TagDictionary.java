@@ -0,0 +1,64 @@
+// src/main/java/com/aivideoback/kwungjin/finding/engine/TagDictionary.java
+package com.aivideoback.kwungjin.finding.engine;
+
+import com.aivideoback.kwungjin.finding.analyzer.KoreanAnalyzer;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 문자열 ↔ int id 인터닝 사전.
+ *
+ * - KoreanAnalyzer.normalize 기준으로 같은 태그는 같은 id ("Game" = "game", "게임을" = "게임")
+ * - 실제 태그(known=true)만 KoreanAnalyzer 의 알려진 단어로 들어간다 (어간 판정 기준).
+ *   제목/설명에서 뽑은 대체 토큰은 id 만 받고 어휘에는 넣지 않는다
+ * - 표시용 이름은 처음 등록된 원래 표기를 유지
+ * - 추가만 있고 삭제는 없음 (어휘 수만큼만 커진다)
+ */
+public class TagDictionary {
+
+    private final KoreanAnalyzer analyzer;
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[1024];
+    private int next;
+
+    public TagDictionary(KoreanAnalyzer analyzer) {
+        this.analyzer = analyzer;
+    }
+
+    public synchronized int intern(String tag, boolean known) {
+        // 키를 먼저 정하고 나서 등록 (등록이 이 태그 자신의 정규화 결과를 바꾸지 않도록)
+        String key = analyzer.normalize(tag);
+        if (known) {
+            analyzer.learn(key);
+        }
+        Integer existing = ids.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        int id = next++;
+        String[] current = names;
+        if (id >= current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[id] = tag;
+        names = current;
+        ids.put(key, id);
+        return id;
+    }
+
+    /** 등록되지 않은 태그면 -1 */
+    public int lookup(String tag) {
+        Integer id = ids.get(analyzer.normalize(tag));
+        return id == null ? -1 : id;
+    }
+
+    public String name(int id) {
+        return names[id];
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
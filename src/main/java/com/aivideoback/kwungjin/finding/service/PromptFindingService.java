@@ -3,21 +3,25 @@ package com.aivideoback.kwungjin.finding.service;
 
 import com.aivideoback.kwungjin.ai.PromptAnalysisResult;
 import com.aivideoback.kwungjin.ai.PromptTagService;
+import com.aivideoback.kwungjin.finding.analyzer.KoreanAnalyzer;
+import com.aivideoback.kwungjin.finding.embedding.HnswIndex;
+import com.aivideoback.kwungjin.finding.embedding.VideoEmbeddingService;
 import com.aivideoback.kwungjin.finding.dto.PromptFindingRequest;
 import com.aivideoback.kwungjin.finding.dto.PromptFindingResponse;
 import com.aivideoback.kwungjin.finding.dto.PromptFindingResponse.VideoMatchDto;
-import com.aivideoback.kwungjin.video.entity.Video;
-import com.aivideoback.kwungjin.video.entity.VideoFeature;
-import com.aivideoback.kwungjin.video.repository.VideoFeatureRepository;
-import com.aivideoback.kwungjin.video.repository.VideoRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.aivideoback.kwungjin.finding.engine.FindingCorpus;
+import com.aivideoback.kwungjin.finding.engine.FindingCorpus.Segment;
+import com.aivideoback.kwungjin.finding.engine.FindingQuery;
+import com.aivideoback.kwungjin.finding.engine.FindingScorer;
+import com.aivideoback.kwungjin.finding.engine.TagDictionary;
+import com.aivideoback.kwungjin.video.service.VideoTrendingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -25,115 +29,231 @@ import java.util.stream.Collectors;
 public class PromptFindingService {
 
     private final PromptTagService promptTagService;
-    private final VideoRepository videoRepository;
-    private final VideoFeatureRepository videoFeatureRepository;
-    private final ObjectMapper objectMapper;   // Spring Boot가 자동으로 Bean 등록해줌
+    private final VideoEmbeddingService videoEmbeddingService;
+    private final FindingCorpus findingCorpus;
+    private final FindingScorer findingScorer;
+    private final KoreanAnalyzer koreanAnalyzer;
+    private final VideoTrendingService videoTrendingService;
+
+    private static final int MAX_LOCAL_TERMS = 12;
+
+    // 임베딩 검색으로 추가로 가져올 후보 수 / 의미 매칭으로 인정할 최소 코사인 유사도
+    @Value("${app.finding.embedding.top-k:100}")
+    private int semanticTopK;
+
+    @Value("${app.finding.embedding.min-similarity:0.35}")
+    private double minSimilarity;
+
+    // 최종 결과 최대 개수 / 채점 시간 예산
+    @Value("${app.finding.max-results:200}")
+    private int maxResults;
+
+    @Value("${app.finding.time-budget-ms:1500}")
+    private long timeBudgetMs;
+
+    // 스트리밍: 로컬 매칭 개수 / 시간 예산, batch 당 Segment 수 (0 이면 채점 풀 병렬도)
+    @Value("${app.finding.stream.local-results:20}")
+    private int localResults;
+
+    @Value("${app.finding.stream.local-budget-ms:200}")
+    private long localBudgetMs;
+
+    @Value("${app.finding.stream.batch-segments:0}")
+    private int streamBatchSegments;
 
-    @Transactional(readOnly = true)
     public PromptFindingResponse search(PromptFindingRequest request) {
 
-        String prompt = request.getPrompt().trim();
-        if (prompt.isEmpty()) {
-            throw new IllegalArgumentException("prompt는 비어 있을 수 없습니다.");
-        }
+        String prompt = promptOf(request);
 
         // 1) ChatGPT로 프롬프트 분석 → 태그/요약
         PromptAnalysisResult analysis = promptTagService.analyzePrompt(prompt);
         List<String> tags = Optional.ofNullable(analysis.getTags()).orElse(List.of());
-        Set<String> tagSetLower = tags.stream()
-                .map(t -> t.toLowerCase(Locale.ROOT))
-                .collect(Collectors.toSet());
+        String sort = Optional.ofNullable(request.getSort()).orElse("latest");
 
-        // 2) 후보 영상 가져오기: 차단 X + 승인(A)인 최신 200개
-        List<Video> candidates =
-                videoRepository.findTop200ByIsBlockedAndReviewStatusOrderByCreatedAtDesc("N", "A");
+        // 임베딩 인덱스에서 의미적으로 가까운 영상 (태그 표기가 달라도 매칭)
+        Map<Long, Double> semanticScores = semanticScores(prompt, tags);
 
-        String promptLower = prompt.toLowerCase(Locale.ROOT);
-        String sort = Optional.ofNullable(request.getSort()).orElse("latest");
+        // 2) 메모리에 올려둔 공개 영상 코퍼스를 Segment 단위로 병렬 채점
+        //    (요청마다 DB 를 훑지 않음, 태그는 미리 int id / 제목·설명은 gram 배열로 바꿔둠)
+        TagDictionary dictionary = findingCorpus.dictionary();
+        FindingQuery query = FindingQuery.of(tags, prompt, semanticScores, dictionary, koreanAnalyzer);
 
-        // 3) 각 영상별 matchScore 계산
-        List<VideoMatchDto> matches = candidates.stream()
-                .map(v -> mapToDtoWithScore(v, tagSetLower, promptLower))
-                .filter(v -> v.getMatchScore() > 0.0)   // 완전 0점인 애들은 버림
-                .sorted((a, b) -> {
-                    int cmp;
-                    switch (sort) {
-                        case "views":
-                            cmp = Long.compare(b.getViews(), a.getViews());
-                            break;
-                        case "likes":
-                            cmp = Long.compare(b.getLikes(), a.getLikes());
-                            break;
-                        case "dislikes":
-                            cmp = Long.compare(b.getDislikes(), a.getDislikes());
-                            break;
-                        case "oldest":
-                            cmp = a.getCreatedAt().compareTo(b.getCreatedAt());
-                            break;
-                        case "latest":
-                        default:
-                            cmp = b.getCreatedAt().compareTo(a.getCreatedAt());
-                            break;
-                    }
-                    if (cmp != 0) return cmp;
-                    // 동일하면 matchScore 높은 순
-                    return Double.compare(b.getMatchScore(), a.getMatchScore());
-                })
-                .toList();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMs);
+        FindingScorer.Result result = findingScorer.topK(findingCorpus.segments(), query, maxResults, deadline);
+
+        // 코퍼스가 아직 올라오는 중이면 결과가 비어 있거나 모자랄 수 있음
+        boolean partial = result.partial() || !findingCorpus.isReady();
+        if (partial) {
+            log.info("Finding 부분 결과 반환 corpusReady={}, budgetMs={}, prompt='{}'",
+                    findingCorpus.isReady(), timeBudgetMs, prompt);
+        }
+
+        // 3) 이긴 후보만 DTO 로 만들고 요청한 정렬 기준으로 다시 정렬
+        List<VideoMatchDto> matches = toSortedDtos(result.hits(), dictionary, sort);
 
         return PromptFindingResponse.builder()
                 .originalPrompt(prompt)
                 .intentSummary(analysis.getIntentSummary())
                 .predictedTags(tags)
                 .videos(matches)
+                .partial(partial)
                 .build();
     }
 
     /**
-     * 한 영상에 대해:
-     *  - VideoFeature.tagsJson → 태그 로드 (가능하면)
-     *  - 없으면 title/description 토큰화로 fallback
-     *  - 그 태그들과 프롬프트 태그들의 겹치는 정도로 matchScore 계산
+     * 단계별로 결과를 넘겨주는 검색 (SSE 스트리밍용).
+     *
+     * 1) LLM 을 기다리지 않고 프롬프트 낱말만으로 로컬 키워드 매칭 → onLocalMatches
+     * 2) LLM 의도 요약 / 예측 태그 → onIntent
+     * 3) Segment 를 batch 단위로 채점할 때마다 지금까지의 상위 결과 → onResults
+     * 4) onComplete(partial)
      */
-    private VideoMatchDto mapToDtoWithScore(Video v,
-                                            Set<String> queryTagsLower,
-                                            String promptLower) {
+    public void searchProgressive(PromptFindingRequest request, ProgressListener listener) {
+
+        String prompt = promptOf(request);
+        String sort = Optional.ofNullable(request.getSort()).orElse("latest");
+        TagDictionary dictionary = findingCorpus.dictionary();
+        Segment[] segments = findingCorpus.segments();
+
+        // 1) 로컬 키워드 매칭 (프롬프트 어간을 태그 삼아, 임베딩/LLM 없이)
+        List<String> terms = koreanAnalyzer.terms(prompt).stream()
+                .filter(t -> t.length() >= 2)
+                .distinct()
+                .limit(MAX_LOCAL_TERMS)
+                .toList();
+        FindingQuery localQuery = FindingQuery.of(terms, prompt, Map.of(), dictionary, koreanAnalyzer);
+        FindingScorer.Result local = findingScorer.topK(segments, localQuery, localResults,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(localBudgetMs));
+        listener.onLocalMatches(toSortedDtos(local.hits(), dictionary, sort));
 
-        // 1) 영상 태그 로딩
-        List<String> videoTags = resolveVideoTags(v);
+        // 2) LLM 분석
+        PromptAnalysisResult analysis = promptTagService.analyzePrompt(prompt);
+        List<String> tags = Optional.ofNullable(analysis.getTags()).orElse(List.of());
+        listener.onIntent(analysis.getIntentSummary(), tags);
 
-        Set<String> videoTagsLower = videoTags.stream()
-                .map(t -> t.toLowerCase(Locale.ROOT))
-                .collect(Collectors.toSet());
+        // 3) batch 단위 채점, 누적 상위 maxResults 유지 (시간 예산은 전체 공통)
+        Map<Long, Double> semanticScores = semanticScores(prompt, tags);
+        FindingQuery query = FindingQuery.of(tags, prompt, semanticScores, dictionary, koreanAnalyzer);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMs);
+        int batch = streamBatchSegments > 0 ? streamBatchSegments : findingScorer.parallelism();
 
-        // 2) 태그 겹치는 개수
-        long overlap = videoTagsLower.stream()
-                .filter(queryTagsLower::contains)
-                .count();
+        boolean partial = !findingCorpus.isReady();
+        List<FindingScorer.Hit> best = List.of();
+        for (int from = 0; from < segments.length; from += batch) {
+            int to = Math.min(segments.length, from + batch);
+            FindingScorer.Result r = findingScorer.topK(Arrays.copyOfRange(segments, from, to), query, maxResults, deadline);
+            best = mergeTop(best, r.hits(), maxResults);
+            listener.onResults(toSortedDtos(best, dictionary, sort), to, segments.length);
+            if (r.partial()) {
+                partial = true;
+                break;
+            }
+        }
+        if (segments.length == 0) {
+            listener.onResults(List.of(), 0, 0);
+        }
 
-        // 3) title/description 에 태그가 포함되는지
-        String title = Optional.ofNullable(v.getTitle()).orElse("").toLowerCase(Locale.ROOT);
-        String desc  = Optional.ofNullable(v.getDescription()).orElse("").toLowerCase(Locale.ROOT);
+        if (partial) {
+            log.info("Finding(stream) 부분 결과 반환 corpusReady={}, budgetMs={}, prompt='{}'",
+                    findingCorpus.isReady(), timeBudgetMs, prompt);
+        }
+        listener.onComplete(partial);
+    }
 
-        long titleHits = queryTagsLower.stream().filter(title::contains).count();
-        long descHits  = queryTagsLower.stream().filter(desc::contains).count();
+    /** searchProgressive 단계별 콜백 (호출 스레드에서 순서대로 불림) */
+    public interface ProgressListener {
 
-        // 4) 프롬프트 전체 문장이 title/desc에 얼마나 포함되는지 (아주 단순)
-        boolean titleContainsPrompt = title.contains(promptLower);
-        boolean descContainsPrompt  = desc.contains(promptLower);
+        void onLocalMatches(List<VideoMatchDto> videos);
 
-        double score = 0.0;
+        void onIntent(String intentSummary, List<String> predictedTags);
 
-        // 태그 겹침에 높은 가중치
-        score += overlap * 3.0;
-        score += titleHits * 2.0;
-        score += descHits * 1.0;
-        if (titleContainsPrompt) score += 2.0;
-        if (descContainsPrompt)  score += 1.0;
+        /** videos: 지금까지 채점한 범위의 상위 결과 (누적, 정렬 적용) */
+        void onResults(List<VideoMatchDto> videos, int scannedSegments, int totalSegments);
 
-        // 정규화 (대충 최대값을 잡아서 0~1 사이로)
-        double maxScore = Math.max(3.0 * Math.max(1, queryTagsLower.size()) + 5.0, 8.0);
-        double normalized = Math.min(1.0, score / maxScore);
+        void onComplete(boolean partial);
+    }
+
+    private static String promptOf(PromptFindingRequest request) {
+        String prompt = request.getPrompt().trim();
+        if (prompt.isEmpty()) {
+            throw new IllegalArgumentException("prompt는 비어 있을 수 없습니다.");
+        }
+        return prompt;
+    }
+
+    private List<VideoMatchDto> toSortedDtos(List<FindingScorer.Hit> hits, TagDictionary dictionary, String sort) {
+        return hits.stream()
+                .map(hit -> toDto(hit, dictionary))
+                .sorted(comparatorFor(sort))
+                .toList();
+    }
+
+    /** 두 점수 내림차순 목록을 합쳐 상위 k 개 */
+    private static List<FindingScorer.Hit> mergeTop(List<FindingScorer.Hit> a, List<FindingScorer.Hit> b, int k) {
+        if (b.isEmpty()) return a;
+        List<FindingScorer.Hit> merged = new ArrayList<>(a.size() + b.size());
+        merged.addAll(a);
+        merged.addAll(b);
+        merged.sort(Comparator.comparingDouble(FindingScorer.Hit::score).reversed());
+        return merged.size() <= k ? merged : List.copyOf(merged.subList(0, k));
+    }
+
+    private Comparator<VideoMatchDto> comparatorFor(String sort) {
+        return (a, b) -> {
+            int cmp;
+            switch (sort) {
+                case "views":
+                    cmp = Long.compare(b.getViews(), a.getViews());
+                    break;
+                case "likes":
+                    cmp = Long.compare(b.getLikes(), a.getLikes());
+                    break;
+                case "dislikes":
+                    cmp = Long.compare(b.getDislikes(), a.getDislikes());
+                    break;
+                case "trending":
+                    cmp = Double.compare(
+                            videoTrendingService.logScore(b.getVideoNo()),
+                            videoTrendingService.logScore(a.getVideoNo()));
+                    break;
+                case "oldest":
+                    cmp = a.getCreatedAt().compareTo(b.getCreatedAt());
+                    break;
+                case "latest":
+                default:
+                    cmp = b.getCreatedAt().compareTo(a.getCreatedAt());
+                    break;
+            }
+            if (cmp != 0) return cmp;
+            // 동일하면 matchScore 높은 순
+            return Double.compare(b.getMatchScore(), a.getMatchScore());
+        };
+    }
+
+    /**
+     * 프롬프트 + 예측 태그를 임베딩해서 HNSW 인덱스 조회.
+     * 유사도를 minSimilarity ~ 1.0 → 0.0 ~ 1.0 으로 펴서 돌려준다.
+     */
+    private Map<Long, Double> semanticScores(String prompt, List<String> tags) {
+        if (!videoEmbeddingService.isReady()) {
+            return Map.of();
+        }
+
+        String queryText = prompt + " " + String.join(" ", tags);
+        Map<Long, Double> scores = new HashMap<>();
+        for (HnswIndex.Hit hit : videoEmbeddingService.searchSimilar(queryText, semanticTopK)) {
+            if (hit.similarity() < minSimilarity) continue;
+            double scaled = (hit.similarity() - minSimilarity) / Math.max(1e-6, 1.0 - minSimilarity);
+            scores.put(hit.id(), Math.min(1.0, scaled));
+        }
+        return scores;
+    }
+
+    /** 채점 결과 한 건 → 응답 DTO (태그는 사전에서 원래 표기로 복원) */
+    private VideoMatchDto toDto(FindingScorer.Hit hit, TagDictionary dictionary) {
+        Segment seg = hit.segment();
+        int slot = hit.slot();
+        double normalized = hit.score();
 
         String level;
         if (normalized >= 0.66) {
@@ -144,67 +264,24 @@ public class PromptFindingService {
             level = "LOW";
         }
 
+        int[] tagIds = seg.tagIds(slot);
+        List<String> videoTags = new ArrayList<>(tagIds.length);
+        for (int id : tagIds) {
+            videoTags.add(dictionary.name(id));
+        }
+
         return VideoMatchDto.builder()
-                .videoNo(v.getVideoNo())
-                .title(v.getTitle())
-                .description(v.getDescription())
-                .views(v.getViewCount())
-                .likes(v.getLikeCount())
-                .dislikes(v.getDislikeCount())
-                .createdAt(v.getCreatedAt())
+                .videoNo(seg.videoNo(slot))
+                .title(seg.title(slot))
+                .description(seg.description(slot))
+                .views(seg.views(slot))
+                .likes(seg.likes(slot))
+                .dislikes(seg.dislikes(slot))
+                .createdAt(seg.createdAt(slot))
                 .durationSec(0L)            // 🔹 아직 길이 컬럼 없으니 0L로
-                .tags(videoTags)            // 🔹 여기서 빨간 줄 안 떠야 정상
+                .tags(videoTags)
                 .matchScore(normalized)
                 .matchLevel(level)
                 .build();
     }
-
-    /**
-     * 1순위: VIDEO_FEATURE_TABLE.tagsJson 에서 태그 추출
-     * 2순위: title + description 을 토큰화해서 태그처럼 사용
-     */
-    private List<String> resolveVideoTags(Video v) {
-        // 1) VideoFeature.tagsJson 사용 시도
-        try {
-            List<VideoFeature> features = videoFeatureRepository.findByVideoNo(v.getVideoNo());
-            Set<String> collected = new LinkedHashSet<>();
-
-            for (VideoFeature feature : features) {
-                String json = feature.getTagsJson();
-                if (json == null || json.isBlank()) continue;
-
-                Map<String, Object> parsed = objectMapper.readValue(json, Map.class);
-                Object tagsObj = parsed.get("tags");
-                if (tagsObj instanceof Collection<?> col) {
-                    for (Object o : col) {
-                        if (o == null) continue;
-                        String t = o.toString().trim();
-                        if (!t.isEmpty()) collected.add(t);
-                    }
-                } else if (tagsObj instanceof String s) {
-                    Arrays.stream(s.split("[,\n]"))
-                            .map(String::trim)
-                            .filter(str -> !str.isEmpty())
-                            .forEach(collected::add);
-                }
-            }
-
-            if (!collected.isEmpty()) {
-                return List.copyOf(collected);
-            }
-        } catch (Exception e) {
-            log.warn("VIDEO_FEATURE.tagsJson 파싱 중 오류 videoNo={}", v.getVideoNo(), e);
-        }
-
-        // 2) fallback: title + description 토큰화
-        String text = (Optional.ofNullable(v.getTitle()).orElse("") + " " +
-                Optional.ofNullable(v.getDescription()).orElse(""))
-                .toLowerCase(Locale.ROOT)
-                .replaceAll("[^가-힣a-z0-9\\s]", " ");
-
-        return Arrays.stream(text.split("\\s+"))
-                .filter(s -> s.length() >= 2)
-                .limit(30)
-                .toList();
-    }
 }
@@ -0,0 +1,19 @@
+// src/main/java/com/aivideoback/kwungjin/global/TooManyRequestsException.java
+package com.aivideoback.kwungjin.global;
+
+/**
+ * 부하 차단 / 시도 횟수 제한 → 429 + Retry-After (GlobalExceptionHandler 에서 변환)
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = Math.max(1L, retryAfterSeconds);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,161 @@
+// src/main/java/com/aivideoback/kwungjin/global/ratelimit/AdaptiveConcurrencyLimiter.java
+package com.aivideoback.kwungjin.global.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전체 동시 처리 수 제한 (AIMD).
+ *
+ * - 처리 중 요청이 limit 이상이면 바로 거절 (→ 503)
+ * - 판단은 샘플 하나가 아니라 최근 latency-window 개 샘플의 latency-percentile 지연으로
+ *   (느린 요청 한두 개로는 줄지 않음, window 의 1/10 개 샘플마다 한 번 계산)
+ * - 기준선: 목표 안쪽일 때의 percentile 지연을 천천히 따라가는 평균
+ * - percentile 지연이 latency-target-ms 를 넘고 기준선의 latency-tolerance 배도 넘으면 limit 을 backoff-ratio 배로 줄임
+ *   (decrease-interval-ms 에 한 번만, 줄인 뒤에는 window 를 비워서 새 샘플로 다시 판단)
+ * - 목표 안쪽이면서 limit 의 절반 이상을 쓰고 있을 때만 1/limit 씩 늘림 (대략 limit 개 처리당 +1)
+ * - 지연 샘플은 호출하는 쪽이 고른다 (외부 API·업로드처럼 원래 느린 요청은 제외)
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BASELINE_ALPHA = 0.05;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+    private final long decreaseIntervalNanos;
+    private final double percentile;
+    private final int minSamples;
+    private final int evaluateEvery;
+    private final double tolerance;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Counter shed;
+
+    // 아래 필드는 this 잠금 (완료 시 짧게만 잡음)
+    private double limit;
+    private long lastDecreaseAt;
+    private final long[] samples;       // 최근 지연 (링 버퍼)
+    private int next;
+    private int filled;
+    private int sinceEvaluate;
+    private long windowLatency;         // 마지막으로 계산한 percentile 지연
+    private double baselineNanos;       // 0 이면 아직 없음
+    private boolean healthy;
+
+    public AdaptiveConcurrencyLimiter(@Value("${app.rate-limit.concurrency.initial-limit:200}") int initialLimit,
+                                      @Value("${app.rate-limit.concurrency.min-limit:20}") int minLimit,
+                                      @Value("${app.rate-limit.concurrency.max-limit:1000}") int maxLimit,
+                                      @Value("${app.rate-limit.concurrency.latency-target-ms:500}") long latencyTargetMs,
+                                      @Value("${app.rate-limit.concurrency.backoff-ratio:0.9}") double backoffRatio,
+                                      @Value("${app.rate-limit.concurrency.decrease-interval-ms:200}") long decreaseIntervalMs,
+                                      @Value("${app.rate-limit.concurrency.latency-window:100}") int latencyWindow,
+                                      @Value("${app.rate-limit.concurrency.latency-percentile:0.9}") double percentile,
+                                      @Value("${app.rate-limit.concurrency.latency-min-samples:20}") int minSamples,
+                                      @Value("${app.rate-limit.concurrency.latency-tolerance:2.0}") double tolerance,
+                                      MeterRegistry meterRegistry) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTargetMs * 1_000_000L;
+        this.backoffRatio = backoffRatio;
+        this.decreaseIntervalNanos = decreaseIntervalMs * 1_000_000L;
+        this.samples = new long[latencyWindow];
+        this.percentile = percentile;
+        this.minSamples = Math.max(1, Math.min(minSamples, latencyWindow));
+        this.evaluateEvery = Math.max(1, latencyWindow / 10);
+        this.tolerance = tolerance;
+        this.limit = initialLimit;
+        this.lastDecreaseAt = System.nanoTime() - decreaseIntervalNanos;
+
+        Gauge.builder("http.concurrency.limit", this, AdaptiveConcurrencyLimiter::currentLimit)
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.inflight", inflight, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.window.latency", this, l -> l.windowLatencyNanos() / 1_000_000.0)
+                .description("한도 조정에 쓰는 최근 샘플 percentile 지연 (ms)")
+                .register(meterRegistry);
+        this.shed = Counter.builder("http.concurrency.shed")
+                .description("동시 처리 한도 초과로 503 처리된 요청 수")
+                .register(meterRegistry);
+    }
+
+    /** 자리 확보. false 면 거절 (release 호출하지 않음) */
+    public boolean tryAcquire() {
+        int max = currentLimit();
+        while (true) {
+            int cur = inflight.get();
+            if (cur >= max) {
+                shed.increment();
+                return false;
+            }
+            if (inflight.compareAndSet(cur, cur + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /** 자리 반납. sampleLatency=false 면 지연은 한도 조정에 쓰지 않음 */
+    public void release(long latencyNanos, boolean sampleLatency) {
+        int inflightBefore = inflight.getAndDecrement();
+        if (!sampleLatency) return;
+
+        synchronized (this) {
+            samples[next] = latencyNanos;
+            next = (next + 1) % samples.length;
+            if (filled < samples.length) filled++;
+
+            if (++sinceEvaluate >= evaluateEvery && filled >= minSamples) {
+                sinceEvaluate = 0;
+                evaluate(System.nanoTime());
+            }
+            if (healthy && inflightBefore * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+    }
+
+    public synchronized int currentLimit() {
+        return (int) limit;
+    }
+
+    synchronized long windowLatencyNanos() {
+        return windowLatency;
+    }
+
+    synchronized long baselineNanos() {
+        return (long) baselineNanos;
+    }
+
+    /** 최근 샘플 percentile 로 상태 판단 (this 잠금 안에서) */
+    private void evaluate(long now) {
+        long[] sorted = Arrays.copyOf(samples, filled);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(filled * percentile) - 1;
+        long p = sorted[Math.max(0, Math.min(filled - 1, rank))];
+        windowLatency = p;
+
+        if (p <= latencyTargetNanos) {
+            healthy = true;
+            baselineNanos = baselineNanos == 0 ? p : baselineNanos + BASELINE_ALPHA * (p - baselineNanos);
+            return;
+        }
+
+        healthy = false;
+        boolean overBaseline = baselineNanos == 0 || p > baselineNanos * tolerance;
+        if (overBaseline && now - lastDecreaseAt >= decreaseIntervalNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            lastDecreaseAt = now;
+            // 줄이기 전 샘플로 또 줄이지 않도록 window 를 비움
+            next = 0;
+            filled = 0;
+        }
+    }
+}
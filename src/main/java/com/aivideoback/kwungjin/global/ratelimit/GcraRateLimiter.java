@@ -0,0 +1,69 @@
+// src/main/java/com/aivideoback/kwungjin/global/ratelimit/GcraRateLimiter.java
+package com.aivideoback.kwungjin.global.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 (GCRA: 키마다 "이론상 다음 도착 시각(TAT)" long 하나).
+ *
+ * - limit 개 / period 로 채워지고 최대 burst 개까지 몰아서 허용하는 토큰 버킷과 같은 동작
+ * - 키 하나 = AtomicLong 하나, CAS 로만 갱신 (잠금 없음, ConcurrentHashMap 이 키를 분산)
+ * - 버킷이 다 찬(TAT 가 지난) 키는 purge() 로 제거 → 메모리는 최근 활동한 키 수만큼
+ */
+public class GcraRateLimiter {
+
+    /** allowed 여부 + 헤더용 값 (남은 개수, 가득 찰 때까지 / 다시 허용될 때까지 초) */
+    public record Decision(boolean allowed, long limit, long remaining, long resetSeconds, long retryAfterSeconds) {
+    }
+
+    private final long limit;
+    private final long emissionNanos;     // 토큰 하나 채워지는 간격
+    private final long capacityNanos;     // burst 개만큼의 시간
+    private final ConcurrentHashMap<String, AtomicLong> tats = new ConcurrentHashMap<>();
+
+    public GcraRateLimiter(long limit, long periodNanos, long burst) {
+        if (limit < 1 || burst < 1) {
+            throw new IllegalArgumentException("limit / burst 는 1 이상이어야 합니다.");
+        }
+        this.limit = limit;
+        this.emissionNanos = Math.max(1L, periodNanos / limit);
+        this.capacityNanos = emissionNanos * burst;
+    }
+
+    public Decision acquire(String key) {
+        AtomicLong tat = tats.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            long base = (current == Long.MIN_VALUE || current - now < 0) ? now : current;
+            long next = base + emissionNanos;
+
+            if (next - now > capacityNanos) {
+                long retryAfter = next - capacityNanos - now;
+                return new Decision(false, limit, 0L, toSeconds(base - now), toSeconds(retryAfter));
+            }
+            if (tat.compareAndSet(current, next)) {
+                long remaining = (capacityNanos - (next - now)) / emissionNanos;
+                return new Decision(true, limit, remaining, toSeconds(next - now), 0L);
+            }
+        }
+    }
+
+    /** 버킷이 가득 찬 키 정리 */
+    public void purge() {
+        long now = System.nanoTime();
+        tats.values().removeIf(t -> {
+            long v = t.get();
+            return v == Long.MIN_VALUE || v - now < 0;
+        });
+    }
+
+    public int size() {
+        return tats.size();
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.max(0L, (nanos + 999_999_999L) / 1_000_000_000L);
+    }
+}
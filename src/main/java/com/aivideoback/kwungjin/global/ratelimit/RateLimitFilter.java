@@ -0,0 +1,164 @@
+// src/main/java/com/aivideoback/kwungjin/global/ratelimit/RateLimitFilter.java
+package com.aivideoback.kwungjin.global.ratelimit;
+
+import com.aivideoback.kwungjin.global.GlobalExceptionHandler.ErrorResponse;
+import com.aivideoback.kwungjin.security.AuthUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로별 요청 수 제한 + 전체 동시 처리 수 제한 (SecurityConfig 에서 JWT 필터 뒤에 등록).
+ *
+ * - 경로별 정책: 로그인 사용자는 계정, 비로그인은 IP 기준 토큰 버킷 (GcraRateLimiter)
+ *   응답에 RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset / RateLimit-Policy, 초과 시 429 + Retry-After
+ * - 그 다음 AdaptiveConcurrencyLimiter 자리 확보, 못 잡으면 503 + Retry-After
+ *   (지연 샘플은 GET 만: finding·업로드처럼 원래 오래 걸리는 요청이 한도를 깎지 않게)
+ * - 영상 /stream (Range 요청) 은 오래 열려 있어서 둘 다 제외
+ *   (Finding SSE 는 비동기라 동시 처리 자리를 바로 돌려주므로 /search 와 같은 한도를 적용)
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record Policy(String name, HttpMethod method, List<String> patterns,
+                          long limit, long periodSeconds, GcraRateLimiter limiter) {
+
+        Policy(String name, HttpMethod method, List<String> patterns, long limit, long periodSeconds) {
+            this(name, method, patterns, limit, periodSeconds,
+                    new GcraRateLimiter(limit, TimeUnit.SECONDS.toNanos(periodSeconds), limit));
+        }
+    }
+
+    private static final AntPathMatcher PATHS = new AntPathMatcher();
+
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<Policy> policies;
+
+    public RateLimitFilter(AdaptiveConcurrencyLimiter concurrencyLimiter,
+                           ObjectMapper objectMapper,
+                           @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${app.rate-limit.finding-per-minute:10}") long findingPerMinute,
+                           @Value("${app.rate-limit.auth-per-minute:20}") long authPerMinute,
+                           @Value("${app.rate-limit.auth-check-per-minute:120}") long authCheckPerMinute,
+                           @Value("${app.rate-limit.public-read-per-minute:300}") long publicReadPerMinute,
+                           @Value("${app.rate-limit.view-per-minute:120}") long viewPerMinute) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        // 위에서부터 처음 맞는 정책 하나만 적용
+        this.policies = List.of(
+                new Policy("finding", HttpMethod.POST, List.of("/api/finding/search", "/api/finding/search/stream"), findingPerMinute, 60),
+                new Policy("auth", HttpMethod.POST, List.of(
+                        "/api/auth/login", "/api/auth/register", "/api/auth/email/**", "/api/admin/login"),
+                        authPerMinute, 60),
+                new Policy("auth-check", HttpMethod.GET, List.of("/api/auth/check-*"), authCheckPerMinute, 60),
+                new Policy("view", HttpMethod.POST, List.of("/api/videos/*/view"), viewPerMinute, 60),
+                new Policy("public-read", HttpMethod.GET, List.of(
+                        "/api/videos/public", "/api/videos/home-summary", "/api/videos/*/related"),
+                        publicReadPerMinute, 60)
+        );
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !enabled
+                || HttpMethod.OPTIONS.matches(request.getMethod())
+                || !path.startsWith("/api/")
+                || (path.endsWith("/stream") && !path.startsWith("/api/finding/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        // 1) 경로별 요청 수
+        Policy policy = match(request);
+        if (policy != null) {
+            GcraRateLimiter.Decision d = policy.limiter().acquire(policy.name() + "|" + clientKey(request));
+            response.setHeader("RateLimit-Limit", String.valueOf(d.limit()));
+            response.setHeader("RateLimit-Remaining", String.valueOf(d.remaining()));
+            response.setHeader("RateLimit-Reset", String.valueOf(d.resetSeconds()));
+            response.setHeader("RateLimit-Policy", policy.limit() + ";w=" + policy.periodSeconds());
+            if (!d.allowed()) {
+                reject(response, HttpStatus.TOO_MANY_REQUESTS, d.retryAfterSeconds(),
+                        "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+                return;
+            }
+        }
+
+        // 2) 전체 동시 처리 수
+        if (!concurrencyLimiter.tryAcquire()) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1L,
+                    "서버가 혼잡합니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            concurrencyLimiter.release(System.nanoTime() - started, HttpMethod.GET.matches(request.getMethod()));
+        }
+    }
+
+    /** 오래 안 쓴 버킷 정리 */
+    @Scheduled(fixedDelayString = "${app.rate-limit.purge-ms:60000}")
+    public void purge() {
+        for (Policy p : policies) {
+            p.limiter().purge();
+        }
+    }
+
+    /* ---------- 내부 ---------- */
+
+    private Policy match(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (Policy p : policies) {
+            if (!p.method().matches(request.getMethod())) continue;
+            for (String pattern : p.patterns()) {
+                if (PATHS.match(pattern, path)) return p;
+            }
+        }
+        return null;
+    }
+
+    /** 로그인 사용자: 계정 / 비로그인: IP (forward-headers-strategy 로 실제 클라이언트 IP) */
+    private static String clientKey(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof AuthUser user) {
+            return "u:" + user.getUsername();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1L, retryAfterSeconds)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(),
+                new ErrorResponse(status.value(), message, LocalDateTime.now()));
+    }
+}
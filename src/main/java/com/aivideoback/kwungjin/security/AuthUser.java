@@ -0,0 +1,95 @@
+// src/main/java/com/aivideoback/kwungjin/security/AuthUser.java
+package com.aivideoback.kwungjin.security;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증된 사용자 principal.
+ *
+ * - JWT 클레임(또는 로그인 시 DB 조회)에서 한 번 채워지고, 컨트롤러는 @AuthenticationPrincipal AuthUser 로 받는다
+ * - 서비스에는 userNo 를 바로 넘긴다 (findByUserId 재조회 X)
+ * - 관리자는 adminNo 만 있고 userNo 는 null
+ */
+public class AuthUser implements UserDetails {
+
+    private final Long userNo;
+    private final Long adminNo;
+    private final String username;
+    private final String password;      // 토큰 인증이면 빈 문자열
+    private final List<GrantedAuthority> authorities;
+    private final boolean accountNonLocked;
+
+    private AuthUser(Long userNo, Long adminNo, String username, String password,
+                     List<String> roles, boolean accountNonLocked) {
+        this.userNo = userNo;
+        this.adminNo = adminNo;
+        this.username = username;
+        this.password = password == null ? "" : password;
+        this.authorities = roles.stream()
+                .map(r -> r.startsWith("ROLE_") ? r : "ROLE_" + r)
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+        this.accountNonLocked = accountNonLocked;
+    }
+
+    public static AuthUser user(Long userNo, String userId, String password) {
+        return new AuthUser(userNo, null, userId, password, List.of("ROLE_USER"), true);
+    }
+
+    public static AuthUser admin(Long adminNo, String adminId, String password, String role, boolean accountNonLocked) {
+        return new AuthUser(null, adminNo, adminId, password, List.of(role), accountNonLocked);
+    }
+
+    /** 검증된 JWT 클레임으로 구성 (비밀번호 없음) */
+    public static AuthUser fromToken(Long principalNo, String username, List<String> roles, boolean admin) {
+        return admin
+                ? new AuthUser(null, principalNo, username, "", roles, true)
+                : new AuthUser(principalNo, null, username, "", roles, true);
+    }
+
+    public Long getUserNo() {
+        return userNo;
+    }
+
+    public Long getAdminNo() {
+        return adminNo;
+    }
+
+    public boolean isAdmin() {
+        return adminNo != null;
+    }
+
+    /** 일반 사용자 전용 API 에서 사용 (관리자 토큰이면 403) */
+    public Long requireUserNo() {
+        if (userNo == null) {
+            throw new AccessDeniedException("일반 사용자 계정으로만 사용할 수 있습니다.");
+        }
+        return userNo;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return accountNonLocked;
+    }
+}
@@ -0,0 +1,116 @@
+// src/main/java/com/aivideoback/kwungjin/security/BoundedPasswordEncoder.java
+package com.aivideoback.kwungjin.security;
+
+import com.aivideoback.kwungjin.global.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 를 전용 스레드 풀(크기 고정 + 대기열 제한)에서 돌리는 PasswordEncoder.
+ *
+ * - 해시 동시 실행 수 = threads (CPU 코어 수 정도), 그 이상은 queue-capacity 까지만 대기
+ * - 대기열이 차 있으면 바로 429 (Retry-After) → 로그인 폭주가 요청 스레드/CPU 를 다 잡아먹지 않음
+ * - AuthenticationManager(DaoAuthenticationProvider) 를 포함한 모든 encode / matches 가 이 빈을 거친다
+ * - 대기열 길이 / 실행 중 / 거절 수 / 해시 시간은 Micrometer 로 노출 (auth.password.hash.*)
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMs;
+    private final long retryAfterSeconds;
+    private final Counter rejected;
+    private final Timer hashTimer;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate,
+                                  int threads,
+                                  int queueCapacity,
+                                  long waitTimeoutMs,
+                                  long retryAfterSeconds,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.password.hash.queue", executor, e -> e.getQueue().size())
+                .description("해시 대기 중인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해시 실행 중인 스레드 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.hash.rejected")
+                .description("대기열 초과로 거절된 해시 요청 수")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("auth.password.hash.duration")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw busy();
+        }
+
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("비밀번호 처리 실패", e.getCause());
+        }
+    }
+
+    private TooManyRequestsException busy() {
+        return new TooManyRequestsException("요청이 많아 잠시 후 다시 시도해 주세요.", retryAfterSeconds);
+    }
+}
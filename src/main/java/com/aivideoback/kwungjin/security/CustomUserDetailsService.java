@@ -30,22 +30,20 @@ public class CustomUserDetailsService implements UserDetailsService {
 
             boolean accountNonLocked = !"BLOCK".equalsIgnoreCase(admin.getAdminStatus());
 
-            return org.springframework.security.core.userdetails.User
-                    .withUsername(admin.getAdminId())
-                    .password(admin.getAdminPassword())   // Admin 엔티티 필드명에 맞게
-                    .authorities(roleName)
-                    .accountLocked(!accountNonLocked)
-                    .build();
+            return AuthUser.admin(
+                    admin.getAdminNo(),
+                    admin.getAdminId(),
+                    admin.getAdminPassword(),   // Admin 엔티티 필드명에 맞게
+                    roleName,
+                    accountNonLocked
+            );
         }
 
         // 2️⃣ 일반 사용자 조회
         User user = userRepository.findByUserId(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getUserId())
-                .password(user.getPassword())   // 🔹 여기! getPassword() 로 수정
-                .roles("USER")                  // 내부적으로 ROLE_USER 로 변환
-                .build();
+        // ROLE_USER + USER_NO 를 principal 에 같이 실어둠
+        return AuthUser.user(user.getUserNo(), user.getUserId(), user.getPassword());
     }
 }
@@ -0,0 +1,150 @@
+// src/main/java/com/aivideoback/kwungjin/security/LoginAttemptThrottle.java
+package com.aivideoback.kwungjin.security;
+
+import com.aivideoback.kwungjin.global.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 시도 횟수 제한.
+ *
+ * - reserve() 는 DB 조회·BCrypt 전에 호출, 시도 횟수를 먼저 올리고(원자적) 한도를 넘으면 429
+ *   → 동시에 몰린 요청도 한도 이상은 해시 단계까지 못 감. 성공하면 release() 로 이번 시도분을 되돌림
+ * - 비밀번호를 확인하지 못하고 끝난 시도(해시 풀 포화로 429 등)는 cancel() 로 이번 시도분만 되돌림
+ * - 하드 차단: (계정, IP) 쌍별 max-per-account, IP별 max-per-ip. window-ms 동안 넘으면 창이 끝날 때까지 429
+ *   (다른 IP 에서 틀려도 계정 주인은 잠기지 않음)
+ * - 계정 전체는 소프트 지연만: 창 안에서 account-soft-after 회를 넘으면 account-soft-delay-ms 에 한 번씩만 허용
+ */
+@Component
+public class LoginAttemptThrottle {
+
+    private record Window(long startedAt, int attempts, long lastAt) {
+    }
+
+    private final int maxPerAccount;
+    private final int maxPerIp;
+    private final int accountSoftAfter;
+    private final long accountSoftDelayMs;
+    private final long windowMs;
+    private final Counter throttled;
+
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public LoginAttemptThrottle(@Value("${app.security.login-throttle.max-per-account:5}") int maxPerAccount,
+                                @Value("${app.security.login-throttle.max-per-ip:20}") int maxPerIp,
+                                @Value("${app.security.login-throttle.account-soft-after:10}") int accountSoftAfter,
+                                @Value("${app.security.login-throttle.account-soft-delay-ms:2000}") long accountSoftDelayMs,
+                                @Value("${app.security.login-throttle.window-ms:900000}") long windowMs,
+                                MeterRegistry meterRegistry) {
+        this.maxPerAccount = maxPerAccount;
+        this.maxPerIp = maxPerIp;
+        this.accountSoftAfter = accountSoftAfter;
+        this.accountSoftDelayMs = accountSoftDelayMs;
+        this.windowMs = windowMs;
+        this.throttled = Counter.builder("auth.login.throttled")
+                .description("실패 횟수 초과로 막힌 로그인 시도 수")
+                .register(meterRegistry);
+    }
+
+    /** 시도 한 번 예약. 한도를 넘으면 아무 것도 올리지 않고 TooManyRequestsException */
+    public void reserve(String account, String clientIp) {
+        long now = System.currentTimeMillis();
+        String pair = pairKey(account, clientIp);
+        String ip = ipKey(clientIp);
+        String acc = accountKey(account);
+
+        long retryAfterMs = take(pair, maxPerAccount, false, now);
+        if (retryAfterMs == 0L) {
+            retryAfterMs = take(ip, maxPerIp, false, now);
+            if (retryAfterMs > 0L) undo(pair);
+        }
+        if (retryAfterMs == 0L) {
+            retryAfterMs = take(acc, accountSoftAfter, true, now);
+            if (retryAfterMs > 0L) {
+                undo(pair);
+                undo(ip);
+            }
+        }
+
+        if (retryAfterMs > 0L) {
+            throttled.increment();
+            throw new TooManyRequestsException(
+                    "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.", (retryAfterMs + 999) / 1000);
+        }
+    }
+
+    /** 로그인 성공 → 이번 시도는 실패가 아니므로 되돌리고, (계정, IP) 쌍은 초기화 */
+    public void release(String account, String clientIp) {
+        String pair = pairKey(account, clientIp);
+        if (pair != null) windows.remove(pair);
+        undo(ipKey(clientIp));
+        undo(accountKey(account));
+    }
+
+    /** 비밀번호 확인 전에 끝난 시도 → 실패로 세지 않도록 이번 예약분만 되돌림 (창은 유지) */
+    public void cancel(String account, String clientIp) {
+        undo(pairKey(account, clientIp));
+        undo(ipKey(clientIp));
+        undo(accountKey(account));
+    }
+
+    /** 끝난 창 정리 */
+    @Scheduled(fixedDelayString = "${app.security.login-throttle.purge-ms:60000}")
+    public void purge() {
+        long now = System.currentTimeMillis();
+        windows.values().removeIf(w -> now - w.startedAt() >= windowMs);
+    }
+
+    /* ---------- 내부 ---------- */
+
+    /**
+     * 창 안의 시도 수를 하나 올림 (키 단위로 원자적). 막히면 올리지 않고 남은 대기 시간(ms) 반환.
+     * soft=false 면 max 도달 시 창 끝까지 차단, soft=true 면 max 이후엔 account-soft-delay-ms 에 한 번씩만 통과
+     */
+    private long take(String key, int max, boolean soft, long now) {
+        if (key == null) return 0L;
+        long[] retryAfter = {0L};
+        windows.compute(key, (k, w) -> {
+            if (w == null || now - w.startedAt() >= windowMs) {
+                return new Window(now, 1, now);
+            }
+            if (w.attempts() >= max) {
+                long wait = soft
+                        ? w.lastAt() + accountSoftDelayMs - now
+                        : w.startedAt() + windowMs - now;
+                if (wait > 0L) {
+                    retryAfter[0] = wait;
+                    return w;
+                }
+            }
+            return new Window(w.startedAt(), w.attempts() + 1, now);
+        });
+        return retryAfter[0];
+    }
+
+    private void undo(String key) {
+        if (key == null) return;
+        windows.computeIfPresent(key, (k, w) -> w.attempts() <= 1
+                ? null
+                : new Window(w.startedAt(), w.attempts() - 1, w.lastAt()));
+    }
+
+    private static String accountKey(String account) {
+        return (account == null || account.isBlank()) ? null : "a:" + account.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String ipKey(String clientIp) {
+        return (clientIp == null || clientIp.isBlank()) ? null : "i:" + clientIp;
+    }
+
+    private static String pairKey(String account, String clientIp) {
+        String acc = accountKey(account);
+        return acc == null ? null : "p:" + acc.substring(2) + "|" + (clientIp == null ? "" : clientIp);
+    }
+}
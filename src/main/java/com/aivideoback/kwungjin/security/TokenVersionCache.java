@@ -0,0 +1,104 @@
+// src/main/java/com/aivideoback/kwungjin/security/TokenVersionCache.java
+package com.aivideoback.kwungjin.security;
+
+import com.aivideoback.kwungjin.admin.repository.AdminRepository;
+import com.aivideoback.kwungjin.security.jwt.JwtTokenProvider.JwtClaims;
+import com.aivideoback.kwungjin.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 계정별 현재 TOKEN_VERSION 캐시 (JWT 무효화 확인용).
+ *
+ * - 토큰의 ver 클레임이 현재 버전과 다르면 무효 (비밀번호 변경 시 버전을 올림)
+ * - 관리자 계정이 BLOCK 상태면 버전을 -1 로 취급해서 모든 토큰 무효
+ * - 엔트리는 ttl-ms 동안 재사용 → 인증 요청마다 DB 조회 없이, 계정당 ttl 마다 컬럼 하나만 읽음
+ *   (다른 인스턴스에서 바뀐 버전은 최대 ttl-ms 뒤에 반영)
+ */
+@Component
+public class TokenVersionCache {
+
+    private static final long BLOCKED = -1L;
+
+    private record Entry(long version, long expiresAt) {
+    }
+
+    private final UserRepository userRepository;
+    private final AdminRepository adminRepository;
+    private final long ttlMs;
+    private final Map<String, Entry> entries;
+
+    public TokenVersionCache(UserRepository userRepository,
+                             AdminRepository adminRepository,
+                             @Value("${app.security.token-version.ttl-ms:60000}") long ttlMs,
+                             @Value("${app.security.token-version.max-entries:50000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.adminRepository = adminRepository;
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /** 토큰 버전이 현재 계정 버전과 같은지 (없는 계정이면 false) */
+    public boolean isCurrent(JwtClaims claims) {
+        String key = key(claims.isAdmin(), claims.username());
+        long now = System.currentTimeMillis();
+
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null || entry.expiresAt() < now) {
+            Long version = load(claims.isAdmin(), claims.username());
+            if (version == null) {
+                return false;
+            }
+            entry = new Entry(version, now + ttlMs);
+            synchronized (entries) {
+                entries.put(key, entry);
+            }
+        }
+        return entry.version() != BLOCKED && entry.version() == claims.tokenVersion();
+    }
+
+    /** 버전을 바꾼 트랜잭션이 커밋된 뒤 캐시에서 제거 (다음 요청에서 새 버전을 읽음) */
+    public void invalidateAfterCommit(boolean admin, String username) {
+        String key = key(admin, username);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(key);
+                }
+            });
+        } else {
+            remove(key);
+        }
+    }
+
+    private void remove(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    private Long load(boolean admin, String username) {
+        if (admin) {
+            return adminRepository.findTokenVersionByAdminId(username).orElse(null);
+        }
+        return userRepository.findTokenVersionByUserId(username).orElse(null);
+    }
+
+    private static String key(boolean admin, String username) {
+        return (admin ? "A:" : "U:") + username;
+    }
+}
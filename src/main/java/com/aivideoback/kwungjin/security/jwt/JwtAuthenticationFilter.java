@@ -1,6 +1,8 @@
 package com.aivideoback.kwungjin.security.jwt;
 
+import com.aivideoback.kwungjin.security.AuthUser;
 import com.aivideoback.kwungjin.security.CustomUserDetailsService;
+import com.aivideoback.kwungjin.security.TokenVersionCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,6 +24,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenVersionCache tokenVersionCache;
 
     // JWT 검사에서 완전히 제외할 경로들
     private static final String[] JWT_WHITELIST = {
@@ -55,12 +58,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
 
-            if (jwtTokenProvider.validateToken(token)) {
-                String username = jwtTokenProvider.getUsername(token);
-
-                try {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // 🔹 서명/만료 검증 + 클레임 파싱은 한 번만
+            JwtTokenProvider.JwtClaims claims = jwtTokenProvider.parse(token);
+            if (claims != null) {
+                UserDetails userDetails = claims.isLegacy()
+                        ? loadLegacy(claims.username())
+                        : fromClaims(claims);
 
+                if (userDetails != null && userDetails.isAccountNonLocked()) {
                     UsernamePasswordAuthenticationToken auth =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails,
@@ -69,13 +74,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                             );
                     auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(auth);
-
-                } catch (UsernameNotFoundException ex) {
-                    // 유저 없으면 그냥 인증 안 된 상태로 진행
                 }
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 새 형식 토큰: 서명된 클레임으로 바로 principal 구성 (DB 조회 없음).
+     * 비밀번호 변경/관리자 차단 여부는 TokenVersionCache 의 버전 비교로만 확인
+     */
+    private UserDetails fromClaims(JwtTokenProvider.JwtClaims claims) {
+        if (!tokenVersionCache.isCurrent(claims)) {
+            return null;
+        }
+        return AuthUser.fromToken(claims.principalNo(), claims.username(), claims.roles(), claims.isAdmin());
+    }
+
+    /** 클레임이 부족한 이전 형식 토큰: 만료될 때까지는 기존처럼 DB 에서 조회 */
+    private UserDetails loadLegacy(String username) {
+        try {
+            return userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException ex) {
+            // 유저 없으면 그냥 인증 안 된 상태로 진행
+            return null;
+        }
+    }
 }
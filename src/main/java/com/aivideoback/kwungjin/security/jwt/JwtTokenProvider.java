@@ -9,16 +9,28 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    // 🔹 토큰에 싣는 클레임 (sub = userId / adminId)
+    static final String CLAIM_ROLES = "roles";
+    static final String CLAIM_PRINCIPAL_NO = "uno";      // USER_NO 또는 ADMIN_NO
+    static final String CLAIM_TOKEN_VERSION = "ver";     // 비밀번호 변경 등으로 올라가는 TOKEN_VERSION
+    static final String CLAIM_TYPE = "typ";              // principal 종류 (admin / user) - 권한 이름으로 추측하지 않음
+
+    static final String TYPE_ADMIN = "admin";
+    static final String TYPE_USER = "user";
+
     private final Key key;
     private final long validityInMs;
+    private final JwtParser parser;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
@@ -26,9 +38,16 @@ public class JwtTokenProvider {
     ) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.validityInMs = validityInMs;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
-    public String createToken(String username, Collection<? extends GrantedAuthority> roles) {
+    public String createToken(String username,
+                              Long principalNo,
+                              boolean admin,
+                              Collection<? extends GrantedAuthority> roles,
+                              long tokenVersion) {
         String roleString = roles.stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
@@ -38,32 +57,65 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .setSubject(username)
-                .claim("roles", roleString)
+                .claim(CLAIM_ROLES, roleString)
+                .claim(CLAIM_PRINCIPAL_NO, principalNo)
+                .claim(CLAIM_TOKEN_VERSION, tokenVersion)
+                .claim(CLAIM_TYPE, admin ? TYPE_ADMIN : TYPE_USER)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String getUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-
-    public boolean validateToken(String token) {
+    /**
+     * 서명/만료 검증과 클레임 파싱을 한 번에.
+     * 유효하지 않은 토큰이면 null
+     */
+    public JwtClaims parse(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims body = parser.parseClaimsJws(token).getBody();
+
+            String roleString = body.get(CLAIM_ROLES, String.class);
+            List<String> roles = (roleString == null || roleString.isBlank())
+                    ? List.of()
+                    : Arrays.stream(roleString.split(","))
+                    .map(String::trim)
+                    .filter(r -> !r.isEmpty())
+                    .toList();
+
+            Number principalNo = body.get(CLAIM_PRINCIPAL_NO, Number.class);
+            Number tokenVersion = body.get(CLAIM_TOKEN_VERSION, Number.class);
+            String type = body.get(CLAIM_TYPE, String.class);
+            Boolean admin = TYPE_ADMIN.equals(type) ? Boolean.TRUE
+                    : TYPE_USER.equals(type) ? Boolean.FALSE
+                    : null;
+
+            return new JwtClaims(
+                    body.getSubject(),
+                    principalNo == null ? null : principalNo.longValue(),
+                    roles,
+                    tokenVersion == null ? null : tokenVersion.longValue(),
+                    admin
+            );
         } catch (JwtException | IllegalArgumentException e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return null;
+        }
+    }
+
+    /**
+     * 검증된 토큰 클레임.
+     * principalNo / tokenVersion / typ 중 하나라도 없으면 이전 형식 토큰 (만료될 때까지 DB 조회 방식으로 처리)
+     */
+    public record JwtClaims(String username, Long principalNo, List<String> roles, Long tokenVersion, Boolean admin) {
+
+        public boolean isLegacy() {
+            return principalNo == null || tokenVersion == null || admin == null;
+        }
+
+        /** typ 클레임 기준 (관리자 권한 이름이 ROLE_ADMIN 이 아니어도 관리자) */
+        public boolean isAdmin() {
+            return Boolean.TRUE.equals(admin);
         }
     }
 }
@@ -1,7 +1,12 @@
 // src/main/java/com/aivideoback/kwungjin/security/jwt/SecurityConfig.java
 package com.aivideoback.kwungjin.security.jwt;
 
+import com.aivideoback.kwungjin.global.ratelimit.RateLimitFilter;
+import com.aivideoback.kwungjin.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -11,7 +16,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -26,6 +30,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -40,15 +45,21 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // ✅ preflight
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // ✅ 비동기 응답(CompletableFuture 등) 재디스패치: 최초 요청에서 이미 인가됨
+                        //    (JWT 필터는 ASYNC 디스패치에서 다시 돌지 않으므로 여기서 막으면 401)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 
                         // ✅ 관리자 로그인은 모두 허용
                         .requestMatchers("/api/admin/login").permitAll()
 
                         // ✅ 관리자 API는 ADMIN 권한 필요
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // ✅ 🔥 비로그인도 볼 수 있는 "영상 조회" 관련 GET 전부 허용
                         .requestMatchers(HttpMethod.GET, "/api/videos/*/stream").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/videos/*/related").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/videos/public").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/videos/home-summary").permitAll()
 
@@ -70,14 +81,24 @@ public class SecurityConfig {
                 )
 
                 // ✅ UsernamePasswordAuthenticationFilter 전에 JWT 필터 동작
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // ✅ JWT 로 사용자를 안 다음에 요청 수 / 동시 처리 수 제한
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    // BCrypt 는 전용 풀에서 (동시 실행 수 + 대기열 제한, 넘치면 429)
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${app.security.password-hashing.threads:0}") int threads,
+            @Value("${app.security.password-hashing.queue-capacity:32}") int queueCapacity,
+            @Value("${app.security.password-hashing.wait-timeout-ms:3000}") long waitTimeoutMs,
+            @Value("${app.security.password-hashing.retry-after-seconds:2}") long retryAfterSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(), threads, queueCapacity, waitTimeoutMs, retryAfterSeconds, meterRegistry);
     }
 
     @Bean
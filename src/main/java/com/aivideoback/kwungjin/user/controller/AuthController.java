@@ -1,16 +1,17 @@
 package com.aivideoback.kwungjin.user.controller;
 
+import com.aivideoback.kwungjin.security.AuthUser;
 import com.aivideoback.kwungjin.user.dto.*;
 import com.aivideoback.kwungjin.user.entity.User;
 import com.aivideoback.kwungjin.user.repository.UserRepository;
 import com.aivideoback.kwungjin.user.service.AuthService;
 import com.aivideoback.kwungjin.user.service.UserService;
 import com.aivideoback.kwungjin.user.service.EmailVerificationService;   // ⭐ 추가
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -33,22 +34,23 @@ public class AuthController {
 
     @PostMapping("/login")
     public ResponseEntity<LoginResponse> login(
-            @Valid @RequestBody LoginRequest request
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
     ) {
-        LoginResponse response = authService.login(request);
+        LoginResponse response = authService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
 
     // 로그인 상태 체크 + 내 정보
     @GetMapping("/me")
     public ResponseEntity<UserResponse> me(
-            @AuthenticationPrincipal UserDetails principal
+            @AuthenticationPrincipal AuthUser principal
     ) {
         if (principal == null) {
             return ResponseEntity.status(401).build();
         }
 
-        User user = userRepository.findByUserId(principal.getUsername())
+        User user = userRepository.findById(principal.requireUserNo())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         return ResponseEntity.ok(UserResponse.from(user));
@@ -103,49 +105,46 @@ public class AuthController {
     /** 닉네임 변경 (프론트: PATCH /api/auth/nickname) */
     @PatchMapping("/nickname")
     public ResponseEntity<UserResponse> updateNickname(
-            @AuthenticationPrincipal UserDetails principal,
+            @AuthenticationPrincipal AuthUser principal,
             @Valid @RequestBody NicknameUpdateRequest request
     ) {
         if (principal == null) {
             return ResponseEntity.status(401).build();
         }
 
-        String userId = principal.getUsername();
-        UserResponse updated = userService.updateNickname(userId, request.getNickname());
+        UserResponse updated = userService.updateNickname(principal.requireUserNo(), request.getNickname());
         return ResponseEntity.ok(updated);
     }
 
-    // 비밀번호 변경 (JWT 필요)
+    // 비밀번호 변경 (JWT 필요) → 기존 토큰은 무효, 응답의 새 토큰으로 교체
     @PostMapping("/password")
-    public ResponseEntity<Void> changePassword(
-            @AuthenticationPrincipal UserDetails principal,
+    public ResponseEntity<LoginResponse> changePassword(
+            @AuthenticationPrincipal AuthUser principal,
             @Valid @RequestBody PasswordChangeRequest request
     ) {
         if (principal == null) {
             return ResponseEntity.status(401).build();
         }
 
-        String userId = principal.getUsername();
-        userService.changePassword(
-                userId,
+        LoginResponse response = userService.changePassword(
+                principal.requireUserNo(),
                 request.getCurrentPassword(),
                 request.getNewPassword()
         );
 
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(response);
     }
 
     @PatchMapping("/profile-image")
     public ResponseEntity<UserResponse> updateProfileImage(
-            @AuthenticationPrincipal UserDetails principal,
+            @AuthenticationPrincipal AuthUser principal,
             @Valid @RequestBody ProfileImageUpdateRequest request
     ) {
         if (principal == null) {
             return ResponseEntity.status(401).build();
         }
 
-        String userId = principal.getUsername();
-        UserResponse updated = userService.updateProfileImage(userId, request.getProfileImage());
+        UserResponse updated = userService.updateProfileImage(principal.requireUserNo(), request.getProfileImage());
         return ResponseEntity.ok(updated);
     }
 }
@@ -0,0 +1,70 @@
+// src/main/java/com/aivideoback/kwungjin/user/entity/MailOutbox.java
+package com.aivideoback.kwungjin.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 메일 (MAIL_OUTBOX_TABLE).
+ *
+ * 요청 트랜잭션 안에서 한 행을 쓰고, 실제 SMTP 발송은 MailOutboxDispatcher 가 백그라운드에서 묶어서 처리.
+ * STATUS: PENDING(대기) → SENDING(발송 중, NEXT_ATTEMPT_AT 까지 점유) → 성공 시 행 삭제 / 한도 초과·만료 시 FAILED
+ * (STATUS, NEXT_ATTEMPT_AT) 인덱스로 발송 대상 조회
+ *
+ * BODY_HTML 에는 인증번호 같은 평문이 들어가므로 오래 남기지 않는다.
+ * - EXPIRES_AT(인증번호 유효시간)이 지나면 보내지 않고 FAILED
+ * - FAILED 가 되는 순간 BODY_HTML 은 NULL (보관 기간 동안은 주소/오류만 남음)
+ */
+@Entity
+@Table(name = "MAIL_OUTBOX_TABLE")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailOutbox {
+
+    public static final String PENDING = "PENDING";
+    public static final String SENDING = "SENDING";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @SequenceGenerator(
+            name = "MAIL_OUTBOX_SEQ_GENERATOR",
+            sequenceName = "MAIL_OUTBOX_SEQ",
+            allocationSize = 1
+    )
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "MAIL_OUTBOX_SEQ_GENERATOR")
+    @Column(name = "OUTBOX_NO")
+    private Long outboxNo;
+
+    @Column(name = "TO_ADDRESS", nullable = false, length = 255)
+    private String toAddress;
+
+    @Column(name = "SUBJECT", nullable = false, length = 300)
+    private String subject;
+
+    @Lob
+    @Column(name = "BODY_HTML")
+    private String bodyHtml;   // FAILED 가 되면 NULL
+
+    @Column(name = "STATUS", nullable = false, length = 10)
+    private String status;
+
+    @Column(name = "ATTEMPTS", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "NEXT_ATTEMPT_AT", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "EXPIRES_AT")
+    private LocalDateTime expiresAt;   // NULL = 만료 없음
+
+    @Column(name = "LAST_ERROR", length = 500)
+    private String lastError;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -47,6 +47,9 @@ public class User {
     @Column(name = "TOKEN_COUNT", nullable = false)
     private Long tokenCount;      // 토큰 수
 
+    @Column(name = "TOKEN_VERSION", nullable = false)
+    private Long tokenVersion;    // JWT 버전 (비밀번호 변경 시 +1 → 이전 토큰 무효)
+
     @Column(name = "CREATED_AT", nullable = false)
     private LocalDateTime createdAt;
 
@@ -59,6 +62,9 @@ public class User {
         if (this.tokenCount == null) {
             this.tokenCount = 5L;
         }
+        if (this.tokenVersion == null) {
+            this.tokenVersion = 0L;
+        }
     }
 
     @PreUpdate
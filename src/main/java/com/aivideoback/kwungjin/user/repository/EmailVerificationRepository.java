@@ -8,5 +8,6 @@ import java.util.Optional;
 
 public interface EmailVerificationRepository extends JpaRepository<EmailVerification, Long> {
 
-    Optional<EmailVerification> findTopByEmailIgnoreCaseOrderByCreatedAtDesc(String email);
+    // EMAIL 은 저장할 때 소문자로 정규화 → 대소문자 무시 없이 (EMAIL, CREATED_AT) 인덱스 사용 가능
+    Optional<EmailVerification> findTopByEmailOrderByCreatedAtDesc(String email);
 }
@@ -0,0 +1,8 @@
+// src/main/java/com/aivideoback/kwungjin/user/repository/MailOutboxRepository.java
+package com.aivideoback.kwungjin.user.repository;
+
+import com.aivideoback.kwungjin.user.entity.MailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+}
@@ -3,6 +3,8 @@ package com.aivideoback.kwungjin.user.repository;
 
 import com.aivideoback.kwungjin.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -16,4 +18,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // ✅ JWT username(=USER_ID) 로 유저 조회
     Optional<User> findByUserId(String userId);
+
+    // ✅ JWT 무효화 확인용: 엔티티 대신 TOKEN_VERSION 만
+    @Query("select u.tokenVersion from User u where u.userId = :userId")
+    Optional<Long> findTokenVersionByUserId(@Param("userId") String userId);
 }
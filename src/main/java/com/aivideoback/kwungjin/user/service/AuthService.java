@@ -1,5 +1,7 @@
 package com.aivideoback.kwungjin.user.service;
 
+import com.aivideoback.kwungjin.global.TooManyRequestsException;
+import com.aivideoback.kwungjin.security.LoginAttemptThrottle;
 import com.aivideoback.kwungjin.security.jwt.JwtTokenProvider;
 import com.aivideoback.kwungjin.user.dto.LoginRequest;
 import com.aivideoback.kwungjin.user.dto.LoginResponse;
@@ -21,21 +23,41 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
+    private final LoginAttemptThrottle loginAttemptThrottle;
 
-    public LoginResponse login(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getUserId(),
-                        request.getPassword()
-                )
-        );
+    public LoginResponse login(LoginRequest request, String clientIp) {
+        // 시도 횟수를 먼저 예약, 한도를 넘은 계정/IP 는 DB 조회·BCrypt 전에 차단 (실패하면 예약분이 그대로 실패로 남음)
+        loginAttemptThrottle.reserve(request.getUserId(), clientIp);
+
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            request.getUserId(),
+                            request.getPassword()
+                    )
+            );
+        } catch (TooManyRequestsException e) {
+            // 해시 풀이 바빠서 비밀번호를 확인하지 못함 → 실패로 세지 않음
+            loginAttemptThrottle.cancel(request.getUserId(), clientIp);
+            throw e;
+        } catch (InternalAuthenticationServiceException e) {
+            // 없는 계정의 타이밍 완화용 해시에서 난 429 는 이 예외로 감싸져 온다
+            if (e.getCause() instanceof TooManyRequestsException busy) {
+                loginAttemptThrottle.cancel(request.getUserId(), clientIp);
+                throw busy;
+            }
+            throw e;
+        }
+        loginAttemptThrottle.release(request.getUserId(), clientIp);
 
         Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
 
         User user = userRepository.findByUserId(request.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
-        String token = jwtTokenProvider.createToken(user.getUserId(), authorities);
+        String token = jwtTokenProvider.createToken(
+                user.getUserId(), user.getUserNo(), false, authorities, user.getTokenVersion());
 
         return LoginResponse.builder()
                 .token(token)
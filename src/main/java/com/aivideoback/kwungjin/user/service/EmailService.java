@@ -1,43 +1,21 @@
 package com.aivideoback.kwungjin.user.service;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
-import java.io.UnsupportedEncodingException;
+import java.time.Duration;
 
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private static final Duration CODE_TTL = Duration.ofMinutes(5);   // 본문 안내 문구와 같은 값
 
-    // application.yml 에 이미 spring.mail.username 설정이 있으니 app.mail.* 쪽만 새로 추가해도 됨
-    @Value("${app.mail.from:no-reply@aicollector.co.kr}")
-    private String from;
+    private final MailOutboxService mailOutboxService;
 
-    @Value("${app.mail.from-name:AI Collector}")
-    private String fromName;
-
-    /** 인증 코드 메일 발송 */
+    /** 인증 코드 메일 발송 (MAIL_OUTBOX 에 넣고 백그라운드 발송, 보내는 사람은 app.mail.*) */
     public void sendEmailCode(String to, String code) {
-        try {
-            MimeMessage msg = mailSender.createMimeMessage();
-            MimeMessageHelper h = new MimeMessageHelper(msg, true, "UTF-8");
-
-            h.setFrom(from, fromName);
-            h.setTo(to);
-            h.setSubject("[AI 콜렉터] 이메일 인증 코드");
-            h.setText(buildHtml(code), true); // HTML 메일
-
-            mailSender.send(msg);
-        } catch (MessagingException | UnsupportedEncodingException e) {
-            throw new IllegalStateException("메일 전송 실패", e);
-        }
+        mailOutboxService.enqueue(to, "[AI 콜렉터] 이메일 인증 코드", buildHtml(code), CODE_TTL); // HTML 메일
     }
 
     private String buildHtml(String code) {
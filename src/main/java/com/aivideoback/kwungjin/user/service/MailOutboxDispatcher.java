@@ -0,0 +1,291 @@
+// src/main/java/com/aivideoback/kwungjin/user/service/MailOutboxDispatcher.java
+package com.aivideoback.kwungjin.user.service;
+
+import com.aivideoback.kwungjin.user.entity.MailOutbox;
+import com.aivideoback.kwungjin.user.repository.MailOutboxRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UnsupportedEncodingException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * MAIL_OUTBOX_TABLE 백그라운드 발송기.
+ *
+ * - 대상 행을 FOR UPDATE SKIP LOCKED 로 batch-size 개 잡아서 SENDING + 점유 시간(lease-ms)으로 바꾸고 바로 커밋
+ *   (SMTP 동안 DB 트랜잭션/행 잠금을 들고 있지 않음, 인스턴스가 여럿이어도 같은 행을 두 번 잡지 않음)
+ * - 묶음은 JavaMailSender.send(MimeMessage...) 한 번 → SMTP 연결/TLS/AUTH 를 묶음 전체가 같이 씀
+ * - 성공한 행은 삭제, 실패한 행은 base-backoff-ms * 2^시도횟수 (최대 max-backoff-ms) 뒤 재시도, max-attempts 넘으면 FAILED
+ * - EXPIRES_AT 이 지난 행은 보내지 않고 FAILED, FAILED 가 될 때 BODY_HTML(인증번호 평문)은 NULL 로 지움
+ * - 발송 도중 죽어서 SENDING 으로 남은 행은 점유 시간이 지나면 다시 대상이 됨
+ * - 커밋 직후 kick() 으로 깨우고, poll-ms 주기로도 확인
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private static final String CLAIM_SELECT_SQL = """
+            SELECT OUTBOX_NO
+              FROM MAIL_OUTBOX_TABLE
+             WHERE STATUS IN ('PENDING', 'SENDING')
+               AND NEXT_ATTEMPT_AT <= ?
+               AND (EXPIRES_AT IS NULL OR EXPIRES_AT > ?)
+             ORDER BY NEXT_ATTEMPT_AT
+               FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String CLAIM_UPDATE_SQL =
+            "UPDATE MAIL_OUTBOX_TABLE SET STATUS = 'SENDING', NEXT_ATTEMPT_AT = ? WHERE OUTBOX_NO = ?";
+
+    static final String DELETE_SQL = "DELETE FROM MAIL_OUTBOX_TABLE WHERE OUTBOX_NO = ?";
+
+    static final String RETRY_SQL = """
+            UPDATE MAIL_OUTBOX_TABLE
+               SET STATUS = 'PENDING', ATTEMPTS = ?, NEXT_ATTEMPT_AT = ?, LAST_ERROR = ?
+             WHERE OUTBOX_NO = ?
+            """;
+
+    // 더 이상 보내지 않을 행 → 본문(평문 코드)은 바로 지움
+    static final String FAIL_SQL = """
+            UPDATE MAIL_OUTBOX_TABLE
+               SET STATUS = 'FAILED', ATTEMPTS = ?, BODY_HTML = NULL, LAST_ERROR = ?
+             WHERE OUTBOX_NO = ?
+            """;
+
+    private static final String EXPIRE_SQL = """
+            UPDATE MAIL_OUTBOX_TABLE
+               SET STATUS = 'FAILED', BODY_HTML = NULL, LAST_ERROR = 'expired before send'
+             WHERE STATUS IN ('PENDING', 'SENDING')
+               AND EXPIRES_AT <= ?
+            """;
+
+    private static final String PURGE_FAILED_SQL =
+            "DELETE FROM MAIL_OUTBOX_TABLE WHERE STATUS = 'FAILED' AND CREATED_AT < ?";
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String fromAddress;
+    private final String fromName;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long leaseMs;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+    private final long failedRetentionHours;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean rerun = new AtomicBoolean();
+
+    public MailOutboxDispatcher(MailOutboxRepository mailOutboxRepository,
+                                JavaMailSender mailSender,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.mail.from:no-reply@aicollector.co.kr}") String fromAddress,
+                                @Value("${app.mail.from-name:AI 콜렉터}") String fromName,
+                                @Value("${app.mail.outbox.batch-size:50}") int batchSize,
+                                @Value("${app.mail.outbox.max-attempts:6}") int maxAttempts,
+                                @Value("${app.mail.outbox.lease-ms:120000}") long leaseMs,
+                                @Value("${app.mail.outbox.base-backoff-ms:5000}") long baseBackoffMs,
+                                @Value("${app.mail.outbox.max-backoff-ms:600000}") long maxBackoffMs,
+                                @Value("${app.mail.outbox.failed-retention-hours:72}") long failedRetentionHours) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fromAddress = fromAddress;
+        this.fromName = fromName;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.leaseMs = leaseMs;
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.failedRetentionHours = failedRetentionHours;
+    }
+
+    /** 새 메일이 커밋됨 → 백그라운드에서 바로 발송 */
+    @Async
+    public void kick() {
+        dispatch();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.mail.outbox.poll-ms:10000}",
+            initialDelayString = "${app.mail.outbox.poll-ms:10000}"
+    )
+    public void poll() {
+        expire();
+        dispatch();
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.purge-ms:3600000}")
+    public void purgeFailed() {
+        try {
+            jdbcTemplate.update(PURGE_FAILED_SQL,
+                    Timestamp.valueOf(LocalDateTime.now().minusHours(failedRetentionHours)));
+        } catch (Exception e) {
+            log.warn("[MAIL-OUTBOX] FAILED 행 정리 실패", e);
+        }
+    }
+
+    /** 대상이 없을 때까지 묶음 단위로 발송 (이미 돌고 있으면 끝난 뒤 한 번 더) */
+    public void dispatch() {
+        rerun.set(true);
+        while (rerun.get() && running.compareAndSet(false, true)) {
+            try {
+                rerun.set(false);
+                while (dispatchBatch() == batchSize) {
+                    // 꽉 찬 묶음이면 남은 게 더 있을 수 있음
+                }
+            } catch (Exception e) {
+                log.warn("[MAIL-OUTBOX] 발송 처리 실패", e);
+            } finally {
+                running.set(false);
+            }
+        }
+    }
+
+    /* ---------- 내부 ---------- */
+
+    /** 만료된 대기 행은 claim 에서도 걸러지지만, 본문(평문 코드)은 여기서 지운다 */
+    private void expire() {
+        try {
+            int expired = jdbcTemplate.update(EXPIRE_SQL, Timestamp.valueOf(LocalDateTime.now()));
+            if (expired > 0) log.info("[MAIL-OUTBOX] 만료로 발송 포기 {}건", expired);
+        } catch (Exception e) {
+            log.warn("[MAIL-OUTBOX] 만료 처리 실패", e);
+        }
+    }
+
+    private int dispatchBatch() {
+        List<Long> ids = claim();
+        if (ids.isEmpty()) return 0;
+
+        List<MailOutbox> rows = mailOutboxRepository.findAllById(ids);
+        Map<MimeMessage, MailOutbox> byMessage = new IdentityHashMap<>();
+        Map<MailOutbox, Exception> failures = new IdentityHashMap<>();
+
+        for (MailOutbox row : rows) {
+            if (row.getBodyHtml() == null) {
+                continue;   // 잡은 사이 만료 처리됨 → 보낼 것도, 지울 것도 없음 (FAILED 보관 후 정리)
+            }
+            try {
+                byMessage.put(toMessage(row), row);
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                failures.put(row, e);
+            }
+        }
+
+        if (!byMessage.isEmpty()) {
+            try {
+                // 배열로 한 번에 → 연결 하나로 전부 전송
+                mailSender.send(byMessage.keySet().toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                e.getFailedMessages().forEach((msg, ex) -> {
+                    MailOutbox row = byMessage.get(msg);
+                    if (row != null) failures.put(row, ex);
+                });
+                if (e.getFailedMessages().isEmpty()) {
+                    byMessage.values().forEach(row -> failures.put(row, e));
+                }
+            } catch (MailException e) {
+                // 연결/인증 실패 → 묶음 전체 재시도
+                byMessage.values().forEach(row -> failures.put(row, e));
+            }
+        }
+
+        List<Object[]> sent = new ArrayList<>();
+        List<Object[]> retry = new ArrayList<>();
+        List<Object[]> failed = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (MailOutbox row : rows) {
+            if (row.getBodyHtml() == null) continue;
+            Exception error = failures.get(row);
+            if (error == null) {
+                sent.add(new Object[]{row.getOutboxNo()});
+                continue;
+            }
+            int attempts = row.getAttempts() + 1;
+            LocalDateTime nextAttemptAt = now.plusNanos(backoffMs(attempts) * 1_000_000L);
+            String message = truncate(String.valueOf(error.getMessage()), 500);
+            // 다음 시도 전에 만료되면 재시도해도 의미 없음
+            boolean giveUp = attempts >= maxAttempts
+                    || (row.getExpiresAt() != null && !nextAttemptAt.isBefore(row.getExpiresAt()));
+            if (giveUp) {
+                failed.add(new Object[]{attempts, message, row.getOutboxNo()});
+            } else {
+                retry.add(new Object[]{attempts, Timestamp.valueOf(nextAttemptAt), message, row.getOutboxNo()});
+            }
+            log.warn("[MAIL-OUTBOX] 발송 실패 outboxNo={}, to={}, attempts={}, status={}",
+                    row.getOutboxNo(), row.getToAddress(), attempts,
+                    giveUp ? MailOutbox.FAILED : MailOutbox.PENDING, error);
+        }
+
+        if (!sent.isEmpty()) jdbcTemplate.batchUpdate(DELETE_SQL, sent);
+        if (!retry.isEmpty()) jdbcTemplate.batchUpdate(RETRY_SQL, retry);
+        if (!failed.isEmpty()) jdbcTemplate.batchUpdate(FAIL_SQL, failed);
+        log.debug("[MAIL-OUTBOX] batch claimed={}, sent={}, retry={}, failed={}",
+                ids.size(), sent.size(), retry.size(), failed.size());
+
+        return ids.size();
+    }
+
+    /** 발송 대상 batch-size 개를 잡아서 SENDING 으로 바꾸고 커밋 */
+    private List<Long> claim() {
+        List<Long> ids = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> claimed = jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(CLAIM_SELECT_SQL);
+                ps.setTimestamp(1, Timestamp.valueOf(now));
+                ps.setTimestamp(2, Timestamp.valueOf(now));
+                ps.setMaxRows(batchSize);
+                return ps;
+            }, (ResultSet rs, int i) -> rs.getLong(1));
+
+            if (!claimed.isEmpty()) {
+                Timestamp leaseUntil = Timestamp.valueOf(now.plusNanos(leaseMs * 1_000_000L));
+                jdbcTemplate.batchUpdate(CLAIM_UPDATE_SQL,
+                        claimed.stream().map(id -> new Object[]{leaseUntil, id}).toList());
+            }
+            return claimed;
+        });
+        return ids == null ? List.of() : ids;
+    }
+
+    private MimeMessage toMessage(MailOutbox row) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage msg = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(msg, true, "UTF-8");
+        helper.setFrom(fromAddress, fromName);
+        helper.setTo(row.getToAddress());
+        helper.setSubject(row.getSubject());
+        helper.setText(row.getBodyHtml(), true);
+        return msg;
+    }
+
+    private long backoffMs(int attempts) {
+        long factor = 1L << Math.min(attempts - 1, 20);
+        return Math.min(maxBackoffMs, baseBackoffMs * factor);
+    }
+
+    private static String truncate(String s, int max) {
+        return s.length() <= max ? s : s.substring(0, max);
+    }
+}
@@ -0,0 +1,57 @@
+// src/main/java/com/aivideoback/kwungjin/user/service/MailOutboxService.java
+package com.aivideoback.kwungjin.user.service;
+
+import com.aivideoback.kwungjin.user.entity.MailOutbox;
+import com.aivideoback.kwungjin.user.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 요청 → MAIL_OUTBOX_TABLE 에 한 행 (호출한 쪽 트랜잭션에 같이 묶임).
+ * 커밋되면 디스패처를 바로 깨워서, 주기(poll-ms)를 기다리지 않고 백그라운드에서 발송
+ */
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailOutboxDispatcher mailOutboxDispatcher;
+
+    @Transactional
+    public void enqueue(String to, String subject, String bodyHtml) {
+        enqueue(to, subject, bodyHtml, null);
+    }
+
+    /** ttl: 이 시간 안에 못 보내면 버림 (인증번호처럼 유효시간이 지나면 의미 없는 메일, null = 만료 없음) */
+    @Transactional
+    public void enqueue(String to, String subject, String bodyHtml, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        mailOutboxRepository.save(MailOutbox.builder()
+                .toAddress(to)
+                .subject(subject)
+                .bodyHtml(bodyHtml)
+                .status(MailOutbox.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .expiresAt(ttl == null ? null : now.plus(ttl))
+                .createdAt(now)
+                .build());
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mailOutboxDispatcher.kick();
+                }
+            });
+        } else {
+            mailOutboxDispatcher.kick();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+// src/main/java/com/aivideoback/kwungjin/user/service/UserAvailabilityIndex.java
+package com.aivideoback.kwungjin.user.service;
+
+import com.aivideoback.kwungjin.user.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아이디 / 닉네임 / 이메일 중복 확인 앞단의 Bloom filter.
+ *
+ * - 기동 시 USER_TABLE 한 번 훑어서 만들고, 가입/닉네임 변경 때 바로 추가
+ * - mightContain == false 면 "확실히 없음" → DB 조회 생략 (키 입력마다 오는 check-* 요청 대부분)
+ * - 다른 인스턴스에서 가입한 값, 바뀌어서 더 이상 안 쓰는 닉네임은 rebuild-ms 주기 재구성 때 반영
+ *   (가입 자체는 DB 에서 다시 확인하므로 check-* 결과는 안내용)
+ * - 만들어지기 전에는 항상 "있을 수 있음" → 기존처럼 DB 로
+ * - 추가는 가입 트랜잭션 커밋 전에 불리므로, 재구성 SELECT 가 아직 커밋 안 된 행을 못 볼 수 있다
+ *   → 직전 재구성 시작 이후의 추가분을 보관했다가 새 필터로 교체할 때 다시 넣음
+ */
+@Slf4j
+@Component
+public class UserAvailabilityIndex {
+
+    private static final String LOAD_SQL = "SELECT USER_ID, NICKNAME, EMAIL FROM USER_TABLE";
+
+    // 재구성 사이 보관하는 추가분 상한 (재구성이 계속 실패할 때 메모리 제한, 넘친 값은 다음 SELECT 가 채움)
+    private static final int MAX_RECENT_ADDS = 100_000;
+
+    private record Filters(BloomFilter userIds, BloomFilter nicknames, BloomFilter emails) {
+    }
+
+    private record Pending(String userId, String nickname, String email) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double falsePositiveRate;
+    private final long minCapacity;
+
+    private volatile Filters filters;   // null = 아직 없음
+    private final Object lock = new Object();
+    // 이번(또는 직전) 재구성 시작 이후의 추가분 (새 필터에 다시 반영, lock 보호)
+    private List<Pending> recentAdds = new ArrayList<>();
+    private boolean rebuilding;
+
+    public UserAvailabilityIndex(JdbcTemplate jdbcTemplate,
+                                 @Value("${app.user.availability-index.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${app.user.availability-index.min-capacity:100000}") long minCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.falsePositiveRate = falsePositiveRate;
+        this.minCapacity = minCapacity;
+    }
+
+    public boolean mightContainUserId(String userId) {
+        Filters f = filters;
+        return f == null || userId == null || f.userIds().mightContain(userId);
+    }
+
+    public boolean mightContainNickname(String nickname) {
+        Filters f = filters;
+        return f == null || nickname == null || f.nicknames().mightContain(nickname);
+    }
+
+    public boolean mightContainEmail(String email) {
+        Filters f = filters;
+        return f == null || email == null || f.emails().mightContain(email);
+    }
+
+    /** 가입 (저장 전에 호출해도 됨: 롤백되면 오탐 하나가 늘 뿐) */
+    public void addUser(String userId, String nickname, String email) {
+        add(new Pending(userId, nickname, email));
+    }
+
+    public void addNickname(String nickname) {
+        add(new Pending(null, nickname, null));
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.user.availability-index.rebuild-ms:600000}",
+            initialDelayString = "${app.user.availability-index.rebuild-ms:600000}"
+    )
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /** USER_TABLE 기준으로 새로 만들어서 교체 */
+    public void rebuild() {
+        // 직전 재구성 시작 이후 추가분: 그 SELECT 뒤에 커밋됐을 수 있으니 이번 필터에도 넣는다
+        List<Pending> carried;
+        synchronized (lock) {
+            if (rebuilding) return;   // 이미 재구성 중
+            rebuilding = true;
+            carried = recentAdds;
+            recentAdds = new ArrayList<>();
+        }
+
+        Filters built = null;
+        try {
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM USER_TABLE", Long.class);
+            // 다음 재구성까지 늘어날 만큼 여유 (2배)
+            long capacity = Math.max(minCapacity, (count == null ? 0L : count) * 2);
+            Filters next = new Filters(
+                    new BloomFilter(capacity, falsePositiveRate),
+                    new BloomFilter(capacity, falsePositiveRate),
+                    new BloomFilter(capacity, falsePositiveRate));
+
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                addTo(next, rs.getString(1), rs.getString(2), rs.getString(3));
+            });
+            built = next;
+            log.info("중복 확인 Bloom filter 구성 users={}, 필터당 {}KB", count, next.userIds().sizeInBytes() / 1024);
+        } catch (Exception e) {
+            log.warn("중복 확인 Bloom filter 구성 실패 (기존 필터 유지)", e);
+        } finally {
+            synchronized (lock) {
+                if (built != null) {
+                    for (Pending p : carried) {
+                        addTo(built, p.userId(), p.nickname(), p.email());
+                    }
+                    for (Pending p : recentAdds) {
+                        addTo(built, p.userId(), p.nickname(), p.email());
+                    }
+                    filters = built;
+                } else {
+                    // 실패 → 다음 재구성 때 다시 넣도록 보관분을 합쳐 둠
+                    for (Pending p : recentAdds) {
+                        if (carried.size() >= MAX_RECENT_ADDS) break;
+                        carried.add(p);
+                    }
+                    recentAdds = carried;
+                }
+                rebuilding = false;
+            }
+        }
+    }
+
+    /* ---------- 내부 ---------- */
+
+    private void add(Pending p) {
+        synchronized (lock) {
+            Filters f = filters;
+            if (f != null) {
+                addTo(f, p.userId(), p.nickname(), p.email());
+            }
+            if (recentAdds.size() < MAX_RECENT_ADDS) {
+                recentAdds.add(p);
+            }
+        }
+    }
+
+    private static void addTo(Filters f, String userId, String nickname, String email) {
+        if (userId != null) f.userIds().add(userId);
+        if (nickname != null) f.nicknames().add(nickname);
+        if (email != null) f.emails().add(email);
+    }
+}
@@ -1,13 +1,18 @@
 package com.aivideoback.kwungjin.user.service;
 
+import com.aivideoback.kwungjin.security.TokenVersionCache;
+import com.aivideoback.kwungjin.security.jwt.JwtTokenProvider;
+import com.aivideoback.kwungjin.user.dto.LoginResponse;
 import com.aivideoback.kwungjin.user.dto.RegisterRequest;
 import com.aivideoback.kwungjin.user.dto.UserResponse;
 import com.aivideoback.kwungjin.user.entity.User;
 import com.aivideoback.kwungjin.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
 import java.util.Set;
 @Service
 @RequiredArgsConstructor
@@ -19,12 +24,16 @@ public class UserService {
             "blue", "purple", "orange", "green", "pink", "mono"
     );
     private final EmailVerificationService emailVerificationService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenVersionCache tokenVersionCache;
+    private final UserAvailabilityIndex userAvailabilityIndex;
     @Transactional
     public UserResponse register(RegisterRequest request) {
 
         if (!emailVerificationService.isRecentlyVerified(request.getEmail())) {
             throw new IllegalArgumentException("이메일 인증이 완료되지 않았습니다. 먼저 이메일 인증을 진행해 주세요.");
         }
+        // 실제 가입은 필터를 거치지 않고 DB 로 확인 (다른 인스턴스 가입분이 아직 필터에 없을 수 있음)
         if (userRepository.existsByUserId(request.getUserId())) {
             throw new IllegalArgumentException("이미 사용 중인 아이디입니다.");
         }
@@ -47,24 +56,26 @@ public class UserService {
                 .build();
 
         User saved = userRepository.save(user);
+        userAvailabilityIndex.addUser(saved.getUserId(), saved.getNickname(), saved.getEmail());
         return UserResponse.from(saved);
     }
 
+    // 중복 확인: Bloom filter 가 "확실히 없음" 이면 DB 조회 생략, "있을 수 있음" 일 때만 exists 쿼리
     public boolean isUserIdAvailable(String userId) {
-        return !userRepository.existsByUserId(userId);
+        return !userAvailabilityIndex.mightContainUserId(userId) || !userRepository.existsByUserId(userId);
     }
 
     public boolean isNicknameAvailable(String nickname) {
-        return !userRepository.existsByNickname(nickname);
+        return !userAvailabilityIndex.mightContainNickname(nickname) || !userRepository.existsByNickname(nickname);
     }
 
     public boolean isEmailAvailable(String email) {
-        return !userRepository.existsByEmail(email);
+        return !userAvailabilityIndex.mightContainEmail(email) || !userRepository.existsByEmail(email);
     }
 
     /** 닉네임 변경 */
     @Transactional
-    public UserResponse updateNickname(String userId, String newNickname) {
+    public UserResponse updateNickname(Long userNo, String newNickname) {
         String trimmed = newNickname == null ? null : newNickname.trim();
 
         if (trimmed == null || trimmed.isEmpty()) {
@@ -74,7 +85,7 @@ public class UserService {
             throw new IllegalArgumentException("닉네임은 최소 2글자 이상이어야 합니다.");
         }
 
-        User user = userRepository.findByUserId(userId)
+        User user = userRepository.findById(userNo)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         // 같은 닉네임이면 그냥 현재 정보 리턴
@@ -88,12 +99,16 @@ public class UserService {
         }
 
         user.setNickname(trimmed); // @PreUpdate 로 updatedAt 자동 세팅
+        userAvailabilityIndex.addNickname(trimmed);
         return UserResponse.from(user);
     }
 
-    /** 비밀번호 변경 */
+    /**
+     * 비밀번호 변경.
+     * TOKEN_VERSION 을 올려서 기존 토큰은 모두 무효, 새 토큰을 발급해서 돌려준다
+     */
     @Transactional
-    public void changePassword(String userId, String currentPassword, String newPassword) {
+    public LoginResponse changePassword(Long userNo, String currentPassword, String newPassword) {
         if (currentPassword == null || currentPassword.isBlank()
                 || newPassword == null || newPassword.isBlank()) {
             throw new IllegalArgumentException("현재 비밀번호와 새 비밀번호를 모두 입력해 주세요.");
@@ -102,22 +117,37 @@ public class UserService {
             throw new IllegalArgumentException("새 비밀번호는 최소 6자 이상이어야 합니다.");
         }
 
-        User user = userRepository.findByUserId(userId)
+        User user = userRepository.findById(userNo)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
             throw new IllegalArgumentException("현재 비밀번호가 올바르지 않습니다.");
         }
 
-        if (passwordEncoder.matches(newPassword, user.getPassword())) {
-             throw new IllegalArgumentException("이전과 동일한 비밀번호는 사용할 수 없습니다.");
+        // 현재 비밀번호가 방금 일치했으니 평문 비교로 충분 (BCrypt 한 번 절약)
+        if (newPassword.equals(currentPassword)) {
+            throw new IllegalArgumentException("이전과 동일한 비밀번호는 사용할 수 없습니다.");
         }
         user.setPassword(passwordEncoder.encode(newPassword));
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        tokenVersionCache.invalidateAfterCommit(false, user.getUserId());
+
+        String token = jwtTokenProvider.createToken(
+                user.getUserId(),
+                user.getUserNo(),
+                false,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")),
+                user.getTokenVersion());
+
+        return LoginResponse.builder()
+                .token(token)
+                .user(UserResponse.from(user))
+                .build();
     }
 
     /** 프로필 이미지 변경 */
     @Transactional
-    public UserResponse updateProfileImage(String userId, String profileImageKey) {
+    public UserResponse updateProfileImage(Long userNo, String profileImageKey) {
 
         if (profileImageKey == null || profileImageKey.isBlank()) {
             throw new IllegalArgumentException("프로필 이미지를 선택해 주세요.");
@@ -129,7 +159,7 @@ public class UserService {
             throw new IllegalArgumentException("허용되지 않는 프로필 이미지입니다.");
         }
 
-        User user = userRepository.findByUserId(userId)
+        User user = userRepository.findById(userNo)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         user.setProfileImage(trimmed);   // blue / purple / ... 이런 키만 저장
@@ -0,0 +1,279 @@
+// src/main/java/com/aivideoback/kwungjin/user/service/VerificationCodeStore.java
+package com.aivideoback.kwungjin.user.service;
+
+import com.aivideoback.kwungjin.user.entity.EmailVerification;
+import com.aivideoback.kwungjin.user.repository.EmailVerificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 이메일 인증번호 저장소.
+ *
+ * - 코드는 HMAC-SHA256(key, email + ":" + code) 다이제스트로만 보관 → 검증은 마이크로초 단위 (BCrypt X)
+ * - key 는 secret(없으면 jwt.secret)에서 HKDF-SHA256 으로 파생 → JWT 서명 키를 그대로 쓰지 않음
+ * - 비교 전에 시도 횟수부터 올리고, max-attempts 를 넘으면 코드가 맞아도 거절
+ * - 기본은 메모리(LRU, max-entries), persist=true 면 EMAIL_VERIFICATION_TABLE 기준 (여러 인스턴스 운영용)
+ * - 만료 + 인증 유효기간(verified-ttl)이 지난 항목은 주기적으로 메모리/테이블에서 삭제
+ */
+@Slf4j
+@Component
+public class VerificationCodeStore {
+
+    private static final String CLAIM_ATTEMPT_SQL = """
+            UPDATE EMAIL_VERIFICATION_TABLE
+               SET ATTEMPTS = ATTEMPTS + 1
+             WHERE VERIFICATION_NO = ? AND ATTEMPTS < ?
+            """;
+
+    private static final String PURGE_SQL =
+            "DELETE FROM EMAIL_VERIFICATION_TABLE WHERE EXPIRES_AT < ? AND (VERIFIED_AT IS NULL OR VERIFIED_AT < ?)";
+
+    // HKDF info (용도 구분용, 바꾸면 발급된 코드가 모두 무효)
+    private static final byte[] KEY_INFO = "aivideoback/email-verification/v1".getBytes(StandardCharsets.UTF_8);
+
+    private final EmailVerificationRepository emailVerificationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SecretKeySpec hmacKey;
+    private final Duration codeTtl;
+    private final Duration verifiedTtl;
+    private final int maxAttempts;
+    private final boolean persist;
+
+    // persist=false 일 때만 사용 (synchronized)
+    private final Map<String, Entry> entries;
+
+    public VerificationCodeStore(EmailVerificationRepository emailVerificationRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 @Value("${app.mail.verification.secret:}") String secret,
+                                 @Value("${jwt.secret}") String jwtSecret,
+                                 @Value("${app.mail.verification.code-ttl-minutes:10}") long codeTtlMinutes,
+                                 @Value("${app.mail.verification.verified-ttl-hours:24}") long verifiedTtlHours,
+                                 @Value("${app.mail.verification.max-attempts:5}") int maxAttempts,
+                                 @Value("${app.mail.verification.max-entries:10000}") int maxEntries,
+                                 @Value("${app.mail.verification.persist:false}") boolean persist) {
+        this.emailVerificationRepository = emailVerificationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        String ikm = (secret == null || secret.isBlank()) ? jwtSecret : secret;
+        this.hmacKey = new SecretKeySpec(hkdf(ikm.getBytes(StandardCharsets.UTF_8), KEY_INFO), "HmacSHA256");
+        this.codeTtl = Duration.ofMinutes(codeTtlMinutes);
+        this.verifiedTtl = Duration.ofHours(verifiedTtlHours);
+        this.maxAttempts = maxAttempts;
+        this.persist = persist;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public Duration codeTtl() {
+        return codeTtl;
+    }
+
+    /** 새 코드 등록 (같은 이메일의 이전 코드는 무효) */
+    @Transactional
+    public void issue(String email, String code) {
+        byte[] digest = digest(email, code);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(codeTtl);
+
+        if (persist) {
+            emailVerificationRepository.save(EmailVerification.builder()
+                    .email(email)
+                    .codeHash(HexFormat.of().formatHex(digest))
+                    .attempts(0)
+                    .createdAt(now)
+                    .expiresAt(expiresAt)
+                    .build());
+            return;
+        }
+
+        synchronized (entries) {
+            entries.put(email, new Entry(digest, expiresAt));
+        }
+    }
+
+    /** 코드 검증. 실패 사유는 IllegalArgumentException 메시지로 (실패해도 시도 횟수 증가는 커밋) */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public void verify(String email, String code) {
+        byte[] digest = digest(email, code);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (persist) {
+            verifyPersisted(email, digest, now);
+            return;
+        }
+
+        synchronized (entries) {
+            Entry e = entries.get(email);
+            if (e == null) {
+                throw noRequest();
+            }
+            if (e.verifiedAt != null) {
+                return;   // 이미 인증된 경우는 그냥 통과
+            }
+            if (now.isAfter(e.expiresAt)) {
+                throw expired();
+            }
+            if (e.attempts >= maxAttempts) {
+                throw tooManyAttempts();
+            }
+            e.attempts++;
+            if (!MessageDigest.isEqual(e.digest, digest)) {
+                throw mismatch();
+            }
+            e.verifiedAt = now;
+        }
+    }
+
+    /** verified-ttl 안에 인증이 끝났는지 (회원가입 직전 확인용) */
+    @Transactional(readOnly = true)
+    public boolean isRecentlyVerified(String email) {
+        LocalDateTime border = LocalDateTime.now().minus(verifiedTtl);
+
+        if (persist) {
+            return emailVerificationRepository.findTopByEmailOrderByCreatedAtDesc(email)
+                    .map(ev -> ev.getVerifiedAt() != null && ev.getVerifiedAt().isAfter(border))
+                    .orElse(false);
+        }
+
+        synchronized (entries) {
+            Entry e = entries.get(email);
+            return e != null && e.verifiedAt != null && e.verifiedAt.isAfter(border);
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.mail.verification.purge-ms:600000}",
+            initialDelayString = "${app.mail.verification.purge-ms:600000}"
+    )
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime verifiedBorder = now.minus(verifiedTtl);
+
+        synchronized (entries) {
+            entries.values().removeIf(e -> e.verifiedAt == null
+                    ? now.isAfter(e.expiresAt)
+                    : e.verifiedAt.isBefore(verifiedBorder));
+        }
+
+        // persist 를 껐더라도 예전에 쌓인 행은 정리
+        try {
+            int deleted = jdbcTemplate.update(PURGE_SQL,
+                    Timestamp.valueOf(now), Timestamp.valueOf(verifiedBorder));
+            if (deleted > 0) {
+                log.info("[EMAIL-CODE] 만료된 인증 행 {}건 삭제", deleted);
+            }
+        } catch (Exception ex) {
+            log.warn("[EMAIL-CODE] 만료된 인증 행 삭제 실패", ex);
+        }
+    }
+
+    /* ---------- 내부 ---------- */
+
+    private void verifyPersisted(String email, byte[] digest, LocalDateTime now) {
+        EmailVerification latest = emailVerificationRepository
+                .findTopByEmailOrderByCreatedAtDesc(email)
+                .orElseThrow(this::noRequest);
+
+        if (latest.getVerifiedAt() != null) {
+            return;
+        }
+        if (now.isAfter(latest.getExpiresAt())) {
+            throw expired();
+        }
+
+        // 시도 횟수는 조건부 UPDATE 로 먼저 차지 (여러 인스턴스에서 동시에 와도 max-attempts 초과 X)
+        int claimed = jdbcTemplate.update(CLAIM_ATTEMPT_SQL, latest.getId(), maxAttempts);
+        if (claimed == 0) {
+            throw tooManyAttempts();
+        }
+
+        if (!MessageDigest.isEqual(storedDigest(latest.getCodeHash()), digest)) {
+            throw mismatch();
+        }
+
+        latest.setVerifiedAt(now);
+        emailVerificationRepository.save(latest);
+    }
+
+    /** 예전 BCrypt 행은 다이제스트가 아니므로 항상 불일치 (재발송하면 새 형식으로 저장됨) */
+    private static byte[] storedDigest(String codeHash) {
+        try {
+            return HexFormat.of().parseHex(codeHash);
+        } catch (IllegalArgumentException e) {
+            return new byte[0];
+        }
+    }
+
+    private byte[] digest(String email, String code) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(hmacKey);
+            return mac.doFinal((email + ":" + code).getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 계산 실패", e);
+        }
+    }
+
+    /** HKDF-SHA256 (RFC 5869), 출력 32바이트 한 블록. salt 는 0 으로 채운 32바이트 */
+    private static byte[] hkdf(byte[] ikm, byte[] info) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(new byte[32], "HmacSHA256"));
+            byte[] prk = mac.doFinal(ikm);
+
+            mac.init(new SecretKeySpec(prk, "HmacSHA256"));
+            mac.update(info);
+            mac.update((byte) 1);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("인증번호 키 파생 실패", e);
+        }
+    }
+
+    private IllegalArgumentException noRequest() {
+        return new IllegalArgumentException("인증 요청 내역이 없습니다. 먼저 인증번호를 받아 주세요.");
+    }
+
+    private IllegalArgumentException expired() {
+        return new IllegalArgumentException("인증번호가 만료되었습니다. 다시 요청해 주세요.");
+    }
+
+    private IllegalArgumentException tooManyAttempts() {
+        return new IllegalArgumentException("인증 시도 횟수를 초과했습니다. 인증번호를 다시 요청해 주세요.");
+    }
+
+    private IllegalArgumentException mismatch() {
+        return new IllegalArgumentException("인증번호가 올바르지 않습니다.");
+    }
+
+    private static final class Entry {
+        final byte[] digest;
+        final LocalDateTime expiresAt;
+        int attempts;
+        LocalDateTime verifiedAt;
+
+        Entry(byte[] digest, LocalDateTime expiresAt) {
+            this.digest = digest;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
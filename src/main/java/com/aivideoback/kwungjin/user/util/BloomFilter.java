@@ -0,0 +1,82 @@
+package com.aivideoback.kwungjin.user.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter (아이디/닉네임/이메일 중복 확인 앞단).
+ *
+ * - mightContain == false 면 확실히 없음 → DB 조회 생략, true 면 DB 로 확인
+ * - 비트 수/해시 수는 예상 개수 + 오탐률로 결정, 해시는 64비트 하나를 double hashing 으로 k 개로 분할
+ * - add / mightContain 은 스레드 안전 (AtomicLongArray), 삭제는 지원하지 않음 (다시 만들어서 교체)
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) expectedInsertions = 1;
+        if (falsePositiveRate <= 0.0 || falsePositiveRate >= 1.0) {
+            throw new IllegalArgumentException("오탐률은 0 ~ 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        bits = Math.max(64, (bits + 63) / 64 * 64);
+        if (bits / 64 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom filter 크기가 너무 큽니다: " + expectedInsertions);
+        }
+
+        this.words = new AtomicLongArray((int) (bits / 64));
+        this.bitCount = bits;
+        this.hashCount = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+    }
+
+    public void add(String value) {
+        long h = hash(value);
+        long h1 = h;
+        long h2 = (h >>> 32) | 1L;   // 홀수로 만들어서 k 개 위치가 겹치지 않게
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int idx = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long cur;
+            while (((cur = words.get(idx)) & mask) == 0) {
+                if (words.compareAndSet(idx, cur, cur | mask)) break;
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long h = hash(value);
+        long h1 = h;
+        long h2 = (h >>> 32) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 메모리 사용량 (바이트) */
+    public long sizeInBytes() {
+        return bitCount / 8;
+    }
+
+    /** FNV-1a 64 + murmur3 finalizer */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53e5a63L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,13 +1,14 @@
 // src/main/java/com/aivideoback/kwungjin/video/controller/VideoController.java
 package com.aivideoback.kwungjin.video.controller;
 
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
-
+import com.aivideoback.kwungjin.security.AuthUser;
 import com.aivideoback.kwungjin.video.dto.VideoResponse;
 import com.aivideoback.kwungjin.video.dto.VideoSummaryDto;
 import com.aivideoback.kwungjin.video.dto.VideoUpdateRequest;
+import com.aivideoback.kwungjin.video.dto.VideoViewResponse;
 import com.aivideoback.kwungjin.video.service.VideoService;
+import com.aivideoback.kwungjin.video.service.VideoUniqueViewerService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
@@ -36,35 +37,36 @@ public class VideoController {
 
     @PostMapping
     public ResponseEntity<VideoResponse> uploadVideo(
-            @AuthenticationPrincipal(expression = "username") String userId,
+            @AuthenticationPrincipal AuthUser authUser,
             @RequestParam("title") String title,
             @RequestParam(value = "description", required = false) String description,
             @RequestParam("file") MultipartFile file,
             @RequestParam(value = "tags", required = false) List<String> tags
     ) throws IOException {
 
-        VideoResponse resp = videoService.uploadVideo(userId, title, description, tags, file);
+        VideoResponse resp = videoService.uploadVideo(authUser.requireUserNo(), title, description, tags, file);
         return ResponseEntity.ok(resp);
     }
 
     @GetMapping("/my")
     public List<VideoSummaryDto> getMyVideos(
-            @AuthenticationPrincipal(expression = "username") String userId
+            @AuthenticationPrincipal AuthUser authUser
     ) {
-        return videoService.getMyVideosByUserId(userId);
+        return videoService.getMyVideos(authUser.requireUserNo());
     }
 
     @GetMapping("/public")
     public ResponseEntity<Page<VideoSummaryDto>> getPublicVideos(
-            @AuthenticationPrincipal(errorOnInvalidType = false) UserDetails userDetails,
+            @AuthenticationPrincipal(errorOnInvalidType = false) AuthUser authUser,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "36") int size,
             @RequestParam(required = false) String keyword,
-            @RequestParam(required = false) String tags
+            @RequestParam(required = false) String tags,
+            @RequestParam(defaultValue = "latest") String sort   // latest | trending | for_you
     ) {
-        // ✅ 로그인 O: userDetails != null → username 사용
-        // ✅ 로그인 X: userDetails == null → guest 로 처리
-        String userId = (userDetails != null ? userDetails.getUsername() : null);
+        // ✅ 로그인 O: authUser != null → principal 의 userNo 사용
+        // ✅ 로그인 X (또는 관리자): userNo == null → guest 로 처리
+        Long userNo = (authUser != null ? authUser.getUserNo() : null);
 
         List<String> tagList = Collections.emptyList();
         if (tags != null && !tags.isBlank()) {
@@ -75,11 +77,20 @@ public class VideoController {
         }
 
         Page<VideoSummaryDto> result =
-                videoService.getPublicVideos(keyword, tagList, page, size, userId);
+                videoService.getPublicVideos(keyword, tagList, sort, page, size, userNo);
 
         return ResponseEntity.ok(result);
     }
 
+    // 🔗 관련 영상 (같은 사용자들이 좋아한 영상 + 태그 유사도, 미리 계산된 목록)
+    @GetMapping("/{videoNo}/related")
+    public ResponseEntity<List<VideoSummaryDto>> getRelatedVideos(
+            @PathVariable Long videoNo,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(videoService.getRelatedVideos(videoNo, limit));
+    }
+
     // 🎥 영상 스트리밍 (파일 시스템에서 직접)
     @GetMapping("/{videoNo}/stream")
     public ResponseEntity<Resource> streamVideo(@PathVariable Long videoNo) {
@@ -103,41 +114,51 @@ public class VideoController {
 
     @DeleteMapping("/{videoNo}")
     public ResponseEntity<Void> deleteVideo(
-            @AuthenticationPrincipal(expression = "username") String userId,
+            @AuthenticationPrincipal AuthUser authUser,
             @PathVariable Long videoNo
     ) {
-        videoService.deleteMyVideo(userId, videoNo);
+        videoService.deleteMyVideo(authUser.requireUserNo(), videoNo);
         return ResponseEntity.noContent().build();
     }
 
     @PatchMapping("/{videoNo}")
     public ResponseEntity<VideoSummaryDto> updateMyVideo(
-            @AuthenticationPrincipal(expression = "username") String userId,
+            @AuthenticationPrincipal AuthUser authUser,
             @PathVariable Long videoNo,
             @RequestBody VideoUpdateRequest request
     ) {
-        VideoSummaryDto dto = videoService.updateMyVideo(userId, videoNo, request);
+        VideoSummaryDto dto = videoService.updateMyVideo(authUser.requireUserNo(), videoNo, request);
         return ResponseEntity.ok(dto);
     }
 
     @PatchMapping("/{videoNo}/reaction")
     public ResponseEntity<VideoReactionResponse> toggleReaction(
-            @AuthenticationPrincipal(expression = "username") String userId,
+            @AuthenticationPrincipal AuthUser authUser,
             @PathVariable Long videoNo,
             @RequestParam("action") String action
     ) {
-        VideoReactionResponse resp = videoService.toggleReaction(userId, videoNo, action);
+        VideoReactionResponse resp = videoService.toggleReaction(authUser.requireUserNo(), videoNo, action);
         return ResponseEntity.ok(resp);
     }
 
     @GetMapping("/home-summary")
-    public ResponseEntity<HomeSummaryResponse> getHomeSummary() {
-        return ResponseEntity.ok(videoService.getHomeSummary());
+    public ResponseEntity<HomeSummaryResponse> getHomeSummary(
+            @RequestParam(defaultValue = "1") int top
+    ) {
+        return ResponseEntity.ok(videoService.getHomeSummary(top));
     }
 
     @PostMapping("/{videoNo}/view")
-    public ResponseEntity<Map<String, Long>> increaseView(@PathVariable Long videoNo) {
-        long viewCount = videoService.increaseViewCount(videoNo);
-        return ResponseEntity.ok(Map.of("viewCount", viewCount));
+    public ResponseEntity<VideoViewResponse> increaseView(
+            @PathVariable Long videoNo,
+            @AuthenticationPrincipal(errorOnInvalidType = false) AuthUser authUser,
+            HttpServletRequest request
+    ) {
+        String userId = (authUser != null ? authUser.getUsername() : null);
+        Long userNo = (authUser != null ? authUser.getUserNo() : null);
+        String viewerKey = VideoUniqueViewerService.viewerKey(
+                userId, request.getRemoteAddr(), request.getHeader(HttpHeaders.USER_AGENT));
+
+        return ResponseEntity.ok(videoService.increaseViewCount(videoNo, userNo, viewerKey));
     }
 }
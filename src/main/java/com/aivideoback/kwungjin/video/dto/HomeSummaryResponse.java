@@ -20,6 +20,11 @@ public class HomeSummaryResponse {
     private SimpleVideoDto topViewed;
     private SimpleVideoDto topDisliked;
 
+    // 🔹 ?top=N 으로 요청한 지표별 상위 N 목록 (topLiked 등은 각 목록의 1위)
+    private List<SimpleVideoDto> topLikedList;
+    private List<SimpleVideoDto> topViewedList;
+    private List<SimpleVideoDto> topDislikedList;
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
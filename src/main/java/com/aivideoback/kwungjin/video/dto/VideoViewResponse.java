@@ -0,0 +1,14 @@
+// src/main/java/com/aivideoback/kwungjin/video/dto/VideoViewResponse.java
+package com.aivideoback.kwungjin.video.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoViewResponse {
+    private Long viewCount;         // 전체 조회수 (근사, 아직 DB 반영 전 증가분 포함)
+    private Long uniqueViewCount;   // 고유 시청자 수 (HyperLogLog 추정)
+}
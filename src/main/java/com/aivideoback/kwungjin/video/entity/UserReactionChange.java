@@ -0,0 +1,31 @@
+// src/main/java/com/aivideoback/kwungjin/video/entity/UserReactionChange.java
+package com.aivideoback.kwungjin.video.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 마지막 반응 변경 시각 (USER_REACTION_CHANGE_TABLE).
+ *
+ * - 토글 PL/SQL(VideoReactionEngine)에서 MERGE 로 갱신, 사용자당 한 행
+ * - 각 인스턴스의 VideoReactionBitmapCache 가 CHANGED_AT 인덱스로 최근 변경분을 주기적으로 읽어서
+ *   다른 인스턴스에서 바뀐 사용자의 비트맵을 무효화
+ */
+@Entity
+@Table(name = "USER_REACTION_CHANGE_TABLE")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserReactionChange {
+
+    @Id
+    @Column(name = "USER_NO")
+    private Long userNo;
+
+    @Column(name = "CHANGED_AT", nullable = false)
+    private LocalDateTime changedAt;
+}
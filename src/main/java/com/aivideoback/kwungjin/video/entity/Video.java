@@ -62,13 +62,15 @@ public class Video {
     @Column(name = "TAG5", length = 100)
     private String tag5;
 
-    @Column(name = "VIEW_COUNT", nullable = false)
+    // 집계 컬럼은 SQL 증감(VideoViewCounter / VideoReactionEngine)으로만 바뀐다.
+    // 엔티티 수정 시 예전 값으로 덮어쓰지 않도록 UPDATE 대상에서 제외.
+    @Column(name = "VIEW_COUNT", nullable = false, updatable = false)
     private Long viewCount;                // 조회수
 
-    @Column(name = "LIKE_COUNT", nullable = false)
+    @Column(name = "LIKE_COUNT", nullable = false, updatable = false)
     private Long likeCount;                // 좋아요 수
 
-    @Column(name = "DISLIKE_COUNT", nullable = false)
+    @Column(name = "DISLIKE_COUNT", nullable = false, updatable = false)
     private Long dislikeCount;             // 싫어요 수
 
     @Column(name = "UPLOAD_DATE", nullable = false)
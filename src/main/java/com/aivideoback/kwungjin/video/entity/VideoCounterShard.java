@@ -0,0 +1,49 @@
+// src/main/java/com/aivideoback/kwungjin/video/entity/VideoCounterShard.java
+package com.aivideoback.kwungjin.video.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 인기 영상 좋아요/싫어요 분산 카운터 (영상당 최대 K 행).
+ *
+ * - 샤드 모드 영상은 VIDEO_TABLE 대신 임의의 샤드 행에 증감분을 더한다
+ * - 주기적으로 합계를 VIDEO_TABLE 에 접어 넣고 행을 지운다 (VideoCounterShards.fold)
+ * - 실제 읽기/쓰기는 PL/SQL(JdbcTemplate) 에서 하고, 엔티티는 테이블 정의용
+ */
+@Entity
+@Table(name = "VIDEO_COUNTER_SHARD_TABLE")
+@IdClass(VideoCounterShard.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoCounterShard {
+
+    @Id
+    @Column(name = "VIDEO_NO")
+    private Long videoNo;
+
+    @Id
+    @Column(name = "SHARD_NO")
+    private Integer shardNo;
+
+    @Column(name = "LIKE_DELTA", nullable = false)
+    private Long likeDelta;
+
+    @Column(name = "DISLIKE_DELTA", nullable = false)
+    private Long dislikeDelta;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long videoNo;
+        private Integer shardNo;
+    }
+}
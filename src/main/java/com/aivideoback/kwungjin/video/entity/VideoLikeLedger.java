@@ -0,0 +1,48 @@
+// src/main/java/com/aivideoback/kwungjin/video/entity/VideoLikeLedger.java
+package com.aivideoback.kwungjin.video.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * (영상, 사용자) 별 최초 좋아요 기록.
+ *
+ * - 좋아요를 취소하면 VIDEO_REACTION_TABLE 행은 지워지지만 여기 행은 남는다
+ * - 토글 PL/SQL(VideoReactionEngine)에서 좋아요가 +1 될 때 없으면 INSERT,
+ *   새로 들어간 경우에만 트렌딩 점수에 반영 (좋아요 ↔ 취소 반복으로 점수 올리기 방지)
+ * - 영상 삭제 시 같이 지운다 (VideoTrendingService)
+ */
+@Entity
+@Table(name = "VIDEO_LIKE_LEDGER_TABLE")
+@IdClass(VideoLikeLedger.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoLikeLedger {
+
+    @Id
+    @Column(name = "VIDEO_NO")
+    private Long videoNo;
+
+    @Id
+    @Column(name = "USER_NO")
+    private Long userNo;
+
+    @Column(name = "FIRST_LIKED_AT", nullable = false)
+    private LocalDateTime firstLikedAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long videoNo;
+        private Long userNo;
+    }
+}
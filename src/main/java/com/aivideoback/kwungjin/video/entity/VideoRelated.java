@@ -0,0 +1,52 @@
+// src/main/java/com/aivideoback/kwungjin/video/entity/VideoRelated.java
+package com.aivideoback.kwungjin.video.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 영상별 "관련 영상" 상위 K 목록 (영상당 최대 K 행, RANK_NO 1 부터).
+ *
+ * - VideoRelatedService 가 주기적으로 다시 계산해서 영상 단위로 바뀐 순위만 MERGE, 줄어든 순위는 삭제
+ * - 시청 화면은 (VIDEO_NO, RANK_NO) PK 범위 조회 한 번으로 읽는다
+ */
+@Entity
+@Table(name = "VIDEO_RELATED_TABLE")
+@IdClass(VideoRelated.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoRelated {
+
+    @Id
+    @Column(name = "VIDEO_NO")
+    private Long videoNo;
+
+    @Id
+    @Column(name = "RANK_NO")
+    private Integer rankNo;
+
+    @Column(name = "RELATED_VIDEO_NO", nullable = false)
+    private Long relatedVideoNo;
+
+    @Column(name = "SCORE", nullable = false)
+    private Double score;           // 공동 좋아요 코사인 + 태그 Jaccard 가중합
+
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long videoNo;
+        private Integer rankNo;
+    }
+}
@@ -0,0 +1,34 @@
+// src/main/java/com/aivideoback/kwungjin/video/entity/VideoTrending.java
+package com.aivideoback.kwungjin.video.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 영상별 트렌딩 점수 스냅샷 (영상당 한 행, VideoTrendingService 가 주기적으로 갱신).
+ *
+ * LOG_SCORE 는 고정 기준 시각 기준 forward decay 점수의 자연로그라서,
+ * 시간이 지나도 다시 계산할 필요 없이 값 그대로 내림차순 = 현재 트렌딩 순서.
+ * (LOG_SCORE 인덱스 하나로 최신순 목록과 같은 비용으로 정렬)
+ */
+@Entity
+@Table(name = "VIDEO_TRENDING_TABLE")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoTrending {
+
+    @Id
+    @Column(name = "VIDEO_NO")
+    private Long videoNo;
+
+    @Column(name = "LOG_SCORE", nullable = false)
+    private Double logScore;
+
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,34 @@
+// src/main/java/com/aivideoback/kwungjin/video/entity/VideoViewerSketch.java
+package com.aivideoback.kwungjin.video.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 영상별 고유 시청자 HyperLogLog 스케치 (영상당 한 행, 최대 수 KB).
+ */
+@Entity
+@Table(name = "VIDEO_VIEWER_SKETCH_TABLE")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoViewerSketch {
+
+    @Id
+    @Column(name = "VIDEO_NO")
+    private Long videoNo;
+
+    @Lob
+    @Column(name = "SKETCH", nullable = false)
+    private byte[] sketch;          // HyperLogLog.toBytes()
+
+    @Column(name = "UNIQUE_COUNT", nullable = false)
+    private Long uniqueCount;       // 저장 시점 추정값 (목록/통계 조회용)
+
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+}
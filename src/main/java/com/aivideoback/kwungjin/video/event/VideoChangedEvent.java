@@ -0,0 +1,24 @@
+// src/main/java/com/aivideoback/kwungjin/video/event/VideoChangedEvent.java
+package com.aivideoback.kwungjin.video.event;
+
+/**
+ * 영상 상태/메타데이터가 바뀌었을 때 발행하는 애플리케이션 이벤트.
+ *
+ * - 검색 인덱스, 캐시 등 "영상 목록을 메모리에 들고 있는" 컴포넌트들이 구독해서 갱신한다.
+ * - 트랜잭션 안에서 발행하고, 구독 측은 @TransactionalEventListener 로 커밋 이후에 처리한다.
+ */
+public record VideoChangedEvent(Long videoNo, Type type) {
+
+    public enum Type {
+        UPLOADED,          // 업로드 직후 (심사 대기)
+        APPROVED,          // 심사 승인 / 관리자 차단 해제
+        BLOCKED,           // 심사 보류 / 차단
+        DELETED,           // 영상 삭제
+        TAGS_CHANGED,      // 자동 태그 저장
+        METADATA_CHANGED   // 제목/설명 수정
+    }
+
+    public static VideoChangedEvent of(Long videoNo, Type type) {
+        return new VideoChangedEvent(videoNo, type);
+    }
+}
@@ -4,14 +4,17 @@ package com.aivideoback.kwungjin.video.repository;
 import com.aivideoback.kwungjin.video.entity.VideoFeature;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface VideoFeatureRepository extends JpaRepository<VideoFeature, Long> {
 
     List<VideoFeature> findByVideoNo(Long videoNo);
 
+    // 여러 영상의 feature 를 한 번에 (IN 절 1000개 제한 주의)
+    List<VideoFeature> findByVideoNoIn(Collection<Long> videoNos);
+
     void deleteByVideoNo(Long videoNo);
 
     void deleteByVideoNoAndSource(Long videoNo, String source);
-    boolean existsByVideoNoAndSource(Long videoNo, String source);
 }
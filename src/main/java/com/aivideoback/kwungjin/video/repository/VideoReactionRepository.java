@@ -2,7 +2,6 @@
 package com.aivideoback.kwungjin.video.repository;
 
 import com.aivideoback.kwungjin.video.entity.VideoReaction;
-import com.aivideoback.kwungjin.video.entity.VideoReaction.ReactionType;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -12,8 +11,8 @@ public interface VideoReactionRepository extends JpaRepository<VideoReaction, Lo
 
     Optional<VideoReaction> findByVideoNoAndUserNo(Long videoNo, Long userNo);
 
-    long countByVideoNoAndReactionType(Long videoNo, ReactionType reactionType);
-
     void deleteByVideoNo(Long videoNo);
-    List<VideoReaction> findByVideoNoInAndUserNo(List<Long> videoNos, Long userNo);
+
+    // 🔹 내 반응 비트맵 로드용 (사용자당 한 번)
+    List<VideoReaction> findByUserNo(Long userNo);
 }
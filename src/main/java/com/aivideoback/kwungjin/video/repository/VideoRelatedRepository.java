@@ -0,0 +1,12 @@
+// src/main/java/com/aivideoback/kwungjin/video/repository/VideoRelatedRepository.java
+package com.aivideoback.kwungjin.video.repository;
+
+import com.aivideoback.kwungjin.video.entity.VideoRelated;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface VideoRelatedRepository extends JpaRepository<VideoRelated, VideoRelated.Key> {
+
+    List<VideoRelated> findByVideoNoOrderByRankNoAsc(Long videoNo);
+}
@@ -18,13 +18,16 @@ public interface VideoRepository extends JpaRepository<Video, Long> {
     // 특정 유저가 올린 영상들을 업로드 날짜 기준 내림차순으로
     List<Video> findByUserNoOrderByUploadDateDesc(Long userNo);
 
-    // ✅ 공개용: 차단 X + 승인(A) + (옵션) 키워드 + (옵션) 태그 필터
+    // ✅ 공개용: 차단 X + 승인(A) + (옵션) 키워드 어간 최대 3개 AND + (옵션) 태그 필터
+    //    키워드는 KoreanAnalyzer 로 조사를 떼고 소문자로 접은 값 ("게임을" → "게임")
     @Query("""
         select v
         from Video v
         where v.isBlocked = 'N'
           and v.reviewStatus = 'A'
-          and (:keyword is null or lower(v.title) like lower(concat('%', :keyword, '%')))
+          and (:kw1 is null or lower(v.title) like concat('%', :kw1, '%'))
+          and (:kw2 is null or lower(v.title) like concat('%', :kw2, '%'))
+          and (:kw3 is null or lower(v.title) like concat('%', :kw3, '%'))
           and (
                :tagsEmpty = true
                or v.tag1 in :tags
@@ -36,37 +39,100 @@ public interface VideoRepository extends JpaRepository<Video, Long> {
         order by v.uploadDate desc
         """)
     Page<Video> searchPublicVideos(
-            @Param("keyword") String keyword,
+            @Param("kw1") String kw1,
+            @Param("kw2") String kw2,
+            @Param("kw3") String kw3,
             @Param("tags") List<String> tags,
             @Param("tagsEmpty") boolean tagsEmpty,
             Pageable pageable
     );
 
-    // 🔹 Finding 용: 차단 X + 승인(A) 인 최신 200개
-    List<Video> findTop200ByIsBlockedAndReviewStatusOrderByCreatedAtDesc(
-            String isBlocked,
-            String reviewStatus
+    // ✅ 공개용 트렌딩 정렬: 조건은 searchPublicVideos 와 같고, VIDEO_TRENDING_TABLE.LOG_SCORE 내림차순
+    //    (점수 없는 영상은 뒤에 최신순)
+    @Query(value = """
+        select v
+        from Video v
+        left join VideoTrending t on t.videoNo = v.videoNo
+        where v.isBlocked = 'N'
+          and v.reviewStatus = 'A'
+          and (:kw1 is null or lower(v.title) like concat('%', :kw1, '%'))
+          and (:kw2 is null or lower(v.title) like concat('%', :kw2, '%'))
+          and (:kw3 is null or lower(v.title) like concat('%', :kw3, '%'))
+          and (
+               :tagsEmpty = true
+               or v.tag1 in :tags
+               or v.tag2 in :tags
+               or v.tag3 in :tags
+               or v.tag4 in :tags
+               or v.tag5 in :tags
+          )
+        order by t.logScore desc nulls last, v.uploadDate desc
+        """,
+            countQuery = """
+        select count(v)
+        from Video v
+        where v.isBlocked = 'N'
+          and v.reviewStatus = 'A'
+          and (:kw1 is null or lower(v.title) like concat('%', :kw1, '%'))
+          and (:kw2 is null or lower(v.title) like concat('%', :kw2, '%'))
+          and (:kw3 is null or lower(v.title) like concat('%', :kw3, '%'))
+          and (
+               :tagsEmpty = true
+               or v.tag1 in :tags
+               or v.tag2 in :tags
+               or v.tag3 in :tags
+               or v.tag4 in :tags
+               or v.tag5 in :tags
+          )
+        """)
+    Page<Video> searchPublicVideosTrending(
+            @Param("kw1") String kw1,
+            @Param("kw2") String kw2,
+            @Param("kw3") String kw3,
+            @Param("tags") List<String> tags,
+            @Param("tagsEmpty") boolean tagsEmpty,
+            Pageable pageable
     );
 
-    // 🔹 홈 요약용: 공개(차단 X + 승인 A) 영상 개수
-    long countByIsBlockedAndReviewStatus(String isBlocked, String reviewStatus);
+    // 🔹 조회수 카운터용: 엔티티 전체 대신 VIEW_COUNT 만
+    @Query("select v.viewCount from Video v where v.videoNo = :videoNo")
+    Optional<Long> findViewCountByVideoNo(@Param("videoNo") Long videoNo);
 
-    // 🔹 공개된 영상 중 좋아요 1위
-    Optional<Video> findFirstByIsBlockedAndReviewStatusOrderByLikeCountDesc(
-            String isBlocked,
-            String reviewStatus
+    // 🔹 데스크탑 워커용: 승인된 영상 중 해당 SOURCE 의 feature 가 아직 없는 것 (최신순)
+    @Query("""
+        select v
+        from Video v
+        where v.isBlocked = 'N'
+          and v.reviewStatus = 'A'
+          and not exists (
+               select 1
+               from VideoFeature f
+               where f.videoNo = v.videoNo
+                 and f.source = :source
+          )
+        order by v.createdAt desc
+        """)
+    List<Video> findApprovedWithoutFeatureSource(
+            @Param("source") String source,
+            Pageable pageable
     );
 
-    // 🔹 공개된 영상 중 조회수 1위
-    Optional<Video> findFirstByIsBlockedAndReviewStatusOrderByViewCountDesc(
+    // 🔹 인덱스 구축용: 공개 영상을 videoNo 오름차순으로 커서(keyset) 페이징
+    List<Video> findByIsBlockedAndReviewStatusAndVideoNoGreaterThanOrderByVideoNoAsc(
             String isBlocked,
-            String reviewStatus
+            String reviewStatus,
+            Long videoNo,
+            Pageable pageable
     );
 
-    // 🔹 공개된 영상 중 싫어요 1위
-    Optional<Video> findFirstByIsBlockedAndReviewStatusOrderByDislikeCountDesc(
+    // 🔹 홈 요약용: 공개(차단 X + 승인 A) 영상 개수
+    long countByIsBlockedAndReviewStatus(String isBlocked, String reviewStatus);
+
+    // 🔹 홈 리더보드용: 공개된 영상 상위 N (정렬 기준은 Pageable 의 Sort 로 - likeCount / viewCount / dislikeCount)
+    List<Video> findByIsBlockedAndReviewStatus(
             String isBlocked,
-            String reviewStatus
+            String reviewStatus,
+            Pageable pageable
     );
 
     List<Video> findByIsBlocked(String isBlocked);
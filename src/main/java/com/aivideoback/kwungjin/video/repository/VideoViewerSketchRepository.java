@@ -0,0 +1,19 @@
+// src/main/java/com/aivideoback/kwungjin/video/repository/VideoViewerSketchRepository.java
+package com.aivideoback.kwungjin.video.repository;
+
+import com.aivideoback.kwungjin.video.entity.VideoViewerSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface VideoViewerSketchRepository extends JpaRepository<VideoViewerSketch, Long> {
+
+    // flush 할 때 다른 인스턴스의 레지스터와 합치기 전에 행을 잠근다 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from VideoViewerSketch s where s.videoNo = :videoNo")
+    Optional<VideoViewerSketch> findForUpdate(@Param("videoNo") Long videoNo);
+}
@@ -0,0 +1,127 @@
+// src/main/java/com/aivideoback/kwungjin/video/service/ForYouRanker.java
+package com.aivideoback.kwungjin.video.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * sort=for_you 재정렬 + 사용자별 결과 캐시.
+ *
+ * - 후보: 같은 조건의 최신순 상위 window 개 (VideoService 가 넘겨줌)
+ * - 점수: 사용자 태그 선호도 · 영상 태그 벡터(태그마다 1/sqrt(n))
+ * - 다양성: 한 개씩 고르면서, 이미 고른 영상과 겹치는 태그 수만큼 diversity 를 빼서
+ *   같은 태그 영상이 위쪽에 몰리지 않게 한다 (window 200 기준 수만 번 연산, 전부 primitive 배열)
+ * - 결과(videoNo 순서)는 (사용자, 키워드, 태그) 별로 ttl-ms 동안 캐시, 사용자가 반응을 바꾸면 그 사용자 것만 비움
+ */
+@Component
+public class ForYouRanker {
+
+    public record Key(String keyword, List<String> tags) {
+    }
+
+    private record Entry(long expiresAt, long[] videoNos) {
+    }
+
+    private static final int MAX_FILTERS_PER_USER = 8;
+
+    private final int window;
+    private final double diversity;
+    private final long ttlMs;
+    private final Map<Long, Map<Key, Entry>> cache;
+
+    public ForYouRanker(@Value("${app.video.for-you.window:200}") int window,
+                        @Value("${app.video.for-you.diversity:0.3}") double diversity,
+                        @Value("${app.video.for-you.ttl-ms:60000}") long ttlMs,
+                        @Value("${app.video.for-you.max-users:5000}") int maxUsers) {
+        this.window = window;
+        this.diversity = diversity;
+        this.ttlMs = ttlMs;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Map<Key, Entry>> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /** 재정렬 후보 수 */
+    public int window() {
+        return window;
+    }
+
+    public long[] cached(Long userNo, Key key) {
+        Entry entry;
+        synchronized (cache) {
+            Map<Key, Entry> byFilter = cache.get(userNo);
+            entry = byFilter == null ? null : byFilter.get(key);
+        }
+        if (entry == null || entry.expiresAt() < System.currentTimeMillis()) {
+            return null;
+        }
+        return entry.videoNos();
+    }
+
+    public void put(Long userNo, Key key, long[] videoNos) {
+        Entry entry = new Entry(System.currentTimeMillis() + ttlMs, videoNos);
+        synchronized (cache) {
+            Map<Key, Entry> byFilter = cache.computeIfAbsent(userNo, k -> new LinkedHashMap<>(4, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                    return size() > MAX_FILTERS_PER_USER;
+                }
+            });
+            byFilter.put(key, entry);
+        }
+    }
+
+    public void evictUser(Long userNo) {
+        synchronized (cache) {
+            cache.remove(userNo);
+        }
+    }
+
+    /**
+     * weights: 사용자 선호도 (태그 id 인덱스), candidateTags[i]: 후보 i 의 태그 id
+     * 반환: 후보 인덱스를 새 순서로 (동점이면 원래 순서 = 최신순)
+     */
+    public int[] rank(float[] weights, int[][] candidateTags) {
+        int n = candidateTags.length;
+        double[] base = new double[n];
+        int maxTag = -1;
+        for (int i = 0; i < n; i++) {
+            int[] ids = candidateTags[i];
+            double sum = 0.0;
+            for (int id : ids) {
+                if (id < weights.length) sum += weights[id];
+                if (id > maxTag) maxTag = id;
+            }
+            base[i] = ids.length == 0 ? 0.0 : sum / Math.sqrt(ids.length);
+        }
+
+        int[] seen = new int[maxTag + 1];   // 태그별로 이미 고른 영상 수
+        boolean[] taken = new boolean[n];
+        int[] order = new int[n];
+
+        for (int pos = 0; pos < n; pos++) {
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                if (taken[i]) continue;
+                int[] ids = candidateTags[i];
+                int overlap = 0;
+                for (int id : ids) overlap += seen[id];
+                double score = base[i] - (ids.length == 0 ? 0.0 : diversity * overlap / Math.sqrt(ids.length));
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            taken[best] = true;
+            order[pos] = best;
+            for (int id : candidateTags[best]) seen[id]++;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,457 @@
+// src/main/java/com/aivideoback/kwungjin/video/service/HomeLeaderboard.java
+package com.aivideoback.kwungjin.video.service;
+
+import com.aivideoback.kwungjin.video.dto.HomeSummaryResponse;
+import com.aivideoback.kwungjin.video.dto.HomeSummaryResponse.SimpleVideoDto;
+import com.aivideoback.kwungjin.video.entity.Video;
+import com.aivideoback.kwungjin.video.event.VideoChangedEvent;
+import com.aivideoback.kwungjin.video.repository.VideoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * 홈 화면 요약(공개 영상 수 + 좋아요/조회수/싫어요 상위 N) 인메모리 리더보드.
+ *
+ * - 지표별로 상위 size*2 개까지 크기 제한 최소 힙으로 유지 (여유분은 삭제/차단으로 빠질 때 대비)
+ * - 밖에 있는 영상은 락 없이 커트라인(힙 최솟값)과만 비교해서 바로 돌려보낸다
+ * - 커트라인을 넘은 새 영상은 후보로만 적어 두고, 메타 로드는 주기 작업(flush-ms)에서 일괄로 (조회 요청 스레드에서 DB 조회 X)
+ * - 스냅샷은 멤버 구성이나 상위 N 순서가 바뀔 때만 즉시 다시 만들고, 숫자만 바뀐 경우는 flush-ms 주기로 반영
+ * - 승인/차단/삭제 이벤트와 주기 작업(reconcile-ms)으로 DB 기준 재계산
+ * - 조회는 미리 만들어 둔 스냅샷만 읽는다 (DB 왕복 없음)
+ */
+@Slf4j
+@Component
+public class HomeLeaderboard {
+
+    private final VideoRepository videoRepository;
+    private final VideoViewCounter videoViewCounter;
+    private final int size;
+    private final int keep;
+
+    private final Object lock = new Object();
+    // 쓰기는 lock 안에서만, 읽기는 멤버 여부 확인용으로 락 없이
+    private final Map<Long, Entry> members = new ConcurrentHashMap<>();
+    // 아래 필드는 lock 보호
+    private final Board likes;
+    private final Board views;
+    private final Board dislikes;
+    private final List<Board> boards;
+    private long totalCount;
+    private boolean dirty;   // 숫자만 바뀌고 아직 스냅샷에 안 들어간 상태
+
+    // 커트라인을 넘었지만 아직 메타를 못 읽은 영상 → 그 사이 들어온 최신 숫자
+    private final Map<Long, Pending> candidates = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot;
+
+    public HomeLeaderboard(VideoRepository videoRepository,
+                           VideoViewCounter videoViewCounter,
+                           @Value("${app.video.leaderboard.size:10}") int size) {
+        this.videoRepository = videoRepository;
+        this.videoViewCounter = videoViewCounter;
+        this.size = size;
+        this.keep = size * 2;
+        this.likes = new Board(e -> e.likes, keep);
+        this.views = new Board(e -> e.views, keep);
+        this.dislikes = new Board(e -> e.dislikes, keep);
+        this.boards = List.of(likes, views, dislikes);
+    }
+
+    /** top: 지표별로 돌려줄 개수 (1 ~ size) */
+    public HomeSummaryResponse summary(int top) {
+        if (top < 1 || top > size) {
+            throw new IllegalArgumentException("top 은 1 ~ " + size + " 사이여야 합니다: " + top);
+        }
+        Snapshot s = snapshot;
+        if (s == null) {
+            reconcile();   // 기동 직후 첫 요청
+            s = snapshot;
+        }
+
+        return HomeSummaryResponse.builder()
+                .totalCount(s.totalCount())
+                .topLiked(first(s.likes()))
+                .topViewed(first(s.views()))
+                .topDisliked(first(s.dislikes()))
+                .topLikedList(head(s.likes(), top))
+                .topViewedList(head(s.views(), top))
+                .topDislikedList(head(s.dislikes(), top))
+                .build();
+    }
+
+    /** 조회수 변경 (VideoViewCounter 근사값) */
+    public void onViews(Long videoNo, long viewCount) {
+        Entry member = members.get(videoNo);
+        if (member == null) {
+            if (views.qualifies(viewCount)) {
+                candidates.computeIfAbsent(videoNo, k -> new Pending()).views(viewCount);
+            }
+            return;
+        }
+        synchronized (lock) {
+            if (members.get(videoNo) != member) return;   // 그 사이 밀려남 (다음 조회 때 다시 후보)
+            member.views = Math.max(member.views, viewCount);
+            reofferLocked(member);
+        }
+    }
+
+    /** 좋아요/싫어요 변경 (커밋 이후 호출) */
+    public void onReaction(Long videoNo, long likeCount, long dislikeCount) {
+        Entry member = members.get(videoNo);
+        if (member == null) {
+            if (likes.qualifies(likeCount) || dislikes.qualifies(dislikeCount)) {
+                candidates.computeIfAbsent(videoNo, k -> new Pending()).reaction(likeCount, dislikeCount);
+            }
+            return;
+        }
+        synchronized (lock) {
+            if (members.get(videoNo) != member) return;
+            member.likes = likeCount;
+            member.dislikes = dislikeCount;
+            reofferLocked(member);
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.video.leaderboard.reconcile-ms:60000}",
+            initialDelayString = "${app.video.leaderboard.reconcile-ms:60000}"
+    )
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /** 후보 영상 메타를 한 번에 읽어 편입하고, 숫자만 바뀐 게 있으면 스냅샷 갱신 */
+    @Scheduled(
+            fixedDelayString = "${app.video.leaderboard.flush-ms:1000}",
+            initialDelayString = "${app.video.leaderboard.flush-ms:1000}"
+    )
+    public void flush() {
+        try {
+            Map<Long, Pending> drained = new HashMap<>();
+            for (Long videoNo : new ArrayList<>(candidates.keySet())) {
+                Pending p = candidates.remove(videoNo);
+                if (p != null) drained.put(videoNo, p);
+            }
+
+            List<Entry> loaded = new ArrayList<>();
+            if (!drained.isEmpty()) {
+                // 공개 영상만
+                for (Video v : videoRepository.findAllById(drained.keySet())) {
+                    if (!"N".equals(v.getIsBlocked()) || !"A".equals(v.getReviewStatus())) continue;
+                    Entry e = toEntry(v);
+                    drained.get(v.getVideoNo()).applyTo(e);
+                    loaded.add(e);
+                }
+            }
+
+            synchronized (lock) {
+                for (Entry e : loaded) {
+                    Entry current = members.get(e.videoNo);
+                    if (current != null) {
+                        // 그 사이 reconcile 로 이미 들어와 있음 → 숫자만 반영
+                        current.views = Math.max(current.views, e.views);
+                        current.likes = e.likes;
+                        current.dislikes = e.dislikes;
+                        reofferLocked(current);
+                    } else {
+                        members.put(e.videoNo, e);
+                        reofferLocked(e);
+                    }
+                }
+                if (dirty) publishLocked();
+            }
+        } catch (Exception e) {
+            log.warn("홈 리더보드 후보 반영 실패", e);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        switch (event.type()) {
+            case APPROVED, BLOCKED, DELETED -> reconcile();
+            case METADATA_CHANGED -> {
+                if (members.containsKey(event.videoNo())) reconcile();
+            }
+            default -> {
+                // UPLOADED / TAGS_CHANGED: 홈 요약과 무관
+            }
+        }
+    }
+
+    /** DB 기준으로 개수 + 지표별 상위 keep 개를 다시 읽어서 통째로 교체 */
+    public void reconcile() {
+        try {
+            long total = videoRepository.countByIsBlockedAndReviewStatus("N", "A");
+            List<Video> byLikes = topFromDb("likeCount");
+            List<Video> byViews = topFromDb("viewCount");
+            List<Video> byDislikes = topFromDb("dislikeCount");
+
+            synchronized (lock) {
+                members.clear();
+                for (Board board : boards) board.clear();
+                totalCount = total;
+
+                Map<Long, Entry> fresh = new HashMap<>();
+                for (List<Video> list : List.of(byLikes, byViews, byDislikes)) {
+                    for (Video v : list) {
+                        fresh.computeIfAbsent(v.getVideoNo(), k -> toEntry(v));
+                    }
+                }
+                for (Entry e : fresh.values()) {
+                    boolean kept = false;
+                    for (Board board : boards) {
+                        kept |= board.offer(e) != Board.Outcome.REJECTED;
+                    }
+                    if (kept) members.put(e.videoNo, e);
+                }
+                for (Board board : boards) {
+                    for (Entry d : board.drainEvicted()) {
+                        if (!inAnyBoard(d)) members.remove(d.videoNo);
+                    }
+                }
+                publishLocked();
+            }
+        } catch (Exception e) {
+            log.warn("홈 리더보드 재계산 실패", e);
+        }
+    }
+
+    /* ---------- 내부 ---------- */
+
+    /** 숫자가 바뀐 멤버를 각 보드에 다시 넣고, 구성/순서가 바뀌면 즉시 스냅샷 교체 */
+    private void reofferLocked(Entry e) {
+        boolean changed = false;
+        for (Board board : boards) {
+            Board.Outcome outcome = board.offer(e);
+            if (outcome == Board.Outcome.ADDED) changed = true;
+            for (Entry d : board.drainEvicted()) {
+                changed = true;
+                if (!inAnyBoard(d)) members.remove(d.videoNo);
+            }
+            if (!changed && board.rankChanged(e, size)) changed = true;
+        }
+        if (!inAnyBoard(e)) members.remove(e.videoNo);
+
+        if (changed) {
+            publishLocked();
+        } else {
+            dirty = true;
+        }
+    }
+
+    private boolean inAnyBoard(Entry e) {
+        return likes.contains(e) || views.contains(e) || dislikes.contains(e);
+    }
+
+    private void publishLocked() {
+        snapshot = new Snapshot(totalCount, likes.publish(size), views.publish(size), dislikes.publish(size));
+        dirty = false;
+    }
+
+    private List<Video> topFromDb(String property) {
+        return videoRepository.findByIsBlockedAndReviewStatus(
+                "N", "A", PageRequest.of(0, keep, Sort.by(Sort.Direction.DESC, property)));
+    }
+
+    private Entry toEntry(Video v) {
+        Entry e = new Entry(v.getVideoNo(), toSimpleDto(v));
+        e.likes = Optional.ofNullable(v.getLikeCount()).orElse(0L);
+        e.dislikes = Optional.ofNullable(v.getDislikeCount()).orElse(0L);
+        // 조회수는 아직 DB 에 안 쓴 증가분까지
+        e.views = Optional.ofNullable(v.getViewCount()).orElse(0L) + videoViewCounter.pendingCount(v.getVideoNo());
+        return e;
+    }
+
+    private static SimpleVideoDto toSimpleDto(Video v) {
+        List<String> tags = new ArrayList<>();
+        if (v.getTag1() != null && !v.getTag1().isBlank()) tags.add(v.getTag1());
+        if (v.getTag2() != null && !v.getTag2().isBlank()) tags.add(v.getTag2());
+        if (v.getTag3() != null && !v.getTag3().isBlank()) tags.add(v.getTag3());
+        if (v.getTag4() != null && !v.getTag4().isBlank()) tags.add(v.getTag4());
+        if (v.getTag5() != null && !v.getTag5().isBlank()) tags.add(v.getTag5());
+
+        return SimpleVideoDto.builder()
+                .videoNo(v.getVideoNo())
+                .title(v.getTitle())
+                .description(v.getDescription())
+                .thumbnailUrl(null)
+                .videoUrl(null)
+                .uploaderNickname(null)
+                .createdAt(v.getCreatedAt())
+                .tags(tags)
+                .build();
+    }
+
+    private static SimpleVideoDto first(List<SimpleVideoDto> list) {
+        return list.isEmpty() ? null : list.get(0);
+    }
+
+    private static List<SimpleVideoDto> head(List<SimpleVideoDto> list, int n) {
+        return list.size() <= n ? list : list.subList(0, n);
+    }
+
+    private record Snapshot(long totalCount,
+                            List<SimpleVideoDto> likes,
+                            List<SimpleVideoDto> views,
+                            List<SimpleVideoDto> dislikes) {
+    }
+
+    /** 메타 로드 전 후보의 최신 숫자 (-1 = 아직 모름) */
+    private static final class Pending {
+        private long views = -1;
+        private long likes = -1;
+        private long dislikes = -1;
+
+        synchronized void views(long viewCount) {
+            views = Math.max(views, viewCount);
+        }
+
+        synchronized void reaction(long likeCount, long dislikeCount) {
+            likes = likeCount;
+            dislikes = dislikeCount;
+        }
+
+        synchronized void applyTo(Entry e) {
+            if (views >= 0) e.views = Math.max(e.views, views);
+            if (likes >= 0) e.likes = likes;
+            if (dislikes >= 0) e.dislikes = dislikes;
+        }
+    }
+
+    private static final class Entry {
+        final long videoNo;
+        final SimpleVideoDto meta;   // 숫자는 아래 필드가 기준
+        long likes;
+        long views;
+        long dislikes;
+
+        Entry(long videoNo, SimpleVideoDto meta) {
+            this.videoNo = videoNo;
+            this.meta = meta;
+        }
+
+        SimpleVideoDto toDto() {
+            return SimpleVideoDto.builder()
+                    .videoNo(meta.getVideoNo())
+                    .title(meta.getTitle())
+                    .description(meta.getDescription())
+                    .thumbnailUrl(meta.getThumbnailUrl())
+                    .videoUrl(meta.getVideoUrl())
+                    .likeCount(likes)
+                    .dislikeCount(dislikes)
+                    .viewCount(views)
+                    .uploaderNickname(meta.getUploaderNickname())
+                    .createdAt(meta.getCreatedAt())
+                    .tags(meta.getTags())
+                    .build();
+        }
+    }
+
+    /**
+     * 지표 하나의 상위 keep 개 (내림차순, 동점이면 최신 videoNo 먼저).
+     * 힙 머리가 가장 약한 항목이라 커트라인 비교/교체가 O(log keep), 정렬은 스냅샷 만들 때만.
+     */
+    private static final class Board {
+        enum Outcome { ADDED, UPDATED, REJECTED }
+
+        final ToLongFunction<Entry> metric;
+        final int keep;
+        final Comparator<Entry> order;
+        final PriorityQueue<Entry> heap;
+        final List<Entry> evicted = new ArrayList<>();
+        List<Entry> ranked = List.of();   // 마지막 스냅샷의 상위 size 순서
+        volatile long cutoff = -1;        // 꽉 찼을 때 힙 최솟값, 아니면 -1 (락 없이 읽음)
+
+        Board(ToLongFunction<Entry> metric, int keep) {
+            this.metric = metric;
+            this.keep = keep;
+            this.order = Comparator.comparingLong(metric).reversed()
+                    .thenComparing(Comparator.comparingLong((Entry e) -> e.videoNo).reversed());
+            this.heap = new PriorityQueue<>(keep + 1, order.reversed());
+        }
+
+        boolean qualifies(long value) {
+            return value > cutoff;
+        }
+
+        boolean contains(Entry e) {
+            return heap.contains(e);
+        }
+
+        /** 이미 있으면 숫자가 바뀐 자리로 다시 넣고, 없으면 커트라인을 넘을 때만 편입 (밀려난 항목은 evicted 에) */
+        Outcome offer(Entry e) {
+            Outcome outcome;
+            if (heap.remove(e)) {
+                heap.add(e);
+                outcome = Outcome.UPDATED;
+            } else if (heap.size() < keep) {
+                heap.add(e);
+                outcome = Outcome.ADDED;
+            } else if (order.compare(e, heap.peek()) < 0) {
+                evicted.add(heap.poll());
+                heap.add(e);
+                outcome = Outcome.ADDED;
+            } else {
+                outcome = Outcome.REJECTED;
+            }
+            cutoff = heap.size() < keep ? -1 : metric.applyAsLong(heap.peek());
+            return outcome;
+        }
+
+        List<Entry> drainEvicted() {
+            if (evicted.isEmpty()) return List.of();
+            List<Entry> out = new ArrayList<>(evicted);
+            evicted.clear();
+            return out;
+        }
+
+        /** 마지막 스냅샷의 상위 n 안에서 e 의 자리가 바뀌었는지 (이웃과만 비교) */
+        boolean rankChanged(Entry e, int n) {
+            if (!heap.contains(e)) return ranked.contains(e);
+            int idx = ranked.indexOf(e);
+            if (idx < 0) {
+                return ranked.size() < n || order.compare(e, ranked.get(ranked.size() - 1)) < 0;
+            }
+            return (idx > 0 && order.compare(e, ranked.get(idx - 1)) < 0)
+                    || (idx + 1 < ranked.size() && order.compare(e, ranked.get(idx + 1)) > 0);
+        }
+
+        void clear() {
+            heap.clear();
+            evicted.clear();
+            ranked = List.of();
+            cutoff = -1;
+        }
+
+        List<SimpleVideoDto> publish(int n) {
+            List<Entry> sorted = new ArrayList<>(heap);
+            sorted.sort(order);
+            ranked = List.copyOf(sorted.subList(0, Math.min(n, sorted.size())));
+
+            List<SimpleVideoDto> out = new ArrayList<>(ranked.size());
+            for (Entry e : ranked) {
+                out.add(e.toDto());
+            }
+            return List.copyOf(out);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+// src/main/java/com/aivideoback/kwungjin/video/service/UserTagAffinity.java
+package com.aivideoback.kwungjin.video.service;
+
+import com.aivideoback.kwungjin.finding.analyzer.KoreanAnalyzer;
+import com.aivideoback.kwungjin.video.dto.VideoSummaryDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 사용자별 태그 선호도 벡터 (sort=for_you 정렬용).
+ *
+ * - 태그는 KoreanAnalyzer.normalize 한 문자열을 int id 로 바꿔서, 선호도는 id 를 인덱스로 하는 float 배열
+ *   (normalize 결과는 어휘가 늘면 바뀌므로 원문 태그 → id 를 처음 본 그대로 고정해서 같은 태그가 다른 id 로 가지 않게 함)
+ * - 처음 볼 때 한 번 DB 에서 좋아요(+like-weight) / 싫어요(dislike-weight, 음수) 를 읽어 만들고,
+ *   이후 토글(증감분)과 시청(+view-weight)은 메모리에서 바로 더함 (시청은 저장하지 않음)
+ * - 사용자 수는 LRU 로 제한 (max-users), 토글 반영에 필요한 영상 태그도 작은 LRU 로 보관
+ * - 영상 태그는 태그 LRU → 목록 DTO 캐시(VideoListingCache) 순으로 찾고, 둘 다 없으면 요청 스레드에서
+ *   DB 를 읽지 않고 증감분을 모아 두었다가 loadPending 이 IN 조회 한 번으로 태그를 읽어 반영
+ *   (대기 중인 증감분은 max-pending 개까지, 넘치면 버림 - 선호도는 근사치라 괜찮음)
+ */
+@Slf4j
+@Component
+public class UserTagAffinity {
+
+    private static final String PROFILE_SQL = """
+            SELECT r.REACTION_TYPE, v.TAG1, v.TAG2, v.TAG3, v.TAG4, v.TAG5
+              FROM VIDEO_REACTION_TABLE r
+              JOIN VIDEO_TABLE v ON v.VIDEO_NO = r.VIDEO_NO
+             WHERE r.USER_NO = ?
+            """;
+
+    private static final String VIDEO_TAGS_SQL =
+            "SELECT VIDEO_NO, TAG1, TAG2, TAG3, TAG4, TAG5 FROM VIDEO_TABLE WHERE VIDEO_NO IN (%s)";
+
+    private static final int TAG_LOAD_CHUNK = 500;
+
+    private record PendingDelta(Profile profile, float delta) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KoreanAnalyzer koreanAnalyzer;
+    private final VideoListingCache videoListingCache;
+    private final float likeWeight;
+    private final float dislikeWeight;
+    private final float viewWeight;
+    private final int maxPending;
+
+    private final ConcurrentHashMap<String, Integer> tagIds = new ConcurrentHashMap<>();      // normalize 결과 → id
+    private final ConcurrentHashMap<String, Integer> rawTagIds = new ConcurrentHashMap<>();   // 원문 태그 → id (고정)
+    private final AtomicInteger nextTagId = new AtomicInteger();
+    private final Map<Long, Profile> users;
+    private final Map<Long, int[]> videoTags;
+
+    // 태그를 아직 모르는 영상의 증감분 (pending 락 보호)
+    private final Map<Long, List<PendingDelta>> pending = new HashMap<>();
+    private int pendingCount;
+
+    public UserTagAffinity(JdbcTemplate jdbcTemplate,
+                           KoreanAnalyzer koreanAnalyzer,
+                           VideoListingCache videoListingCache,
+                           @Value("${app.video.for-you.like-weight:1.0}") float likeWeight,
+                           @Value("${app.video.for-you.dislike-weight:-1.0}") float dislikeWeight,
+                           @Value("${app.video.for-you.view-weight:0.2}") float viewWeight,
+                           @Value("${app.video.for-you.max-users:5000}") int maxUsers,
+                           @Value("${app.video.for-you.max-pending:10000}") int maxPending) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.koreanAnalyzer = koreanAnalyzer;
+        this.videoListingCache = videoListingCache;
+        this.likeWeight = likeWeight;
+        this.dislikeWeight = dislikeWeight;
+        this.viewWeight = viewWeight;
+        this.maxPending = maxPending;
+        this.users = lru(maxUsers);
+        this.videoTags = lru(maxUsers * 4);
+    }
+
+    /** 영상 DTO 의 태그 → 태그 id 배열 (중복 제거) */
+    public int[] tagIds(VideoSummaryDto dto) {
+        return tagIds(dto.getTag1(), dto.getTag2(), dto.getTag3(), dto.getTag4(), dto.getTag5());
+    }
+
+    /** 사용자 선호도 (없으면 DB 에서 로드) */
+    public Profile profile(Long userNo) {
+        Profile profile;
+        boolean created = false;
+        synchronized (users) {
+            profile = users.get(userNo);
+            if (profile == null) {
+                profile = new Profile();
+                users.put(userNo, profile);
+                created = true;
+            }
+        }
+
+        // 엔트리를 먼저 넣고 잠근 채 로드 → 로드 중에 커밋된 토글은 로드가 끝난 뒤 더해진다
+        synchronized (profile) {
+            if (!profile.loaded) {
+                try {
+                    load(userNo, profile);
+                } catch (RuntimeException e) {
+                    if (created) {
+                        synchronized (users) {
+                            users.remove(userNo, profile);
+                        }
+                    }
+                    throw e;
+                }
+            }
+        }
+        return profile;
+    }
+
+    /** 토글 증감분 반영 (커밋 이후). 캐시에 없는 사용자는 다음 로드 때 DB 에서 읽으므로 무시 */
+    public void onReaction(Long userNo, Long videoNo, long likeDelta, long dislikeDelta) {
+        float delta = likeDelta * likeWeight + dislikeDelta * dislikeWeight;
+        if (delta != 0f) {
+            addToLoaded(userNo, videoNo, delta);
+        }
+    }
+
+    /** 로그인 사용자의 시청 한 번 */
+    public void onView(Long userNo, Long videoNo) {
+        if (userNo == null) return;
+        addToLoaded(userNo, videoNo, viewWeight);
+    }
+
+    /** 태그를 몰라서 미뤄 둔 증감분을 영상 태그를 한 번에 읽어 반영 */
+    @Scheduled(
+            fixedDelayString = "${app.video.for-you.tag-load-ms:500}",
+            initialDelayString = "${app.video.for-you.tag-load-ms:500}"
+    )
+    public void loadPending() {
+        Map<Long, List<PendingDelta>> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) return;
+            batch = new HashMap<>(pending);
+            pending.clear();
+            pendingCount = 0;
+        }
+
+        List<Long> videoNos = new ArrayList<>(batch.keySet());
+        for (int from = 0; from < videoNos.size(); from += TAG_LOAD_CHUNK) {
+            List<Long> chunk = videoNos.subList(from, Math.min(videoNos.size(), from + TAG_LOAD_CHUNK));
+            Map<Long, int[]> loaded = new HashMap<>();
+            try {
+                jdbcTemplate.query(
+                        String.format(VIDEO_TAGS_SQL, String.join(",", Collections.nCopies(chunk.size(), "?"))),
+                        rs -> {
+                            loaded.put(rs.getLong(1), tagIds(rs.getString(2), rs.getString(3),
+                                    rs.getString(4), rs.getString(5), rs.getString(6)));
+                        },
+                        chunk.toArray());
+            } catch (RuntimeException e) {
+                log.warn("태그 선호도 반영용 영상 태그 조회 실패 videos={}", chunk.size(), e);
+                continue;
+            }
+
+            for (Long videoNo : chunk) {
+                int[] ids = loaded.getOrDefault(videoNo, new int[0]);
+                synchronized (videoTags) {
+                    videoTags.put(videoNo, ids);
+                }
+                for (PendingDelta d : batch.get(videoNo)) {
+                    apply(d.profile(), ids, d.delta());
+                }
+            }
+        }
+    }
+
+    /* ---------- 내부 ---------- */
+
+    private void addToLoaded(Long userNo, Long videoNo, float delta) {
+        Profile profile;
+        synchronized (users) {
+            profile = users.get(userNo);
+        }
+        if (profile == null) return;
+
+        int[] ids = cachedTags(videoNo);
+        if (ids != null) {
+            apply(profile, ids, delta);
+            return;
+        }
+        synchronized (pending) {
+            if (pendingCount >= maxPending) return;
+            pending.computeIfAbsent(videoNo, k -> new ArrayList<>()).add(new PendingDelta(profile, delta));
+            pendingCount++;
+        }
+    }
+
+    private static void apply(Profile profile, int[] ids, float delta) {
+        synchronized (profile) {
+            if (profile.loaded) profile.add(ids, delta);
+        }
+    }
+
+    private void load(Long userNo, Profile profile) {
+        jdbcTemplate.query(PROFILE_SQL, rs -> {
+            float w = "LIKE".equals(rs.getString(1)) ? likeWeight : dislikeWeight;
+            profile.add(tagIds(rs.getString(2), rs.getString(3), rs.getString(4),
+                    rs.getString(5), rs.getString(6)), w);
+        }, userNo);
+        profile.loaded = true;
+    }
+
+    /** 메모리에서만 찾는 영상 태그 (태그 LRU → 목록 DTO 캐시). 둘 다 없으면 null */
+    private int[] cachedTags(Long videoNo) {
+        synchronized (videoTags) {
+            int[] cached = videoTags.get(videoNo);
+            if (cached != null) return cached;
+        }
+        VideoSummaryDto dto = videoListingCache.getVideos(List.of(videoNo)).get(videoNo);
+        if (dto == null) return null;
+
+        int[] ids = tagIds(dto);
+        synchronized (videoTags) {
+            videoTags.put(videoNo, ids);
+        }
+        return ids;
+    }
+
+    private int[] tagIds(String... tags) {
+        int[] ids = new int[tags.length];
+        int n = 0;
+        for (String raw : tags) {
+            if (raw == null || raw.isBlank()) continue;
+            Integer id = rawTagIds.get(raw);
+            if (id == null) {
+                String norm = koreanAnalyzer.normalize(raw);
+                if (norm.isEmpty()) continue;
+                id = rawTagIds.computeIfAbsent(raw,
+                        r -> tagIds.computeIfAbsent(norm, k -> nextTagId.getAndIncrement()));
+            }
+            boolean dup = false;
+            for (int i = 0; i < n; i++) {
+                if (ids[i] == id) {
+                    dup = true;
+                    break;
+                }
+            }
+            if (!dup) ids[n++] = id;
+        }
+        return Arrays.copyOf(ids, n);
+    }
+
+    private static <K, V> Map<K, V> lru(int max) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > max;
+            }
+        };
+    }
+
+    /** 태그 id → 선호도 (float 배열, 필요할 때만 늘림) */
+    public static final class Profile {
+        private float[] weights = new float[0];
+        private boolean nonZero;
+        private boolean loaded;
+
+        public synchronized boolean isEmpty() {
+            return !nonZero;
+        }
+
+        /** 채점용 복사본 (채점 중에는 잠그지 않도록) */
+        public synchronized float[] weights() {
+            return weights.clone();
+        }
+
+        private void add(int[] ids, float w) {
+            for (int id : ids) {
+                if (id >= weights.length) {
+                    weights = Arrays.copyOf(weights, Math.max(id + 1, weights.length * 2));
+                }
+                weights[id] += w;
+                nonZero = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+// src/main/java/com/aivideoback/kwungjin/video/service/VideoCounterShards.java
+package com.aivideoback.kwungjin.video.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인기 영상 반응 카운터 샤딩 관리.
+ *
+ * - 영상별 반응 빈도를 window 단위로 세서, 초당 promote-per-sec 이상이면 샤드 모드로 승격
+ *   (빈도가 1/4 아래로 떨어지면 해제 후 바로 접기)
+ * - 샤드 모드 영상은 토글마다 VIDEO_COUNTER_SHARD_TABLE 의 임의 샤드 행에 증감 → VIDEO_TABLE 행 잠금 없음
+ * - 응답용 합계는 메모리 캐시 (승격 시 DB 값 + 샤드 합으로 채우고, 이후 커밋된 증감분만 더함)
+ * - fold-ms 마다 샤드 합을 VIDEO_TABLE 로 접어 넣고 캐시를 DB 기준으로 다시 맞춤
+ */
+@Slf4j
+@Component
+public class VideoCounterShards {
+
+    private static final String FOLD_SQL = """
+            DECLARE
+              p_video   NUMBER := ?;
+              v_like    NUMBER;
+              v_dislike NUMBER;
+            BEGIN
+              DELETE FROM VIDEO_COUNTER_SHARD_TABLE
+               WHERE VIDEO_NO = p_video
+              RETURNING SUM(LIKE_DELTA), SUM(DISLIKE_DELTA) INTO v_like, v_dislike;
+
+              v_like := NVL(v_like, 0);
+              v_dislike := NVL(v_dislike, 0);
+              IF v_like <> 0 OR v_dislike <> 0 THEN
+                UPDATE VIDEO_TABLE
+                   SET LIKE_COUNT    = GREATEST(LIKE_COUNT + v_like, 0),
+                       DISLIKE_COUNT = GREATEST(DISLIKE_COUNT + v_dislike, 0)
+                 WHERE VIDEO_NO = p_video;
+              END IF;
+            END;
+            """;
+
+    private static final String TOTALS_SQL = """
+            SELECT v.LIKE_COUNT + NVL(SUM(s.LIKE_DELTA), 0),
+                   v.DISLIKE_COUNT + NVL(SUM(s.DISLIKE_DELTA), 0)
+              FROM VIDEO_TABLE v
+              LEFT JOIN VIDEO_COUNTER_SHARD_TABLE s ON s.VIDEO_NO = v.VIDEO_NO
+             WHERE v.VIDEO_NO = ?
+             GROUP BY v.LIKE_COUNT, v.DISLIKE_COUNT
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int shardCount;
+    private final int promotePerSec;
+    private final long windowMs;
+
+    // 이번 window 동안의 영상별 반응 수 (window 마다 통째로 교체)
+    private volatile ConcurrentHashMap<Long, AtomicInteger> hits = new ConcurrentHashMap<>();
+    // 샤드 모드 영상 → [likeTotal, dislikeTotal] (배열 자체로 동기화)
+    private final ConcurrentHashMap<Long, long[]> sharded = new ConcurrentHashMap<>();
+
+    public VideoCounterShards(JdbcTemplate jdbcTemplate,
+                              @Value("${app.video.counter-shards.enabled:true}") boolean enabled,
+                              @Value("${app.video.counter-shards.shards:8}") int shardCount,
+                              @Value("${app.video.counter-shards.promote-per-sec:20}") int promotePerSec,
+                              @Value("${app.video.counter-shards.window-ms:1000}") long windowMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.shardCount = shardCount;
+        this.promotePerSec = promotePerSec;
+        this.windowMs = windowMs;
+    }
+
+    /** 반응 1건 기록 + 이번 토글이 쓸 샤드 번호 (샤드 모드가 아니면 null) */
+    public Integer shardFor(Long videoNo) {
+        if (!enabled) return null;
+        hits.computeIfAbsent(videoNo, k -> new AtomicInteger()).incrementAndGet();
+        return sharded.containsKey(videoNo) ? ThreadLocalRandom.current().nextInt(shardCount) : null;
+    }
+
+    /**
+     * 샤드에 증감을 쓴 뒤 호출. 응답용 예상 합계를 돌려주고, 캐시 합계에는 커밋된 뒤에만 반영
+     * (롤백되면 DB 에 없는 증감이 캐시에 남지 않도록)
+     */
+    public long[] applyDeltaAfterCommit(Long videoNo, long likeDelta, long dislikeDelta) {
+        long[] totals = sharded.get(videoNo);
+        if (totals == null) {
+            // 그 사이 해제됨 → DB 기준 합계 (같은 트랜잭션이라 방금 쓴 샤드 행 포함)
+            return loadTotals(videoNo);
+        }
+
+        long[] projected;
+        synchronized (totals) {
+            projected = new long[]{Math.max(0L, totals[0] + likeDelta), Math.max(0L, totals[1] + dislikeDelta)};
+        }
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyDelta(videoNo, likeDelta, dislikeDelta);
+                }
+            });
+        } else {
+            applyDelta(videoNo, likeDelta, dislikeDelta);
+        }
+        return projected;
+    }
+
+    /** 캐시 합계 [like, dislike] (샤드 모드가 아니면 null) */
+    long[] cachedTotals(Long videoNo) {
+        long[] totals = sharded.get(videoNo);
+        if (totals == null) return null;
+        synchronized (totals) {
+            return new long[]{totals[0], totals[1]};
+        }
+    }
+
+    private void applyDelta(Long videoNo, long likeDelta, long dislikeDelta) {
+        long[] totals = sharded.get(videoNo);
+        if (totals == null) return;   // 해제됨 → 다음 승격 때 DB 기준으로 다시 채움
+        synchronized (totals) {
+            totals[0] = Math.max(0L, totals[0] + likeDelta);
+            totals[1] = Math.max(0L, totals[1] + dislikeDelta);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.video.counter-shards.window-ms:1000}")
+    public void evaluate() {
+        if (!enabled) return;
+
+        Map<Long, AtomicInteger> window = hits;
+        hits = new ConcurrentHashMap<>();
+        double perSecFactor = 1000.0 / windowMs;
+
+        window.forEach((videoNo, count) -> {
+            double rate = count.get() * perSecFactor;
+            if (rate >= promotePerSec && !sharded.containsKey(videoNo)) {
+                sharded.put(videoNo, loadTotals(videoNo));
+                log.info("반응 카운터 샤드 모드 승격 videoNo={}, rate={}/s", videoNo, rate);
+            }
+        });
+
+        for (Long videoNo : new ArrayList<>(sharded.keySet())) {
+            AtomicInteger count = window.get(videoNo);
+            double rate = count == null ? 0.0 : count.get() * perSecFactor;
+            if (rate < promotePerSec / 4.0) {
+                sharded.remove(videoNo);
+                foldQuietly(videoNo);
+                log.info("반응 카운터 샤드 모드 해제 videoNo={}", videoNo);
+            }
+        }
+    }
+
+    /** 샤드 합을 VIDEO_TABLE 로 접기 (영상마다 별도 트랜잭션, 잠금은 영상당 한 번) */
+    @Scheduled(
+            fixedDelayString = "${app.video.counter-shards.fold-ms:5000}",
+            initialDelayString = "${app.video.counter-shards.fold-ms:5000}"
+    )
+    public void foldAll() {
+        List<Long> videoNos = jdbcTemplate.queryForList(
+                "SELECT DISTINCT VIDEO_NO FROM VIDEO_COUNTER_SHARD_TABLE", Long.class);
+        for (Long videoNo : videoNos) {
+            foldQuietly(videoNo);
+        }
+
+        // 다른 인스턴스에서 들어온 증감까지 포함하도록 캐시 합계를 DB 기준으로 다시 맞춤
+        sharded.replaceAll((videoNo, totals) -> {
+            long[] fresh = loadTotals(videoNo);
+            synchronized (totals) {
+                totals[0] = fresh[0];
+                totals[1] = fresh[1];
+            }
+            return totals;
+        });
+    }
+
+    private void foldQuietly(Long videoNo) {
+        try {
+            jdbcTemplate.update(FOLD_SQL, videoNo);
+        } catch (Exception e) {
+            log.warn("반응 카운터 샤드 접기 실패 videoNo={}", videoNo, e);
+        }
+    }
+
+    private long[] loadTotals(Long videoNo) {
+        List<long[]> rows = jdbcTemplate.query(TOTALS_SQL,
+                (rs, i) -> new long[]{rs.getLong(1), rs.getLong(2)}, videoNo);
+        return rows.isEmpty() ? new long[]{0L, 0L} : rows.get(0);
+    }
+}
@@ -7,12 +7,15 @@ import com.aivideoback.kwungjin.video.dto.VideoAutoTagRequest;
 import com.aivideoback.kwungjin.video.dto.VideoAutoTagRequest.TagScore;
 import com.aivideoback.kwungjin.video.entity.Video;
 import com.aivideoback.kwungjin.video.entity.VideoFeature;
+import com.aivideoback.kwungjin.video.event.VideoChangedEvent;
 import com.aivideoback.kwungjin.video.repository.VideoFeatureRepository;
 import com.aivideoback.kwungjin.video.repository.VideoRepository;
 import com.aivideoback.kwungjin.video.util.VideoFrameExtractor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,6 +38,8 @@ public class VideoFeatureService {
 
     private final VideoRepository videoRepository;
     private final VideoFeatureRepository videoFeatureRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
 
     // ✅ 데스크탑(Ollama)에서 보내준 태그 저장
     @Transactional
@@ -77,7 +82,7 @@ public class VideoFeatureService {
 
         String tagsJson;
         try {
-            tagsJson = new ObjectMapper().writeValueAsString(json);
+            tagsJson = objectMapper.writeValueAsString(json);
         } catch (Exception e) {
             throw new IllegalStateException("tagsJson 직렬화 실패", e);
         }
@@ -99,29 +104,28 @@ public class VideoFeatureService {
             if (tagNames.size() > 3) video.setTag4(tagNames.get(3));
             if (tagNames.size() > 4) video.setTag5(tagNames.get(4));
         }
+
+        eventPublisher.publishEvent(VideoChangedEvent.of(videoNo, VideoChangedEvent.Type.TAGS_CHANGED));
     }
 
     // ✅ 데스크탑이 가져갈 “아직 태깅 안 된 승인 영상” 목록
+    //    (최신 200개 안에서 거르던 방식 → DB 에서 바로 "태그 없는 것"만 limit 개)
     @Transactional(readOnly = true)
     public List<DesktopTagTargetDto> getPendingVideosForDesktop(int limit) {
 
-        List<Video> candidates =
-                videoRepository.findTop200ByIsBlockedAndReviewStatusOrderByCreatedAtDesc("N", "A");
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        List<Video> candidates = videoRepository.findApprovedWithoutFeatureSource(
+                SOURCE_OLLAMA_DESKTOP, PageRequest.of(0, limit));
 
         List<DesktopTagTargetDto> result = new ArrayList<>();
 
         for (Video v : candidates) {
-            if (result.size() >= limit) break;
-
-            Long videoNo = v.getVideoNo();
-            // 이미 OLLAMA_DESKTOP 태그가 있으면 패스
-            if (videoFeatureRepository.existsByVideoNoAndSource(videoNo, SOURCE_OLLAMA_DESKTOP)) {
-                continue;
-            }
-
             result.add(
                     DesktopTagTargetDto.builder()
-                            .videoNo(videoNo)
+                            .videoNo(v.getVideoNo())
                             .title(v.getTitle())
                             .createdAt(v.getCreatedAt())
                             .uploadDate(v.getUploadDate())
@@ -0,0 +1,160 @@
+// src/main/java/com/aivideoback/kwungjin/video/service/VideoListingCache.java
+package com.aivideoback.kwungjin.video.service;
+
+import com.aivideoback.kwungjin.video.dto.VideoSummaryDto;
+import com.aivideoback.kwungjin.video.event.VideoChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공개 갤러리(/api/videos/public) 결과 캐시.
+ *
+ * - 페이지 캐시: (keyword, tags, sort, page, size) → videoNo 목록 + 전체 개수 (LRU, 개수 제한)
+ * - 영상 캐시: videoNo → VideoSummaryDto (여러 페이지가 같은 DTO 를 공유, LRU + TTL)
+ * - 공개 목록에 영향을 주는 VideoChangedEvent 가 오면 version 을 올려서 페이지 캐시 전체를 무효화
+ *   (조회 시작 시점의 version 으로 저장하므로, 조회 도중 바뀐 결과는 저장돼도 바로 버려진다)
+ * - 영상 캐시도 같은 방식: 무효화할 때마다 videoVersion 을 올리고 videoNo 별로 그 값을 기록,
+ *   조회 시작 이후에 무효화된 영상의 DTO 는 put 하지 않는다 (반응 직후 옛 숫자가 다시 캐시되는 것 방지)
+ *
+ * 캐시에 들어가는 DTO 는 myReaction 이 비어 있는 공용 객체라서,
+ * 로그인 사용자 응답은 VideoService 에서 복사본에 myReaction 을 덮어쓴다.
+ */
+@Component
+public class VideoListingCache {
+
+    public record PageKey(String keyword, List<String> tags, String sort, int page, int size) {
+    }
+
+    public record CachedPage(List<Long> videoNos, long total) {
+    }
+
+    private record PageEntry(long version, long expiresAt, CachedPage page) {
+    }
+
+    private record VideoEntry(long expiresAt, VideoSummaryDto dto) {
+    }
+
+    private final AtomicLong version = new AtomicLong();
+    private final Map<PageKey, PageEntry> pages;
+    private final Map<Long, VideoEntry> videos;
+
+    // 아래 필드는 videos 락 보호
+    private long videoVersion;
+    private final Map<Long, Long> evictedAt;   // videoNo → 마지막 무효화 시점의 videoVersion
+    private long evictedFloor;                 // evictedAt 에서 밀려난 기록 중 가장 최근 값
+    private final long ttlMs;
+
+    public VideoListingCache(
+            @Value("${app.video.listing-cache.max-pages:1000}") int maxPages,
+            @Value("${app.video.listing-cache.max-videos:5000}") int maxVideos,
+            @Value("${app.video.listing-cache.ttl-ms:30000}") long ttlMs
+    ) {
+        this.pages = lru(maxPages);
+        this.videos = lru(maxVideos);
+        this.evictedAt = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                if (size() <= maxVideos) return false;
+                evictedFloor = Math.max(evictedFloor, eldest.getValue());
+                return true;
+            }
+        };
+        this.ttlMs = ttlMs;
+    }
+
+    /** 조회 전에 받아두고 put 할 때 그대로 넘긴다 */
+    public long currentVersion() {
+        return version.get();
+    }
+
+    public CachedPage getPage(PageKey key) {
+        PageEntry entry;
+        synchronized (pages) {
+            entry = pages.get(key);
+        }
+        if (entry == null
+                || entry.version() != version.get()
+                || entry.expiresAt() < System.currentTimeMillis()) {
+            return null;
+        }
+        return entry.page();
+    }
+
+    public void putPage(PageKey key, long versionAtLoad, CachedPage page) {
+        if (versionAtLoad != version.get()) {
+            return; // 조회하는 사이에 목록이 바뀜
+        }
+        PageEntry entry = new PageEntry(versionAtLoad, System.currentTimeMillis() + ttlMs, page);
+        synchronized (pages) {
+            pages.put(key, entry);
+        }
+    }
+
+    /** 캐시에 있는 영상 DTO 만 돌려준다 (없는 videoNo 는 결과 Map 에 없음) */
+    public Map<Long, VideoSummaryDto> getVideos(Collection<Long> videoNos) {
+        long now = System.currentTimeMillis();
+        Map<Long, VideoSummaryDto> found = new HashMap<>();
+        synchronized (videos) {
+            for (Long videoNo : videoNos) {
+                VideoEntry entry = videos.get(videoNo);
+                if (entry != null && entry.expiresAt() >= now) {
+                    found.put(videoNo, entry.dto());
+                }
+            }
+        }
+        return found;
+    }
+
+    /** DB 에서 영상을 읽기 전에 받아두고 putVideos 할 때 그대로 넘긴다 */
+    public long currentVideoVersion() {
+        synchronized (videos) {
+            return videoVersion;
+        }
+    }
+
+    public void putVideos(long versionAtLoad, Collection<VideoSummaryDto> dtos) {
+        long expiresAt = System.currentTimeMillis() + ttlMs;
+        synchronized (videos) {
+            if (versionAtLoad < evictedFloor) {
+                return; // 조회하는 사이 무효화가 너무 많아서 기록이 밀려남 → 전부 건너뜀
+            }
+            for (VideoSummaryDto dto : dtos) {
+                Long evicted = evictedAt.get(dto.getVideoNo());
+                if (evicted != null && evicted > versionAtLoad) {
+                    continue; // 조회하는 사이에 이 영상이 바뀜
+                }
+                videos.put(dto.getVideoNo(), new VideoEntry(expiresAt, dto));
+            }
+        }
+    }
+
+    /** 좋아요/싫어요처럼 목록 구성은 그대로고 숫자만 바뀌는 경우 */
+    public void evictVideo(Long videoNo) {
+        synchronized (videos) {
+            videos.remove(videoNo);
+            evictedAt.put(videoNo, ++videoVersion);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        evictVideo(event.videoNo());
+        if (event.type() != VideoChangedEvent.Type.UPLOADED) {
+            // 업로드 직후(심사 대기)는 공개 목록에 안 나오므로 페이지 캐시는 유지
+            version.incrementAndGet();
+        }
+    }
+
+    private static <K, V> Map<K, V> lru(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+}
@@ -0,0 +1,199 @@
+// src/main/java/com/aivideoback/kwungjin/video/service/VideoReactionBitmapCache.java
+package com.aivideoback.kwungjin.video.service;
+
+import com.aivideoback.kwungjin.video.entity.VideoReaction;
+import com.aivideoback.kwungjin.video.entity.VideoReaction.ReactionType;
+import com.aivideoback.kwungjin.video.repository.VideoReactionRepository;
+import com.aivideoback.kwungjin.video.util.RoaringBitmap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로그인 사용자별 내 반응(좋아요/싫어요) 비트맵 캐시.
+ *
+ * - 사용자 하나 = videoNo 압축 비트맵 두 개 (liked / disliked), 처음 볼 때 한 번만 DB 에서 로드
+ * - toggleReaction 커밋 후 apply() 로 그 자리에서 갱신 → 목록 myReaction 표시는 비트맵 조회 두 번
+ * - 사용자 수는 LRU 로 제한 (max-users), 마지막 조회 후 idle-ms 가 지나면 버림
+ * - 다른 인스턴스에서 바뀐 반응은 sync-ms 주기로 USER_REACTION_CHANGE_TABLE 을 읽어서 해당 사용자만 무효화
+ *   (이 인스턴스에서 apply() 한 변경은 시각을 기억해 두고 건너뜀)
+ *
+ * 로드와 토글이 겹쳐도 엔트리를 먼저 넣고 그 잠금 안에서 로드하므로,
+ * 로드 이후 커밋된 토글은 apply() 가 로드 끝날 때까지 기다렸다가 반영한다.
+ */
+@Slf4j
+@Component
+public class VideoReactionBitmapCache {
+
+    private static final String WATERMARK_SQL = "SELECT MAX(CHANGED_AT) FROM USER_REACTION_CHANGE_TABLE";
+
+    private static final String CHANGES_SQL =
+            "SELECT USER_NO, CHANGED_AT FROM USER_REACTION_CHANGE_TABLE WHERE CHANGED_AT > ?";
+
+    private final VideoReactionRepository videoReactionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final long idleMs;
+    private final long syncOverlapMs;
+
+    // 아래 두 Map 은 users 잠금으로 보호
+    private final Map<Long, UserReactions> users;
+    private final Map<Long, LocalDateTime> seenChanges;   // 이미 반영(또는 무효화)한 사용자별 변경 시각
+
+    private LocalDateTime watermark;   // sync() 스레드만 사용
+
+    public VideoReactionBitmapCache(VideoReactionRepository videoReactionRepository,
+                                    JdbcTemplate jdbcTemplate,
+                                    @Value("${app.video.reaction-bitmaps.max-users:10000}") int maxUsers,
+                                    @Value("${app.video.reaction-bitmaps.idle-ms:1800000}") long idleMs,
+                                    @Value("${app.video.reaction-bitmaps.sync-overlap-ms:10000}") long syncOverlapMs) {
+        this.videoReactionRepository = videoReactionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.idleMs = idleMs;
+        this.syncOverlapMs = syncOverlapMs;
+        this.users = lru(maxUsers);
+        this.seenChanges = lru(maxUsers);
+    }
+
+    /** 사용자 반응 비트맵 (없거나 idle-ms 동안 안 쓰였으면 로드) */
+    public UserReactions get(Long userNo) {
+        long now = System.currentTimeMillis();
+        UserReactions entry;
+        boolean created = false;
+        synchronized (users) {
+            entry = users.get(userNo);
+            if (entry != null && now - entry.lastAccessAt > idleMs) {
+                users.remove(userNo);
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new UserReactions();
+                users.put(userNo, entry);
+                created = true;
+            }
+            entry.lastAccessAt = now;
+        }
+
+        synchronized (entry) {
+            if (!entry.loaded) {
+                try {
+                    load(userNo, entry);
+                } catch (RuntimeException e) {
+                    if (created) {
+                        synchronized (users) {
+                            users.remove(userNo, entry);
+                        }
+                    }
+                    throw e;
+                }
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * 토글 결과 반영 (커밋 이후). 캐시에 없는 사용자는 다음 로드 때 DB 에서 읽으므로 무시.
+     * changedAt: 토글이 USER_REACTION_CHANGE_TABLE 에 쓴 시각 → sync() 에서 같은 변경으로 다시 무효화하지 않음
+     */
+    public void apply(Long userNo, Long videoNo, ReactionType myReaction, LocalDateTime changedAt) {
+        UserReactions entry;
+        synchronized (users) {
+            if (changedAt != null) seenChanges.put(userNo, changedAt);
+            entry = users.get(userNo);
+        }
+        if (entry == null) return;
+
+        synchronized (entry) {
+            if (!entry.loaded) return;   // 로드 실패로 남은 빈 엔트리
+            entry.liked.remove(videoNo);
+            entry.disliked.remove(videoNo);
+            if (myReaction == ReactionType.LIKE) {
+                entry.liked.add(videoNo);
+            } else if (myReaction == ReactionType.DISLIKE) {
+                entry.disliked.add(videoNo);
+            }
+        }
+    }
+
+    /** idle 엔트리 정리 + 다른 인스턴스에서 반응이 바뀐 사용자 무효화 */
+    @Scheduled(
+            fixedDelayString = "${app.video.reaction-bitmaps.sync-ms:2000}",
+            initialDelayString = "${app.video.reaction-bitmaps.sync-ms:2000}"
+    )
+    public void sync() {
+        long now = System.currentTimeMillis();
+        synchronized (users) {
+            users.values().removeIf(e -> now - e.lastAccessAt > idleMs);
+        }
+
+        try {
+            if (watermark == null) {
+                Timestamp max = jdbcTemplate.queryForObject(WATERMARK_SQL, Timestamp.class);
+                watermark = max == null ? LocalDateTime.of(2000, 1, 1, 0, 0) : max.toLocalDateTime();
+            }
+
+            // DB 시각 기준으로만 비교 (인스턴스 시계 차이 무관), 늦게 커밋된 변경 대비 overlap 만큼 겹쳐 읽음
+            LocalDateTime from = watermark.minusNanos(syncOverlapMs * 1_000_000L);
+            LocalDateTime[] newest = {watermark};
+            int[] invalidated = {0};
+            jdbcTemplate.query(CHANGES_SQL, rs -> {
+                long userNo = rs.getLong(1);
+                LocalDateTime changedAt = rs.getTimestamp(2).toLocalDateTime();
+                if (changedAt.isAfter(newest[0])) newest[0] = changedAt;
+                synchronized (users) {
+                    LocalDateTime seen = seenChanges.put(userNo, changedAt);
+                    if (!changedAt.equals(seen) && users.remove(userNo) != null) {
+                        invalidated[0]++;
+                    }
+                }
+            }, Timestamp.valueOf(from));
+            watermark = newest[0];
+
+            if (invalidated[0] > 0) {
+                log.debug("내 반응 비트맵 무효화 {}명 (다른 인스턴스 변경)", invalidated[0]);
+            }
+        } catch (Exception e) {
+            log.warn("내 반응 변경 동기화 실패", e);
+        }
+    }
+
+    private void load(Long userNo, UserReactions entry) {
+        for (VideoReaction r : videoReactionRepository.findByUserNo(userNo)) {
+            if (r.getReactionType() == ReactionType.LIKE) {
+                entry.liked.add(r.getVideoNo());
+            } else if (r.getReactionType() == ReactionType.DISLIKE) {
+                entry.disliked.add(r.getVideoNo());
+            }
+        }
+        entry.loaded = true;
+    }
+
+    private static <K, V> Map<K, V> lru(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public static final class UserReactions {
+        private final RoaringBitmap liked = new RoaringBitmap();
+        private final RoaringBitmap disliked = new RoaringBitmap();
+        private boolean loaded;
+        private volatile long lastAccessAt;
+
+        /** LIKE / DISLIKE / 반응 없음(null) */
+        public synchronized ReactionType reactionOf(Long videoNo) {
+            if (liked.contains(videoNo)) return ReactionType.LIKE;
+            if (disliked.contains(videoNo)) return ReactionType.DISLIKE;
+            return null;
+        }
+    }
+}
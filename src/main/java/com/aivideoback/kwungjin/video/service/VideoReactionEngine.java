@@ -0,0 +1,205 @@
+// src/main/java/com/aivideoback/kwungjin/video/service/VideoReactionEngine.java
+package com.aivideoback.kwungjin.video.service;
+
+import com.aivideoback.kwungjin.video.entity.VideoReaction.ReactionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.CallableStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+/**
+ * 좋아요/싫어요 토글을 DB 왕복 한 번(익명 PL/SQL 블록)으로 처리.
+ *
+ * - 내 반응 행을 FOR UPDATE 로 잡고 → 삭제 / 변경 / 추가 중 하나
+ * - 바뀐 만큼만 VIDEO_TABLE 의 LIKE_COUNT / DISLIKE_COUNT 에 더하고 RETURNING 으로 새 값을 받는다
+ *   (VIDEO_REACTION_TABLE 전체 COUNT(*) 없음 → 반응 수와 무관하게 일정한 지연)
+ * - 반응이 몰리는 영상(VideoCounterShards 샤드 모드)은 VIDEO_TABLE 대신 임의 샤드 행에 더하고,
+ *   새 합계는 메모리 캐시 기준 예상값 (캐시 자체는 커밋 후 갱신)
+ * - 좋아요가 +1 되면 VIDEO_LIKE_LEDGER_TABLE 에 (영상, 사용자) 가 처음인지 기록 → firstLike (트렌딩용)
+ * - USER_REACTION_CHANGE_TABLE 에 사용자 변경 시각 기록 → 다른 인스턴스의 내 반응 비트맵 무효화용
+ * - 영상이 없으면 블록 전체가 롤백되고 IllegalArgumentException
+ *
+ * 호출하는 쪽 트랜잭션(JPA) 커넥션을 그대로 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoReactionEngine {
+
+    private static final int VIDEO_NOT_FOUND = 20404;
+
+    private static final String TOGGLE_SQL = """
+            DECLARE
+              p_video   NUMBER       := ?;
+              p_user    NUMBER       := ?;
+              p_target  VARCHAR2(10) := ?;
+              p_shard   NUMBER       := ?;
+              v_exists  NUMBER;
+              v_current VARCHAR2(10);
+              v_my      VARCHAR2(10);
+              d_like    NUMBER := 0;
+              d_dislike NUMBER := 0;
+              v_like    NUMBER;
+              v_dislike NUMBER;
+              v_first   NUMBER := 0;
+              v_now     TIMESTAMP := SYSTIMESTAMP;
+            BEGIN
+              BEGIN
+                SELECT REACTION_TYPE INTO v_current
+                  FROM VIDEO_REACTION_TABLE
+                 WHERE VIDEO_NO = p_video AND USER_NO = p_user
+                   FOR UPDATE;
+              EXCEPTION
+                WHEN NO_DATA_FOUND THEN v_current := NULL;
+              END;
+
+              IF v_current = p_target THEN
+                -- 같은 버튼 한 번 더 → 취소
+                DELETE FROM VIDEO_REACTION_TABLE
+                 WHERE VIDEO_NO = p_video AND USER_NO = p_user;
+                v_my := NULL;
+                IF p_target = 'LIKE' THEN d_like := -1; ELSE d_dislike := -1; END IF;
+              ELSIF v_current IS NULL THEN
+                INSERT INTO VIDEO_REACTION_TABLE
+                       (REACTION_NO, VIDEO_NO, USER_NO, REACTION_TYPE, CREATED_AT, UPDATED_AT)
+                VALUES (VIDEO_REACTION_SEQ.NEXTVAL, p_video, p_user, p_target, SYSTIMESTAMP, SYSTIMESTAMP);
+                v_my := p_target;
+                IF p_target = 'LIKE' THEN d_like := 1; ELSE d_dislike := 1; END IF;
+              ELSE
+                -- 반대 반응 → 바꾸기
+                UPDATE VIDEO_REACTION_TABLE
+                   SET REACTION_TYPE = p_target, UPDATED_AT = SYSTIMESTAMP
+                 WHERE VIDEO_NO = p_video AND USER_NO = p_user;
+                v_my := p_target;
+                IF p_target = 'LIKE' THEN d_like := 1; d_dislike := -1;
+                ELSE d_like := -1; d_dislike := 1; END IF;
+              END IF;
+
+              IF p_shard IS NULL THEN
+                UPDATE VIDEO_TABLE
+                   SET LIKE_COUNT    = GREATEST(LIKE_COUNT + d_like, 0),
+                       DISLIKE_COUNT = GREATEST(DISLIKE_COUNT + d_dislike, 0)
+                 WHERE VIDEO_NO = p_video
+                RETURNING LIKE_COUNT, DISLIKE_COUNT INTO v_like, v_dislike;
+
+                IF SQL%ROWCOUNT = 0 THEN
+                  RAISE_APPLICATION_ERROR(-20404, 'VIDEO_NOT_FOUND');
+                END IF;
+              ELSE
+                -- 샤드 모드: VIDEO_TABLE 은 잠그지 않고 존재 여부만 확인
+                SELECT COUNT(*) INTO v_exists FROM VIDEO_TABLE WHERE VIDEO_NO = p_video;
+                IF v_exists = 0 THEN
+                  RAISE_APPLICATION_ERROR(-20404, 'VIDEO_NOT_FOUND');
+                END IF;
+
+                MERGE INTO VIDEO_COUNTER_SHARD_TABLE s
+                USING (SELECT p_video AS VIDEO_NO, p_shard AS SHARD_NO FROM DUAL) x
+                   ON (s.VIDEO_NO = x.VIDEO_NO AND s.SHARD_NO = x.SHARD_NO)
+                 WHEN MATCHED THEN UPDATE
+                      SET s.LIKE_DELTA = s.LIKE_DELTA + d_like,
+                          s.DISLIKE_DELTA = s.DISLIKE_DELTA + d_dislike
+                 WHEN NOT MATCHED THEN INSERT (VIDEO_NO, SHARD_NO, LIKE_DELTA, DISLIKE_DELTA)
+                      VALUES (x.VIDEO_NO, x.SHARD_NO, d_like, d_dislike);
+              END IF;
+
+              -- (영상, 사용자) 첫 좋아요인지 (취소 후 다시 눌러도 기록은 남아 있음)
+              IF d_like = 1 THEN
+                MERGE INTO VIDEO_LIKE_LEDGER_TABLE l
+                USING (SELECT p_video AS VIDEO_NO, p_user AS USER_NO FROM DUAL) x
+                   ON (l.VIDEO_NO = x.VIDEO_NO AND l.USER_NO = x.USER_NO)
+                 WHEN NOT MATCHED THEN INSERT (VIDEO_NO, USER_NO, FIRST_LIKED_AT)
+                      VALUES (x.VIDEO_NO, x.USER_NO, SYSTIMESTAMP);
+                v_first := SQL%ROWCOUNT;
+              END IF;
+
+              -- 다른 인스턴스의 VideoReactionBitmapCache 가 주기적으로 읽어서 이 사용자 비트맵을 무효화
+              MERGE INTO USER_REACTION_CHANGE_TABLE c
+              USING (SELECT p_user AS USER_NO FROM DUAL) x
+                 ON (c.USER_NO = x.USER_NO)
+               WHEN MATCHED THEN UPDATE SET c.CHANGED_AT = v_now
+               WHEN NOT MATCHED THEN INSERT (USER_NO, CHANGED_AT) VALUES (x.USER_NO, v_now);
+
+              ? := v_like;
+              ? := v_dislike;
+              ? := v_my;
+              ? := d_like;
+              ? := d_dislike;
+              ? := v_first;
+              ? := v_now;
+            END;
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final VideoCounterShards counterShards;
+
+    /**
+     * likeDelta / dislikeDelta: 이번 토글로 바뀐 양 (-1, 0, +1)
+     * firstLike: 이 사용자가 이 영상에 처음 누른 좋아요인지
+     * changedAt: USER_REACTION_CHANGE_TABLE 에 기록한 시각 (이 인스턴스가 이미 반영한 변경인지 구분용)
+     */
+    public record ToggleResult(long likeCount, long dislikeCount, ReactionType myReaction,
+                               long likeDelta, long dislikeDelta, boolean firstLike,
+                               LocalDateTime changedAt) {
+    }
+
+    public ToggleResult toggle(Long videoNo, Long userNo, ReactionType target) {
+        Integer shard = counterShards.shardFor(videoNo);
+        try {
+            return execute(videoNo, userNo, target, shard);
+        } catch (DuplicateKeyException e) {
+            // 같은 사용자의 첫 반응(또는 같은 샤드 첫 행 / 첫 좋아요 기록 / 변경 기록 첫 행)이 동시에 들어온 경우 → 상대가 넣은 행 기준으로 한 번 더
+            log.debug("반응 동시 추가 충돌, 재시도 videoNo={}, userNo={}", videoNo, userNo);
+            return execute(videoNo, userNo, target, shard);
+        }
+    }
+
+    private ToggleResult execute(Long videoNo, Long userNo, ReactionType target, Integer shard) {
+        try {
+            return jdbcTemplate.execute(TOGGLE_SQL, (CallableStatement cs) -> {
+                cs.setLong(1, videoNo);
+                cs.setLong(2, userNo);
+                cs.setString(3, target.name());
+                if (shard == null) {
+                    cs.setNull(4, Types.NUMERIC);
+                } else {
+                    cs.setInt(4, shard);
+                }
+                cs.registerOutParameter(5, Types.NUMERIC);
+                cs.registerOutParameter(6, Types.NUMERIC);
+                cs.registerOutParameter(7, Types.VARCHAR);
+                cs.registerOutParameter(8, Types.NUMERIC);
+                cs.registerOutParameter(9, Types.NUMERIC);
+                cs.registerOutParameter(10, Types.NUMERIC);
+                cs.registerOutParameter(11, Types.TIMESTAMP);
+                cs.execute();
+
+                String my = cs.getString(7);
+                ReactionType myReaction = my == null ? null : ReactionType.valueOf(my);
+                long likeDelta = cs.getLong(8);
+                long dislikeDelta = cs.getLong(9);
+                boolean firstLike = cs.getLong(10) > 0;
+                LocalDateTime changedAt = cs.getTimestamp(11).toLocalDateTime();
+                if (shard == null) {
+                    return new ToggleResult(cs.getLong(5), cs.getLong(6), myReaction,
+                            likeDelta, dislikeDelta, firstLike, changedAt);
+                }
+
+                // 캐시 합계는 커밋 후에만 갱신 (여기서는 예상 합계만 받음)
+                long[] totals = counterShards.applyDeltaAfterCommit(videoNo, likeDelta, dislikeDelta);
+                return new ToggleResult(totals[0], totals[1], myReaction, likeDelta, dislikeDelta, firstLike, changedAt);
+            });
+        } catch (DataAccessException e) {
+            if (e.getMostSpecificCause() instanceof SQLException sql && sql.getErrorCode() == VIDEO_NOT_FOUND) {
+                throw new IllegalArgumentException("영상이 존재하지 않습니다: " + videoNo);
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,390 @@
+// src/main/java/com/aivideoback/kwungjin/video/service/VideoRelatedService.java
+package com.aivideoback.kwungjin.video.service;
+
+import com.aivideoback.kwungjin.finding.analyzer.KoreanAnalyzer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 관련 영상(item-to-item) 계산 배치.
+ *
+ * - 좋아요를 (USER_NO, 최근순) 정렬 커서 하나로 fetch-size 씩 끝까지 읽으면서, 사용자가 바뀔 때마다
+ *   앞 사용자의 좋아요 묶음으로 영상 쌍 공동 등장 수를 센다
+ *   (사용자당 최근 max-basket 개까지, 영상당 후보는 max-candidates 개로 잘라서 메모리 제한)
+ *   → 정렬은 DB 가 한 번만 하고, 페이지 재조회나 페이지 끝에서 잘린 사용자를 다시 읽는 일이 없다
+ *   VIDEO_REACTION_TABLE(REACTION_TYPE, USER_NO, CREATED_AT) 인덱스가 있으면 정렬 없이 인덱스 순서로 읽는다
+ * - 점수 = (1 - tag-weight) * 코사인(공동 좋아요 / sqrt(좋아요수 a * 좋아요수 b))
+ *          + tag-weight * 태그 Jaccard
+ *   (좋아요가 없는 새 영상도 태그가 겹치는 영상으로 채워지도록 태그 후보를 함께 본다)
+ * - 영상마다 상위 top-k 만 힙으로 남기고, 영상 단위로 VIDEO_RELATED_TABLE 을 갱신
+ *   (RANK_NO 별 MERGE - 바뀐 행만 UPDATE, 남는 순위는 DELETE, 영상 묶음마다 짧은 트랜잭션)
+ * - 비공개가 된 영상의 행만 마지막에 지운다 (테이블 전체 삭제/재삽입 없음)
+ *
+ * 읽기는 VideoService.getRelatedVideos 에서 (VIDEO_NO, RANK_NO) 범위 조회 한 번.
+ */
+@Slf4j
+@Component
+public class VideoRelatedService {
+
+    /** 전체 좋아요를 사용자 순으로 (사용자 안에서는 최근 좋아요부터) */
+    private static final String LIKES_SQL = """
+            SELECT r.USER_NO, r.VIDEO_NO
+              FROM VIDEO_REACTION_TABLE r
+              JOIN VIDEO_TABLE v ON v.VIDEO_NO = r.VIDEO_NO
+             WHERE r.REACTION_TYPE = 'LIKE'
+               AND v.IS_BLOCKED = 'N'
+               AND v.REVIEW_STATUS = 'A'
+             ORDER BY r.USER_NO, r.CREATED_AT DESC
+            """;
+
+    private static final String TAGS_SQL = """
+            SELECT VIDEO_NO, TAG1, TAG2, TAG3, TAG4, TAG5
+              FROM VIDEO_TABLE
+             WHERE IS_BLOCKED = 'N'
+               AND REVIEW_STATUS = 'A'
+             ORDER BY VIDEO_NO DESC
+            """;
+
+    /** 순위 한 칸 upsert - 관련 영상/점수가 그대로면 UPDATE 도 하지 않음 */
+    private static final String MERGE_SQL = """
+            MERGE INTO VIDEO_RELATED_TABLE t
+            USING (SELECT ? AS VIDEO_NO, ? AS RANK_NO, ? AS RELATED_VIDEO_NO, ? AS SCORE, ? AS UPDATED_AT
+                     FROM DUAL) x
+               ON (t.VIDEO_NO = x.VIDEO_NO AND t.RANK_NO = x.RANK_NO)
+             WHEN MATCHED THEN UPDATE
+                  SET t.RELATED_VIDEO_NO = x.RELATED_VIDEO_NO,
+                      t.SCORE = x.SCORE,
+                      t.UPDATED_AT = x.UPDATED_AT
+                WHERE t.RELATED_VIDEO_NO <> x.RELATED_VIDEO_NO
+                   OR t.SCORE <> x.SCORE
+             WHEN NOT MATCHED THEN
+                  INSERT (VIDEO_NO, RANK_NO, RELATED_VIDEO_NO, SCORE, UPDATED_AT)
+                  VALUES (x.VIDEO_NO, x.RANK_NO, x.RELATED_VIDEO_NO, x.SCORE, x.UPDATED_AT)
+            """;
+
+    /** 이번 계산에서 순위가 줄어든 만큼 뒤쪽 행 삭제 */
+    private static final String TRIM_SQL =
+            "DELETE FROM VIDEO_RELATED_TABLE WHERE VIDEO_NO = ? AND RANK_NO > ?";
+
+    /** 차단/비공개가 된 영상의 목록 삭제 */
+    private static final String PURGE_SQL = """
+            DELETE FROM VIDEO_RELATED_TABLE r
+             WHERE NOT EXISTS (SELECT 1
+                                 FROM VIDEO_TABLE v
+                                WHERE v.VIDEO_NO = r.VIDEO_NO
+                                  AND v.IS_BLOCKED = 'N'
+                                  AND v.REVIEW_STATUS = 'A')
+            """;
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int WRITE_CHUNK_VIDEOS = 200;  // 트랜잭션 하나에 갱신하는 영상 수
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KoreanAnalyzer koreanAnalyzer;
+    private final int topK;
+    private final int maxBasket;
+    private final int maxCandidates;
+    private final int maxPerTag;
+    private final double tagWeight;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public VideoRelatedService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               KoreanAnalyzer koreanAnalyzer,
+                               @Value("${app.video.related.top-k:20}") int topK,
+                               @Value("${app.video.related.max-basket:200}") int maxBasket,
+                               @Value("${app.video.related.max-candidates:300}") int maxCandidates,
+                               @Value("${app.video.related.max-per-tag:200}") int maxPerTag,
+                               @Value("${app.video.related.tag-weight:0.3}") double tagWeight) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.koreanAnalyzer = koreanAnalyzer;
+        this.topK = topK;
+        this.maxBasket = maxBasket;
+        this.maxCandidates = maxCandidates;
+        this.maxPerTag = maxPerTag;
+        this.tagWeight = tagWeight;
+    }
+
+    /** 영상당 저장하는 관련 영상 수 (조회 limit 상한) */
+    public int topK() {
+        return topK;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.video.related.recompute-ms:3600000}",
+            initialDelayString = "${app.video.related.initial-delay-ms:60000}"
+    )
+    public void scheduledRecompute() {
+        recompute();
+    }
+
+    /** 전체 재계산 (이미 도는 중이면 건너뜀) */
+    public void recompute() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("관련 영상 계산이 이미 진행 중이라 건너뜀");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            Map<Long, int[]> tags = loadTags();
+            CoOccurrence co = countCoLikes();
+            RelatedWriter writer = new RelatedWriter(new Timestamp(start));
+            rank(tags, co, writer);
+            writer.flush();
+            int purged = jdbcTemplate.update(PURGE_SQL);
+            log.info("관련 영상 계산 완료 videos={}, rows={}, purged={}, {}ms",
+                    tags.size(), writer.rows, purged, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("관련 영상 계산 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /* ---------- 1) 태그 ---------- */
+
+    /** videoNo → 정렬된 태그 id 배열 (태그 문자열은 id 로 바꿔서 보관) */
+    private Map<Long, int[]> loadTags() {
+        Map<String, Integer> tagIds = new HashMap<>();
+        Map<Long, int[]> tags = new HashMap<>();
+
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(TAGS_SQL);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            int[] ids = new int[5];
+            int n = 0;
+            for (int col = 2; col <= 6; col++) {
+                String raw = rs.getString(col);
+                if (raw == null || raw.isBlank()) continue;
+                String norm = koreanAnalyzer.normalize(raw);
+                if (norm.isEmpty()) continue;
+                ids[n++] = tagIds.computeIfAbsent(norm, k -> tagIds.size());
+            }
+            int[] distinct = Arrays.stream(ids, 0, n).distinct().sorted().toArray();
+            tags.put(rs.getLong(1), distinct);
+        });
+        return tags;
+    }
+
+    /* ---------- 2) 공동 좋아요 ---------- */
+
+    private static final class CoOccurrence {
+        final Map<Long, Integer> likes = new HashMap<>();             // videoNo → 좋아요 수
+        final Map<Long, Map<Long, int[]>> pairs = new HashMap<>();    // a → (b → 공동 좋아요 수)
+    }
+
+    private CoOccurrence countCoLikes() {
+        CoOccurrence co = new CoOccurrence();
+        BasketReader reader = new BasketReader(co);
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(LIKES_SQL);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, reader);
+        reader.finish();
+
+        // 마지막으로 후보 수 제한
+        co.pairs.values().forEach(this::prune);
+        return co;
+    }
+
+    /** 사용자 순 좋아요 스트림 - 사용자가 바뀔 때마다 앞 사용자 묶음을 센다 */
+    private final class BasketReader implements RowCallbackHandler {
+        final CoOccurrence co;
+        final List<Long> basket = new ArrayList<>();
+        boolean started;
+        long currentUser;
+
+        BasketReader(CoOccurrence co) {
+            this.co = co;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long userNo = rs.getLong(1);
+            if (!started) {
+                started = true;
+                currentUser = userNo;
+            } else if (userNo != currentUser) {
+                addBasket(co, basket);
+                basket.clear();
+                currentUser = userNo;
+            }
+            // 최근 좋아요부터 오므로 앞쪽 maxBasket 개만 담음
+            if (basket.size() < maxBasket) {
+                basket.add(rs.getLong(2));
+            }
+        }
+
+        /** 마지막 사용자 묶음 */
+        void finish() {
+            addBasket(co, basket);
+            basket.clear();
+        }
+    }
+
+    private void addBasket(CoOccurrence co, List<Long> basket) {
+        if (basket.isEmpty()) return;
+        for (Long v : basket) {
+            co.likes.merge(v, 1, Integer::sum);
+        }
+        if (basket.size() < 2) return;
+
+        for (Long a : basket) {
+            Map<Long, int[]> row = co.pairs.computeIfAbsent(a, k -> new HashMap<>());
+            for (Long b : basket) {
+                if (a.equals(b)) continue;
+                row.computeIfAbsent(b, k -> new int[1])[0]++;
+            }
+            if (row.size() > maxCandidates * 2) {
+                prune(row);
+            }
+        }
+    }
+
+    /** 공동 좋아요 수가 큰 후보 maxCandidates 개만 남김 */
+    private void prune(Map<Long, int[]> row) {
+        if (row.size() <= maxCandidates) return;
+        int[] counts = row.values().stream().mapToInt(c -> c[0]).sorted().toArray();
+        int cut = counts[counts.length - maxCandidates];
+        row.values().removeIf(c -> c[0] < cut);
+        if (row.size() > maxCandidates) {
+            // 동점이 많으면 커트라인 값 중 일부를 더 버림
+            Iterator<int[]> it = row.values().iterator();
+            while (row.size() > maxCandidates && it.hasNext()) {
+                if (it.next()[0] == cut) it.remove();
+            }
+        }
+    }
+
+    /* ---------- 3) 순위 ---------- */
+
+    private record Scored(long videoNo, double score) {
+    }
+
+    private void rank(Map<Long, int[]> tags, CoOccurrence co, RelatedWriter writer) {
+        // 태그 id → 영상 목록 (최신 영상부터 maxPerTag 개)
+        Map<Integer, List<Long>> byTag = new HashMap<>();
+        tags.forEach((videoNo, ids) -> {
+            for (int id : ids) {
+                List<Long> list = byTag.computeIfAbsent(id, k -> new ArrayList<>());
+                if (list.size() < maxPerTag) list.add(videoNo);
+            }
+        });
+
+        Comparator<Scored> order = Comparator.comparingDouble(Scored::score)
+                .thenComparing(Comparator.comparingLong(Scored::videoNo).reversed());
+
+        for (Map.Entry<Long, int[]> e : tags.entrySet()) {
+            long a = e.getKey();
+            int[] tagsA = e.getValue();
+            Map<Long, int[]> coRow = co.pairs.getOrDefault(a, Map.of());
+
+            Set<Long> candidates = new HashSet<>(coRow.keySet());
+            for (int id : tagsA) {
+                candidates.addAll(byTag.getOrDefault(id, List.of()));
+            }
+            candidates.remove(a);
+            if (candidates.isEmpty()) {
+                writer.write(a, List.of());   // 예전 목록이 남아 있으면 비움
+                continue;
+            }
+
+            int likesA = co.likes.getOrDefault(a, 0);
+            PriorityQueue<Scored> top = new PriorityQueue<>(topK + 1, order);
+            for (Long b : candidates) {
+                int[] tagsB = tags.get(b);
+                if (tagsB == null) continue;   // 비공개가 된 영상
+
+                double cosine = 0.0;
+                int[] together = coRow.get(b);
+                if (together != null && likesA > 0) {
+                    int likesB = co.likes.getOrDefault(b, 0);
+                    if (likesB > 0) cosine = together[0] / Math.sqrt((double) likesA * likesB);
+                }
+                double score = (1 - tagWeight) * cosine + tagWeight * jaccard(tagsA, tagsB);
+                if (score <= 0) continue;
+
+                top.offer(new Scored(b, score));
+                if (top.size() > topK) top.poll();
+            }
+
+            List<Scored> ranked = new ArrayList<>(top);
+            ranked.sort(order.reversed());
+            writer.write(a, ranked);
+        }
+    }
+
+    private static double jaccard(int[] a, int[] b) {
+        if (a.length == 0 || b.length == 0) return 0.0;
+        int i = 0, j = 0, inter = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                inter++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) inter / (a.length + b.length - inter);
+    }
+
+    /* ---------- 4) 저장 ---------- */
+
+    /**
+     * 영상 단위 갱신. WRITE_CHUNK_VIDEOS 개 영상마다 한 트랜잭션으로
+     * 순위별 MERGE + 남는 순위 DELETE (조회는 영상 하나의 목록이 섞여 보이지 않는다)
+     */
+    private final class RelatedWriter {
+        final Timestamp now;
+        final List<Object[]> merges = new ArrayList<>();
+        final List<Object[]> trims = new ArrayList<>();
+        int rows;
+
+        RelatedWriter(Timestamp now) {
+            this.now = now;
+        }
+
+        void write(long videoNo, List<Scored> ranked) {
+            for (int i = 0; i < ranked.size(); i++) {
+                Scored s = ranked.get(i);
+                merges.add(new Object[]{videoNo, i + 1, s.videoNo(), s.score(), now});
+            }
+            trims.add(new Object[]{videoNo, ranked.size()});
+            rows += ranked.size();
+            if (trims.size() >= WRITE_CHUNK_VIDEOS) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (trims.isEmpty()) return;
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!merges.isEmpty()) jdbcTemplate.batchUpdate(MERGE_SQL, merges);
+                jdbcTemplate.batchUpdate(TRIM_SQL, trims);
+            });
+            merges.clear();
+            trims.clear();
+        }
+    }
+}
@@ -2,12 +2,14 @@
 package com.aivideoback.kwungjin.video.service;
 
 import com.aivideoback.kwungjin.video.entity.Video;
+import com.aivideoback.kwungjin.video.event.VideoChangedEvent;
 import com.aivideoback.kwungjin.video.repository.VideoRepository;
 import com.google.api.gax.longrunning.OperationFuture;
 import com.google.cloud.videointelligence.v1.*;
 import com.google.protobuf.ByteString;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 public class VideoReviewService {
 
     private final VideoRepository videoRepository;
+    private final ApplicationEventPublisher eventPublisher;
     // ✅ 이제 여기서는 태그 추출을 안 할 거라면 주석 처리 / 삭제
     // private final VideoFeatureService videoFeatureService;
 
@@ -44,6 +47,7 @@ public class VideoReviewService {
             video.setReviewStatus("H");
             video.setIsBlocked("Y");
             videoRepository.save(video);   // ✅ 명시적으로 저장
+            eventPublisher.publishEvent(VideoChangedEvent.of(videoNo, VideoChangedEvent.Type.BLOCKED));
             return;
         }
 
@@ -90,6 +94,8 @@ public class VideoReviewService {
 
         // ✅ 무조건 저장해서 DB에 반영
         videoRepository.save(video);
+        eventPublisher.publishEvent(VideoChangedEvent.of(videoNo,
+                harmful ? VideoChangedEvent.Type.BLOCKED : VideoChangedEvent.Type.APPROVED));
 
         // ❌ 이제 여기선 태그 추출 안 함 (Ollama 데스크탑 워커가 맡음)
         /*
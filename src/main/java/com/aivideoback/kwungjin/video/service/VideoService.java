@@ -1,31 +1,36 @@
 // src/main/java/com/aivideoback/kwungjin/video/service/VideoService.java
 package com.aivideoback.kwungjin.video.service;
 
-import com.aivideoback.kwungjin.user.entity.User;
-import com.aivideoback.kwungjin.user.repository.UserRepository;
+import com.aivideoback.kwungjin.finding.analyzer.KoreanAnalyzer;
+import com.aivideoback.kwungjin.finding.engine.FindingCorpus;
 import com.aivideoback.kwungjin.video.dto.VideoReactionResponse;
 import com.aivideoback.kwungjin.video.dto.VideoResponse;
 import com.aivideoback.kwungjin.video.dto.VideoSummaryDto;
 import com.aivideoback.kwungjin.video.dto.VideoUpdateRequest;
+import com.aivideoback.kwungjin.video.dto.VideoViewResponse;
 import com.aivideoback.kwungjin.video.entity.Video;
-import com.aivideoback.kwungjin.video.entity.VideoReaction;
 import com.aivideoback.kwungjin.video.entity.VideoReaction.ReactionType;
+import com.aivideoback.kwungjin.video.entity.VideoRelated;
+import com.aivideoback.kwungjin.video.event.VideoChangedEvent;
 import com.aivideoback.kwungjin.video.repository.VideoFeatureRepository;
 import com.aivideoback.kwungjin.video.repository.VideoReactionRepository;
+import com.aivideoback.kwungjin.video.repository.VideoRelatedRepository;
 import com.aivideoback.kwungjin.video.repository.VideoRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import com.aivideoback.kwungjin.video.dto.HomeSummaryResponse;
-import com.aivideoback.kwungjin.video.dto.HomeSummaryResponse.SimpleVideoDto;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
@@ -34,7 +39,6 @@ import java.io.InputStream;
 import java.nio.file.*;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -43,10 +47,28 @@ import java.util.stream.Collectors;
 public class VideoService {
 
     private final VideoRepository videoRepository;
-    private final UserRepository userRepository;
     private final VideoReactionRepository videoReactionRepository;
     private final VideoReviewService videoReviewService;
     private final VideoFeatureRepository videoFeatureRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VideoListingCache videoListingCache;
+    private final KoreanAnalyzer koreanAnalyzer;
+    private final VideoReactionEngine videoReactionEngine;
+    private final VideoViewCounter videoViewCounter;
+    private final VideoUniqueViewerService videoUniqueViewerService;
+    private final HomeLeaderboard homeLeaderboard;
+    private final VideoTrendingService videoTrendingService;
+    private final VideoReactionBitmapCache videoReactionBitmapCache;
+    private final VideoRelatedService videoRelatedService;
+    private final VideoRelatedRepository videoRelatedRepository;
+    private final UserTagAffinity userTagAffinity;
+    private final ForYouRanker forYouRanker;
+    private final FindingCorpus findingCorpus;
+
+    private static final int MAX_KEYWORD_TERMS = 3;
+    private static final String SORT_LATEST = "latest";
+    private static final String SORT_TRENDING = "trending";
+    private static final String SORT_FOR_YOU = "for_you";
 
     // 🔥 영상 파일이 저장될 기본 디렉터리 (컨테이너 기준 경로)
     @Value("${app.video.storage-dir:/data/videos}")
@@ -54,18 +76,14 @@ public class VideoService {
 
     @Transactional
     public VideoResponse uploadVideo(
-            String userId,
+            Long userNo,
             String title,
             String description,
             List<String> tags,
             MultipartFile file
     ) throws IOException {
 
-        // 1) 사용자 조회
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다: " + userId));
-
-        Long userNo = user.getUserNo();
+        // 1) 사용자는 인증 principal 의 userNo 그대로 (USER_TABLE 재조회 X)
 
         // 2) 파일 이름/경로 먼저 준비
         String originalName = file.getOriginalFilename();
@@ -129,6 +147,7 @@ public class VideoService {
 
         // 5) INSERT 한 번만
         Video saved = videoRepository.save(video);
+        eventPublisher.publishEvent(VideoChangedEvent.of(saved.getVideoNo(), VideoChangedEvent.Type.UPLOADED));
 
 // 6) 업로드 직후, 비동기 심사 스케줄링 (videoNo만 넘김)
 //    👉 트랜잭션 커밋이 끝난 다음에 돌도록 등록
@@ -154,13 +173,10 @@ public class VideoService {
 
         return VideoResponse.from(saved);
     }
-    // 🔹 userId 기준으로 내 영상 목록
+    // 🔹 userNo 기준으로 내 영상 목록
     @Transactional(readOnly = true)
-    public List<VideoSummaryDto> getMyVideosByUserId(String userId) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다: " + userId));
-
-        return videoRepository.findByUserNoOrderByUploadDateDesc(user.getUserNo())
+    public List<VideoSummaryDto> getMyVideos(Long userNo) {
+        return videoRepository.findByUserNoOrderByUploadDateDesc(userNo)
                 .stream()
                 .map(VideoSummaryDto::from)
                 .toList();
@@ -175,14 +191,11 @@ public class VideoService {
     }
 
     // 🔹 내 영상 제목 수정
-    public VideoSummaryDto updateMyVideo(String userId, Long videoNo, VideoUpdateRequest request) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다: " + userId));
-
+    public VideoSummaryDto updateMyVideo(Long userNo, Long videoNo, VideoUpdateRequest request) {
         Video video = videoRepository.findById(videoNo)
                 .orElseThrow(() -> new IllegalArgumentException("영상이 존재하지 않습니다: " + videoNo));
 
-        if (!video.getUserNo().equals(user.getUserNo())) {
+        if (!video.getUserNo().equals(userNo)) {
             throw new AccessDeniedException("본인이 업로드한 영상만 수정할 수 있습니다.");
         }
 
@@ -194,27 +207,34 @@ public class VideoService {
         }
 
         Video saved = videoRepository.save(video);
+        eventPublisher.publishEvent(VideoChangedEvent.of(videoNo, VideoChangedEvent.Type.METADATA_CHANGED));
         return VideoSummaryDto.from(saved);
     }
 
     // ✅ 공개 갤러리용
-    @Transactional(readOnly = true)
+    //    캐시 히트면 DB 를 안 타므로 트랜잭션(커넥션)도 미리 잡지 않음
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Page<VideoSummaryDto> getPublicVideos(
             String keyword,
             List<String> tags,
+            String sort,
             int page,
             int size,
-            String userId
+            Long userNo
     ) {
-        Pageable pageable = PageRequest.of(
-                page,
-                size,
-                Sort.by(Sort.Direction.DESC, "uploadDate")
-        );
+        // latest: 업로드 최신순 / trending: 시간 감쇠 트렌딩 점수순 (VIDEO_TRENDING_TABLE)
+        // for_you: 최신순 상위 window 개를 내 태그 선호도로 재정렬 (비로그인이거나 선호도가 없으면 latest)
+        String sortKey = (sort == null || sort.isBlank()) ? SORT_LATEST : sort.trim().toLowerCase(Locale.ROOT);
+        if (!SORT_LATEST.equals(sortKey) && !SORT_TRENDING.equals(sortKey) && !SORT_FOR_YOU.equals(sortKey)) {
+            throw new IllegalArgumentException("지원하지 않는 정렬입니다: " + sort);
+        }
 
-        String keywordParam = (keyword == null || keyword.isBlank())
-                ? null
-                : keyword.trim();
+        // 키워드 → 어간 (조사 제거 + 소문자), 앞에서부터 최대 3개만 AND 조건으로 (나머지는 무시)
+        List<String> keywordTerms = koreanAnalyzer.terms(keyword).stream()
+                .distinct()
+                .limit(MAX_KEYWORD_TERMS)
+                .toList();
+        String keywordParam = keywordTerms.isEmpty() ? null : String.join(" ", keywordTerms);
 
         List<String> tagList = (tags == null)
                 ? Collections.emptyList()
@@ -222,62 +242,180 @@ public class VideoService {
                 .filter(t -> t != null && !t.isBlank())
                 .toList();
 
-        boolean tagsEmpty = tagList.isEmpty();
+        UserTagAffinity.Profile profile = null;
+        if (SORT_FOR_YOU.equals(sortKey)) {
+            if (userNo != null) {
+                profile = userTagAffinity.profile(userNo);
+            }
+            if (profile == null || profile.isEmpty()) {
+                profile = null;
+                sortKey = SORT_LATEST;
+            }
+        }
 
-        Page<Video> result = videoRepository.searchPublicVideos(
-                keywordParam,
-                tagList,
-                tagsEmpty,
-                pageable
-        );
+        Pageable pageable;
+        List<VideoSummaryDto> content;
+        long total;
+
+        if (profile != null) {
+            // 1-a) for_you: 사용자별로 캐시된 재정렬 결과에서 잘라냄
+            pageable = PageRequest.of(page, size);
+            long[] ranked = forYouRanking(userNo, profile, keywordTerms, keywordParam, tagList);
+            int from = (int) Math.min((long) page * size, ranked.length);
+            int to = Math.min(from + size, ranked.length);
+            content = resolveCachedVideos(Arrays.stream(ranked, from, to).boxed().toList());
+            total = ranked.length;
+        } else {
+            // 1-b) 페이지 구성(videoNo 목록)은 로그인 여부와 무관하니 공용 캐시에서
+            //      (트렌딩 순서는 캐시 TTL 만큼 늦게 반영됨)
+            pageable = SORT_TRENDING.equals(sortKey)
+                    ? PageRequest.of(page, size)   // 정렬은 쿼리에 고정
+                    : PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "uploadDate"));
+            VideoListingCache.CachedPage result = publicPage(keywordTerms, keywordParam, tagList, sortKey, pageable);
+            content = resolveCachedVideos(result.videoNos());
+            total = result.total();
+        }
 
         // 비로그인
-        if (userId == null || userId.isBlank()) {
-            return result.map(VideoSummaryDto::from);
+        if (userNo == null || content.isEmpty()) {
+            return new PageImpl<>(content, pageable, total);
         }
 
-        // 로그인: myReaction 포함
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다: " + userId));
+        // 2) 로그인: myReaction 포함 (사용자별 반응 비트맵 조회, 공용 DTO 는 건드리지 않고 복사본에만 세팅)
+        VideoReactionBitmapCache.UserReactions myReactions = videoReactionBitmapCache.get(userNo);
 
-        Long userNo = user.getUserNo();
-
-        List<Long> videoNos = result.stream()
-                .map(Video::getVideoNo)
+        List<VideoSummaryDto> withReaction = content.stream()
+                .map(dto -> {
+                    ReactionType rt = myReactions.reactionOf(dto.getVideoNo());
+                    if (rt == null) {
+                        return dto;
+                    }
+                    return dto.toBuilder()
+                            .myReaction(rt.name()) // "LIKE" / "DISLIKE"
+                            .build();
+                })
                 .toList();
 
-        if (videoNos.isEmpty()) {
-            return result.map(VideoSummaryDto::from);
+        return new PageImpl<>(withReaction, pageable, total);
+    }
+
+    /** 공개 목록 한 페이지의 videoNo 목록 (공용 페이지 캐시 → 없으면 DB, 읽은 DTO 는 영상 캐시에) */
+    private VideoListingCache.CachedPage publicPage(List<String> keywordTerms, String keywordParam,
+                                                    List<String> tagList, String sortKey, Pageable pageable) {
+        VideoListingCache.PageKey key = new VideoListingCache.PageKey(
+                keywordParam, tagList, sortKey, pageable.getPageNumber(), pageable.getPageSize());
+        VideoListingCache.CachedPage cached = videoListingCache.getPage(key);
+        if (cached != null) {
+            return cached;
         }
 
-        List<VideoReaction> reactions =
-                videoReactionRepository.findByVideoNoInAndUserNo(videoNos, userNo);
+        long version = videoListingCache.currentVersion();
+        long videoVersion = videoListingCache.currentVideoVersion();
+        boolean tagsEmpty = tagList.isEmpty();
+        Page<Video> result = SORT_TRENDING.equals(sortKey)
+                ? videoRepository.searchPublicVideosTrending(
+                        keywordTerm(keywordTerms, 0),
+                        keywordTerm(keywordTerms, 1),
+                        keywordTerm(keywordTerms, 2),
+                        tagList,
+                        tagsEmpty,
+                        pageable)
+                : videoRepository.searchPublicVideos(
+                        keywordTerm(keywordTerms, 0),
+                        keywordTerm(keywordTerms, 1),
+                        keywordTerm(keywordTerms, 2),
+                        tagList,
+                        tagsEmpty,
+                        pageable);
+
+        List<VideoSummaryDto> content = result.stream().map(VideoSummaryDto::from).toList();
+        videoListingCache.putVideos(videoVersion, content);
+
+        VideoListingCache.CachedPage loaded = new VideoListingCache.CachedPage(
+                content.stream().map(VideoSummaryDto::getVideoNo).toList(), result.getTotalElements());
+        videoListingCache.putPage(key, version, loaded);
+        return loaded;
+    }
 
-        Map<Long, ReactionType> reactionMap = reactions.stream()
-                .collect(Collectors.toMap(
-                        VideoReaction::getVideoNo,
-                        VideoReaction::getReactionType
-                ));
+    /** for_you 순서 (사용자별 캐시 → 없으면 최신순 상위 window 개를 재정렬) */
+    private long[] forYouRanking(Long userNo, UserTagAffinity.Profile profile,
+                                 List<String> keywordTerms, String keywordParam, List<String> tagList) {
+        ForYouRanker.Key key = new ForYouRanker.Key(keywordParam, tagList);
+        long[] cached = forYouRanker.cached(userNo, key);
+        if (cached != null) {
+            return cached;
+        }
 
-        return result.map(v -> {
-            VideoSummaryDto dto = VideoSummaryDto.from(v);
-            ReactionType rt = reactionMap.get(v.getVideoNo());
-            if (rt != null) {
-                dto.setMyReaction(rt.name()); // "LIKE" / "DISLIKE"
-            }
-            return dto;
-        });
+        Pageable window = PageRequest.of(0, forYouRanker.window(), Sort.by(Sort.Direction.DESC, "uploadDate"));
+        List<VideoSummaryDto> candidates = resolveCachedVideos(
+                publicPage(keywordTerms, keywordParam, tagList, SORT_LATEST, window).videoNos());
+
+        int[][] candidateTags = new int[candidates.size()][];
+        for (int i = 0; i < candidateTags.length; i++) {
+            candidateTags[i] = userTagAffinity.tagIds(candidates.get(i));
+        }
+        int[] order = forYouRanker.rank(profile.weights(), candidateTags);
+
+        long[] ranked = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            ranked[i] = candidates.get(order[i]).getVideoNo();
+        }
+        forYouRanker.put(userNo, key, ranked);
+        return ranked;
     }
 
-    // ✅ 좋아요/싫어요 토글
-    @Transactional
-    public VideoReactionResponse toggleReaction(String userId, Long videoNo, String action) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다: " + userId));
+    // 🔹 관련 영상: 미리 계산해 둔 VIDEO_RELATED_TABLE 범위 조회 + 영상 DTO 캐시
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<VideoSummaryDto> getRelatedVideos(Long videoNo, int limit) {
+        int max = videoRelatedService.topK();
+        if (limit < 1 || limit > max) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + max + " 사이여야 합니다: " + limit);
+        }
 
-        Video video = videoRepository.findById(videoNo)
-                .orElseThrow(() -> new IllegalArgumentException("영상이 존재하지 않습니다: " + videoNo));
+        List<Long> relatedNos = videoRelatedRepository.findByVideoNoOrderByRankNoAsc(videoNo).stream()
+                .map(VideoRelated::getRelatedVideoNo)
+                .toList();
+        if (relatedNos.isEmpty()) {
+            return List.of();
+        }
 
+        // 다음 재계산 전까지는 그 사이 차단/미승인된 영상이 남아 있을 수 있어서 한 번 더 거름
+        return resolveCachedVideos(relatedNos).stream()
+                .filter(dto -> "N".equals(dto.getIsBlocked()) && "A".equals(dto.getReviewStatus()))
+                .limit(limit)
+                .toList();
+    }
+
+    private static String keywordTerm(List<String> terms, int index) {
+        return index < terms.size() ? terms.get(index) : null;
+    }
+
+    /** 캐시된 페이지의 videoNo 순서대로 DTO 를 채움 (영상 캐시에서 빠진 것만 한 번에 조회) */
+    private List<VideoSummaryDto> resolveCachedVideos(List<Long> videoNos) {
+        Map<Long, VideoSummaryDto> found = new HashMap<>(videoListingCache.getVideos(videoNos));
+
+        List<Long> missing = videoNos.stream()
+                .filter(no -> !found.containsKey(no))
+                .toList();
+        if (!missing.isEmpty()) {
+            long videoVersion = videoListingCache.currentVideoVersion();
+            List<VideoSummaryDto> loaded = videoRepository.findAllById(missing).stream()
+                    .map(VideoSummaryDto::from)
+                    .toList();
+            videoListingCache.putVideos(videoVersion, loaded);
+            loaded.forEach(dto -> found.put(dto.getVideoNo(), dto));
+        }
+
+        // 그 사이 삭제된 영상은 빠진 채로 반환 (다음 version 변경 때 페이지가 다시 계산됨)
+        return videoNos.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // ✅ 좋아요/싫어요 토글
+    @Transactional
+    public VideoReactionResponse toggleReaction(Long userNo, Long videoNo, String action) {
         ReactionType target;
         if ("LIKE".equalsIgnoreCase(action)) {
             target = ReactionType.LIKE;
@@ -287,55 +425,48 @@ public class VideoService {
             throw new IllegalArgumentException("지원하지 않는 action 입니다: " + action);
         }
 
-        Long userNo = user.getUserNo();
-
-        // 현재 내 반응 조회
-        VideoReaction current = videoReactionRepository
-                .findByVideoNoAndUserNo(videoNo, userNo)
-                .orElse(null);
-
-        String myReactionStr;
-
-        if (current != null && current.getReactionType() == target) {
-            // 같은 버튼 한 번 더 → 취소
-            videoReactionRepository.delete(current);
-            myReactionStr = null;
+        // 반응 행 변경 + 좋아요/싫어요 카운트 증감을 한 번에 (COUNT(*) 재계산 없음)
+        VideoReactionEngine.ToggleResult result =
+                videoReactionEngine.toggle(videoNo, userNo, target);
+
+        // 목록 구성은 그대로라 페이지 캐시는 두고, 숫자가 바뀐 영상 DTO 만 커밋 후 제거
+        // + 내 반응 비트맵 / 태그 선호도 / 리더보드 / 트렌딩 갱신
+        // (태그 선호도는 목록 DTO 캐시의 태그를 쓰므로 DTO 를 지우기 전에 반영)
+        Runnable afterCommit = () -> {
+            userTagAffinity.onReaction(userNo, videoNo, result.likeDelta(), result.dislikeDelta());
+            videoListingCache.evictVideo(videoNo);
+            videoReactionBitmapCache.apply(userNo, videoNo, result.myReaction(), result.changedAt());
+            forYouRanker.evictUser(userNo);
+            homeLeaderboard.onReaction(videoNo, result.likeCount(), result.dislikeCount());
+            findingCorpus.onReaction(videoNo, result.likeCount(), result.dislikeCount());
+            // 트렌딩은 (사용자, 영상) 첫 좋아요만 (좋아요 ↔ 취소 반복으로 점수가 오르지 않도록)
+            if (result.firstLike()) videoTrendingService.onLike(videoNo);
+        };
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    afterCommit.run();
+                }
+            });
         } else {
-            // 없거나 반대 반응 → target 으로 세팅
-            if (current == null) {
-                current = VideoReaction.builder()
-                        .videoNo(videoNo)
-                        .userNo(userNo)
-                        .build();
-            }
-            current.setReactionType(target);
-            videoReactionRepository.save(current);
-            myReactionStr = target.name();
+            afterCommit.run();
         }
 
-        long likeCount = videoReactionRepository.countByVideoNoAndReactionType(videoNo, ReactionType.LIKE);
-        long dislikeCount = videoReactionRepository.countByVideoNoAndReactionType(videoNo, ReactionType.DISLIKE);
-
-        video.setLikeCount(likeCount);
-        video.setDislikeCount(dislikeCount);
-
         return VideoReactionResponse.builder()
-                .likeCount(likeCount)
-                .dislikeCount(dislikeCount)
-                .myReaction(myReactionStr)
+                .likeCount(result.likeCount())
+                .dislikeCount(result.dislikeCount())
+                .myReaction(result.myReaction() == null ? null : result.myReaction().name())
                 .build();
     }
 
     @Transactional
-    public void deleteMyVideo(String userId, Long videoNo) {
-
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("회원 정보를 찾을 수 없습니다."));
+    public void deleteMyVideo(Long userNo, Long videoNo) {
 
         Video video = videoRepository.findById(videoNo)
                 .orElseThrow(() -> new IllegalArgumentException("영상 정보를 찾을 수 없습니다."));
 
-        if (!video.getUserNo().equals(user.getUserNo())) {
+        if (!video.getUserNo().equals(userNo)) {
             throw new AccessDeniedException("본인이 업로드한 영상만 삭제할 수 있습니다.");
         }
 
@@ -355,67 +486,34 @@ public class VideoService {
 
         // 부모 삭제
         videoRepository.delete(video);
+        eventPublisher.publishEvent(VideoChangedEvent.of(videoNo, VideoChangedEvent.Type.DELETED));
     }
 
-    @Transactional(readOnly = true)
-    public HomeSummaryResponse getHomeSummary() {
-        long total = videoRepository.countByIsBlockedAndReviewStatus("N", "A");
-
-        Video topLikedEntity = videoRepository
-                .findFirstByIsBlockedAndReviewStatusOrderByLikeCountDesc("N", "A")
-                .orElse(null);
-
-        Video topViewedEntity = videoRepository
-                .findFirstByIsBlockedAndReviewStatusOrderByViewCountDesc("N", "A")
-                .orElse(null);
-
-        Video topDislikedEntity = videoRepository
-                .findFirstByIsBlockedAndReviewStatusOrderByDislikeCountDesc("N", "A")
-                .orElse(null);
-
-        return HomeSummaryResponse.builder()
-                .totalCount(total)
-                .topLiked(toSimpleDto(topLikedEntity))
-                .topViewed(toSimpleDto(topViewedEntity))
-                .topDisliked(toSimpleDto(topDislikedEntity))
-                .build();
+    // 홈 요약은 메모리 리더보드에서 (DB 왕복 없음)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public HomeSummaryResponse getHomeSummary(int top) {
+        return homeLeaderboard.summary(top);
     }
 
-    private SimpleVideoDto toSimpleDto(Video v) {
-        if (v == null) return null;
-
-        List<String> tags = new ArrayList<>();
-        if (v.getTag1() != null && !v.getTag1().isBlank()) tags.add(v.getTag1());
-        if (v.getTag2() != null && !v.getTag2().isBlank()) tags.add(v.getTag2());
-        if (v.getTag3() != null && !v.getTag3().isBlank()) tags.add(v.getTag3());
-        if (v.getTag4() != null && !v.getTag4().isBlank()) tags.add(v.getTag4());
-        if (v.getTag5() != null && !v.getTag5().isBlank()) tags.add(v.getTag5());
-
-        return SimpleVideoDto.builder()
-                .videoNo(v.getVideoNo())
-                .title(v.getTitle())
-                .description(v.getDescription())
-                .thumbnailUrl(null)
-                .videoUrl(null)
-                .likeCount(v.getLikeCount())
-                .dislikeCount(v.getDislikeCount())
-                .viewCount(v.getViewCount())
-                .uploaderNickname(null)
-                .createdAt(v.getCreatedAt())
-                .tags(tags)
-                .build();
-    }
-
-    public long increaseViewCount(Long videoNo) {
-        Video video = videoRepository.findById(videoNo)
-                .orElseThrow(() -> new IllegalArgumentException("영상이 존재하지 않습니다: " + videoNo));
-
-        Long current = video.getViewCount();
-        if (current == null) current = 0L;
-
-        long updated = current + 1;
-        video.setViewCount(updated);
+    // 조회수는 메모리에 모았다가 주기적으로 일괄 반영 (여기서는 Video 행을 잠그지 않음)
+    // 고유 시청자는 HyperLogLog 스케치로 따로 센다
+    // 트렌딩은 고유 시청자 추정값이 늘어난 만큼만 (같은 사람이 /view 를 반복 호출해도 점수 그대로)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public VideoViewResponse increaseViewCount(Long videoNo, Long userNo, String viewerKey) {
+        long viewCount = videoViewCounter.increment(videoNo);
+        VideoUniqueViewerService.Recorded unique = videoUniqueViewerService.record(videoNo, viewerKey);
+        long uniqueViewCount = unique.uniqueCount();
+        homeLeaderboard.onViews(videoNo, viewCount);
+        findingCorpus.onViews(videoNo, viewCount);
+        // 같은 시청자의 반복 조회는 트렌딩/선호도에 다시 더하지 않음
+        if (unique.added() > 0) {
+            videoTrendingService.onViews(videoNo, unique.added());
+            userTagAffinity.onView(userNo, videoNo);
+        }
 
-        return updated;
+        return VideoViewResponse.builder()
+                .viewCount(viewCount)
+                .uniqueViewCount(uniqueViewCount)
+                .build();
     }
 }
@@ -0,0 +1,243 @@
+// src/main/java/com/aivideoback/kwungjin/video/service/VideoTrendingService.java
+package com.aivideoback.kwungjin.video.service;
+
+import com.aivideoback.kwungjin.video.event.VideoChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * 시간 감쇠(forward decay) 트렌딩 점수.
+ *
+ * - 이벤트(조회/좋아요) 하나 = weight * 2^((t - 기준시각) / half-life)
+ *   → 모든 영상이 같은 기준으로 커지므로 지금 시점 순위는 누적값 순위와 같다 (시간 경과로 재계산 X)
+ * - 값이 계속 커지므로 자연로그로 저장하고, 더할 때는 log-sum-exp
+ * - 이벤트는 메모리에 모았다가 recompute-ms 마다 VIDEO_TRENDING_TABLE 에 MERGE,
+ *   window 교체는 AtomicReference 로 바꾼 뒤 옛 window 에 진행 중인 add 가 끝날 때까지 기다림
+ *   (닫힌 window 를 잡은 add 는 새 window 로 다시 시도 → flush 와 겹쳐도 이벤트가 사라지지 않음)
+ *   충분히 식은 행은 지우고, 남은 행을 읽어 메모리 스냅샷(Finding 정렬용)을 교체
+ * - 공개 목록 sort=trending 은 이 테이블의 LOG_SCORE 순서를 그대로 사용
+ *
+ * half-life 를 바꾸면 기존 LOG_SCORE 와 척도가 달라지므로 테이블을 비우고 다시 쌓는다.
+ */
+@Slf4j
+@Component
+public class VideoTrendingService {
+
+    // 기준 시각 (2025-01-01T00:00:00Z). 바꾸면 기존 점수와 비교할 수 없음
+    private static final long LANDMARK_MS = 1_735_689_600_000L;
+
+    private static final String MERGE_SQL = """
+            MERGE INTO VIDEO_TRENDING_TABLE t
+            USING (SELECT ? AS VIDEO_NO, ? AS D FROM DUAL) x
+               ON (t.VIDEO_NO = x.VIDEO_NO)
+             WHEN MATCHED THEN UPDATE
+                  SET t.LOG_SCORE  = GREATEST(t.LOG_SCORE, x.D)
+                                     + LN(1 + EXP(-LEAST(ABS(t.LOG_SCORE - x.D), 50))),
+                      t.UPDATED_AT = SYSTIMESTAMP
+             WHEN NOT MATCHED THEN INSERT (VIDEO_NO, LOG_SCORE, UPDATED_AT)
+                  VALUES (x.VIDEO_NO, x.D, SYSTIMESTAMP)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double tauMs;          // half-life / ln2
+    private final double viewWeight;
+    private final double likeWeight;
+    private final double logMinScore;
+
+    // 이번 주기에 쌓인 점수 (window 시작 시각 기준 선형값, 주기마다 통째로 교체)
+    private final AtomicReference<Window> window = new AtomicReference<>(new Window(System.currentTimeMillis()));
+    // videoNo → LOG_SCORE (마지막 recompute 시점 DB 기준)
+    private volatile Map<Long, Double> snapshot = Map.of();
+
+    private static final class Window {
+        final long startMs;
+        final ConcurrentHashMap<Long, DoubleAdder> pending = new ConcurrentHashMap<>();
+        // 진행 중인 add 수, 최상위 비트 = 닫힘
+        private final AtomicInteger state = new AtomicInteger();
+
+        Window(long startMs) {
+            this.startMs = startMs;
+        }
+
+        /** 닫혔으면 false (새 window 로 다시 시도) */
+        boolean enter() {
+            while (true) {
+                int s = state.get();
+                if (s < 0) return false;
+                if (state.compareAndSet(s, s + 1)) return true;
+            }
+        }
+
+        void exit() {
+            state.decrementAndGet();
+        }
+
+        /** 더 이상 add 를 받지 않고, 이미 들어온 add 가 끝날 때까지 기다림 */
+        void close() {
+            while (true) {
+                int s = state.get();
+                if (state.compareAndSet(s, s | Integer.MIN_VALUE)) break;
+            }
+            while ((state.get() & Integer.MAX_VALUE) != 0) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    public VideoTrendingService(JdbcTemplate jdbcTemplate,
+                                @Value("${app.video.trending.half-life-hours:24}") double halfLifeHours,
+                                @Value("${app.video.trending.view-weight:1.0}") double viewWeight,
+                                @Value("${app.video.trending.like-weight:3.0}") double likeWeight,
+                                @Value("${app.video.trending.min-score:0.05}") double minScore) {
+        if (halfLifeHours <= 0) {
+            throw new IllegalArgumentException("app.video.trending.half-life-hours 는 0 보다 커야 합니다: " + halfLifeHours);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.tauMs = halfLifeHours * 3_600_000d / Math.log(2);
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.logMinScore = Math.log(minScore);
+    }
+
+    /** 고유 시청자 추정값이 늘어난 만큼 (같은 시청자의 반복 조회는 0 이라 호출되지 않음) */
+    public void onViews(Long videoNo, long uniqueViewers) {
+        add(videoNo, viewWeight * uniqueViewers);
+    }
+
+    /** (사용자, 영상) 첫 좋아요일 때만 (취소 후 재좋아요/싫어요는 반영하지 않음) */
+    public void onLike(Long videoNo) {
+        add(videoNo, likeWeight);
+    }
+
+    /** 현재 트렌딩 점수(log). 스냅샷에 없으면 음의 무한대 */
+    public double logScore(Long videoNo) {
+        return snapshot.getOrDefault(videoNo, Double.NEGATIVE_INFINITY);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reloadSnapshot();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.video.trending.recompute-ms:30000}",
+            initialDelayString = "${app.video.trending.recompute-ms:30000}"
+    )
+    public void scheduledRecompute() {
+        recompute();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /** 쌓인 점수 반영 → 식은 행 정리 → 스냅샷 교체 */
+    public synchronized void recompute() {
+        flush();
+        try {
+            int pruned = jdbcTemplate.update(
+                    "DELETE FROM VIDEO_TRENDING_TABLE WHERE LOG_SCORE < ?", floor(System.currentTimeMillis()));
+            if (pruned > 0) {
+                log.debug("트렌딩 점수 정리 {}건", pruned);
+            }
+        } catch (Exception e) {
+            log.warn("트렌딩 점수 정리 실패", e);
+        }
+        reloadSnapshot();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        if (event.type() != VideoChangedEvent.Type.DELETED) return;
+
+        window.get().pending.remove(event.videoNo());
+        try {
+            jdbcTemplate.update("DELETE FROM VIDEO_TRENDING_TABLE WHERE VIDEO_NO = ?", event.videoNo());
+            jdbcTemplate.update("DELETE FROM VIDEO_LIKE_LEDGER_TABLE WHERE VIDEO_NO = ?", event.videoNo());
+        } catch (Exception e) {
+            log.warn("트렌딩 점수/첫 좋아요 기록 삭제 실패 videoNo={}", event.videoNo(), e);
+        }
+    }
+
+    /* ---------- 내부 ---------- */
+
+    private void add(Long videoNo, double weight) {
+        if (weight <= 0) return;
+        while (true) {
+            Window w = window.get();
+            if (!w.enter()) continue;   // flush 가 막 교체함 → 새 window 로
+            try {
+                double scaled = weight * Math.exp((System.currentTimeMillis() - w.startMs) / tauMs);
+                w.pending.computeIfAbsent(videoNo, k -> new DoubleAdder()).add(scaled);
+                return;
+            } finally {
+                w.exit();
+            }
+        }
+    }
+
+    private synchronized void flush() {
+        Window w = window.getAndSet(new Window(System.currentTimeMillis()));
+        w.close();
+
+        // window 시작 시각 기준 선형값 → 기준 시각 기준 log 값, videoNo 순서로 (잠금 순서 고정)
+        double offset = (w.startMs - LANDMARK_MS) / tauMs;
+        TreeMap<Long, Double> deltas = new TreeMap<>();
+        w.pending.forEach((videoNo, adder) -> {
+            double sum = adder.sum();
+            if (sum > 0) deltas.put(videoNo, Math.log(sum) + offset);
+        });
+        if (deltas.isEmpty()) return;
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((videoNo, d) -> args.add(new Object[]{videoNo, d}));
+        try {
+            jdbcTemplate.batchUpdate(MERGE_SQL, args);
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도 (새 window 기준으로 환산해서 되돌림)
+            log.warn("트렌딩 점수 반영 실패 ({}건), 다음 주기에 재시도", deltas.size(), e);
+            // (window 를 닫는 건 flush 뿐이고 flush 는 synchronized 라 여기서 current 가 닫히지 않음)
+            Window current = window.get();
+            double back = (current.startMs - LANDMARK_MS) / tauMs;
+            deltas.forEach((videoNo, d) -> current.pending
+                    .computeIfAbsent(videoNo, k -> new DoubleAdder())
+                    .add(Math.exp(d - back)));
+        }
+    }
+
+    private void reloadSnapshot() {
+        try {
+            Map<Long, Double> loaded = new HashMap<>();
+            jdbcTemplate.query(
+                    "SELECT VIDEO_NO, LOG_SCORE FROM VIDEO_TRENDING_TABLE WHERE LOG_SCORE >= ?",
+                    rs -> {
+                        loaded.put(rs.getLong(1), rs.getDouble(2));
+                    },
+                    floor(System.currentTimeMillis()));
+            snapshot = Collections.unmodifiableMap(loaded);
+        } catch (Exception e) {
+            log.warn("트렌딩 스냅샷 로드 실패", e);
+        }
+    }
+
+    /** 지금 시점으로 감쇠했을 때 min-score 미만이 되는 LOG_SCORE 경계 */
+    private double floor(long nowMs) {
+        return logMinScore + (nowMs - LANDMARK_MS) / tauMs;
+    }
+}
@@ -0,0 +1,238 @@
+// src/main/java/com/aivideoback/kwungjin/video/service/VideoUniqueViewerService.java
+package com.aivideoback.kwungjin.video.service;
+
+import com.aivideoback.kwungjin.video.entity.VideoViewerSketch;
+import com.aivideoback.kwungjin.video.event.VideoChangedEvent;
+import com.aivideoback.kwungjin.video.repository.VideoViewerSketchRepository;
+import com.aivideoback.kwungjin.video.util.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 영상별 고유 시청자 수 (HyperLogLog).
+ *
+ * - 시청자 키: 로그인 사용자는 계정, 비로그인은 IP + User-Agent 지문 (해시만 반영, 원문 저장 X)
+ * - 스케치는 메모리에 두고, 레지스터가 바뀐 영상만 주기적으로 VIDEO_VIEWER_SKETCH_TABLE 에 저장
+ * - 저장은 덮어쓰기가 아니라 합치기: 행을 잠그고(FOR UPDATE) 저장된 스케치를 merge 한 결과를 쓰고,
+ *   커밋 뒤 그 결과를 메모리 스케치에도 합친다 → 여러 인스턴스의 시청자가 서로 지워지지 않음
+ * - 같은 사람이 /view 를 반복 호출해도 레지스터가 안 바뀌어서 고유 시청자 수는 그대로
+ */
+@Slf4j
+@Component
+public class VideoUniqueViewerService {
+
+    private static final int FLUSH_CHUNK = 100;   // 트랜잭션 하나에서 잠그는 행 수
+
+    private final VideoViewerSketchRepository sketchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int precision;
+    private final int maxSketches;
+
+    private final ConcurrentHashMap<Long, Holder> sketches = new ConcurrentHashMap<>();
+
+    public VideoUniqueViewerService(VideoViewerSketchRepository sketchRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.video.unique-viewers.precision:12}") int precision,
+                                    @Value("${app.video.unique-viewers.max-sketches:20000}") int maxSketches) {
+        this.sketchRepository = sketchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.precision = precision;
+        this.maxSketches = maxSketches;
+    }
+
+    /** 시청자 키 (로그인: 계정 / 비로그인: IP + User-Agent) */
+    public static String viewerKey(String userId, String clientIp, String userAgent) {
+        if (userId != null && !userId.isBlank()) {
+            return "u:" + userId;
+        }
+        return "g:" + clientIp + "|" + (userAgent == null ? "" : userAgent);
+    }
+
+    /** uniqueCount: 반영 후 고유 시청자 추정값 / added: 이번 시청으로 늘어난 추정값 (같은 사람 반복이면 0) */
+    public record Recorded(long uniqueCount, long added) {
+    }
+
+    /** 시청 한 번 반영 */
+    public Recorded record(Long videoNo, String viewerKey) {
+        long hash = HyperLogLog.hash(viewerKey);
+        while (true) {
+            Holder h = holder(videoNo);
+            synchronized (h) {
+                if (h.evicted) continue;   // 방금 메모리에서 내려간 스케치 → 다시 로드
+                long before = h.estimate;
+                if (h.hll.offer(hash)) {
+                    // 추정값은 늘어날 때만 갱신 (linear counting 경계에서 살짝 줄어드는 것 방지)
+                    h.estimate = Math.max(h.estimate, h.hll.estimate());
+                    h.dirty = true;
+                }
+                return new Recorded(h.estimate, h.estimate - before);
+            }
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.video.unique-viewers.flush-ms:10000}",
+            initialDelayString = "${app.video.unique-viewers.flush-ms:10000}"
+    )
+    public void scheduledFlush() {
+        flush();
+        evictIfOverCapacity();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /** flush 한 건: 메모리 스케치 복사본 → 저장된 스케치와 합친 결과 */
+    private static final class Pending {
+        final Long videoNo;
+        final Holder holder;
+        final HyperLogLog sketch;
+        long estimate;
+
+        Pending(Long videoNo, Holder holder, HyperLogLog sketch, long estimate) {
+            this.videoNo = videoNo;
+            this.holder = holder;
+            this.sketch = sketch;
+            this.estimate = estimate;
+        }
+    }
+
+    /** 바뀐 스케치만 저장된 스케치와 합쳐서 저장 (영상 번호 순으로 잠가서 인스턴스 간 교착 방지) */
+    public synchronized void flush() {
+        List<Pending> pending = new ArrayList<>();
+        for (Map.Entry<Long, Holder> e : sketches.entrySet()) {
+            Holder h = e.getValue();
+            synchronized (h) {
+                if (!h.dirty) continue;
+                h.dirty = false;
+                pending.add(new Pending(e.getKey(), h, HyperLogLog.fromBytes(h.hll.toBytes()), h.estimate));
+            }
+        }
+        if (pending.isEmpty()) return;
+        pending.sort(Comparator.comparing(p -> p.videoNo));
+
+        for (int from = 0; from < pending.size(); from += FLUSH_CHUNK) {
+            List<Pending> chunk = pending.subList(from, Math.min(pending.size(), from + FLUSH_CHUNK));
+            try {
+                transactionTemplate.executeWithoutResult(status -> chunk.forEach(this::mergeAndSave));
+            } catch (Exception ex) {
+                log.warn("고유 시청자 스케치 저장 실패 ({}건), 다음 주기에 재시도", chunk.size(), ex);
+                for (Pending p : chunk) {
+                    synchronized (p.holder) {
+                        p.holder.dirty = true;
+                    }
+                }
+                continue;
+            }
+
+            // 커밋된 합집합을 메모리 스케치에도 반영 (다른 인스턴스 시청자 포함)
+            for (Pending p : chunk) {
+                synchronized (p.holder) {
+                    if (p.holder.evicted) continue;
+                    p.holder.hll.merge(p.sketch);
+                    p.holder.estimate = Math.max(p.holder.estimate, Math.max(p.estimate, p.holder.hll.estimate()));
+                }
+            }
+        }
+    }
+
+    /** 트랜잭션 안에서: 행 잠금 → 저장된 레지스터 합치기 → 저장 */
+    private void mergeAndSave(Pending p) {
+        VideoViewerSketch row = sketchRepository.findForUpdate(p.videoNo).orElse(null);
+        if (row == null) {
+            row = VideoViewerSketch.builder().videoNo(p.videoNo).build();
+        } else {
+            HyperLogLog stored = HyperLogLog.fromBytes(row.getSketch());
+            if (stored.precision() == p.sketch.precision()) {
+                p.sketch.merge(stored);
+            } else {
+                // precision 설정이 바뀐 경우: 합칠 수 없으니 이 인스턴스 스케치로 새로 시작
+                log.warn("고유 시청자 스케치 precision 불일치 videoNo={} stored={} local={}",
+                        p.videoNo, stored.precision(), p.sketch.precision());
+            }
+            if (row.getUniqueCount() != null) {
+                p.estimate = Math.max(p.estimate, row.getUniqueCount());
+            }
+        }
+        p.estimate = Math.max(p.estimate, p.sketch.estimate());
+
+        row.setSketch(p.sketch.toBytes());
+        row.setUniqueCount(p.estimate);
+        row.setUpdatedAt(LocalDateTime.now());
+        sketchRepository.save(row);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        if (event.type() != VideoChangedEvent.Type.DELETED) return;
+
+        Holder h = sketches.remove(event.videoNo());
+        if (h != null) {
+            synchronized (h) {
+                h.evicted = true;
+                h.dirty = false;
+            }
+        }
+        try {
+            if (sketchRepository.existsById(event.videoNo())) {
+                sketchRepository.deleteById(event.videoNo());
+            }
+        } catch (Exception e) {
+            log.warn("고유 시청자 스케치 삭제 실패 videoNo={}", event.videoNo(), e);
+        }
+    }
+
+    private Holder holder(Long videoNo) {
+        Holder h = sketches.get(videoNo);
+        if (h != null) return h;
+
+        // DB 조회는 map 잠금 밖에서 (같은 영상을 동시에 로드하면 먼저 넣은 쪽을 사용)
+        Holder loaded = sketchRepository.findById(videoNo)
+                .map(row -> new Holder(HyperLogLog.fromBytes(row.getSketch()), row.getUniqueCount()))
+                .orElseGet(() -> new Holder(new HyperLogLog(precision), 0L));
+        Holder existing = sketches.putIfAbsent(videoNo, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /** 저장이 끝난(깨끗한) 스케치부터 메모리에서 내림 */
+    private void evictIfOverCapacity() {
+        if (sketches.size() <= maxSketches) return;
+
+        for (Map.Entry<Long, Holder> e : sketches.entrySet()) {
+            if (sketches.size() <= maxSketches) break;
+            Holder h = e.getValue();
+            synchronized (h) {
+                if (h.dirty) continue;
+                h.evicted = true;
+                sketches.remove(e.getKey(), h);
+            }
+        }
+    }
+
+    private static final class Holder {
+        final HyperLogLog hll;
+        long estimate;
+        boolean dirty;
+        boolean evicted;
+
+        Holder(HyperLogLog hll, Long estimate) {
+            this.hll = hll;
+            this.estimate = estimate == null ? 0L : estimate;
+        }
+    }
+}
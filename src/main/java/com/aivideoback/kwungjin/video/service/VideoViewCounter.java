@@ -0,0 +1,121 @@
+// src/main/java/com/aivideoback/kwungjin/video/service/VideoViewCounter.java
+package com.aivideoback.kwungjin.video.service;
+
+import com.aivideoback.kwungjin.video.repository.VideoRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 write-behind 카운터.
+ *
+ * - 조회 한 번 = 메모리 LongAdder 증가만 (VIDEO_TABLE 행 잠금 없음)
+ * - app.video.view-flush-ms 마다 쌓인 증가분을 JDBC batch
+ *   "UPDATE VIEW_COUNT = VIEW_COUNT + ?" 로 한 번에 반영
+ * - 응답용 조회수는 DB 값(캐시) + 아직 반영 안 된 증가분 (근사치)
+ * - 정상 종료 시 남은 증가분을 마지막으로 flush
+ */
+@Slf4j
+@Component
+public class VideoViewCounter {
+
+    private static final String FLUSH_SQL =
+            "UPDATE VIDEO_TABLE SET VIEW_COUNT = VIEW_COUNT + ? WHERE VIDEO_NO = ?";
+
+    private final VideoRepository videoRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // videoNo → 아직 DB 에 안 쓴 증가분 (한 번 만든 adder 는 계속 재사용)
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // videoNo → 마지막으로 알고 있는 DB VIEW_COUNT (flush 할 때 같이 올린다)
+    private final Map<Long, Long> baseCounts;
+
+    public VideoViewCounter(VideoRepository videoRepository,
+                            JdbcTemplate jdbcTemplate,
+                            @Value("${app.video.view-base-cache-size:10000}") int baseCacheSize) {
+        this.videoRepository = videoRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.baseCounts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > baseCacheSize;
+            }
+        };
+    }
+
+    /** 조회 1 증가 후 근사 조회수 반환. 없는 영상이면 IllegalArgumentException */
+    public long increment(Long videoNo) {
+        long base = baseCount(videoNo);
+        LongAdder adder = pending.computeIfAbsent(videoNo, k -> new LongAdder());
+        adder.increment();
+        return base + adder.sum();
+    }
+
+    /** 아직 DB 에 안 쓴 증가분 (다른 화면에서 조회수 보정이 필요할 때) */
+    public long pendingCount(Long videoNo) {
+        LongAdder adder = pending.get(videoNo);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.video.view-flush-ms:2000}",
+            initialDelayString = "${app.video.view-flush-ms:2000}"
+    )
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        log.info("종료 전 조회수 flush 완료");
+    }
+
+    /** 쌓인 증가분을 videoNo 순서로 한 번에 반영 (잠금 순서 고정 → 데드락 방지) */
+    public synchronized void flush() {
+        TreeMap<Long, Long> deltas = new TreeMap<>();
+        pending.forEach((videoNo, adder) -> {
+            long d = adder.sumThenReset();
+            if (d > 0) deltas.put(videoNo, d);
+        });
+        if (deltas.isEmpty()) return;
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((videoNo, d) -> args.add(new Object[]{d, videoNo}));
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+        } catch (Exception e) {
+            // 실패하면 다음 주기에 다시 시도하도록 되돌려 둔다
+            log.warn("조회수 flush 실패 ({}건), 다음 주기에 재시도", deltas.size(), e);
+            deltas.forEach((videoNo, d) -> pending.computeIfAbsent(videoNo, k -> new LongAdder()).add(d));
+            return;
+        }
+
+        synchronized (baseCounts) {
+            deltas.forEach((videoNo, d) -> baseCounts.computeIfPresent(videoNo, (k, base) -> base + d));
+        }
+    }
+
+    private long baseCount(Long videoNo) {
+        synchronized (baseCounts) {
+            Long cached = baseCounts.get(videoNo);
+            if (cached != null) return cached;
+        }
+
+        Long fromDb = videoRepository.findViewCountByVideoNo(videoNo)
+                .orElseThrow(() -> new IllegalArgumentException("영상이 존재하지 않습니다: " + videoNo));
+
+        synchronized (baseCounts) {
+            // DB 를 읽는 사이 flush 가 끝났을 수 있으니 이미 들어온 값이 있으면 그걸 쓴다
+            return baseCounts.computeIfAbsent(videoNo, k -> fromDb == null ? 0L : fromDb);
+        }
+    }
+}
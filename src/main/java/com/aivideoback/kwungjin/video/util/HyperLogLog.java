@@ -0,0 +1,148 @@
+package com.aivideoback.kwungjin.video.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 고유 시청자 수 추정용 HyperLogLog (레지스터 1바이트, 2^p 개).
+ *
+ * - p=12 → 4096 레지스터 = 4KB, 표준 오차 약 1.6%
+ * - 직렬화: 채워진 레지스터가 적으면 sparse(인덱스+값), 많으면 dense 그대로
+ * - 스레드 안전하지 않음 (호출하는 쪽에서 영상 단위로 동기화)
+ */
+public class HyperLogLog {
+
+    private static final byte FORMAT_DENSE = 0;
+    private static final byte FORMAT_SPARSE = 1;
+
+    private final int p;
+    private final byte[] registers;
+    private int nonZero;
+
+    public HyperLogLog(int p) {
+        if (p < 4 || p > 16) {
+            throw new IllegalArgumentException("HyperLogLog precision 은 4~16 사이여야 합니다: " + p);
+        }
+        this.p = p;
+        this.registers = new byte[1 << p];
+    }
+
+    /** 64비트 해시 하나를 반영. 레지스터가 바뀌었으면(=추정값이 바뀔 수 있으면) true */
+    public boolean offer(long hash) {
+        int idx = (int) (hash >>> (64 - p));
+        // 남은 비트에서 첫 1 의 위치 (최대 64-p+1 로 제한)
+        long w = (hash << p) | (1L << (p - 1));
+        byte rho = (byte) (Long.numberOfLeadingZeros(w) + 1);
+        byte current = registers[idx];
+        if (rho <= current) {
+            return false;
+        }
+        if (current == 0) nonZero++;
+        registers[idx] = rho;
+        return true;
+    }
+
+    /**
+     * 다른 스케치를 합침 (레지스터별 최댓값 → 두 집합 합집합의 스케치).
+     * precision 이 다르면 합칠 수 없음. 바뀐 레지스터가 있으면 true
+     */
+    public boolean merge(HyperLogLog other) {
+        if (other.p != p) {
+            throw new IllegalArgumentException(
+                    "precision 이 다른 HyperLogLog 는 합칠 수 없습니다: " + p + " / " + other.p);
+        }
+        boolean changed = false;
+        for (int i = 0; i < registers.length; i++) {
+            byte theirs = other.registers[i];
+            byte current = registers[i];
+            if (theirs > current) {
+                if (current == 0) nonZero++;
+                registers[i] = theirs;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0.0;
+        int zeros = 0;
+        for (byte r : registers) {
+            sum += 1.0 / (1L << r);
+            if (r == 0) zeros++;
+        }
+        double alpha = switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1.0 + 1.079 / m);
+        };
+        double estimate = alpha * m * m / sum;
+
+        // 작은 범위 보정 (linear counting)
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        int m = registers.length;
+        // sparse: [format][p][count:int] + count * ([idx:short][rho:byte])
+        int sparseSize = 6 + nonZero * 3;
+        if (sparseSize < 2 + m) {
+            ByteBuffer buf = ByteBuffer.allocate(sparseSize);
+            buf.put(FORMAT_SPARSE).put((byte) p).putInt(nonZero);
+            for (int i = 0; i < m; i++) {
+                if (registers[i] != 0) {
+                    buf.putShort((short) i).put(registers[i]);
+                }
+            }
+            return buf.array();
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(2 + m);
+        buf.put(FORMAT_DENSE).put((byte) p).put(registers);
+        return buf.array();
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        byte format = buf.get();
+        HyperLogLog hll = new HyperLogLog(buf.get());
+
+        if (format == FORMAT_SPARSE) {
+            int count = buf.getInt();
+            for (int i = 0; i < count; i++) {
+                int idx = buf.getShort() & 0xFFFF;
+                hll.registers[idx] = buf.get();
+            }
+            hll.nonZero = count;
+        } else {
+            buf.get(hll.registers);
+            for (byte r : hll.registers) {
+                if (r != 0) hll.nonZero++;
+            }
+        }
+        return hll;
+    }
+
+    public int precision() {
+        return p;
+    }
+
+    /** 문자열 키 → 64비트 해시 (FNV-1a 후 murmur3 fmix64 로 비트 섞기) */
+    public static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53e5a63L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
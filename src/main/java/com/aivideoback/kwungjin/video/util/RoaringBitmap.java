@@ -0,0 +1,179 @@
+package com.aivideoback.kwungjin.video.util;
+
+import java.util.Arrays;
+
+/**
+ * videoNo 집합용 Roaring 방식 압축 비트맵 (add / remove / contains).
+ *
+ * - 상위 비트(value >>> 16)로 나눈 구간마다 컨테이너 하나
+ * - 컨테이너: 원소가 4096 개 이하면 정렬된 char 배열(원소당 2바이트), 넘으면 65536 비트 비트맵(8KB)
+ * - 반응 몇 개인 사용자는 수십 바이트, 많이 누른 사용자도 구간당 최대 8KB
+ * - 스레드 안전하지 않음 (호출하는 쪽에서 사용자 단위로 동기화)
+ */
+public class RoaringBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+
+    private int[] keys = new int[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    public boolean contains(long value) {
+        if (value < 0) return false;
+        int i = Arrays.binarySearch(keys, 0, size, key(value));
+        return i >= 0 && containers[i].contains(low(value));
+    }
+
+    public void add(long value) {
+        checkValue(value);
+        int k = key(value);
+        int i = Arrays.binarySearch(keys, 0, size, k);
+        if (i < 0) {
+            i = -i - 1;
+            insertContainer(i, k);
+        }
+        containers[i].add(low(value));
+    }
+
+    public void remove(long value) {
+        if (value < 0) return;
+        int i = Arrays.binarySearch(keys, 0, size, key(value));
+        if (i < 0) return;
+        Container c = containers[i];
+        c.remove(low(value));
+        if (c.cardinality == 0) {
+            removeContainer(i);
+        }
+    }
+
+    public long cardinality() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += containers[i].cardinality;
+        }
+        return total;
+    }
+
+    /** value 가 속한 구간의 컨테이너가 비트맵 형태인지 (구간이 없으면 false, 테스트용) */
+    boolean isBitmapContainer(long value) {
+        int i = Arrays.binarySearch(keys, 0, size, key(value));
+        return i >= 0 && containers[i].bits != null;
+    }
+
+    /** 컨테이너(구간) 수 (테스트용) */
+    int containerCount() {
+        return size;
+    }
+
+    /* ---------- 내부 ---------- */
+
+    private static void checkValue(long value) {
+        if (value < 0 || (value >>> 16) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("RoaringBitmap 범위를 벗어난 값입니다: " + value);
+        }
+    }
+
+    private static int key(long value) {
+        return (int) (value >>> 16);
+    }
+
+    private static char low(long value) {
+        return (char) (value & 0xFFFF);
+    }
+
+    private void insertContainer(int i, int k) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(containers, i, containers, i + 1, size - i);
+        keys[i] = k;
+        containers[i] = new Container();
+        size++;
+    }
+
+    private void removeContainer(int i) {
+        System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+        System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+        size--;
+        containers[size] = null;
+    }
+
+    /** array(char[]) 또는 bitmap(long[1024]) 중 하나만 사용 */
+    private static final class Container {
+        char[] array = new char[4];
+        long[] bits;
+        int cardinality;
+
+        boolean contains(char v) {
+            if (bits != null) {
+                return (bits[v >>> 6] & (1L << v)) != 0;
+            }
+            return Arrays.binarySearch(array, 0, cardinality, v) >= 0;
+        }
+
+        void add(char v) {
+            if (bits != null) {
+                long before = bits[v >>> 6];
+                bits[v >>> 6] = before | (1L << v);
+                if (before != bits[v >>> 6]) cardinality++;
+                return;
+            }
+            int i = Arrays.binarySearch(array, 0, cardinality, v);
+            if (i >= 0) return;
+            if (cardinality == ARRAY_MAX) {
+                toBitmap();
+                add(v);
+                return;
+            }
+            i = -i - 1;
+            if (cardinality == array.length) {
+                array = Arrays.copyOf(array, Math.min(ARRAY_MAX, cardinality * 2));
+            }
+            System.arraycopy(array, i, array, i + 1, cardinality - i);
+            array[i] = v;
+            cardinality++;
+        }
+
+        void remove(char v) {
+            if (bits != null) {
+                long before = bits[v >>> 6];
+                bits[v >>> 6] = before & ~(1L << v);
+                if (before != bits[v >>> 6]) {
+                    cardinality--;
+                    if (cardinality <= ARRAY_MAX / 2) toArray();   // 경계에서 왔다갔다 하지 않도록 절반에서 되돌림
+                }
+                return;
+            }
+            int i = Arrays.binarySearch(array, 0, cardinality, v);
+            if (i < 0) return;
+            System.arraycopy(array, i + 1, array, i, cardinality - i - 1);
+            cardinality--;
+        }
+
+        private void toBitmap() {
+            bits = new long[1024];
+            for (int i = 0; i < cardinality; i++) {
+                char v = array[i];
+                bits[v >>> 6] |= 1L << v;
+            }
+            array = null;
+        }
+
+        private void toArray() {
+            char[] out = new char[Math.max(4, cardinality)];
+            int n = 0;
+            for (int w = 0; w < bits.length; w++) {
+                long word = bits[w];
+                while (word != 0) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    out[n++] = (char) ((w << 6) + bit);
+                    word &= word - 1;
+                }
+            }
+            array = out;
+            bits = null;
+        }
+    }
+}
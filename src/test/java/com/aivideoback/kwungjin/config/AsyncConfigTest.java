@@ -0,0 +1,62 @@
+package com.aivideoback.kwungjin.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncConfigTest {
+
+    public static class Probe {
+        @Async
+        public CompletableFuture<String> threadName() {
+            return CompletableFuture.completedFuture(Thread.currentThread().getName());
+        }
+    }
+
+    @Configuration
+    @EnableAsync
+    @EnableScheduling
+    static class AppConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        Probe probe() {
+            return new Probe();
+        }
+    }
+
+    // 운영과 같은 조건: Boot 작업 실행/스케줄 자동 설정 + Executor 빈(findingRequestExecutor)
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    TaskExecutionAutoConfiguration.class, TaskSchedulingAutoConfiguration.class))
+            .withPropertyValues("spring.task.scheduling.pool.size=4")
+            .withUserConfiguration(AppConfig.class, FindingExecutorConfig.class, AsyncConfig.class);
+
+    @Test
+    void asyncRunsOnDedicatedPoolNotScheduler() {
+        runner.run(context -> {
+            String thread = context.getBean(Probe.class).threadName().get(5, TimeUnit.SECONDS);
+
+            assertFalse(thread.startsWith("scheduling-"), thread);
+            assertTrue(thread.startsWith("async-"), thread);
+        });
+    }
+}
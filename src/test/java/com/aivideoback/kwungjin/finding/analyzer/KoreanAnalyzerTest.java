@@ -0,0 +1,79 @@
+package com.aivideoback.kwungjin.finding.analyzer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KoreanAnalyzerTest {
+
+    private KoreanAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        analyzer = new KoreanAnalyzer();
+        analyzer.learn("게임");
+        analyzer.learn("고양이");
+        analyzer.learn("Cute 강아지");
+    }
+
+    @Test
+    void stripsJosaAndEndingWhenStemIsKnown() {
+        assertEquals(List.of("게임"), analyzer.terms("게임을"));
+        assertEquals(List.of("게임"), analyzer.terms("게임하는"));
+        assertEquals(List.of("게임"), analyzer.terms("게임에서"));
+        assertEquals(List.of("강아지"), analyzer.terms("강아지와"));
+    }
+
+    @Test
+    void keepsKnownWordsAndUnknownStemsIntact() {
+        // 알려진 단어는 그대로 ("고양이" → "고양" X)
+        assertEquals(List.of("고양이"), analyzer.terms("고양이"));
+        assertEquals(List.of("고양이"), analyzer.terms("고양이를"));
+        // 뗀 결과가 모르는 단어면 떼지 않음
+        assertEquals(List.of("사과를"), analyzer.terms("사과를"));
+        assertEquals(List.of("고양"), analyzer.terms("고양"));
+    }
+
+    @Test
+    void stripsAtMostOneSuffix() {
+        // "게임들을" → "게임들" 은 모르는 단어라 그대로 (두 번 떼서 "게임" 으로 만들지 않음)
+        assertEquals(List.of("게임들을"), analyzer.terms("게임들을"));
+    }
+
+    @Test
+    void doesNotStripWithoutLexicon() {
+        KoreanAnalyzer empty = new KoreanAnalyzer();
+
+        assertEquals(List.of("게임을", "고양이"), empty.terms("게임을 고양이"));
+    }
+
+    @Test
+    void foldsAsciiCaseAndSplitsMixedScripts() {
+        assertEquals(List.of("pytorch", "게임", "2"), analyzer.terms("PyTorch 게임2"));
+        assertEquals("cute 강아지", analyzer.normalize("Cute 강아지를"));
+        assertEquals("game", KoreanAnalyzer.fold("GaMe"));
+    }
+
+    @Test
+    void queryGramsOfInflectedFormAreContainedInDocument() {
+        int[] document = analyzer.documentGrams("오늘의 게임하는 방법 정리");
+
+        assertTrue(KoreanAnalyzer.containsAll(document, analyzer.queryGrams("게임을")));
+        assertFalse(KoreanAnalyzer.containsAll(document, analyzer.queryGrams("고양이")));
+        assertFalse(KoreanAnalyzer.containsAll(document, new int[0]));
+    }
+
+    @Test
+    void gramsAreSortedAndDistinct() {
+        int[] grams = analyzer.documentGrams("게임 게임 게임을 game GAME");
+
+        for (int i = 1; i < grams.length; i++) {
+            assertTrue(grams[i - 1] < grams[i]);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.aivideoback.kwungjin.finding.embedding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashingTextEmbedderTest {
+
+    private final HashingTextEmbedder embedder = new HashingTextEmbedder(256);
+
+    @Test
+    void sameTextGivesSameVectorAcrossInstances() {
+        float[] a = embedder.embed("고양이 브이로그 Cute Cat");
+        float[] b = new HashingTextEmbedder(256).embed("고양이 브이로그 Cute Cat");
+
+        assertArrayEquals(a, b);
+        assertEquals("hash-v1-256", embedder.modelId());
+    }
+
+    @Test
+    void vectorsAreL2Normalized() {
+        float[] v = embedder.embed("PyTorch Transformer 입문 강의");
+
+        assertEquals(256, v.length);
+        assertEquals(1.0, norm(v), 1e-5);
+    }
+
+    @Test
+    void blankTextGivesZeroVector() {
+        assertEquals(0.0, norm(embedder.embed("   ")), 0.0);
+        assertEquals(0.0, norm(embedder.embed(null)), 0.0);
+    }
+
+    @Test
+    void overlappingTextIsCloserThanUnrelatedText() {
+        float[] query = embedder.embed("고양이 영상");
+        float[] related = embedder.embed("귀여운 고양이 영상 모음");
+        float[] unrelated = embedder.embed("PyTorch 딥러닝 강의");
+
+        assertTrue(dot(query, related) > dot(query, unrelated));
+    }
+
+    @Test
+    void caseIsFolded() {
+        assertArrayEquals(embedder.embed("RAG Tutorial"), embedder.embed("rag tutorial"));
+    }
+
+    @Test
+    void embedAllKeepsInputOrder() {
+        List<float[]> out = embedder.embedAll(List.of("강아지", "", "dog"));
+
+        assertEquals(3, out.size());
+        assertArrayEquals(embedder.embed("강아지"), out.get(0));
+        assertEquals(0.0, norm(out.get(1)), 0.0);
+        assertArrayEquals(embedder.embed("dog"), out.get(2));
+    }
+
+    @Test
+    void rejectsNonPositiveDimension() {
+        assertThrows(IllegalArgumentException.class, () -> new HashingTextEmbedder(0));
+    }
+
+    private static double norm(float[] v) {
+        return Math.sqrt(dot(v, v));
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) sum += a[i] * b[i];
+        return sum;
+    }
+}
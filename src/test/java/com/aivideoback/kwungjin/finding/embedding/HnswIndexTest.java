@@ -0,0 +1,103 @@
+package com.aivideoback.kwungjin.finding.embedding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HnswIndexTest {
+
+    private static final int DIM = 32;
+    private static final int N = 2000;
+    private static final int K = 10;
+
+    @Test
+    void recallAgainstBruteForceIsHigh() {
+        Random random = new Random(7L);
+        float[][] vectors = new float[N][];
+        HnswIndex index = new HnswIndex(DIM, 16, 100, N);
+        for (int i = 0; i < N; i++) {
+            vectors[i] = randomUnit(random);
+            index.add(i, vectors[i]);
+        }
+
+        int queries = 100;
+        int found = 0;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomUnit(random);
+            Set<Long> expected = bruteForce(vectors, query, K);
+            for (HnswIndex.Hit hit : index.search(query, K, 64)) {
+                if (expected.contains(hit.id())) found++;
+            }
+        }
+
+        double recall = (double) found / (queries * K);
+        assertTrue(recall >= 0.9, "recall@10 = " + recall);
+    }
+
+    @Test
+    void searchReturnsExactVectorFirstWithCosineSimilarity() {
+        Random random = new Random(11L);
+        HnswIndex index = new HnswIndex(DIM, 8, 50, 16);
+        float[] target = null;
+        for (int i = 0; i < 200; i++) {
+            float[] v = randomUnit(random);
+            if (i == 123) target = v;
+            index.add(i, v);
+        }
+
+        List<HnswIndex.Hit> hits = index.search(target, 3, 32);
+
+        assertEquals(123L, hits.get(0).id());
+        assertEquals(1.0, hits.get(0).similarity(), 1e-5);
+    }
+
+    @Test
+    void removedIdsAreNotReturnedAndCountAsDeleted() {
+        Random random = new Random(3L);
+        HnswIndex index = new HnswIndex(DIM, 8, 50, 16);
+        float[] removed = null;
+        for (int i = 0; i < 100; i++) {
+            float[] v = randomUnit(random);
+            if (i == 42) removed = v;
+            index.add(i, v);
+        }
+
+        assertTrue(index.remove(42L));
+
+        for (HnswIndex.Hit hit : index.search(removed, 10, 32)) {
+            assertFalse(hit.id() == 42L);
+        }
+        assertEquals(99, index.size());
+        assertEquals(0.01, index.deletedRatio(), 1e-9);
+    }
+
+    private static Set<Long> bruteForce(float[][] vectors, float[] query, int k) {
+        Integer[] order = new Integer[vectors.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Float.compare(dot(vectors[b], query), dot(vectors[a], query)));
+        Set<Long> out = new HashSet<>();
+        for (int i = 0; i < k; i++) out.add((long) order[i]);
+        return out;
+    }
+
+    private static float dot(float[] a, float[] b) {
+        float sum = 0f;
+        for (int i = 0; i < a.length; i++) sum += a[i] * b[i];
+        return sum;
+    }
+
+    private static float[] randomUnit(Random random) {
+        float[] v = new float[DIM];
+        for (int i = 0; i < DIM; i++) v[i] = (float) random.nextGaussian();
+        HashingTextEmbedder.normalize(v);
+        return v;
+    }
+}
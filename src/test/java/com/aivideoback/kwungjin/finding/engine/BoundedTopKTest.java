@@ -0,0 +1,57 @@
+package com.aivideoback.kwungjin.finding.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedTopKTest {
+
+    @Test
+    void keepsOnlyHighestScoresInDescendingOrder() {
+        BoundedTopK top = new BoundedTopK(3);
+        double[] scores = {0.2, 0.9, 0.1, 0.5, 0.7, 0.3};
+        for (int i = 0; i < scores.length; i++) {
+            top.offer(i, scores[i]);
+        }
+
+        long[] refs = new long[top.size()];
+        double[] out = new double[top.size()];
+        int n = top.drainDescending(refs, out);
+
+        assertEquals(3, n);
+        assertArrayEquals(new long[]{1, 4, 3}, refs);
+        assertArrayEquals(new double[]{0.9, 0.7, 0.5}, out);
+        assertEquals(0, top.size());
+    }
+
+    @Test
+    void acceptsOnlyScoresAboveCurrentMinimumOnceFull() {
+        BoundedTopK top = new BoundedTopK(2);
+        assertTrue(top.accepts(0.0));
+        top.offer(1, 0.4);
+        top.offer(2, 0.6);
+
+        assertFalse(top.accepts(0.4));
+        assertTrue(top.accepts(0.5));
+    }
+
+    @Test
+    void mergeKeepsGlobalTopK() {
+        BoundedTopK left = new BoundedTopK(2);
+        left.offer(1, 0.1);
+        left.offer(2, 0.8);
+        BoundedTopK right = new BoundedTopK(2);
+        right.offer(3, 0.9);
+        right.offer(4, 0.3);
+
+        BoundedTopK merged = left.merge(right);
+        long[] refs = new long[2];
+        double[] out = new double[2];
+        merged.drainDescending(refs, out);
+
+        assertArrayEquals(new long[]{3, 2}, refs);
+    }
+}
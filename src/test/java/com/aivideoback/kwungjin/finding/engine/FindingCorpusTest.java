@@ -0,0 +1,106 @@
+package com.aivideoback.kwungjin.finding.engine;
+
+import com.aivideoback.kwungjin.finding.analyzer.KoreanAnalyzer;
+import com.aivideoback.kwungjin.finding.engine.FindingCorpus.Segment;
+import com.aivideoback.kwungjin.video.entity.Video;
+import com.aivideoback.kwungjin.video.repository.VideoFeatureRepository;
+import com.aivideoback.kwungjin.video.repository.VideoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FindingCorpusTest {
+
+    private FindingCorpus corpus;
+
+    private static Video video(long videoNo, long views, long likes) {
+        return Video.builder()
+                .videoNo(videoNo)
+                .title("게임 " + videoNo)
+                .description("")
+                .tag1("게임")
+                .viewCount(views)
+                .likeCount(likes)
+                .dislikeCount(0L)
+                .isBlocked("N")
+                .reviewStatus("A")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        VideoRepository videoRepository = mock(VideoRepository.class);
+        VideoFeatureRepository featureRepository = mock(VideoFeatureRepository.class);
+        when(videoRepository.findByIsBlockedAndReviewStatusAndVideoNoGreaterThanOrderByVideoNoAsc(
+                eq("N"), eq("A"), anyLong(), any(Pageable.class)))
+                .thenAnswer(inv -> inv.<Long>getArgument(2) == 0L
+                        ? List.of(video(1, 10, 1), video(2, 20, 2))
+                        : List.of());
+        when(featureRepository.findByVideoNoIn(anyCollection())).thenReturn(List.of());
+
+        corpus = new FindingCorpus(videoRepository, featureRepository, new ObjectMapper(), new KoreanAnalyzer());
+        corpus.reload();
+    }
+
+    @Test
+    void countsAreBatchedUntilApplied() {
+        Segment before = corpus.segments()[0];
+
+        corpus.onViews(1L, 15);
+        corpus.onViews(1L, 17);
+        corpus.onReaction(2L, 5, 1);
+
+        // 반영 전에는 기존 스냅샷 그대로
+        assertSame(before, corpus.segments()[0]);
+        assertEquals(10, before.views(0));
+
+        corpus.applyCounts();
+
+        Segment after = corpus.segments()[0];
+        assertNotSame(before, after);
+        assertEquals(17, after.views(0));
+        assertEquals(1, after.likes(0));
+        assertEquals(20, after.views(1));
+        assertEquals(5, after.likes(1));
+        assertEquals(1, after.dislikes(1));
+
+        // 이전 스냅샷은 바뀌지 않음
+        assertEquals(10, before.views(0));
+        assertEquals(2, before.likes(1));
+    }
+
+    @Test
+    void viewCountNeverGoesBackwards() {
+        corpus.onViews(1L, 30);
+        corpus.applyCounts();
+        corpus.onViews(1L, 25);
+        corpus.applyCounts();
+
+        assertEquals(30, corpus.segments()[0].views(0));
+    }
+
+    @Test
+    void unknownVideoIsIgnored() {
+        Segment before = corpus.segments()[0];
+
+        corpus.onViews(99L, 100);
+        corpus.applyCounts();
+
+        assertSame(before, corpus.segments()[0]);
+    }
+}
@@ -0,0 +1,126 @@
+package com.aivideoback.kwungjin.finding.engine;
+
+import com.aivideoback.kwungjin.finding.analyzer.KoreanAnalyzer;
+import com.aivideoback.kwungjin.finding.engine.FindingCorpus.Segment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FindingScorerTest {
+
+    private final KoreanAnalyzer analyzer = new KoreanAnalyzer();
+    private final TagDictionary dictionary = new TagDictionary(analyzer);
+    private ForkJoinPool pool;
+    private FindingScorer scorer;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+        scorer = new FindingScorer(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void ranksAcrossSegmentsAndKeepsTopK() {
+        Segment first = segment(
+                row(1, "게임 리뷰", "", "게임"),
+                row(2, "요리 영상", "", "요리"));
+        Segment second = segment(
+                row(3, "게임 공략 게임하는 법", "게임 설명", "게임", "공략"),
+                row(4, "여행", "", "여행"));
+        FindingQuery query = FindingQuery.of(List.of("게임", "공략"), "게임 공략", Map.of(), dictionary, analyzer);
+
+        FindingScorer.Result result = scorer.topK(new Segment[]{first, second}, query, 2, farDeadline());
+
+        assertFalse(result.partial());
+        assertEquals(2, result.hits().size());
+        assertEquals(3L, videoNo(result.hits().get(0)));
+        assertEquals(1L, videoNo(result.hits().get(1)));
+        assertTrue(result.hits().get(0).score() > result.hits().get(1).score());
+    }
+
+    @Test
+    void skipsDeletedSlotsAndZeroScores() {
+        Segment seg = segment(
+                row(1, "게임", "", "게임"),
+                row(2, "게임", "", "게임"),
+                row(3, "요리", "", "요리"));
+        seg.alive[1] = false;
+        FindingQuery query = FindingQuery.of(List.of("게임"), "게임", Map.of(), dictionary, analyzer);
+
+        FindingScorer.Result result = scorer.topK(new Segment[]{seg}, query, 10, farDeadline());
+
+        assertEquals(1, result.hits().size());
+        assertEquals(1L, videoNo(result.hits().get(0)));
+    }
+
+    @Test
+    void expiredBudgetSkipsRemainingSegmentsAndMarksPartial() {
+        Segment seg = segment(row(1, "게임", "", "게임"));
+        FindingQuery query = FindingQuery.of(List.of("게임"), "게임", Map.of(), dictionary, analyzer);
+
+        FindingScorer.Result result = scorer.topK(new Segment[]{seg, seg.copy()}, query, 10, System.nanoTime() - 1);
+
+        assertTrue(result.partial());
+        assertTrue(result.hits().isEmpty());
+    }
+
+    @Test
+    void semanticHitsScoreWithoutLexicalMatch() {
+        Segment seg = segment(row(7, "고양이 브이로그", "", "고양이"));
+        FindingQuery query = FindingQuery.of(List.of("게임"), "게임", Map.of(7L, 0.6), dictionary, analyzer);
+
+        FindingScorer.Result result = scorer.topK(new Segment[]{seg}, query, 10, farDeadline());
+
+        assertEquals(1, result.hits().size());
+        assertEquals(0.6, result.hits().get(0).score(), 1e-9);
+    }
+
+    /* ---------- helpers ---------- */
+
+    private record TestRow(long videoNo, String title, String description, String[] tags) {
+    }
+
+    private static TestRow row(long videoNo, String title, String description, String... tags) {
+        return new TestRow(videoNo, title, description, tags);
+    }
+
+    private Segment segment(TestRow... rows) {
+        Segment seg = new Segment();
+        for (TestRow r : rows) {
+            int slot = seg.size++;
+            int[] tagIds = new int[r.tags().length];
+            for (int i = 0; i < tagIds.length; i++) {
+                tagIds[i] = dictionary.intern(r.tags()[i], true);
+            }
+            seg.videoNos[slot] = r.videoNo();
+            seg.titles[slot] = r.title();
+            seg.descriptions[slot] = r.description();
+            seg.titleGrams[slot] = analyzer.documentGrams(r.title());
+            seg.descGrams[slot] = analyzer.documentGrams(r.description());
+            seg.tagIds[slot] = tagIds;
+            seg.alive[slot] = true;
+        }
+        return seg;
+    }
+
+    private static long videoNo(FindingScorer.Hit hit) {
+        return hit.segment().videoNo(hit.slot());
+    }
+
+    private static long farDeadline() {
+        return System.nanoTime() + 60_000_000_000L;
+    }
+}
@@ -0,0 +1,60 @@
+package com.aivideoback.kwungjin.finding.engine;
+
+import com.aivideoback.kwungjin.finding.analyzer.KoreanAnalyzer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class TagDictionaryTest {
+
+    private final KoreanAnalyzer analyzer = new KoreanAnalyzer();
+    private final TagDictionary dictionary = new TagDictionary(analyzer);
+
+    @Test
+    void fallbackTitleTokenIsNotLearned() {
+        // 태그 없는 영상의 제목 토큰이 먼저 들어와도
+        dictionary.intern("게임을", false);
+        dictionary.intern("게임", true);
+
+        // 활용형은 계속 어간으로 떼진다
+        assertEquals(List.of("게임"), analyzer.terms("게임을"));
+        assertEquals(dictionary.lookup("게임"), dictionary.lookup("게임을"));
+    }
+
+    @Test
+    void inflectedKnownTagJoinsItsStem() {
+        int stem = dictionary.intern("게임", true);
+        int inflected = dictionary.intern("게임을", true);
+
+        assertEquals(stem, inflected);
+        assertEquals(List.of("게임"), analyzer.terms("게임을"));
+        assertEquals("게임", dictionary.name(stem));
+    }
+
+    @Test
+    void stemmingDoesNotDependOnLoadOrder() {
+        KoreanAnalyzer other = new KoreanAnalyzer();
+        TagDictionary otherDictionary = new TagDictionary(other);
+
+        // 같은 영상들을 다른 순서로 적재
+        dictionary.intern("게임하는", false);
+        dictionary.intern("게임", true);
+        otherDictionary.intern("게임", true);
+        otherDictionary.intern("게임하는", false);
+
+        assertEquals(other.terms("게임하는 영상"), analyzer.terms("게임하는 영상"));
+    }
+
+    @Test
+    void fallbackTokensStillGetDistinctIds() {
+        int a = dictionary.intern("사과", false);
+        int b = dictionary.intern("바나나", false);
+
+        assertNotEquals(a, b);
+        assertEquals(a, dictionary.lookup("사과"));
+        assertEquals(List.of("사과를"), analyzer.terms("사과를"));
+    }
+}
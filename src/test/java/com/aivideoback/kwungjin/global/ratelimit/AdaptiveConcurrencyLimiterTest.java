@@ -0,0 +1,103 @@
+package com.aivideoback.kwungjin.global.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MS = 1_000_000L;
+
+    // 초기 100, 목표 500ms, window 100 / p90 / 최소 20 샘플, 기준선의 2배, 감소 간격 없음
+    private static AdaptiveConcurrencyLimiter limiter() {
+        return new AdaptiveConcurrencyLimiter(100, 10, 1000, 500, 0.5, 0,
+                100, 0.9, 20, 2.0, new SimpleMeterRegistry());
+    }
+
+    private static void complete(AdaptiveConcurrencyLimiter limiter, int count, long latencyNanos) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(latencyNanos, true);
+        }
+    }
+
+    @Test
+    void singleSlowSampleDoesNotDecrease() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        complete(limiter, 50, 20 * MS);
+        complete(limiter, 1, 5_000 * MS);
+        complete(limiter, 49, 20 * MS);
+
+        assertEquals(100, limiter.currentLimit());
+        assertEquals(20 * MS, limiter.windowLatencyNanos());
+    }
+
+    @Test
+    void sustainedSlowPercentileDecreases() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        complete(limiter, 100, 20 * MS);
+        complete(limiter, 20, 2_000 * MS);
+
+        assertEquals(50, limiter.currentLimit());
+    }
+
+    @Test
+    void decreaseWaitsForFreshSamples() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        complete(limiter, 100, 20 * MS);
+        complete(limiter, 20, 2_000 * MS);
+        assertEquals(50, limiter.currentLimit());
+
+        // 줄인 직후에는 min-samples 가 다시 쌓일 때까지 판단하지 않음
+        complete(limiter, 19, 2_000 * MS);
+        assertEquals(50, limiter.currentLimit());
+
+        complete(limiter, 1, 2_000 * MS);
+        assertEquals(25, limiter.currentLimit());
+    }
+
+    @Test
+    void slowAboveTargetButWithinBaselineToleranceHolds() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        complete(limiter, 100, 400 * MS);
+        assertEquals(400 * MS, limiter.baselineNanos());
+
+        // 목표(500ms)는 넘었지만 기준선(400ms)의 2배 안쪽
+        complete(limiter, 100, 700 * MS);
+        assertEquals(100, limiter.currentLimit());
+
+        complete(limiter, 20, 900 * MS);
+        assertEquals(50, limiter.currentLimit());
+    }
+
+    @Test
+    void increasesOnlyWhenHealthyAndUtilized() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        // 한가할 때는 그대로
+        complete(limiter, 200, 20 * MS);
+        assertEquals(100, limiter.currentLimit());
+
+        // limit 의 절반 이상을 쓰는 중이면 조금씩 늘어남
+        for (int i = 0; i < 60; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        complete(limiter, 500, 20 * MS);
+        assertTrue(limiter.currentLimit() > 100);
+    }
+
+    @Test
+    void rejectsAtLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertFalse(limiter.tryAcquire());
+
+        limiter.release(20 * MS, false);
+        assertTrue(limiter.tryAcquire());
+    }
+}
@@ -0,0 +1,104 @@
+package com.aivideoback.kwungjin.security;
+
+import com.aivideoback.kwungjin.global.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginAttemptThrottleTest {
+
+    private static LoginAttemptThrottle throttle(long softDelayMs) {
+        // (계정, IP) 3회, IP 100회, 계정 전체 5회 이후 지연
+        return new LoginAttemptThrottle(3, 100, 5, softDelayMs, 60_000, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void concurrentAttemptsNeverExceedPairLimit() throws Exception {
+        LoginAttemptThrottle throttle = throttle(60_000);
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                try {
+                    throttle.reserve("alice", "10.0.0.1");
+                    return true;
+                } catch (TooManyRequestsException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int passed = 0;
+        for (Future<Boolean> f : results) {
+            if (f.get(5, TimeUnit.SECONDS)) passed++;
+        }
+        pool.shutdownNow();
+        assertEquals(3, passed);
+    }
+
+    @Test
+    void failuresFromOneIpDoNotLockOtherIps() {
+        LoginAttemptThrottle throttle = throttle(0);
+        for (int i = 0; i < 3; i++) throttle.reserve("alice", "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class, () -> throttle.reserve("alice", "10.0.0.1"));
+        throttle.reserve("alice", "10.0.0.2");
+    }
+
+    @Test
+    void accountWideAttemptsAreOnlyDelayed() {
+        LoginAttemptThrottle throttle = throttle(60_000);
+        for (int i = 0; i < 5; i++) throttle.reserve("alice", "10.0.1." + i);
+
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> throttle.reserve("alice", "10.0.2.1"));
+        assertEquals(60, e.getRetryAfterSeconds());
+    }
+
+    @Test
+    void accountWideDelayPassesAfterSoftDelay() throws Exception {
+        LoginAttemptThrottle throttle = throttle(20);
+        for (int i = 0; i < 5; i++) throttle.reserve("alice", "10.0.1." + i);
+
+        Thread.sleep(40);
+        throttle.reserve("alice", "10.0.2.1");
+        assertThrows(TooManyRequestsException.class, () -> throttle.reserve("alice", "10.0.2.2"));
+    }
+
+    @Test
+    void successReleasesReservation() {
+        LoginAttemptThrottle throttle = throttle(0);
+        for (int i = 0; i < 10; i++) {
+            throttle.reserve("Alice", "10.0.0.1");
+            throttle.release("alice", "10.0.0.1");
+        }
+        throttle.reserve("alice", "10.0.0.1");
+    }
+
+    @Test
+    void cancelledAttemptsAreNotCountedAsFailures() {
+        LoginAttemptThrottle throttle = throttle(60_000);
+        // 해시 풀 429 로 끝난 시도가 여러 번 쌓여도 잠기지 않음
+        for (int i = 0; i < 10; i++) {
+            throttle.reserve("alice", "10.0.0.1");
+            throttle.cancel("alice", "10.0.0.1");
+        }
+
+        // 실제 실패는 그대로 셈
+        for (int i = 0; i < 3; i++) throttle.reserve("alice", "10.0.0.1");
+        assertThrows(TooManyRequestsException.class, () -> throttle.reserve("alice", "10.0.0.1"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.aivideoback.kwungjin.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-provider-0123456789";
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000);
+
+    @Test
+    void adminTypeDoesNotDependOnRoleName() {
+        String token = provider.createToken("root", 1L, true,
+                List.of(new SimpleGrantedAuthority("ROLE_SUPER")), 3L);
+
+        JwtTokenProvider.JwtClaims claims = provider.parse(token);
+        assertNotNull(claims);
+        assertTrue(claims.isAdmin());
+        assertFalse(claims.isLegacy());
+        assertEquals(List.of("ROLE_SUPER"), claims.roles());
+    }
+
+    @Test
+    void userWithAdminLikeRoleStaysUser() {
+        String token = provider.createToken("alice", 7L, false,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN")), 0L);
+
+        JwtTokenProvider.JwtClaims claims = provider.parse(token);
+        assertNotNull(claims);
+        assertFalse(claims.isAdmin());
+        assertFalse(claims.isLegacy());
+    }
+
+    @Test
+    void tokenWithoutTypeIsLegacy() {
+        String token = Jwts.builder()
+                .setSubject("alice")
+                .claim(JwtTokenProvider.CLAIM_ROLES, "ROLE_USER")
+                .claim(JwtTokenProvider.CLAIM_PRINCIPAL_NO, 7L)
+                .claim(JwtTokenProvider.CLAIM_TOKEN_VERSION, 0L)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        JwtTokenProvider.JwtClaims claims = provider.parse(token);
+        assertNotNull(claims);
+        assertTrue(claims.isLegacy());
+        assertFalse(claims.isAdmin());
+    }
+}
@@ -0,0 +1,76 @@
+package com.aivideoback.kwungjin.user.service;
+
+import com.aivideoback.kwungjin.global.TooManyRequestsException;
+import com.aivideoback.kwungjin.security.LoginAttemptThrottle;
+import com.aivideoback.kwungjin.security.jwt.JwtTokenProvider;
+import com.aivideoback.kwungjin.user.dto.LoginRequest;
+import com.aivideoback.kwungjin.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private static final String IP = "10.0.0.1";
+
+    private AuthenticationManager authenticationManager;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        authenticationManager = mock(AuthenticationManager.class);
+        // (계정, IP) 3회
+        LoginAttemptThrottle throttle = new LoginAttemptThrottle(3, 100, 100, 0, 60_000, new SimpleMeterRegistry());
+        authService = new AuthService(authenticationManager, mock(JwtTokenProvider.class),
+                mock(UserRepository.class), throttle);
+    }
+
+    private static LoginRequest request() {
+        LoginRequest request = new LoginRequest();
+        request.setUserId("alice");
+        request.setPassword("secret");
+        return request;
+    }
+
+    @Test
+    void busyHashPoolDoesNotCountAsFailure() {
+        when(authenticationManager.authenticate(any()))
+                .thenThrow(new TooManyRequestsException("busy", 1));
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(TooManyRequestsException.class, () -> authService.login(request(), IP));
+        }
+
+        // 예약이 풀렸으므로 실제 비밀번호 확인까지 감
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("bad"));
+        assertThrows(BadCredentialsException.class, () -> authService.login(request(), IP));
+    }
+
+    @Test
+    void wrappedBusyFromUnknownUserIsUnwrapped() {
+        when(authenticationManager.authenticate(any())).thenThrow(
+                new InternalAuthenticationServiceException("wrapped", new TooManyRequestsException("busy", 1)));
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(TooManyRequestsException.class, () -> authService.login(request(), IP));
+        }
+    }
+
+    @Test
+    void wrongPasswordsStillLockThePair() {
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("bad"));
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(BadCredentialsException.class, () -> authService.login(request(), IP));
+        }
+        assertThrows(TooManyRequestsException.class, () -> authService.login(request(), IP));
+    }
+}
@@ -0,0 +1,148 @@
+package com.aivideoback.kwungjin.user.service;
+
+import com.aivideoback.kwungjin.user.entity.MailOutbox;
+import com.aivideoback.kwungjin.user.repository.MailOutboxRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private MailOutboxRepository repository;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(MailOutboxRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+    }
+
+    @Test
+    void sendsClaimedBatchOverOneSmtpSessionAndDeletesRows() throws Exception {
+        claim(row(1L, "a@example.com", null), row(2L, "b@example.com", null));
+
+        dispatcher(smtpSender(ServerSetupTest.SMTP.getPort()), 6).dispatch();
+
+        MimeMessage[] received = smtp.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertTrue(GreenMailUtil.getBody(received[0]).contains("123456"));
+        assertEquals(List.of(1L, 2L), ids(captured(MailOutboxDispatcher.DELETE_SQL)));
+        verify(jdbcTemplate, never()).batchUpdate(eq(MailOutboxDispatcher.FAIL_SQL), anyList());
+    }
+
+    @Test
+    void lastFailedAttemptClearsBody() throws Exception {
+        claim(row(1L, "a@example.com", null));
+
+        dispatcher(smtpSender(closedPort()), 1).dispatch();
+
+        assertTrue(MailOutboxDispatcher.FAIL_SQL.contains("BODY_HTML = NULL"));
+        List<Object[]> failed = captured(MailOutboxDispatcher.FAIL_SQL);
+        assertEquals(1, failed.size());
+        assertEquals(1, failed.get(0)[0]);                 // attempts
+        assertEquals(1L, failed.get(0)[2]);                // outboxNo
+        verify(jdbcTemplate, never()).batchUpdate(eq(MailOutboxDispatcher.DELETE_SQL), anyList());
+    }
+
+    @Test
+    void retriesOnlyWhileCodeIsStillValid() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        claim(row(1L, "a@example.com", now.plusMinutes(10)),   // 5초 뒤 재시도 가능
+              row(2L, "b@example.com", now.plusSeconds(1)));   // 재시도 전에 만료
+
+        dispatcher(smtpSender(closedPort()), 6).dispatch();
+
+        List<Object[]> retry = captured(MailOutboxDispatcher.RETRY_SQL);
+        List<Object[]> failed = captured(MailOutboxDispatcher.FAIL_SQL);
+        assertEquals(1, retry.size());
+        assertEquals(1L, retry.get(0)[3]);
+        assertEquals(1, failed.size());
+        assertEquals(2L, failed.get(0)[2]);
+    }
+
+    /* ---------- helpers ---------- */
+
+    private MailOutboxDispatcher dispatcher(JavaMailSenderImpl sender, int maxAttempts) {
+        return new MailOutboxDispatcher(repository, sender, jdbcTemplate, mock(PlatformTransactionManager.class),
+                "no-reply@example.com", "테스트", 50, maxAttempts, 120_000, 5_000, 600_000, 72);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void claim(MailOutbox... rows) {
+        List<Long> ids = Arrays.stream(rows).map(MailOutbox::getOutboxNo).toList();
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenReturn(ids);
+        when(repository.findAllById(ids)).thenReturn(List.of(rows));
+    }
+
+    private static MailOutbox row(long no, String to, LocalDateTime expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        return MailOutbox.builder()
+                .outboxNo(no)
+                .toAddress(to)
+                .subject("[AI 콜렉터] 이메일 인증번호")
+                .bodyHtml("<p>123456</p>")
+                .status(MailOutbox.SENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .expiresAt(expiresAt)
+                .createdAt(now)
+                .build();
+    }
+
+    private static JavaMailSenderImpl smtpSender(int port) {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(port);
+        Properties props = new Properties();
+        props.put("mail.smtp.connectiontimeout", "2000");
+        props.put("mail.smtp.timeout", "2000");
+        sender.setJavaMailProperties(props);
+        return sender;
+    }
+
+    private static int closedPort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captured(String sql) {
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(sql), args.capture());
+        return args.getValue();
+    }
+
+    private static List<Long> ids(List<Object[]> params) {
+        return params.stream().map(p -> (Long) p[0]).toList();
+    }
+}
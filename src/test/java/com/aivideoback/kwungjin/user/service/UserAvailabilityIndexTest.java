@@ -0,0 +1,116 @@
+package com.aivideoback.kwungjin.user.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserAvailabilityIndexTest {
+
+    // 커밋된 USER_TABLE 행 {USER_ID, NICKNAME, EMAIL}
+    private final List<String[]> committed = new ArrayList<>();
+    private Runnable duringSelect = () -> { };
+    private boolean failSelect;
+    private UserAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbc = mock(JdbcTemplate.class);
+        when(jdbc.queryForObject(anyString(), eq(Long.class))).thenAnswer(inv -> (long) committed.size());
+        doAnswer(inv -> {
+            if (failSelect) throw new IllegalStateException("db down");
+            RowCallbackHandler rch = inv.getArgument(1);
+            for (String[] row : new ArrayList<>(committed)) {
+                rch.processRow(resultSet(row));
+            }
+            duringSelect.run();
+            return null;
+        }).when(jdbc).query(anyString(), any(RowCallbackHandler.class));
+
+        index = new UserAvailabilityIndex(jdbc, 0.001, 1000);
+    }
+
+    private static ResultSet resultSet(String[] row) {
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("getString")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return row[(Integer) args[0] - 1];
+                });
+    }
+
+    @Test
+    void everythingMightExistBeforeFirstBuild() {
+        assertTrue(index.mightContainUserId("alice"));
+        assertTrue(index.mightContainNickname("앨리스"));
+        assertTrue(index.mightContainEmail("alice@example.com"));
+    }
+
+    @Test
+    void committedRowsAreLoaded() {
+        committed.add(new String[]{"alice", "앨리스", "alice@example.com"});
+
+        index.rebuild();
+
+        assertTrue(index.mightContainUserId("alice"));
+        assertTrue(index.mightContainNickname("앨리스"));
+        assertTrue(index.mightContainEmail("alice@example.com"));
+        assertFalse(index.mightContainUserId("bob"));
+    }
+
+    @Test
+    void addDuringSelectIsKept() {
+        duringSelect = () -> index.addUser("bob", "밥", "bob@example.com");
+
+        index.rebuild();
+
+        assertTrue(index.mightContainUserId("bob"));
+        assertTrue(index.mightContainNickname("밥"));
+    }
+
+    @Test
+    void addNotYetCommittedWhenSelectRanIsKept() {
+        index.rebuild();
+
+        // 가입 트랜잭션 안에서 추가 → 다음 SELECT 시점엔 아직 커밋 전
+        index.addUser("bob", "밥", "bob@example.com");
+        index.rebuild();
+        assertTrue(index.mightContainUserId("bob"));
+
+        // 커밋된 뒤의 재구성에서도 그대로
+        committed.add(new String[]{"bob", "밥", "bob@example.com"});
+        index.rebuild();
+        assertTrue(index.mightContainUserId("bob"));
+    }
+
+    @Test
+    void addsSurviveFailedRebuild() {
+        index.rebuild();
+        index.addNickname("새닉네임");
+
+        failSelect = true;
+        index.rebuild();
+        assertTrue(index.mightContainNickname("새닉네임"));
+
+        failSelect = false;
+        index.rebuild();
+        assertTrue(index.mightContainNickname("새닉네임"));
+    }
+}
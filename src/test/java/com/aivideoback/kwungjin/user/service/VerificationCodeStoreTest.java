@@ -0,0 +1,209 @@
+package com.aivideoback.kwungjin.user.service;
+
+import com.aivideoback.kwungjin.user.entity.EmailVerification;
+import com.aivideoback.kwungjin.user.repository.EmailVerificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VerificationCodeStoreTest {
+
+    private static final String JWT_SECRET = "change-this-secret-to-at-least-32chars-long-123456";
+    private static final String EMAIL = "alice@example.com";
+
+    private EmailVerificationRepository repository;
+    private JdbcTemplate jdbc;
+
+    // persist 모드용 테이블 흉내 (행 하나 + ATTEMPTS)
+    private final AtomicReference<EmailVerification> row = new AtomicReference<>();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(EmailVerificationRepository.class);
+        jdbc = mock(JdbcTemplate.class);
+        when(repository.save(any(EmailVerification.class))).thenAnswer(inv -> {
+            EmailVerification ev = inv.getArgument(0);
+            if (ev.getId() == null) ev.setId(1L);
+            row.set(ev);
+            return ev;
+        });
+        when(repository.findTopByEmailOrderByCreatedAtDesc(EMAIL))
+                .thenAnswer(inv -> Optional.ofNullable(row.get()));
+        // 조건부 UPDATE: ATTEMPTS < max 일 때만 1행
+        when(jdbc.update(contains("SET ATTEMPTS"), any(), any())).thenAnswer(inv -> {
+            int max = inv.getArgument(2);
+            if (attempts.get() >= max) return 0;
+            attempts.incrementAndGet();
+            return 1;
+        });
+    }
+
+    // 코드 10분, 인증 유효 24시간, 시도 3회, 메모리 100건
+    private VerificationCodeStore store(boolean persist) {
+        return store(10, 24, 100, persist);
+    }
+
+    private VerificationCodeStore store(long codeTtlMinutes, long verifiedTtlHours, int maxEntries, boolean persist) {
+        return new VerificationCodeStore(repository, jdbc, "", JWT_SECRET,
+                codeTtlMinutes, verifiedTtlHours, 3, maxEntries, persist);
+    }
+
+    private static String message(Runnable call) {
+        return assertThrows(IllegalArgumentException.class, call::run).getMessage();
+    }
+
+    @Test
+    void correctCodeVerifies() {
+        VerificationCodeStore store = store(false);
+        store.issue(EMAIL, "123456");
+
+        store.verify(EMAIL, "123456");
+
+        assertTrue(store.isRecentlyVerified(EMAIL));
+    }
+
+    @Test
+    void attemptLimitRejectsEvenCorrectCodeInMemory() {
+        VerificationCodeStore store = store(false);
+        store.issue(EMAIL, "123456");
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(message(() -> store.verify(EMAIL, "000000")).contains("올바르지"));
+        }
+        assertTrue(message(() -> store.verify(EMAIL, "123456")).contains("횟수"));
+        assertFalse(store.isRecentlyVerified(EMAIL));
+    }
+
+    @Test
+    void attemptLimitRejectsEvenCorrectCodeWhenPersisted() {
+        VerificationCodeStore store = store(true);
+        store.issue(EMAIL, "123456");
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(message(() -> store.verify(EMAIL, "000000")).contains("올바르지"));
+        }
+        assertTrue(message(() -> store.verify(EMAIL, "123456")).contains("횟수"));
+        assertNull(row.get().getVerifiedAt());
+    }
+
+    @Test
+    void persistedCodeVerifiesWithinLimit() {
+        VerificationCodeStore store = store(true);
+        store.issue(EMAIL, "123456");
+
+        assertThrows(IllegalArgumentException.class, () -> store.verify(EMAIL, "000000"));
+        store.verify(EMAIL, "123456");
+
+        assertTrue(store.isRecentlyVerified(EMAIL));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void expiredCodeIsRejected() {
+        VerificationCodeStore memory = store(-1, 24, 100, false);
+        memory.issue(EMAIL, "123456");
+        assertTrue(message(() -> memory.verify(EMAIL, "123456")).contains("만료"));
+
+        VerificationCodeStore persisted = store(-1, 24, 100, true);
+        persisted.issue(EMAIL, "123456");
+        assertTrue(message(() -> persisted.verify(EMAIL, "123456")).contains("만료"));
+        assertEquals(0, attempts.get());
+    }
+
+    @Test
+    void alreadyVerifiedPassesWithoutCountingAttempts() {
+        VerificationCodeStore store = store(false);
+        store.issue(EMAIL, "123456");
+        store.verify(EMAIL, "123456");
+
+        // 인증 후 다시 확인해도 통과 (시도 한도에 걸리지 않음)
+        for (int i = 0; i < 5; i++) {
+            assertDoesNotThrow(() -> store.verify(EMAIL, "123456"));
+        }
+
+        VerificationCodeStore persisted = store(true);
+        persisted.issue(EMAIL, "123456");
+        persisted.verify(EMAIL, "123456");
+        persisted.verify(EMAIL, "123456");
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        VerificationCodeStore store = store(10, 24, 2, false);
+        store.issue("a@example.com", "111111");
+        store.issue("b@example.com", "222222");
+        store.issue("c@example.com", "333333");
+
+        assertTrue(message(() -> store.verify("a@example.com", "111111")).contains("요청 내역"));
+        store.verify("b@example.com", "222222");
+        store.verify("c@example.com", "333333");
+    }
+
+    @Test
+    void purgeDropsExpiredAndStaleVerifiedEntries() {
+        VerificationCodeStore expired = store(-1, 24, 100, false);
+        expired.issue(EMAIL, "123456");
+        expired.purge();
+        assertTrue(message(() -> expired.verify(EMAIL, "123456")).contains("요청 내역"));
+
+        // 인증 유효기간 안이면 남고, 지나면 지워짐 (인증된 항목은 원래 아무 코드로도 통과)
+        VerificationCodeStore fresh = store(false);
+        fresh.issue(EMAIL, "123456");
+        fresh.verify(EMAIL, "123456");
+        fresh.purge();
+        assertDoesNotThrow(() -> fresh.verify(EMAIL, "000000"));
+
+        VerificationCodeStore stale = store(10, -1, 100, false);
+        stale.issue(EMAIL, "123456");
+        stale.verify(EMAIL, "123456");
+        stale.purge();
+        assertTrue(message(() -> stale.verify(EMAIL, "000000")).contains("요청 내역"));
+    }
+
+    @Test
+    void digestKeyIsNotTheJwtSecret() throws Exception {
+        VerificationCodeStore store = store(true);
+        store.issue(EMAIL, "123456");
+
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(JWT_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String withJwtKey = HexFormat.of().formatHex(
+                mac.doFinal((EMAIL + ":123456").getBytes(StandardCharsets.UTF_8)));
+
+        assertNotEquals(withJwtKey, row.get().getCodeHash());
+    }
+
+    @Test
+    void separateSecretGivesDifferentDigest() {
+        VerificationCodeStore derived = store(true);
+        derived.issue(EMAIL, "123456");
+        String fromJwt = row.get().getCodeHash();
+
+        new VerificationCodeStore(repository, jdbc, "another-secret", JWT_SECRET, 10, 24, 3, 100, true)
+                .issue(EMAIL, "123456");
+
+        assertNotEquals(fromJwt, row.get().getCodeHash());
+    }
+}
@@ -0,0 +1,83 @@
+package com.aivideoback.kwungjin.user.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    private static final int N = 100_000;
+
+    @Test
+    void addedValuesAreAlwaysFound() {
+        BloomFilter filter = new BloomFilter(N, 0.01);
+        for (int i = 0; i < N; i++) {
+            filter.add("user-" + i);
+        }
+
+        for (int i = 0; i < N; i++) {
+            assertTrue(filter.mightContain("user-" + i), "user-" + i);
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(N, 0.01);
+        for (int i = 0; i < N; i++) {
+            filter.add("user-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < N; i++) {
+            if (filter.mightContain("other-" + i)) falsePositives++;
+        }
+        double rate = (double) falsePositives / N;
+        assertTrue(rate < 0.02, "false positive rate " + rate);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(N, 0.01);
+
+        assertFalse(filter.mightContain("alice"));
+        assertFalse(filter.mightContain(""));
+    }
+
+    @Test
+    void concurrentAddsAreAllVisible() throws Exception {
+        BloomFilter filter = new BloomFilter(N, 0.01);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int from = t * (N / 8);
+            futures.add(pool.submit(() -> {
+                for (int i = from; i < from + N / 8; i++) {
+                    filter.add("user-" + i);
+                }
+            }));
+        }
+        for (Future<?> f : futures) {
+            f.get(10, TimeUnit.SECONDS);
+        }
+        pool.shutdownNow();
+
+        for (int i = 0; i < N; i++) {
+            assertTrue(filter.mightContain("user-" + i), "user-" + i);
+        }
+    }
+
+    @Test
+    void invalidFalsePositiveRateIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(N, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(N, 1.0));
+    }
+}
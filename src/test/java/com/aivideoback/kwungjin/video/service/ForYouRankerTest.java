@@ -0,0 +1,85 @@
+package com.aivideoback.kwungjin.video.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ForYouRankerTest {
+
+    private static ForYouRanker ranker(double diversity, long ttlMs) {
+        return new ForYouRanker(200, diversity, ttlMs, 100);
+    }
+
+    @Test
+    void ordersByTagAffinity() {
+        float[] weights = {0.1f, 2.0f, -1.0f};
+        int[][] candidates = {{0}, {1}, {2}, {}};
+
+        int[] order = ranker(0.0, 60_000).rank(weights, candidates);
+
+        // 태그 없는 영상(0점)은 싫어하는 태그 영상보다 위
+        assertArrayEquals(new int[]{1, 0, 3, 2}, order);
+    }
+
+    @Test
+    void scoreIsNormalizedByTagCount() {
+        // 후보 0: 좋아하는 태그 하나 (1/sqrt(1) = 1.0)
+        // 후보 1: 좋아하는 태그 하나 + 모르는 태그 셋 (1/sqrt(4) = 0.5)
+        float[] weights = {1.0f};
+        int[][] candidates = {{0, 1, 2, 3}, {0}};
+
+        int[] order = ranker(0.0, 60_000).rank(weights, candidates);
+
+        assertArrayEquals(new int[]{1, 0}, order);
+    }
+
+    @Test
+    void tiesKeepOriginalOrder() {
+        int[][] candidates = {{0}, {1}, {2}};
+
+        int[] order = ranker(0.3, 60_000).rank(new float[0], candidates);
+
+        assertArrayEquals(new int[]{0, 1, 2}, order);
+    }
+
+    @Test
+    void diversityPushesDownRepeatedTags() {
+        float[] weights = {1.0f, 0.8f};
+        int[][] candidates = {{0}, {0}, {1}};
+
+        // 다양성 없음: 점수 순서 그대로
+        assertArrayEquals(new int[]{0, 1, 2}, ranker(0.0, 60_000).rank(weights, candidates));
+
+        // 다양성 0.3: 두 번째 태그 0 영상은 1.0 - 0.3 = 0.7 < 0.8 이라 태그 1 영상 뒤로
+        assertArrayEquals(new int[]{0, 2, 1}, ranker(0.3, 60_000).rank(weights, candidates));
+    }
+
+    @Test
+    void cachesPerUserAndFilterUntilEvicted() {
+        ForYouRanker ranker = ranker(0.3, 60_000);
+        ForYouRanker.Key key = new ForYouRanker.Key("cat", List.of("pet"));
+        ForYouRanker.Key other = new ForYouRanker.Key(null, List.of());
+
+        ranker.put(1L, key, new long[]{30, 10, 20});
+
+        assertArrayEquals(new long[]{30, 10, 20}, ranker.cached(1L, key));
+        assertNull(ranker.cached(1L, other));
+        assertNull(ranker.cached(2L, key));
+
+        ranker.evictUser(1L);
+        assertNull(ranker.cached(1L, key));
+    }
+
+    @Test
+    void expiredEntryIsNotReturned() {
+        ForYouRanker ranker = ranker(0.3, -1);
+        ForYouRanker.Key key = new ForYouRanker.Key(null, List.of());
+
+        ranker.put(1L, key, new long[]{1});
+
+        assertNull(ranker.cached(1L, key));
+    }
+}
@@ -0,0 +1,212 @@
+package com.aivideoback.kwungjin.video.service;
+
+import com.aivideoback.kwungjin.finding.analyzer.KoreanAnalyzer;
+import com.aivideoback.kwungjin.video.dto.VideoSummaryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserTagAffinityTest {
+
+    private static final float EPS = 1e-6f;
+
+    /** 사용자 반응 조회 / 영상 태그 IN 조회만 흉내 내는 JdbcTemplate */
+    private static final class FakeJdbc extends JdbcTemplate {
+        final List<Object[]> reactions = new ArrayList<>();      // {REACTION_TYPE, TAG1..TAG5}
+        final Map<Long, String[]> videoTags = new HashMap<>();  // videoNo → TAG1..TAG5
+        int tagQueries;
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            try {
+                if (sql.contains("VIDEO_REACTION_TABLE")) {
+                    for (Object[] row : reactions) {
+                        rch.processRow(resultSet(row));
+                    }
+                    return;
+                }
+                tagQueries++;
+                for (Object arg : args) {
+                    String[] tags = videoTags.get((Long) arg);
+                    if (tags == null) continue;
+                    Object[] row = new Object[6];
+                    row[0] = arg;
+                    System.arraycopy(tags, 0, row, 1, tags.length);
+                    rch.processRow(resultSet(row));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static ResultSet resultSet(Object[] row) {
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    Object value = row[(Integer) args[0] - 1];
+                    return switch (method.getName()) {
+                        case "getString" -> value == null ? null : value.toString();
+                        case "getLong" -> ((Number) value).longValue();
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+    }
+
+    private static Object[] reaction(String type, String... tags) {
+        Object[] row = new Object[6];
+        row[0] = type;
+        System.arraycopy(tags, 0, row, 1, tags.length);
+        return row;
+    }
+
+    private static VideoSummaryDto video(long videoNo, String... tags) {
+        String[] t = new String[5];
+        System.arraycopy(tags, 0, t, 0, tags.length);
+        return VideoSummaryDto.builder()
+                .videoNo(videoNo)
+                .tag1(t[0]).tag2(t[1]).tag3(t[2]).tag4(t[3]).tag5(t[4])
+                .build();
+    }
+
+    private FakeJdbc jdbc;
+    private KoreanAnalyzer analyzer;
+    private VideoListingCache listingCache;
+    private UserTagAffinity affinity;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new FakeJdbc();
+        analyzer = new KoreanAnalyzer();
+        listingCache = new VideoListingCache(100, 100, 60_000);
+        affinity = newAffinity(100);
+    }
+
+    private UserTagAffinity newAffinity(int maxPending) {
+        return new UserTagAffinity(jdbc, analyzer, listingCache,
+                1.0f, -1.0f, 0.2f, 100, maxPending);
+    }
+
+    private float weight(UserTagAffinity.Profile profile, String tag) {
+        int id = affinity.tagIds(video(0, tag))[0];
+        float[] weights = profile.weights();
+        return id < weights.length ? weights[id] : 0f;
+    }
+
+    @Test
+    void profileLoadsLikesAndDislikes() {
+        jdbc.reactions.add(reaction("LIKE", "cat", "pet"));
+        jdbc.reactions.add(reaction("LIKE", "cat"));
+        jdbc.reactions.add(reaction("DISLIKE", "horror"));
+
+        UserTagAffinity.Profile profile = affinity.profile(1L);
+
+        assertEquals(2.0f, weight(profile, "cat"), EPS);
+        assertEquals(1.0f, weight(profile, "pet"), EPS);
+        assertEquals(-1.0f, weight(profile, "horror"), EPS);
+        assertEquals(0.0f, weight(profile, "cooking"), EPS);
+    }
+
+    @Test
+    void duplicateTagsOnOneVideoCountOnce() {
+        jdbc.reactions.add(reaction("LIKE", "Cat", "cat", "CAT"));
+
+        UserTagAffinity.Profile profile = affinity.profile(1L);
+
+        assertEquals(1.0f, weight(profile, "cat"), EPS);
+    }
+
+    @Test
+    void viewUsesListingCacheWithoutDbRoundTrip() {
+        jdbc.reactions.add(reaction("LIKE", "cat"));
+        UserTagAffinity.Profile profile = affinity.profile(1L);
+        listingCache.putVideos(listingCache.currentVideoVersion(), List.of(video(10, "cat", "pet")));
+
+        affinity.onView(1L, 10L);
+
+        assertEquals(0, jdbc.tagQueries);
+        assertEquals(1.2f, weight(profile, "cat"), EPS);
+        assertEquals(0.2f, weight(profile, "pet"), EPS);
+    }
+
+    @Test
+    void unknownVideoIsDeferredToBatchedTagLoad() {
+        UserTagAffinity.Profile profile = affinity.profile(1L);
+        jdbc.videoTags.put(20L, new String[]{"cooking", null, null, null, null});
+        jdbc.videoTags.put(21L, new String[]{"travel", null, null, null, null});
+
+        affinity.onView(1L, 20L);
+        affinity.onReaction(1L, 21L, 1, 0);
+
+        // 요청 스레드에서는 DB 를 읽지 않음
+        assertEquals(0, jdbc.tagQueries);
+        assertTrue(profile.isEmpty());
+
+        affinity.loadPending();
+        assertEquals(1, jdbc.tagQueries);
+        assertEquals(0.2f, weight(profile, "cooking"), EPS);
+        assertEquals(1.0f, weight(profile, "travel"), EPS);
+
+        // 한 번 읽은 태그는 LRU 에서 바로
+        affinity.onView(1L, 20L);
+        affinity.loadPending();
+        assertEquals(1, jdbc.tagQueries);
+        assertEquals(0.4f, weight(profile, "cooking"), EPS);
+    }
+
+    @Test
+    void eventsForUsersWithoutProfileAreIgnored() {
+        jdbc.videoTags.put(20L, new String[]{"cooking", null, null, null, null});
+
+        affinity.onView(99L, 20L);
+        affinity.onView(null, 20L);
+        affinity.loadPending();
+
+        assertEquals(0, jdbc.tagQueries);
+    }
+
+    @Test
+    void pendingDeltasBeyondCapAreDropped() {
+        affinity = newAffinity(1);
+        UserTagAffinity.Profile profile = affinity.profile(1L);
+        jdbc.videoTags.put(20L, new String[]{"cooking", null, null, null, null});
+        jdbc.videoTags.put(21L, new String[]{"travel", null, null, null, null});
+
+        affinity.onView(1L, 20L);
+        affinity.onView(1L, 21L);
+        affinity.loadPending();
+
+        assertEquals(0.2f, weight(profile, "cooking"), EPS);
+        assertEquals(0.0f, weight(profile, "travel"), EPS);
+    }
+
+    @Test
+    void tagIdStaysStableWhenLexiconGrows() {
+        // "게임" 을 모를 때는 "게임을" 이 그대로 정규화됨
+        jdbc.reactions.add(reaction("LIKE", "게임을"));
+        UserTagAffinity.Profile profile = affinity.profile(1L);
+        int before = affinity.tagIds(video(0, "게임을"))[0];
+
+        // 어휘가 늘어 normalize("게임을") 이 "게임" 으로 바뀌어도 같은 id
+        analyzer.learn("게임");
+        assertEquals("게임", analyzer.normalize("게임을"));
+        assertEquals(before, affinity.tagIds(video(0, "게임을"))[0]);
+
+        listingCache.putVideos(listingCache.currentVideoVersion(), List.of(video(10, "게임을")));
+        affinity.onView(1L, 10L);
+        assertEquals(1.2f, weight(profile, "게임을"), EPS);
+    }
+}
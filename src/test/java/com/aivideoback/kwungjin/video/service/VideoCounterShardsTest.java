@@ -0,0 +1,77 @@
+package com.aivideoback.kwungjin.video.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VideoCounterShardsTest {
+
+    private static final Long VIDEO_NO = 1L;
+
+    private VideoCounterShards shards;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbc = mock(JdbcTemplate.class);
+        when(jdbc.query(anyString(), any(RowMapper.class), eq(VIDEO_NO)))
+                .thenAnswer(inv -> List.of(new long[]{10L, 2L}));
+
+        shards = new VideoCounterShards(jdbc, true, 8, 1, 1000L);
+        // 승격 기준(초당 1회) 넘기기
+        shards.shardFor(VIDEO_NO);
+        shards.shardFor(VIDEO_NO);
+        shards.evaluate();
+        assertNotNull(shards.cachedTotals(VIDEO_NO));
+
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void rollbackLeavesCachedTotalsUnchanged() {
+        long[] projected = shards.applyDeltaAfterCommit(VIDEO_NO, 1L, 0L);
+        assertArrayEquals(new long[]{11L, 2L}, projected);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertArrayEquals(new long[]{10L, 2L}, shards.cachedTotals(VIDEO_NO));
+    }
+
+    @Test
+    void commitAppliesDeltaToCachedTotals() {
+        shards.applyDeltaAfterCommit(VIDEO_NO, 1L, -1L);
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertArrayEquals(new long[]{11L, 1L}, shards.cachedTotals(VIDEO_NO));
+    }
+
+    private static void complete(int status) {
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                sync.afterCommit();
+            }
+            sync.afterCompletion(status);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.aivideoback.kwungjin.video.service;
+
+import com.aivideoback.kwungjin.video.dto.VideoSummaryDto;
+import com.aivideoback.kwungjin.video.event.VideoChangedEvent;
+import com.aivideoback.kwungjin.video.service.VideoListingCache.CachedPage;
+import com.aivideoback.kwungjin.video.service.VideoListingCache.PageKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VideoListingCacheTest {
+
+    private static final PageKey KEY = new PageKey(null, List.of(), "latest", 0, 20);
+    private static final CachedPage PAGE = new CachedPage(List.of(1L, 2L), 2);
+
+    private static VideoSummaryDto dto(long videoNo) {
+        return VideoSummaryDto.builder().videoNo(videoNo).build();
+    }
+
+    private static VideoChangedEvent event(long videoNo, VideoChangedEvent.Type type) {
+        return VideoChangedEvent.of(videoNo, type);
+    }
+
+    @Test
+    void pageLoadedBeforeChangeIsNotCached() {
+        VideoListingCache cache = new VideoListingCache(10, 10, 60_000);
+        long version = cache.currentVersion();
+
+        cache.onVideoChanged(event(1L, VideoChangedEvent.Type.APPROVED));
+        cache.putPage(KEY, version, PAGE);
+
+        assertNull(cache.getPage(KEY));
+    }
+
+    @Test
+    void changeInvalidatesPagesButUploadKeepsThem() {
+        VideoListingCache cache = new VideoListingCache(10, 10, 60_000);
+        cache.putPage(KEY, cache.currentVersion(), PAGE);
+
+        // 심사 대기 중인 업로드는 공개 목록에 없음
+        cache.onVideoChanged(event(3L, VideoChangedEvent.Type.UPLOADED));
+        assertSame(PAGE, cache.getPage(KEY));
+
+        cache.onVideoChanged(event(3L, VideoChangedEvent.Type.BLOCKED));
+        assertNull(cache.getPage(KEY));
+    }
+
+    @Test
+    void videoEvictedDuringLoadIsNotCached() {
+        VideoListingCache cache = new VideoListingCache(10, 10, 60_000);
+        long version = cache.currentVideoVersion();
+
+        cache.evictVideo(1L);
+        cache.putVideos(version, List.of(dto(1L), dto(2L)));
+
+        assertEquals(List.of(2L), List.copyOf(cache.getVideos(List.of(1L, 2L)).keySet()));
+
+        // 무효화 이후에 시작한 조회는 다시 캐시됨
+        cache.putVideos(cache.currentVideoVersion(), List.of(dto(1L)));
+        assertTrue(cache.getVideos(List.of(1L)).containsKey(1L));
+    }
+
+    @Test
+    void overflowingEvictionHistorySkipsWholePut() {
+        VideoListingCache cache = new VideoListingCache(10, 2, 60_000);
+        long version = cache.currentVideoVersion();
+
+        // 기록(최대 2건)에서 밀려난 영상이 있으면 어떤 영상이 바뀌었는지 알 수 없음
+        cache.evictVideo(1L);
+        cache.evictVideo(2L);
+        cache.evictVideo(3L);
+        cache.putVideos(version, List.of(dto(4L)));
+
+        assertTrue(cache.getVideos(List.of(4L)).isEmpty());
+    }
+
+    @Test
+    void expiredEntriesAreNotReturned() {
+        VideoListingCache cache = new VideoListingCache(10, 10, -1);
+        cache.putPage(KEY, cache.currentVersion(), PAGE);
+        cache.putVideos(cache.currentVideoVersion(), List.of(dto(1L)));
+
+        assertNull(cache.getPage(KEY));
+        assertTrue(cache.getVideos(List.of(1L)).isEmpty());
+    }
+}
@@ -0,0 +1,161 @@
+package com.aivideoback.kwungjin.video.service;
+
+import com.aivideoback.kwungjin.finding.analyzer.KoreanAnalyzer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VideoRelatedServiceTest {
+
+    private static final double EPS = 1e-9;
+
+    private final List<long[]> likes = new ArrayList<>();       // {USER_NO, VIDEO_NO} (사용자 순, 최근순)
+    private final List<Long> videos = new ArrayList<>();        // 공개 영상 (태그 없음)
+    private final List<String> preparedSql = new ArrayList<>();
+    private final Map<Long, List<Object[]>> merged = new TreeMap<>();   // videoNo → {RANK_NO, RELATED, SCORE}
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbc = mock(JdbcTemplate.class);
+
+        Connection con = mock(Connection.class);
+        when(con.prepareStatement(anyString())).thenAnswer(inv -> {
+            preparedSql.add(inv.getArgument(0));
+            return mock(PreparedStatement.class);
+        });
+
+        doAnswer(inv -> {
+            PreparedStatementCreator psc = inv.getArgument(0);
+            RowCallbackHandler rch = inv.getArgument(1);
+            psc.createPreparedStatement(con);
+            String sql = preparedSql.get(preparedSql.size() - 1);
+            if (sql.contains("VIDEO_REACTION_TABLE")) {
+                for (long[] like : likes) {
+                    rch.processRow(resultSet(like[0], like[1]));
+                }
+            } else {
+                for (Long videoNo : videos) {
+                    rch.processRow(resultSet(videoNo, null, null, null, null, null));
+                }
+            }
+            return null;
+        }).when(jdbc).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        // 쓰기 쪽은 배치 인자를 그대로 기록 (호출 후 리스트를 비우므로 복사)
+        when(jdbc.batchUpdate(anyString(), anyList())).thenAnswer(inv -> {
+            String sql = inv.getArgument(0);
+            List<Object[]> args = inv.getArgument(1);
+            if (sql.contains("MERGE")) {
+                for (Object[] row : args) {
+                    merged.computeIfAbsent((Long) row[0], k -> new ArrayList<>())
+                            .add(new Object[]{row[1], row[2], row[3]});
+                }
+            }
+            return new int[args.size()];
+        });
+    }
+
+    private static ResultSet resultSet(Object... row) {
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    Object value = row[(Integer) args[0] - 1];
+                    return switch (method.getName()) {
+                        case "getString" -> value == null ? null : value.toString();
+                        case "getLong" -> value == null ? 0L : ((Number) value).longValue();
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+    }
+
+    // top-k 20, tag-weight 0.3
+    private VideoRelatedService service(int maxBasket, int maxCandidates) {
+        return new VideoRelatedService(jdbc, mock(PlatformTransactionManager.class), new KoreanAnalyzer(),
+                20, maxBasket, maxCandidates, 200, 0.3);
+    }
+
+    private void like(long userNo, long... videoNos) {
+        for (long videoNo : videoNos) {
+            likes.add(new long[]{userNo, videoNo});
+        }
+    }
+
+    private List<Long> related(long videoNo) {
+        List<Long> out = new ArrayList<>();
+        for (Object[] row : merged.getOrDefault(videoNo, List.of())) {
+            out.add((Long) row[1]);
+        }
+        return out;
+    }
+
+    @Test
+    void basketsAreSplitWhenUserChanges() {
+        videos.addAll(List.of(10L, 11L, 12L));
+        like(1, 10, 11);
+        like(2, 10, 11);
+        like(3, 12);
+
+        service(200, 300).recompute();
+
+        // 좋아요는 커서 하나로 한 번만 읽음
+        assertEquals(1, preparedSql.stream().filter(s -> s.contains("VIDEO_REACTION_TABLE")).count());
+
+        // 공동 좋아요 2 / sqrt(2 * 2) = 1.0 → 0.7 * 1.0
+        assertEquals(List.of(11L), related(10));
+        assertEquals(List.of(10L), related(11));
+        assertEquals(0.7, (double) merged.get(10L).get(0)[2], EPS);
+        // 사용자 3 의 묶음이 앞 사용자와 섞이지 않음
+        assertEquals(List.of(), related(12));
+    }
+
+    @Test
+    void onlyMostRecentLikesPerUserAreCounted() {
+        videos.addAll(List.of(10L, 11L, 12L, 13L));
+        like(1, 10, 11, 12);   // 최근순 → 12 는 max-basket(2) 밖
+        like(2, 12, 13);
+
+        service(2, 300).recompute();
+
+        assertEquals(List.of(11L), related(10));
+        assertEquals(List.of(13L), related(12));
+    }
+
+    @Test
+    void pruneKeepsCandidateCapWhenCountsTie() {
+        videos.addAll(List.of(10L, 11L, 12L, 13L, 14L));
+        like(1, 10, 11);
+        like(2, 10, 11);
+        like(3, 10, 12);
+        like(4, 10, 13);
+        like(5, 10, 14);
+
+        service(200, 2).recompute();
+
+        // 후보 {11:2, 12:1, 13:1, 14:1} → 커트라인(1) 동점 중 일부를 버려서 2 개만
+        List<Long> top = related(10);
+        assertEquals(2, top.size());
+        assertEquals(11L, top.get(0));
+    }
+}
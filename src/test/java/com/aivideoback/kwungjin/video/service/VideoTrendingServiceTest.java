@@ -0,0 +1,124 @@
+package com.aivideoback.kwungjin.video.service;
+
+import com.aivideoback.kwungjin.video.event.VideoChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VideoTrendingServiceTest {
+
+    // videoNo → MERGE 로 보낸 선형 점수 합 (반감기를 아주 길게 둬서 감쇠 ≈ 1, 이벤트 수와 같아짐)
+    private final Map<Long, Double> merged = new HashMap<>();
+    private final AtomicBoolean failNextMerge = new AtomicBoolean();
+    private VideoTrendingService trending;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbc = mock(JdbcTemplate.class);
+        when(jdbc.batchUpdate(anyString(), anyList())).thenAnswer(inv -> {
+            if (failNextMerge.getAndSet(false)) {
+                throw new IllegalStateException("db down");
+            }
+            List<Object[]> args = inv.getArgument(1);
+            synchronized (merged) {
+                for (Object[] row : args) {
+                    merged.merge((Long) row[0], Math.exp((Double) row[1]), Double::sum);
+                }
+            }
+            return new int[args.size()];
+        });
+
+        // 반감기 10^12 시간, 조회 1 / 좋아요 3
+        trending = new VideoTrendingService(jdbc, 1e12, 1.0, 3.0, 0.05);
+    }
+
+    private double merged(long videoNo) {
+        synchronized (merged) {
+            return merged.getOrDefault(videoNo, 0.0);
+        }
+    }
+
+    @Test
+    void pendingScoresAreFlushedAsOneMergePerVideo() {
+        trending.onViews(1L, 2);
+        trending.onLike(1L);
+        trending.onViews(2L, 1);
+
+        trending.flushOnShutdown();
+
+        assertEquals(5.0, merged(1L), 1e-6);
+        assertEquals(1.0, merged(2L), 1e-6);
+    }
+
+    @Test
+    void failedMergeIsRetriedOnNextFlush() {
+        trending.onViews(1L, 4);
+
+        failNextMerge.set(true);
+        trending.flushOnShutdown();
+        assertEquals(0.0, merged(1L));
+
+        trending.onViews(1L, 1);
+        trending.flushOnShutdown();
+        assertEquals(5.0, merged(1L), 1e-6);
+    }
+
+    @Test
+    void deletedVideoDropsPendingScore() {
+        trending.onViews(1L, 3);
+
+        trending.onVideoChanged(VideoChangedEvent.of(1L, VideoChangedEvent.Type.DELETED));
+        trending.flushOnShutdown();
+
+        assertEquals(0.0, merged(1L));
+    }
+
+    @Test
+    void addsRacingWithWindowSwapAreNotLost() throws Exception {
+        int threads = 4;
+        int perThread = 50_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            writers.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    trending.onViews(1L, 1);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        while (!writers.stream().allMatch(Future::isDone)) {
+            trending.flushOnShutdown();
+        }
+        for (Future<?> f : writers) {
+            f.get(10, TimeUnit.SECONDS);
+        }
+        pool.shutdownNow();
+        trending.flushOnShutdown();
+
+        assertFalse(failNextMerge.get());
+        assertEquals(threads * perThread, merged(1L), threads * perThread * 1e-6);
+    }
+}
@@ -0,0 +1,142 @@
+package com.aivideoback.kwungjin.video.service;
+
+import com.aivideoback.kwungjin.video.entity.VideoViewerSketch;
+import com.aivideoback.kwungjin.video.repository.VideoViewerSketchRepository;
+import com.aivideoback.kwungjin.video.util.HyperLogLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VideoUniqueViewerServiceTest {
+
+    private static final Long VIDEO_NO = 1L;
+
+    // DB 테이블 흉내 (저장/조회 때마다 복사해서 엔티티 공유 없음)
+    private final Map<Long, VideoViewerSketch> table = new HashMap<>();
+    private final AtomicBoolean failNextSave = new AtomicBoolean();
+    private VideoViewerSketchRepository repository;
+    private PlatformTransactionManager transactionManager;
+
+    private static VideoViewerSketch copy(VideoViewerSketch row) {
+        if (row == null) return null;
+        return VideoViewerSketch.builder()
+                .videoNo(row.getVideoNo())
+                .sketch(row.getSketch().clone())
+                .uniqueCount(row.getUniqueCount())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(VideoViewerSketchRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(repository.findById(anyLong()))
+                .thenAnswer(inv -> Optional.ofNullable(copy(table.get(inv.<Long>getArgument(0)))));
+        when(repository.findForUpdate(anyLong()))
+                .thenAnswer(inv -> Optional.ofNullable(copy(table.get(inv.<Long>getArgument(0)))));
+        when(repository.save(any(VideoViewerSketch.class))).thenAnswer(inv -> {
+            if (failNextSave.getAndSet(false)) {
+                throw new IllegalStateException("db down");
+            }
+            VideoViewerSketch row = inv.getArgument(0);
+            table.put(row.getVideoNo(), copy(row));
+            return row;
+        });
+    }
+
+    private VideoUniqueViewerService node() {
+        return new VideoUniqueViewerService(repository, transactionManager, 12, 1000);
+    }
+
+    private static void view(VideoUniqueViewerService node, int from, int to) {
+        for (int i = from; i < to; i++) {
+            node.record(VIDEO_NO, "u:viewer-" + i);
+        }
+    }
+
+    private long storedEstimate() {
+        return HyperLogLog.fromBytes(table.get(VIDEO_NO).getSketch()).estimate();
+    }
+
+    private static void assertClose(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.05,
+                "expected ~" + expected + " but was " + actual);
+    }
+
+    @Test
+    void twoNodesFlushedInTurnKeepEachOthersViewers() {
+        VideoUniqueViewerService a = node();
+        VideoUniqueViewerService b = node();
+        view(a, 0, 1_000);
+        view(b, 1_000, 2_000);
+
+        a.flush();
+        assertClose(1_000, storedEstimate());
+
+        // B 가 덮어쓰지 않고 A 의 레지스터와 합친다
+        b.flush();
+        assertClose(2_000, storedEstimate());
+        assertClose(2_000, table.get(VIDEO_NO).getUniqueCount());
+
+        // B 의 메모리 스케치에도 A 의 시청자가 들어와 있음
+        assertClose(2_000, b.record(VIDEO_NO, "u:viewer-0").uniqueCount());
+
+        // A 가 다시 저장해도 B 의 시청자가 지워지지 않음
+        view(a, 2_000, 2_100);
+        a.flush();
+        assertClose(2_100, storedEstimate());
+    }
+
+    @Test
+    void sameViewersOnBothNodesCountOnce() {
+        VideoUniqueViewerService a = node();
+        VideoUniqueViewerService b = node();
+        view(a, 0, 1_000);
+        view(b, 0, 1_000);
+
+        a.flush();
+        b.flush();
+
+        assertClose(1_000, storedEstimate());
+    }
+
+    @Test
+    void failedSaveIsRetriedOnNextFlush() {
+        VideoUniqueViewerService a = node();
+        view(a, 0, 500);
+
+        failNextSave.set(true);
+        a.flush();
+        assertTrue(table.isEmpty());
+
+        a.flush();
+        assertClose(500, storedEstimate());
+    }
+
+    @Test
+    void cleanSketchIsNotWrittenAgain() {
+        VideoUniqueViewerService a = node();
+        view(a, 0, 100);
+        a.flush();
+        table.clear();
+
+        // 같은 시청자 반복 → 레지스터 변화 없음 → 저장 안 함
+        view(a, 0, 100);
+        a.flush();
+
+        assertEquals(0, table.size());
+    }
+}
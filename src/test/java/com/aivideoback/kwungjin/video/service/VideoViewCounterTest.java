@@ -0,0 +1,96 @@
+package com.aivideoback.kwungjin.video.service;
+
+import com.aivideoback.kwungjin.video.repository.VideoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VideoViewCounterTest {
+
+    // batchUpdate 로 넘어간 {delta, videoNo}
+    private final List<Object[]> flushed = new ArrayList<>();
+    private boolean failFlush;
+    private VideoViewCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        VideoRepository videoRepository = mock(VideoRepository.class);
+        JdbcTemplate jdbc = mock(JdbcTemplate.class);
+        when(videoRepository.findViewCountByVideoNo(1L)).thenReturn(Optional.of(100L));
+        when(videoRepository.findViewCountByVideoNo(2L)).thenReturn(Optional.of(7L));
+        when(videoRepository.findViewCountByVideoNo(99L)).thenReturn(Optional.empty());
+        when(jdbc.batchUpdate(anyString(), anyList())).thenAnswer(inv -> {
+            if (failFlush) throw new IllegalStateException("db down");
+            List<Object[]> args = inv.getArgument(1);
+            flushed.addAll(args);
+            return new int[args.size()];
+        });
+
+        counter = new VideoViewCounter(videoRepository, jdbc, 100);
+    }
+
+    @Test
+    void incrementReturnsBasePlusPending() {
+        assertEquals(101, counter.increment(1L));
+        assertEquals(102, counter.increment(1L));
+        assertEquals(8, counter.increment(2L));
+        assertEquals(2, counter.pendingCount(1L));
+    }
+
+    @Test
+    void flushWritesDeltasInVideoOrderAndFoldsThemIntoBase() {
+        counter.increment(2L);
+        counter.increment(1L);
+        counter.increment(1L);
+
+        counter.flush();
+
+        assertEquals(2, flushed.size());
+        assertEquals(List.of(2L, 1L), List.of(flushed.get(0)[0], flushed.get(0)[1]));
+        assertEquals(List.of(1L, 2L), List.of(flushed.get(1)[0], flushed.get(1)[1]));
+        assertEquals(0, counter.pendingCount(1L));
+        // DB 를 다시 읽지 않아도 반영된 값에서 이어짐
+        assertEquals(103, counter.increment(1L));
+    }
+
+    @Test
+    void failedFlushKeepsDeltasForNextRound() {
+        counter.increment(1L);
+        counter.increment(1L);
+
+        failFlush = true;
+        counter.flush();
+        assertEquals(2, counter.pendingCount(1L));
+        assertEquals(103, counter.increment(1L));
+
+        failFlush = false;
+        counter.flush();
+        assertEquals(1, flushed.size());
+        assertEquals(3L, flushed.get(0)[0]);
+        assertEquals(0, counter.pendingCount(1L));
+    }
+
+    @Test
+    void emptyFlushDoesNotTouchDb() {
+        counter.flush();
+
+        assertEquals(0, flushed.size());
+    }
+
+    @Test
+    void unknownVideoIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> counter.increment(99L));
+        assertEquals(0, counter.pendingCount(99L));
+    }
+}
@@ -0,0 +1,136 @@
+package com.aivideoback.kwungjin.video.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HyperLogLogTest {
+
+    private static void offerRange(HyperLogLog hll, int from, int to) {
+        for (int i = from; i < to; i++) {
+            hll.offer(HyperLogLog.hash("viewer-" + i));
+        }
+    }
+
+    private static void assertClose(long expected, long actual, double relative) {
+        double allowed = Math.max(2.0, expected * relative);
+        assertTrue(Math.abs(actual - expected) <= allowed,
+                "expected ~" + expected + " but was " + actual);
+    }
+
+    @Test
+    void estimateStaysWithinErrorBound() {
+        // p=12 → 표준 오차 약 1.6%, 3 시그마 정도까지 허용
+        int[] cardinalities = {0, 1, 10, 100, 1_000, 10_000, 50_000, 200_000, 1_000_000};
+        for (int n : cardinalities) {
+            HyperLogLog hll = new HyperLogLog(12);
+            offerRange(hll, 0, n);
+            assertClose(n, hll.estimate(), 0.05);
+        }
+    }
+
+    @Test
+    void lowPrecisionStaysWithinItsOwnErrorBound() {
+        // p=6 → 64 레지스터, 표준 오차 약 13%
+        HyperLogLog hll = new HyperLogLog(6);
+        offerRange(hll, 0, 20_000);
+        assertClose(20_000, hll.estimate(), 0.4);
+    }
+
+    @Test
+    void duplicateOfferDoesNotChangeEstimate() {
+        HyperLogLog hll = new HyperLogLog(12);
+        offerRange(hll, 0, 1_000);
+        long before = hll.estimate();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertFalse(hll.offer(HyperLogLog.hash("viewer-" + i)));
+        }
+        assertEquals(before, hll.estimate());
+    }
+
+    @Test
+    void mergeEqualsSketchOfUnion() {
+        HyperLogLog a = new HyperLogLog(12);
+        HyperLogLog b = new HyperLogLog(12);
+        HyperLogLog union = new HyperLogLog(12);
+        offerRange(a, 0, 60_000);
+        offerRange(b, 40_000, 100_000);
+        offerRange(union, 0, 100_000);
+
+        assertTrue(a.merge(b));
+        assertArrayEquals(union.toBytes(), a.toBytes());
+        assertEquals(union.estimate(), a.estimate());
+        assertClose(100_000, a.estimate(), 0.05);
+
+        // 이미 다 들어 있는 스케치를 다시 합치면 바뀌는 것이 없다
+        assertFalse(a.merge(b));
+        assertFalse(a.merge(new HyperLogLog(12)));
+    }
+
+    @Test
+    void mergeIntoEmptyKeepsSparseCount() {
+        HyperLogLog small = new HyperLogLog(12);
+        offerRange(small, 0, 50);
+        HyperLogLog empty = new HyperLogLog(12);
+
+        assertTrue(empty.merge(small));
+        assertArrayEquals(small.toBytes(), empty.toBytes());
+    }
+
+    @Test
+    void mergeRejectsDifferentPrecision() {
+        HyperLogLog a = new HyperLogLog(12);
+        HyperLogLog b = new HyperLogLog(10);
+        assertThrows(IllegalArgumentException.class, () -> a.merge(b));
+    }
+
+    @Test
+    void sparseRoundTrip() {
+        HyperLogLog hll = new HyperLogLog(12);
+        offerRange(hll, 0, 100);
+
+        byte[] bytes = hll.toBytes();
+        assertTrue(bytes.length < 2 + 4096, "채워진 레지스터가 적으면 sparse 로 저장");
+
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+        assertEquals(12, restored.precision());
+        assertEquals(hll.estimate(), restored.estimate());
+        assertArrayEquals(bytes, restored.toBytes());
+
+        // 복원 후에도 계속 쌓으면 원본과 같은 상태가 된다 (sparse → dense 전환 포함)
+        offerRange(hll, 100, 20_000);
+        offerRange(restored, 100, 20_000);
+        assertArrayEquals(hll.toBytes(), restored.toBytes());
+    }
+
+    @Test
+    void denseRoundTrip() {
+        HyperLogLog hll = new HyperLogLog(12);
+        offerRange(hll, 0, 20_000);
+
+        byte[] bytes = hll.toBytes();
+        assertEquals(2 + 4096, bytes.length);
+
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+        assertEquals(hll.estimate(), restored.estimate());
+        assertArrayEquals(bytes, restored.toBytes());
+    }
+
+    @Test
+    void emptyRoundTrip() {
+        HyperLogLog restored = HyperLogLog.fromBytes(new HyperLogLog(14).toBytes());
+        assertEquals(14, restored.precision());
+        assertEquals(0, restored.estimate());
+    }
+
+    @Test
+    void rejectsPrecisionOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(3));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(17));
+    }
+}
@@ -0,0 +1,135 @@
+package com.aivideoback.kwungjin.video.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoaringBitmapTest {
+
+    @Test
+    void addRemoveContainsInArrayContainer() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        bitmap.add(7);
+        bitmap.add(3);
+        bitmap.add(7);   // 중복
+
+        assertTrue(bitmap.contains(3));
+        assertTrue(bitmap.contains(7));
+        assertFalse(bitmap.contains(5));
+        assertEquals(2, bitmap.cardinality());
+        assertFalse(bitmap.isBitmapContainer(3));
+
+        bitmap.remove(3);
+        bitmap.remove(99);   // 없는 값
+        assertFalse(bitmap.contains(3));
+        assertEquals(1, bitmap.cardinality());
+    }
+
+    @Test
+    void arrayContainerTurnsIntoBitmapAfter4096() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int v = 0; v < 4096; v++) {
+            bitmap.add(v * 2L);
+        }
+        assertFalse(bitmap.isBitmapContainer(0));
+
+        bitmap.add(1);   // 4097 번째
+        assertTrue(bitmap.isBitmapContainer(0));
+        assertEquals(4097, bitmap.cardinality());
+        for (int v = 0; v < 4096; v++) {
+            assertTrue(bitmap.contains(v * 2L));
+        }
+        assertTrue(bitmap.contains(1));
+        assertFalse(bitmap.contains(3));
+    }
+
+    @Test
+    void bitmapContainerTurnsBackIntoArrayAtHalf() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int v = 0; v <= 4096; v++) {
+            bitmap.add(v);
+        }
+        assertTrue(bitmap.isBitmapContainer(0));
+
+        // 4097 → 2049 까지는 비트맵 유지
+        for (int v = 4096; v > 2048; v--) {
+            bitmap.remove(v);
+        }
+        assertTrue(bitmap.isBitmapContainer(0));
+        assertEquals(2049, bitmap.cardinality());
+
+        bitmap.remove(2048);   // 2048 = 절반 → 배열로
+        assertFalse(bitmap.isBitmapContainer(0));
+        assertEquals(2048, bitmap.cardinality());
+        for (int v = 0; v < 2048; v++) {
+            assertTrue(bitmap.contains(v));
+        }
+        assertFalse(bitmap.contains(2048));
+
+        // 배열로 돌아온 뒤에도 추가/삭제 정상
+        bitmap.add(60_000);
+        bitmap.remove(0);
+        assertTrue(bitmap.contains(60_000));
+        assertFalse(bitmap.contains(0));
+    }
+
+    @Test
+    void containersPerHighBitsAreCreatedAndDropped() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        long[] values = {5, 65_536 + 5, 3L * 65_536, 10L * 65_536 + 65_535, 1L << 40};
+        for (long v : values) {
+            bitmap.add(v);
+        }
+        assertEquals(values.length, bitmap.containerCount());
+        for (long v : values) {
+            assertTrue(bitmap.contains(v));
+        }
+        assertFalse(bitmap.contains(65_536 + 6));
+
+        bitmap.remove(3L * 65_536);
+        assertEquals(values.length - 1, bitmap.containerCount());
+        assertFalse(bitmap.contains(3L * 65_536));
+        assertTrue(bitmap.contains(10L * 65_536 + 65_535));
+    }
+
+    @Test
+    void rejectsNegativeAndOutOfRangeValues() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+
+        assertFalse(bitmap.contains(-1));
+        bitmap.remove(-1);
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(Long.MAX_VALUE));
+    }
+
+    @Test
+    void matchesHashSetUnderRandomOperations() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            // 두 구간에 몰아서 넣어 배열 ↔ 비트맵 전환이 여러 번 일어나게
+            long v = (random.nextBoolean() ? 0 : 65_536) + random.nextInt(12_000);
+            if (random.nextInt(3) == 0) {
+                bitmap.remove(v);
+                expected.remove(v);
+            } else {
+                bitmap.add(v);
+                expected.add(v);
+            }
+        }
+
+        assertEquals(expected.size(), bitmap.cardinality());
+        for (long v = 0; v < 65_536 + 12_000; v++) {
+            assertEquals(expected.contains(v), bitmap.contains(v));
+        }
+    }
+}